@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.alias.routes.permission;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Defines a type alias for a function that checks the permissions of several
+ * items at once. The function receives the identifiers of every item being
+ * rendered in the same page or embedding level, and returns, for each
+ * identifier, the names of the operations the user can perform on that item.
+ *
+ * <p>
+ * An operation's name is {@link #REMOVE}, {@link #UPDATE}, or the name of a
+ * custom route. Identifiers missing from the returned map don't have any
+ * permitted operation.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type of the model's identifier (e.g., {@code Long}, {@code
+ *         String}, etc.)
+ */
+@ConsumerType
+@FunctionalInterface
+public interface BulkPermissionFunction<T>
+	extends ThrowableBiFunction
+		<Credentials, Collection<T>, Map<T, Set<String>>> {
+
+	/**
+	 * The name of the operation for deleting an item.
+	 */
+	public static final String REMOVE = "remove";
+
+	/**
+	 * The name of the operation for updating an item.
+	 */
+	public static final String UPDATE = "update";
+
+}
\ No newline at end of file
@@ -14,7 +14,9 @@
 
 package com.liferay.apio.architect.batch;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the result of a batch operation.
@@ -25,13 +27,32 @@ import java.util.List;
 public class BatchResult<T> {
 
 	public BatchResult(List<T> identifiers, String resourceName) {
+		this(identifiers, Collections.emptyMap(), resourceName);
+	}
+
+	public BatchResult(
+		List<T> identifiers, Map<T, Exception> failures, String resourceName) {
+
 		_identifiers = identifiers;
+		_failures = failures;
 
 		this.resourceName = resourceName;
 	}
 
 	/**
-	 * Returns the list of identifiers created in the batch operation.
+	 * Returns the items of the batch operation that failed, mapped to the
+	 * exception that caused each failure. The rest of the identifiers returned
+	 * by {@link #getIdentifiers()} were processed successfully.
+	 *
+	 * @return the failed items' identifiers, mapped to their exception
+	 */
+	public Map<T, Exception> getFailures() {
+		return _failures;
+	}
+
+	/**
+	 * Returns the list of identifiers created, updated, or removed in the batch
+	 * operation, including the ones that failed.
 	 *
 	 * @return the list of identifiers
 	 */
@@ -40,10 +61,11 @@ public class BatchResult<T> {
 	}
 
 	/**
-	 * The name of the elements' resource created in the batch operation.
+	 * The name of the elements' resource affected by the batch operation.
 	 */
 	public final String resourceName;
 
+	private final Map<T, Exception> _failures;
 	private final List<T> _identifiers;
 
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.cache;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.apio.architect.pagination.Page;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Holds the information HTTP caches need to store the responses of a route:
+ * the directives of the {@code Cache-Control} header, and the functions that
+ * extract the last modification date of a model or a page, used to write the
+ * {@code Last-Modified} header and answer conditional requests.
+ *
+ * <p>
+ * A page's last modification date can't be derived from the dates of the
+ * items it contains, since removing an item or changing the order doesn't
+ * modify the remaining ones. Collection routes only write the {@code
+ * Last-Modified} header if a page function is provided.
+ * </p>
+ *
+ * <p>
+ * You should always use a {@link Builder} to create instances of this class.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @see    Builder
+ */
+@ProviderType
+public final class CachePolicy<T> {
+
+	/**
+	 * Returns the function that extracts the model's last modification date,
+	 * if present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the last modification date function, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Function<T, Date>> getLastModifiedFunctionOptional() {
+		return Optional.ofNullable(_lastModifiedFunction);
+	}
+
+	/**
+	 * Returns the number of seconds a response is fresh, if present; returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @return the {@code max-age} directive, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Long> getMaxAgeOptional() {
+		return Optional.ofNullable(_maxAge);
+	}
+
+	/**
+	 * Returns the caches that can store a response, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the caches that can store a response, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Scope> getScopeOptional() {
+		return Optional.ofNullable(_scope);
+	}
+
+	/**
+	 * Returns the function that extracts a page's last modification date, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the page's last modification date function, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Function<Page<T>, Date>>
+		getPageLastModifiedFunctionOptional() {
+
+		return Optional.ofNullable(_pageLastModifiedFunction);
+	}
+
+	/**
+	 * Returns the number of seconds a response is fresh in shared caches, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the {@code s-maxage} directive, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Long> getSharedMaxAgeOptional() {
+		return Optional.ofNullable(_sharedMaxAge);
+	}
+
+	/**
+	 * Returns the number of seconds a cache can serve a stale response while
+	 * it revalidates it in the background, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the {@code stale-while-revalidate} directive, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Long> getStaleWhileRevalidateOptional() {
+		return Optional.ofNullable(_staleWhileRevalidate);
+	}
+
+	/**
+	 * The caches that can store a response.
+	 */
+	public enum Scope {
+
+		/**
+		 * Only the user's private cache (for example, the browser's) can store
+		 * the response.
+		 */
+		PRIVATE,
+
+		/**
+		 * Any cache, including shared caches (for example, a CDN), can store
+		 * the response.
+		 */
+		PUBLIC
+
+	}
+
+	/**
+	 * Creates {@link CachePolicy} instances.
+	 *
+	 * @param <T> the model's type
+	 */
+	public static class Builder<T> {
+
+		/**
+		 * Constructs and returns a {@link CachePolicy} instance with the
+		 * information provided to the builder.
+		 *
+		 * @return the {@code CachePolicy} instance
+		 */
+		public CachePolicy<T> build() {
+			return new CachePolicy<>(this);
+		}
+
+		/**
+		 * Adds the function that extracts the model's last modification date.
+		 * The function can return {@code null} if the date is unknown.
+		 *
+		 * @param  lastModifiedFunction the last modification date function
+		 * @return the updated builder
+		 */
+		public Builder<T> lastModified(
+			Function<T, Date> lastModifiedFunction) {
+
+			_lastModifiedFunction = lastModifiedFunction;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of seconds a response is fresh.
+		 *
+		 * @param  seconds the number of seconds
+		 * @return the updated builder
+		 */
+		public Builder<T> maxAge(long seconds) {
+			_maxAge = _validate(seconds);
+
+			return this;
+		}
+
+		/**
+		 * Adds the function that extracts a page's last modification date.
+		 * The date must change whenever the collection does, including when
+		 * its items are removed or reordered. The function can return {@code
+		 * null} if the date is unknown.
+		 *
+		 * @param  pageLastModifiedFunction the page's last modification date
+		 *         function
+		 * @return the updated builder
+		 */
+		public Builder<T> pageLastModified(
+			Function<Page<T>, Date> pageLastModifiedFunction) {
+
+			_pageLastModifiedFunction = pageLastModifiedFunction;
+
+			return this;
+		}
+
+		/**
+		 * Sets the caches that can store a response.
+		 *
+		 * @param  scope the caches that can store a response
+		 * @return the updated builder
+		 */
+		public Builder<T> scope(Scope scope) {
+			_scope = scope;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of seconds a response is fresh in shared caches,
+		 * overriding {@link #maxAge(long)} for them.
+		 *
+		 * @param  seconds the number of seconds
+		 * @return the updated builder
+		 */
+		public Builder<T> sharedMaxAge(long seconds) {
+			_sharedMaxAge = _validate(seconds);
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of seconds a cache can serve a stale response while
+		 * it revalidates it in the background.
+		 *
+		 * @param  seconds the number of seconds
+		 * @return the updated builder
+		 */
+		public Builder<T> staleWhileRevalidate(long seconds) {
+			_staleWhileRevalidate = _validate(seconds);
+
+			return this;
+		}
+
+		private Long _validate(long seconds) {
+			if (seconds < 0) {
+				throw new IllegalArgumentException(
+					"The number of seconds must be zero or positive: " +
+						seconds);
+			}
+
+			return seconds;
+		}
+
+		private Function<T, Date> _lastModifiedFunction;
+		private Long _maxAge;
+		private Function<Page<T>, Date> _pageLastModifiedFunction;
+		private Scope _scope;
+		private Long _sharedMaxAge;
+		private Long _staleWhileRevalidate;
+
+	}
+
+	private CachePolicy(Builder<T> builder) {
+		_lastModifiedFunction = builder._lastModifiedFunction;
+		_maxAge = builder._maxAge;
+		_pageLastModifiedFunction = builder._pageLastModifiedFunction;
+		_scope = builder._scope;
+		_sharedMaxAge = builder._sharedMaxAge;
+		_staleWhileRevalidate = builder._staleWhileRevalidate;
+	}
+
+	private final Function<T, Date> _lastModifiedFunction;
+	private final Long _maxAge;
+	private final Function<Page<T>, Date> _pageLastModifiedFunction;
+	private final Scope _scope;
+	private final Long _sharedMaxAge;
+	private final Long _staleWhileRevalidate;
+
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.coalescing;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Instances of this interface take part in the key used to coalesce identical
+ * concurrent {@code GET} requests, so they share a single response. Developers
+ * whose providers make a resource's results depend on something the default
+ * key doesn't include (like a header or a request attribute) can register a
+ * {@code CoalescingKeyContributor} to add it to the key, or to prevent the
+ * resource's requests from being coalesced at all.
+ *
+ * @author Alejandro Hernández
+ */
+@ConsumerType
+public interface CoalescingKeyContributor {
+
+	/**
+	 * Returns the value this contributor adds to the coalescing key of a
+	 * request. Returning an empty string leaves the key unchanged, while
+	 * returning {@code Optional#empty()} prevents the request from being
+	 * coalesced.
+	 *
+	 * @param  resourceName the name of the requested resource
+	 * @param  httpServletRequest the current request
+	 * @return the value to add to the key, or {@code Optional#empty()} if the
+	 *         request must not be coalesced
+	 */
+	public Optional<String> getKeyPart(
+		String resourceName, HttpServletRequest httpServletRequest);
+
+}
\ No newline at end of file
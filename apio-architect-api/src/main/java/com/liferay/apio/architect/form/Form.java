@@ -84,6 +84,28 @@ public interface Form<T> {
 	 */
 	public List<T> getList(Body body);
 
+	/**
+	 * Returns this form's information in a class of type {@code T}, reading
+	 * only the fields present in the HTTP request body. Required fields that
+	 * aren't present are ignored, but every field that's present is validated
+	 * as in {@link #get(Body)}.
+	 *
+	 * <p>
+	 * The form's consumers are only called for the fields present in the body,
+	 * so an absent field keeps whatever value the form's constructor gave it.
+	 * If that value is a primitive (e.g., a {@code boolean} or a {@code long}),
+	 * an absent field can't be told apart from a field sent with the
+	 * primitive's default value. Form classes used for partial updates should
+	 * therefore store their fields as objects, or track which consumers were
+	 * called.
+	 * </p>
+	 *
+	 * @param  body the HTTP request body
+	 * @return the form's information in a class of type {@code T}, containing
+	 *         only the fields present in the body
+	 */
+	public T getPartial(Body body);
+
 	/**
 	 * Returns the form's title, which depends on the HTTP request accept
 	 * language.
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metrics;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.Map;
+
+/**
+ * Instances of this interface receive the metrics of every request handled by
+ * Apio Architect. Developers can register their own {@code MetricsRecorder} to
+ * bridge these metrics to a different metrics library.
+ *
+ * @author Alejandro Hernández
+ */
+@ConsumerType
+public interface MetricsRecorder {
+
+	/**
+	 * Records the metrics of a finished request.
+	 *
+	 * @param resourceName the name of the requested resource
+	 * @param operation the name of the executed operation
+	 * @param durations the duration, in nanoseconds, of each of the request's
+	 *        stages
+	 * @param payloadSize the size, in bytes, of the response's payload
+	 * @param failed {@code true} if the request failed; {@code false}
+	 *        otherwise
+	 */
+	public void record(
+		String resourceName, String operation, Map<Stage, Long> durations,
+		long payloadSize, boolean failed);
+
+}
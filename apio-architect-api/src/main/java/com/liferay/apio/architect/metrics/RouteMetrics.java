@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metrics;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.SortedMap;
+
+/**
+ * Provides the aggregated metrics of an operation of a resource.
+ *
+ * @author Alejandro Hernández
+ */
+@ProviderType
+public interface RouteMetrics {
+
+	/**
+	 * Returns the number of failed requests.
+	 *
+	 * @return the number of failed requests
+	 */
+	public long getErrorCount();
+
+	/**
+	 * Returns the latency histogram of a stage. Each entry's key is the bucket's
+	 * inclusive upper bound in milliseconds, and its value the number of
+	 * requests in that bucket. The last bucket's upper bound is {@code
+	 * Long#MAX_VALUE}.
+	 *
+	 * @param  stage the stage
+	 * @return the stage's latency histogram
+	 */
+	public SortedMap<Long, Long> getLatencyHistogram(Stage stage);
+
+	/**
+	 * Returns the maximum latency of a stage, in nanoseconds.
+	 *
+	 * @param  stage the stage
+	 * @return the stage's maximum latency
+	 */
+	public long getMaxLatency(Stage stage);
+
+	/**
+	 * Returns the operation's name.
+	 *
+	 * @return the operation's name
+	 */
+	public String getOperation();
+
+	/**
+	 * Returns the total size, in bytes, of every response's payload.
+	 *
+	 * @return the total size of the payloads
+	 */
+	public long getPayloadSize();
+
+	/**
+	 * Returns the number of requests.
+	 *
+	 * @return the number of requests
+	 */
+	public long getRequestCount();
+
+	/**
+	 * Returns the resource's name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getResourceName();
+
+	/**
+	 * Returns the accumulated latency of a stage, in nanoseconds.
+	 *
+	 * @param  stage the stage
+	 * @return the stage's accumulated latency
+	 */
+	public long getTotalLatency(Stage stage);
+
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metrics;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides the metrics Apio Architect collects for each operation of each
+ * resource.
+ *
+ * @author Alejandro Hernández
+ */
+@ProviderType
+public interface RouteMetricsRegistry {
+
+	/**
+	 * Returns the metrics of every operation that has been requested.
+	 *
+	 * @return the metrics of every requested operation
+	 */
+	public List<RouteMetrics> getRouteMetrics();
+
+	/**
+	 * Returns the metrics of an operation of a resource, if it has been
+	 * requested; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  operation the operation's name
+	 * @return the operation's metrics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<RouteMetrics> getRouteMetricsOptional(
+		String resourceName, String operation);
+
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metrics;
+
+/**
+ * Represents the stages a request goes through while Apio Architect handles
+ * it.
+ *
+ * @author Alejandro Hernández
+ */
+public enum Stage {
+
+	/**
+	 * The resolution of the embedded related models.
+	 */
+	EMBEDDED_RESOLUTION,
+
+	/**
+	 * The rendering of the response's representation, excluding the embedded
+	 * models' resolution.
+	 */
+	RENDERING,
+
+	/**
+	 * The execution of the route's function.
+	 */
+	ROUTE,
+
+	/**
+	 * The serialization of the rendered representation to the response.
+	 */
+	SERIALIZATION
+
+}
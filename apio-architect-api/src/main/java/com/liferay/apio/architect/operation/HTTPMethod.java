@@ -21,6 +21,6 @@ package com.liferay.apio.architect.operation;
  */
 public enum HTTPMethod {
 
-	DELETE, GET, POST, PUT
+	DELETE, GET, PATCH, POST, PUT
 
 }
\ No newline at end of file
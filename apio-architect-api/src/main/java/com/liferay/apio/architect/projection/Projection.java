@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.projection;
+
+import aQute.bnd.annotation.ProviderType;
+
+/**
+ * Tells the data layer which fields and related models of a resource are
+ * rendered in the current response, so route functions can avoid loading the
+ * rest. Route functions can request an instance of this interface like any
+ * other provided parameter.
+ *
+ * <p>
+ * The projection is computed from the {@code fields} and {@code embedded}
+ * query parameters and the resource's {@link
+ * com.liferay.apio.architect.representor.Representor}. If the resource being
+ * loaded isn't known (for example, while resolving an embedded model), the
+ * projection is conservative and reports every field as rendered.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@ProviderType
+public interface Projection {
+
+	/**
+	 * Returns {@code true} if the related model or collection in the path is
+	 * embedded in the response. The path is the dot-separated list of keys
+	 * from the resource to the related model (for example, {@code
+	 * creator.address}).
+	 *
+	 * @param  path the related model's path
+	 * @return {@code true} if the related model is embedded; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEmbedded(String path);
+
+	/**
+	 * Returns {@code true} if the field with the key is rendered in the
+	 * response. The key can belong to any kind of field, including links and
+	 * related models.
+	 *
+	 * @param  key the field's key
+	 * @return {@code true} if the field is rendered; {@code false} otherwise
+	 */
+	public boolean isRendered(String key);
+
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CustomPageFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.custom.actions.CustomRoute;
 import com.liferay.apio.architect.form.Form;
@@ -69,6 +70,15 @@ public interface CollectionRoutes<T, S> {
 	public Optional<BatchCreateItemFunction<S>>
 		getBatchCreateItemFunctionOptional();
 
+	/**
+	 * Returns the cache policy of the collection's responses, if it was added
+	 * through the {@link Builder}. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<CachePolicy<T>> getCachePolicyOptional();
+
 	/**
 	 * Returns the function that is used to create a collection item, if the
 	 * endpoint was added through the {@link CollectionRoutes.Builder} and the
@@ -122,6 +132,17 @@ public interface CollectionRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds the cache policy of the collection's responses, used to write
+		 * their {@code Cache-Control}, {@code Vary} and {@code Last-Modified}
+		 * headers, and to answer conditional requests without writing the
+		 * response.
+		 *
+		 * @param  cachePolicy the cache policy
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addCachePolicy(CachePolicy<T> cachePolicy);
+
 		/**
 		 * Adds a route to a creator function that has one extra parameter.
 		 *
@@ -17,12 +17,17 @@ package com.liferay.apio.architect.routes;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchRemoveItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.CustomItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.alias.routes.permission.BulkPermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.consumer.throwable.ThrowableBiConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowablePentaConsumer;
@@ -39,6 +44,8 @@ import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -62,6 +69,48 @@ import java.util.function.BiFunction;
 @ProviderType
 public interface ItemRoutes<T, S> {
 
+	/**
+	 * Returns the function used to obtain several items at once, if it was
+	 * added through the {@link Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the function used to obtain several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchGetItemFunction<T, S>>
+		getBatchGetItemFunctionOptional();
+
+	/**
+	 * Returns the function used to remove several items at once, if a remover
+	 * was added through the {@link Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the function used to remove several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchRemoveItemFunction<S>>
+		getBatchRemoveItemFunctionOptional();
+
+	/**
+	 * Returns the function used to update several items at once, if an updater
+	 * was added through the {@link Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the function used to update several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchUpdateItemFunction<S>>
+		getBatchUpdateItemFunctionOptional();
+
+	/**
+	 * Returns the cache policy of the item's responses, if it was added
+	 * through the {@link Builder}. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<CachePolicy<T>> getCachePolicyOptional();
+
 	/**
 	 * Returns the function that creates custom operations, if the endpoint was
 	 * added through {@link CollectionRoutes.Builder} and the function therefore
@@ -110,6 +159,18 @@ public interface ItemRoutes<T, S> {
 	 */
 	public Optional<GetItemFunction<T, S>> getItemFunctionOptional();
 
+	/**
+	 * Returns the function used to partially update the item, if a partial
+	 * updater was added through the {@link Builder}. Returns {@code
+	 * Optional#empty()} otherwise. The function only reads the fields present
+	 * in the request body.
+	 *
+	 * @return the function used to partially update the item, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<UpdateItemFunction<T, S>>
+		getPartialUpdateItemFunctionOptional();
+
 	/**
 	 * Returns the function used to update the item, if the endpoint was added
 	 * through the {@link ItemRoutes.Builder} and the function therefore exists.
@@ -131,6 +192,50 @@ public interface ItemRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a function that gets several items with a single call. This
+		 * function is used instead of the getter when a client requests
+		 * several items by their identifiers, so it shouldn't run one query
+		 * per item.
+		 *
+		 * <p>
+		 * Identifiers without an entry in the returned map are considered
+		 * missing, and are left out of the response.
+		 * </p>
+		 *
+		 * @param  batchGetterThrowableFunction the function that gets the
+		 *         items, keyed by their identifier
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<Collection<S>, Map<S, T>>
+				batchGetterThrowableFunction);
+
+		/**
+		 * Adds a function that checks the permissions of several items at
+		 * once. When present, this function is used instead of the remover's,
+		 * updater's, and custom routes' permission functions to calculate the
+		 * operations of the items being rendered, so the permissions of every
+		 * item in the same page or embedding level are checked with a single
+		 * call.
+		 *
+		 * @param  bulkPermissionFunction the bulk permission function
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addBulkPermissionFunction(
+			BulkPermissionFunction<S> bulkPermissionFunction);
+
+		/**
+		 * Adds the cache policy of the item's responses, used to write their
+		 * {@code Cache-Control}, {@code Vary} and {@code Last-Modified}
+		 * headers, and to answer conditional requests without writing the
+		 * response.
+		 *
+		 * @param  cachePolicy the cache policy
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addCachePolicy(CachePolicy<T> cachePolicy);
+
 		/**
 		 * Adds a {@link CustomRoute} via the {@code CustomRoute} object (that
 		 * sets the HTTP method to use) and the custom route function {@code
@@ -367,6 +472,25 @@ public interface ItemRoutes<T, S> {
 			ThrowableConsumer<S> removerThrowableConsumer,
 			HasRemovePermissionFunction<S> hasRemovePermissionFunction);
 
+		/**
+		 * Adds a route to a remover function with no extra parameters, and to
+		 * the function that removes several items with a single call. The
+		 * batch remover returns the identifiers that couldn't be removed,
+		 * mapped to the exception that caused each failure. If the batch
+		 * remover throws an exception, every item is considered failed.
+		 *
+		 * @param  removerThrowableConsumer the remover function
+		 * @param  batchRemoverThrowableFunction the batch remover function
+		 * @param  hasRemovePermissionFunction the permission function for this
+		 *         route
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addRemover(
+			ThrowableConsumer<S> removerThrowableConsumer,
+			ThrowableFunction<List<S>, Map<S, Exception>>
+				batchRemoverThrowableFunction,
+			HasRemovePermissionFunction<S> hasRemovePermissionFunction);
+
 		/**
 		 * Adds a route to a remover function with four extra parameters.
 		 *
@@ -439,6 +563,49 @@ public interface ItemRoutes<T, S> {
 			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction);
 
+		/**
+		 * Adds a route to an updater function with no extra parameters, and to
+		 * the function that updates several items with a single call. The
+		 * batch updater returns the identifiers that couldn't be updated,
+		 * mapped to the exception that caused each failure. If the batch
+		 * updater throws an exception, every item is considered failed.
+		 *
+		 * @param  updaterThrowableBiFunction the updater function
+		 * @param  batchUpdaterThrowableFunction the batch updater function
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <R> Builder<T, S> addUpdater(
+			ThrowableBiFunction<S, R, T> updaterThrowableBiFunction,
+			ThrowableFunction<Map<S, R>, Map<S, Exception>>
+				batchUpdaterThrowableFunction,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
+		/**
+		 * Adds a route to an updater function with no extra parameters, and to
+		 * the function that partially updates the item. The partial updater
+		 * receives a form store populated only with the fields present in the
+		 * request body, each one validated against the updater's form.
+		 *
+		 * @param  updaterThrowableBiFunction the updater function
+		 * @param  partialUpdaterThrowableBiFunction the partial updater
+		 *         function
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <R> Builder<T, S> addUpdater(
+			ThrowableBiFunction<S, R, T> updaterThrowableBiFunction,
+			ThrowableBiFunction<S, R, T> partialUpdaterThrowableBiFunction,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Adds a route to an updater function with four extra parameters.
 		 *
@@ -460,6 +627,35 @@ public interface ItemRoutes<T, S> {
 			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction);
 
+		/**
+		 * Adds a route to an updater function with four extra parameters, and
+		 * to the function that partially updates the item with the same extra
+		 * parameters. The partial updater receives a form store populated only
+		 * with the fields present in the request body, each one validated
+		 * against the updater's form.
+		 *
+		 * @param  updaterThrowableHexaFunction the updater function
+		 * @param  partialUpdaterThrowableHexaFunction the partial updater
+		 *         function
+		 * @param  aClass the class of the updater functions' third parameter
+		 * @param  bClass the class of the updater functions' fourth parameter
+		 * @param  cClass the class of the updater functions' fifth parameter
+		 * @param  dClass the class of the updater functions' sixth parameter
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <A, B, C, D, R> Builder<T, S> addUpdater(
+			ThrowableHexaFunction<S, R, A, B, C, D, T>
+				updaterThrowableHexaFunction,
+			ThrowableHexaFunction<S, R, A, B, C, D, T>
+				partialUpdaterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Adds a route to an updater function with three extra parameters.
 		 *
@@ -481,6 +677,34 @@ public interface ItemRoutes<T, S> {
 			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction);
 
+		/**
+		 * Adds a route to an updater function with three extra parameters, and
+		 * to the function that partially updates the item with the same extra
+		 * parameters. The partial updater receives a form store populated only
+		 * with the fields present in the request body, each one validated
+		 * against the updater's form.
+		 *
+		 * @param  updaterThrowablePentaFunction the updater function
+		 * @param  partialUpdaterThrowablePentaFunction the partial updater
+		 *         function
+		 * @param  aClass the class of the updater functions' third parameter
+		 * @param  bClass the class of the updater functions' fourth parameter
+		 * @param  cClass the class of the updater functions' fifth parameter
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <A, B, C, R> Builder<T, S> addUpdater(
+			ThrowablePentaFunction<S, R, A, B, C, T>
+				updaterThrowablePentaFunction,
+			ThrowablePentaFunction<S, R, A, B, C, T>
+				partialUpdaterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Adds a route to an updater function with two extra parameters.
 		 *
@@ -499,6 +723,33 @@ public interface ItemRoutes<T, S> {
 			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction);
 
+		/**
+		 * Adds a route to an updater function with two extra parameters, and to
+		 * the function that partially updates the item with the same extra
+		 * parameters. The partial updater receives a form store populated only
+		 * with the fields present in the request body, each one validated
+		 * against the updater's form.
+		 *
+		 * @param  updaterThrowableTetraFunction the updater function
+		 * @param  partialUpdaterThrowableTetraFunction the partial updater
+		 *         function
+		 * @param  aClass the class of the updater functions' third parameter
+		 * @param  bClass the class of the updater functions' fourth parameter
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <A, B, R> Builder<T, S> addUpdater(
+			ThrowableTetraFunction<S, R, A, B, T>
+				updaterThrowableTetraFunction,
+			ThrowableTetraFunction<S, R, A, B, T>
+				partialUpdaterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Adds a route to an updater function with one extra parameter.
 		 *
@@ -517,6 +768,32 @@ public interface ItemRoutes<T, S> {
 			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction);
 
+		/**
+		 * Adds a route to an updater function with one extra parameter, and to
+		 * the function that partially updates the item with the same extra
+		 * parameter. The partial updater receives a form store populated only
+		 * with the fields present in the request body, each one validated
+		 * against the updater's form.
+		 *
+		 * @param  updaterThrowableTriFunction the updater function
+		 * @param  partialUpdaterThrowableTriFunction the partial updater
+		 *         function
+		 * @param  aClass the class of the updater functions' third parameter
+		 * @param  hasUpdatePermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 */
+		public <A, R> Builder<T, S> addUpdater(
+			ThrowableTriFunction<S, R, A, T>
+				updaterThrowableTriFunction,
+			ThrowableTriFunction<S, R, A, T>
+				partialUpdaterThrowableTriFunction,
+			Class<A> aClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction);
+
 		/**
 		 * Constructs the {@link ItemRoutes} instance with the information
 		 * provided to the builder.
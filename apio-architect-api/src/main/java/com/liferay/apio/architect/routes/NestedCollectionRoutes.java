@@ -18,9 +18,11 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedBatchGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
@@ -30,7 +32,9 @@ import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -54,6 +58,16 @@ import java.util.Optional;
 @ProviderType
 public interface NestedCollectionRoutes<T, S, U> {
 
+	/**
+	 * Returns the cache policy of the nested collection's responses, if it was
+	 * added through the {@link Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<CachePolicy<T>> getCachePolicyOptional();
+
 	/**
 	 * Returns the form that is used to create a collection item, if it was
 	 * added through the {@link NestedCollectionRoutes.Builder}. Returns {@code
@@ -74,6 +88,18 @@ public interface NestedCollectionRoutes<T, S, U> {
 	public Optional<NestedBatchCreateItemFunction<S, U>>
 		getNestedBatchCreateItemFunctionOptional();
 
+	/**
+	 * Returns the function used to obtain the first page of the nested
+	 * collection for several parent models at once, if it was added through
+	 * the {@link NestedCollectionRoutes.Builder}. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain several pages, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<NestedBatchGetPageFunction<T, U>>
+		getNestedBatchGetPageFunctionOptional();
+
 	/**
 	 * Returns the function that is used to create a collection item, if the
 	 * endpoint was added through the {@link NestedCollectionRoutes.Builder} and
@@ -110,6 +136,38 @@ public interface NestedCollectionRoutes<T, S, U> {
 	@ProviderType
 	public interface Builder<T, S, U> {
 
+		/**
+		 * Adds a function that calculates the first page of the nested
+		 * collection for several parent models with a single call. This
+		 * function is used instead of the getter when the collection is
+		 * embedded in its parents' representation, so it shouldn't run one
+		 * query per parent.
+		 *
+		 * <p>
+		 * The returned map should contain an entry for every parent
+		 * identifier. Parents without an entry are rendered with an empty
+		 * page.
+		 * </p>
+		 *
+		 * @param  batchGetterThrowableBiFunction the function that calculates
+		 *         the pages, keyed by their parent's identifier
+		 * @return the updated builder
+		 */
+		public Builder<T, S, U> addBatchGetter(
+			ThrowableBiFunction<Pagination, Collection<U>, Map<U, PageItems<T>>>
+				batchGetterThrowableBiFunction);
+
+		/**
+		 * Adds the cache policy of the nested collection's responses, used to
+		 * write their {@code Cache-Control}, {@code Vary} and {@code
+		 * Last-Modified} headers, and to answer conditional requests without
+		 * writing the response.
+		 *
+		 * @param  cachePolicy the cache policy
+		 * @return the updated builder
+		 */
+		public Builder<T, S, U> addCachePolicy(CachePolicy<T> cachePolicy);
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent calls to a route, with a bounded queue of
+ * calls waiting for a free slot. Calls that find the queue full, or that wait
+ * longer than the maximum waiting time, are rejected.
+ *
+ * <p>
+ * An adaptive bulkhead also adjusts its limit from the observed latency: a
+ * call slower than the target latency reduces the limit by ten percent, and
+ * after as many fast calls as the current limit, the limit grows by one.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class Bulkhead {
+
+	/**
+	 * Creates a bulkhead with a fixed limit.
+	 *
+	 * @param maxConcurrentCalls the maximum number of concurrent calls
+	 * @param maxWaitingCalls the maximum number of waiting calls
+	 * @param maxWaitMillis the maximum waiting time in milliseconds
+	 */
+	public Bulkhead(
+		int maxConcurrentCalls, int maxWaitingCalls, long maxWaitMillis) {
+
+		this(
+			maxConcurrentCalls, maxWaitingCalls, maxWaitMillis,
+			maxConcurrentCalls, 0);
+	}
+
+	/**
+	 * Creates a bulkhead whose limit adapts to the observed latency, between
+	 * {@code minConcurrentCalls} and {@code maxConcurrentCalls}.
+	 *
+	 * @param maxConcurrentCalls the maximum number of concurrent calls
+	 * @param maxWaitingCalls the maximum number of waiting calls
+	 * @param maxWaitMillis the maximum waiting time in milliseconds
+	 * @param minConcurrentCalls the minimum number of concurrent calls
+	 * @param targetLatencyMillis the latency above which the limit is
+	 *        reduced, or {@code 0} to keep a fixed limit
+	 */
+	public Bulkhead(
+		int maxConcurrentCalls, int maxWaitingCalls, long maxWaitMillis,
+		int minConcurrentCalls, long targetLatencyMillis) {
+
+		_maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+		_maxWaitingCalls = Math.max(0, maxWaitingCalls);
+		_maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+		_minConcurrentCalls = Math.max(
+			1, Math.min(minConcurrentCalls, _maxConcurrentCalls));
+		_targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(
+			targetLatencyMillis);
+
+		_condition = _lock.newCondition();
+		_limit = _maxConcurrentCalls;
+	}
+
+	/**
+	 * Returns the number of calls currently running.
+	 *
+	 * @return the number of running calls
+	 */
+	public int getConcurrentCalls() {
+		_lock.lock();
+
+		try {
+			return _concurrentCalls;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the current limit of concurrent calls.
+	 *
+	 * @return the current limit
+	 */
+	public int getLimit() {
+		_lock.lock();
+
+		try {
+			return _limit;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of calls currently waiting for a free slot.
+	 *
+	 * @return the number of waiting calls
+	 */
+	public int getWaitingCalls() {
+		_lock.lock();
+
+		try {
+			return _waitingCalls;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the slot of a call acquired with {@link #tryAcquire()}.
+	 *
+	 * @param elapsedNanos the call's duration in nanoseconds
+	 */
+	public void release(long elapsedNanos) {
+		_lock.lock();
+
+		try {
+			_concurrentCalls--;
+
+			if (_targetLatencyNanos > 0) {
+				_adapt(elapsedNanos);
+			}
+
+			_condition.signal();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Tries to acquire a slot for a call, waiting for a free one if the queue
+	 * isn't full. Every successful call to this method must be followed by a
+	 * call to {@link #release(long)}.
+	 *
+	 * @return {@code true} if a slot was acquired; {@code false} if the call
+	 *         should be rejected
+	 */
+	public boolean tryAcquire() {
+		_lock.lock();
+
+		try {
+			if (_concurrentCalls < _limit) {
+				_concurrentCalls++;
+
+				return true;
+			}
+
+			if ((_waitingCalls >= _maxWaitingCalls) || (_maxWaitNanos <= 0)) {
+				return false;
+			}
+
+			_waitingCalls++;
+
+			try {
+				long nanos = _maxWaitNanos;
+
+				while (_concurrentCalls >= _limit) {
+					if (nanos <= 0) {
+						return false;
+					}
+
+					nanos = _condition.awaitNanos(nanos);
+				}
+
+				_concurrentCalls++;
+
+				return true;
+			}
+			catch (InterruptedException ie) {
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				return false;
+			}
+			finally {
+				_waitingCalls--;
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	private void _adapt(long elapsedNanos) {
+		if (elapsedNanos > _targetLatencyNanos) {
+			_limit = Math.max(_minConcurrentCalls, (_limit * 9) / 10);
+
+			_fastCalls = 0;
+		}
+		else if (++_fastCalls >= _limit) {
+			_limit = Math.min(_maxConcurrentCalls, _limit + 1);
+
+			_fastCalls = 0;
+		}
+	}
+
+	private int _concurrentCalls;
+	private final Condition _condition;
+	private int _fastCalls;
+	private int _limit;
+	private final Lock _lock = new ReentrantLock();
+	private final int _maxConcurrentCalls;
+	private final int _maxWaitingCalls;
+	private final long _maxWaitNanos;
+	private final int _minConcurrentCalls;
+	private final long _targetLatencyNanos;
+	private int _waitingCalls;
+
+}
\ No newline at end of file
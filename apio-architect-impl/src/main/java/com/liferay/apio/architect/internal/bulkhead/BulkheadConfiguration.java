@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+/**
+ * Configures the bulkheads that limit the number of concurrent route function
+ * invocations of each resource and HTTP method. These limits apply to every
+ * resource, unless a {@link ResourceBulkheadConfiguration} overrides them for
+ * a specific resource.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface BulkheadConfiguration {
+
+	/**
+	 * Returns {@code true} if the limits should be adapted to the observed
+	 * latency. In adaptive mode, each bulkhead starts with {@link
+	 * #maxConcurrentCalls()} concurrent calls, shrinks when calls are slower
+	 * than {@link #targetLatencyMillis()}, and grows back when they are
+	 * faster, never going below {@link #minConcurrentCalls()}.
+	 *
+	 * @return {@code true} if adaptive mode is enabled; {@code false}
+	 *         otherwise
+	 */
+	public boolean adaptive() default false;
+
+	/**
+	 * Returns {@code true} if bulkheads should be enforced.
+	 *
+	 * @return {@code true} if bulkheads should be enforced; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the maximum number of concurrent calls of each resource and
+	 * HTTP method.
+	 *
+	 * @return the maximum number of concurrent calls
+	 */
+	public int maxConcurrentCalls() default 64;
+
+	/**
+	 * Returns the maximum number of calls that can wait for a free slot. Calls
+	 * over this limit are rejected immediately.
+	 *
+	 * @return the maximum number of waiting calls
+	 */
+	public int maxWaitingCalls() default 64;
+
+	/**
+	 * Returns the maximum time, in milliseconds, a call waits for a free slot
+	 * before being rejected.
+	 *
+	 * @return the maximum waiting time in milliseconds
+	 */
+	public long maxWaitMillis() default 200;
+
+	/**
+	 * Returns the minimum number of concurrent calls of each bulkhead in
+	 * adaptive mode.
+	 *
+	 * @return the minimum number of concurrent calls
+	 */
+	public int minConcurrentCalls() default 4;
+
+	/**
+	 * Returns the number of seconds sent in the {@code Retry-After} header of
+	 * rejected requests.
+	 *
+	 * @return the number of seconds to wait before retrying
+	 */
+	public long retryAfterSeconds() default 1;
+
+	/**
+	 * Returns the call latency, in milliseconds, above which an adaptive
+	 * bulkhead reduces its limit.
+	 *
+	 * @return the target latency in milliseconds
+	 */
+	public long targetLatencyMillis() default 250;
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.operation.HTTPMethod;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs route function invocations inside the bulkhead of their resource and
+ * HTTP method, so a slow resource can't exhaust the threads shared by every
+ * other resource.
+ *
+ * @author Alejandro Hernández
+ */
+public interface BulkheadManager {
+
+	/**
+	 * Runs the supplier inside the bulkhead of the resource and HTTP method.
+	 * If the bulkhead is full, the supplier isn't called and a failure with a
+	 * {@code ServiceUnavailableException} is returned instead.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  httpMethod the request's HTTP method
+	 * @param  supplier the supplier that invokes the route function
+	 * @return the supplier's result, or a failure if the call was rejected
+	 */
+	public <T> Try<T> execute(
+		String resourceName, HTTPMethod httpMethod, Supplier<Try<T>> supplier);
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.operation.HTTPMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.ws.rs.ServiceUnavailableException;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Keeps a {@link Bulkhead} for each resource and HTTP method, using the limits
+ * of the matching {@link ResourceBulkhead}, if any, or the global {@link
+ * BulkheadConfiguration} limits otherwise.
+ *
+ * <p>
+ * Rejected calls fail with a {@code ServiceUnavailableException} carrying the
+ * configured {@code Retry-After} value, which is mapped to a {@code 503}
+ * response.
+ * </p>
+ *
+ * <p>
+ * To avoid an unbounded number of bulkheads, once {@link #MAX_BULKHEADS}
+ * bulkheads exist, new resources share a single bulkhead per HTTP method.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.bulkhead.BulkheadConfiguration",
+	service = BulkheadManager.class
+)
+public class BulkheadManagerImpl implements BulkheadManager {
+
+	/**
+	 * The maximum number of bulkheads created from the global configuration.
+	 */
+	public static final int MAX_BULKHEADS = 500;
+
+	@Override
+	public <T> Try<T> execute(
+		String resourceName, HTTPMethod httpMethod, Supplier<Try<T>> supplier) {
+
+		BulkheadConfiguration bulkheadConfiguration = _bulkheadConfiguration;
+
+		if (!bulkheadConfiguration.enabled()) {
+			return supplier.get();
+		}
+
+		Bulkhead bulkhead = _getBulkhead(
+			resourceName, httpMethod, bulkheadConfiguration);
+
+		if (!bulkhead.tryAcquire()) {
+			return Try.fail(
+				new ServiceUnavailableException(
+					"Too many concurrent " + httpMethod.name() +
+						" requests for resource " + resourceName,
+					bulkheadConfiguration.retryAfterSeconds()));
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			bulkhead.release(System.nanoTime() - start);
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(BulkheadConfiguration bulkheadConfiguration) {
+		_bulkheadConfiguration = bulkheadConfiguration;
+
+		_bulkheads.clear();
+	}
+
+	private Bulkhead _getBulkhead(
+		String resourceName, HTTPMethod httpMethod,
+		BulkheadConfiguration bulkheadConfiguration) {
+
+		for (ResourceBulkhead resourceBulkhead : _resourceBulkheads) {
+			if (resourceBulkhead.matches(resourceName, httpMethod)) {
+				return resourceBulkhead.getBulkhead(
+					httpMethod, bulkheadConfiguration);
+			}
+		}
+
+		String key = resourceName + "#" + httpMethod.name();
+
+		Bulkhead bulkhead = _bulkheads.get(key);
+
+		if (bulkhead != null) {
+			return bulkhead;
+		}
+
+		if (_bulkheads.size() >= MAX_BULKHEADS) {
+			key = "*#" + httpMethod.name();
+		}
+
+		return _bulkheads.computeIfAbsent(
+			key,
+			__ -> BulkheadUtil.createBulkhead(bulkheadConfiguration, -1, -1));
+	}
+
+	private volatile BulkheadConfiguration _bulkheadConfiguration;
+	private final Map<String, Bulkhead> _bulkheads = new ConcurrentHashMap<>();
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<ResourceBulkhead> _resourceBulkheads =
+		new ArrayList<>();
+
+}
\ No newline at end of file
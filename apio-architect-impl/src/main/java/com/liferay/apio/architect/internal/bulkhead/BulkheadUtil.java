@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+/**
+ * Provides utility methods for creating bulkheads from their configuration.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadUtil {
+
+	/**
+	 * Creates a bulkhead from the global configuration, overriding its limits
+	 * with the provided non-negative values.
+	 *
+	 * @param  bulkheadConfiguration the global configuration
+	 * @param  maxConcurrentCalls the maximum number of concurrent calls, or a
+	 *         negative value to use the global one
+	 * @param  maxWaitingCalls the maximum number of waiting calls, or a
+	 *         negative value to use the global one
+	 * @return the bulkhead
+	 */
+	public static Bulkhead createBulkhead(
+		BulkheadConfiguration bulkheadConfiguration, int maxConcurrentCalls,
+		int maxWaitingCalls) {
+
+		if (maxConcurrentCalls < 0) {
+			maxConcurrentCalls = bulkheadConfiguration.maxConcurrentCalls();
+		}
+
+		if (maxWaitingCalls < 0) {
+			maxWaitingCalls = bulkheadConfiguration.maxWaitingCalls();
+		}
+
+		if (!bulkheadConfiguration.adaptive()) {
+			return new Bulkhead(
+				maxConcurrentCalls, maxWaitingCalls,
+				bulkheadConfiguration.maxWaitMillis());
+		}
+
+		return new Bulkhead(
+			maxConcurrentCalls, maxWaitingCalls,
+			bulkheadConfiguration.maxWaitMillis(),
+			bulkheadConfiguration.minConcurrentCalls(),
+			bulkheadConfiguration.targetLatencyMillis());
+	}
+
+	private BulkheadUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import com.liferay.apio.architect.operation.HTTPMethod;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+
+/**
+ * Registers the bulkheads of a single resource. An instance of this component
+ * is created for each {@link ResourceBulkheadConfiguration} factory
+ * configuration, and its bulkheads live as long as the configuration does.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.bulkhead.ResourceBulkheadConfiguration",
+	configurationPolicy = ConfigurationPolicy.REQUIRE,
+	service = ResourceBulkhead.class
+)
+public class ResourceBulkhead {
+
+	/**
+	 * Returns the bulkhead of the HTTP method, creating it with the resource's
+	 * limits and the provided global configuration for the values the
+	 * resource doesn't override.
+	 *
+	 * @param  httpMethod the HTTP method
+	 * @param  bulkheadConfiguration the global configuration
+	 * @return the bulkhead
+	 */
+	public Bulkhead getBulkhead(
+		HTTPMethod httpMethod, BulkheadConfiguration bulkheadConfiguration) {
+
+		return _bulkheads.computeIfAbsent(
+			httpMethod,
+			__ -> BulkheadUtil.createBulkhead(
+				bulkheadConfiguration,
+				_resourceBulkheadConfiguration.maxConcurrentCalls(),
+				_resourceBulkheadConfiguration.maxWaitingCalls()));
+	}
+
+	/**
+	 * Returns {@code true} if this bulkhead applies to the resource and HTTP
+	 * method.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  httpMethod the HTTP method
+	 * @return {@code true} if this bulkhead applies; {@code false} otherwise
+	 */
+	public boolean matches(String resourceName, HTTPMethod httpMethod) {
+		if (!resourceName.equals(
+				_resourceBulkheadConfiguration.resourceName())) {
+
+			return false;
+		}
+
+		String methodName = _resourceBulkheadConfiguration.httpMethod();
+
+		if (methodName.isEmpty()) {
+			return true;
+		}
+
+		return methodName.equalsIgnoreCase(httpMethod.name());
+	}
+
+	@Activate
+	protected void activate(
+		ResourceBulkheadConfiguration resourceBulkheadConfiguration) {
+
+		_resourceBulkheadConfiguration = resourceBulkheadConfiguration;
+	}
+
+	private final Map<HTTPMethod, Bulkhead> _bulkheads =
+		new ConcurrentHashMap<>();
+	private ResourceBulkheadConfiguration _resourceBulkheadConfiguration;
+
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+/**
+ * Overrides the {@link BulkheadConfiguration} limits for a single resource
+ * and, optionally, a single HTTP method. This is a factory configuration, so a
+ * configuration instance can be created for each resource that needs its own
+ * bulkhead. Negative values keep the global limit.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ResourceBulkheadConfiguration {
+
+	/**
+	 * Returns the HTTP method these limits apply to. If empty, the limits
+	 * apply to every HTTP method of the resource, each one with its own
+	 * bulkhead.
+	 *
+	 * @return the HTTP method's name, or an empty string for every method
+	 */
+	public String httpMethod() default "";
+
+	/**
+	 * Returns the maximum number of concurrent calls to the resource.
+	 *
+	 * @return the maximum number of concurrent calls
+	 */
+	public int maxConcurrentCalls() default -1;
+
+	/**
+	 * Returns the maximum number of calls to the resource that can wait for a
+	 * free slot.
+	 *
+	 * @return the maximum number of waiting calls
+	 */
+	public int maxWaitingCalls() default -1;
+
+	/**
+	 * Returns the name of the resource these limits apply to.
+	 *
+	 * @return the resource's name
+	 */
+	public String resourceName();
+
+}
\ No newline at end of file
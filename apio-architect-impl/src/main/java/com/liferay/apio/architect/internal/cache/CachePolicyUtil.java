@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.cache.CachePolicy;
+import com.liferay.apio.architect.cache.CachePolicy.Scope;
+import com.liferay.apio.architect.pagination.Page;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides utility functions to apply a route's {@link CachePolicy} to its
+ * responses.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class CachePolicyUtil {
+
+	/**
+	 * The name of the request attribute that holds the cache policy of the
+	 * route answering the request.
+	 */
+	public static final String ATTRIBUTE_NAME = CachePolicy.class.getName();
+
+	/**
+	 * Returns the value of the {@code Cache-Control} header for a cache
+	 * policy, if the policy has any directive; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  cachePolicy the cache policy
+	 * @return the {@code Cache-Control} header, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<String> getCacheControlOptional(
+		CachePolicy<?> cachePolicy) {
+
+		StringBuilder sb = new StringBuilder();
+
+		Optional<Scope> scopeOptional = cachePolicy.getScopeOptional();
+
+		scopeOptional.ifPresent(
+			scope -> {
+				if (scope == Scope.PRIVATE) {
+					sb.append("private");
+				}
+				else {
+					sb.append("public");
+				}
+			});
+
+		_appendDirective(sb, "max-age", cachePolicy.getMaxAgeOptional());
+		_appendDirective(
+			sb, "s-maxage", cachePolicy.getSharedMaxAgeOptional());
+		_appendDirective(
+			sb, "stale-while-revalidate",
+			cachePolicy.getStaleWhileRevalidateOptional());
+
+		if (sb.length() == 0) {
+			return Optional.empty();
+		}
+
+		return Optional.of(sb.toString());
+	}
+
+	/**
+	 * Returns the cache policy of the route answering the request, if present;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static <T> Optional<CachePolicy<T>> getCachePolicyOptional(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+		if (attribute instanceof CachePolicy) {
+			return Optional.of(unsafeCast(attribute));
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the model's last modification date, truncated to seconds as HTTP
+	 * dates are, if the cache policy has a last modification date function
+	 * and it returns a date for the model. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  cachePolicy the cache policy
+	 * @param  model the model
+	 * @return the last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static <T> Optional<Date> getLastModifiedOptional(
+		CachePolicy<T> cachePolicy, T model) {
+
+		return cachePolicy.getLastModifiedFunctionOptional(
+		).map(
+			function -> function.apply(model)
+		).map(
+			CachePolicyUtil::_truncateToSeconds
+		);
+	}
+
+	/**
+	 * Returns the page's last modification date, truncated to seconds as HTTP
+	 * dates are, if the cache policy has a page's last modification date
+	 * function and it returns a date for the page. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * The dates of the page's items are never used, since they don't change
+	 * when an item is removed from the collection.
+	 * </p>
+	 *
+	 * @param  cachePolicy the cache policy
+	 * @param  page the page
+	 * @return the page's last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static <T> Optional<Date> getPageLastModifiedOptional(
+		CachePolicy<T> cachePolicy, Page<T> page) {
+
+		return cachePolicy.getPageLastModifiedFunctionOptional(
+		).map(
+			function -> function.apply(page)
+		).map(
+			CachePolicyUtil::_truncateToSeconds
+		);
+	}
+
+	/**
+	 * Stores the cache policy of the route answering the request, so it can be
+	 * applied to the response.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param cachePolicy the route's cache policy
+	 */
+	public static void setCachePolicy(
+		HttpServletRequest httpServletRequest, CachePolicy<?> cachePolicy) {
+
+		httpServletRequest.setAttribute(ATTRIBUTE_NAME, cachePolicy);
+	}
+
+	/**
+	 * Returns the date in the format of HTTP headers (for example, {@code Sun,
+	 * 06 Nov 1994 08:49:37 GMT}).
+	 *
+	 * @param  date the date
+	 * @return the date in the format of HTTP headers
+	 */
+	public static String toHTTPDate(Date date) {
+		return _HTTP_DATE_FORMATTER.format(date.toInstant());
+	}
+
+	private static void _appendDirective(
+		StringBuilder sb, String name, Optional<Long> optional) {
+
+		optional.ifPresent(
+			seconds -> {
+				if (sb.length() > 0) {
+					sb.append(", ");
+				}
+
+				sb.append(name);
+				sb.append('=');
+				sb.append(seconds);
+			});
+	}
+
+	private static Date _truncateToSeconds(Date date) {
+		return new Date(Math.floorDiv(date.getTime(), 1000) * 1000);
+	}
+
+	private CachePolicyUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final DateTimeFormatter _HTTP_DATE_FORMATTER =
+		DateTimeFormatter.ofPattern(
+			"EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US
+		).withZone(
+			ZoneOffset.UTC
+		);
+
+}
\ No newline at end of file
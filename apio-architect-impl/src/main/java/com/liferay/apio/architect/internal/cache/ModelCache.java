@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Caches the models returned by the getter of a resource's {@link
+ * com.liferay.apio.architect.routes.ItemRoutes}. Models are keyed by their
+ * identifier plus the provider values passed to the getter, so the first
+ * element of every key must be the model's identifier. Keys are created with
+ * {@link ModelCacheKeyUtil}, and models whose getter receives values without
+ * value semantics aren't cached.
+ *
+ * @author Alejandro Hernández
+ */
+public interface ModelCache {
+
+	/**
+	 * Returns a model cache that never caches, and always calls the loader.
+	 *
+	 * @return the model cache
+	 */
+	public static ModelCache disabled() {
+		return new ModelCache() {
+
+			@Override
+			public <T> T get(List<Object> key, Callable<T> loader)
+				throws Exception {
+
+				return loader.call();
+			}
+
+			@Override
+			public void invalidate(Object identifier) {
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the model cached under the key, calling the loader if the model
+	 * isn't cached or has expired.
+	 *
+	 * @param  key the key, whose first element is the model's identifier
+	 * @param  loader the loader that obtains the model from the backend
+	 * @return the model
+	 * @throws Exception if the loader fails
+	 */
+	public <T> T get(List<Object> key, Callable<T> loader) throws Exception;
+
+	/**
+	 * Removes every cached model with the identifier, regardless of the
+	 * provider values it was cached with.
+	 *
+	 * @param identifier the model's identifier
+	 */
+	public void invalidate(Object identifier);
+
+}
\ No newline at end of file
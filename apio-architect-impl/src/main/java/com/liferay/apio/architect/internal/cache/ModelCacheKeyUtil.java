@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.cache;
+
+import com.liferay.apio.architect.language.AcceptLanguage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Provides utility functions to create the keys of a {@link ModelCache}.
+ *
+ * <p>
+ * A key is only created if every provider value passed to the getter has value
+ * semantics, so equal requests produce equal keys. Provided objects usually
+ * capture the request, and are only equal to themselves; caching with them
+ * would never hit, and would keep each request reachable from the cache.
+ * </p>
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class ModelCacheKeyUtil {
+
+	/**
+	 * Returns the key of a model, formed by its identifier and the provider
+	 * values passed to its getter, if every value can be part of a key;
+	 * returns {@code Optional#empty()} otherwise. An {@link AcceptLanguage}
+	 * becomes part of the key through its preferred locale.
+	 *
+	 * @param  identifier the model's identifier
+	 * @param  values the provider values passed to the getter
+	 * @return the key, if every value can be part of it; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<List<Object>> getKeyOptional(
+		Object identifier, Object... values) {
+
+		List<Object> key = new ArrayList<>(values.length + 1);
+
+		key.add(identifier);
+
+		for (Object value : values) {
+			if (value instanceof AcceptLanguage) {
+				AcceptLanguage acceptLanguage = (AcceptLanguage)value;
+
+				value = acceptLanguage.getPreferredLocale();
+			}
+
+			if (!_isValueType(value)) {
+				return Optional.empty();
+			}
+
+			key.add(value);
+		}
+
+		return Optional.of(key);
+	}
+
+	private static boolean _isValueType(Object value) {
+		if ((value instanceof Boolean) || (value instanceof Character) ||
+			(value instanceof Enum) || (value instanceof Locale) ||
+			(value instanceof Number) || (value instanceof String)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private ModelCacheKeyUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+/**
+ * Provides the {@link ModelCache} of each resource.
+ *
+ * @author Alejandro Hernández
+ */
+public interface ModelCacheManager {
+
+	/**
+	 * Returns the model cache of the resource. The returned cache checks the
+	 * resource's {@link ResourceModelCacheConfiguration} on every call, so it
+	 * reflects configuration changes without being recreated. If the resource
+	 * has no configuration, the returned cache doesn't cache anything.
+	 *
+	 * @param  resourceName the resource's name
+	 * @return the resource's model cache
+	 */
+	public ModelCache getModelCache(String resourceName);
+
+}
\ No newline at end of file
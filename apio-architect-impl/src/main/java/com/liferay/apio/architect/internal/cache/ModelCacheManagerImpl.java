@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Provides model caches that delegate to the matching {@link
+ * ResourceModelCache}, if any, or call the loader directly otherwise.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(service = ModelCacheManager.class)
+public class ModelCacheManagerImpl implements ModelCacheManager {
+
+	@Override
+	public ModelCache getModelCache(String resourceName) {
+		return new ModelCache() {
+
+			@Override
+			public <T> T get(List<Object> key, Callable<T> loader)
+				throws Exception {
+
+				ModelCache modelCache = _getModelCache(resourceName);
+
+				return modelCache.get(key, loader);
+			}
+
+			@Override
+			public void invalidate(Object identifier) {
+				ModelCache modelCache = _getModelCache(resourceName);
+
+				modelCache.invalidate(identifier);
+			}
+
+		};
+	}
+
+	private ModelCache _getModelCache(String resourceName) {
+		for (ResourceModelCache resourceModelCache : _resourceModelCaches) {
+			if (resourceModelCache.matches(resourceName)) {
+				return resourceModelCache;
+			}
+		}
+
+		return _DISABLED_MODEL_CACHE;
+	}
+
+	private static final ModelCache _DISABLED_MODEL_CACHE =
+		ModelCache.disabled();
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<ResourceModelCache> _resourceModelCaches =
+		new ArrayList<>();
+
+}
\ No newline at end of file
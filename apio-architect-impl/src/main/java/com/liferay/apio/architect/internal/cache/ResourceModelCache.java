@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches the models of a single resource. An instance of this component is
+ * created for each {@link ResourceModelCacheConfiguration} factory
+ * configuration.
+ *
+ * <p>
+ * Models are fresh during the configured time to live. Once it's over, and
+ * during the stale-while-revalidate window, the first request that needs the
+ * model reloads it, while the concurrent requests keep receiving the stale
+ * model instead of hitting the backend too. The refresh is done in the
+ * requesting thread, since provider values can depend on the request that
+ * triggered it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.cache.ResourceModelCacheConfiguration",
+	configurationPolicy = ConfigurationPolicy.REQUIRE,
+	service = ResourceModelCache.class
+)
+public class ResourceModelCache implements ModelCache {
+
+	@Override
+	public <T> T get(List<Object> key, Callable<T> loader) throws Exception {
+		CachedModel cachedModel;
+
+		synchronized (_cachedModels) {
+			cachedModel = _cachedModels.get(key);
+		}
+
+		if (cachedModel != null) {
+			long ageNanos = System.nanoTime() - cachedModel._createNanos;
+
+			if (ageNanos < _timeToLiveNanos) {
+				return unsafeCast(cachedModel._model);
+			}
+
+			if ((ageNanos < (_timeToLiveNanos + _staleWhileRevalidateNanos)) &&
+				!cachedModel._refreshing.compareAndSet(false, true)) {
+
+				return unsafeCast(cachedModel._model);
+			}
+		}
+
+		long generation = _generation.get();
+
+		T t;
+
+		try {
+			t = loader.call();
+		}
+		catch (Exception e) {
+			if (cachedModel != null) {
+				cachedModel._refreshing.set(false);
+			}
+
+			throw e;
+		}
+
+		if (t != null) {
+			synchronized (_cachedModels) {
+				if (generation == _generation.get()) {
+					_cachedModels.put(key, new CachedModel(t));
+				}
+			}
+		}
+
+		return t;
+	}
+
+	@Override
+	public void invalidate(Object identifier) {
+		synchronized (_cachedModels) {
+			_generation.incrementAndGet();
+
+			Iterator<List<Object>> iterator = _cachedModels.keySet().iterator();
+
+			while (iterator.hasNext()) {
+				List<Object> key = iterator.next();
+
+				if (identifier.equals(key.get(0))) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if this cache stores the resource's models.
+	 *
+	 * @param  resourceName the resource's name
+	 * @return {@code true} if this cache stores the resource's models; {@code
+	 *         false} otherwise
+	 */
+	public boolean matches(String resourceName) {
+		return resourceName.equals(_resourceName);
+	}
+
+	@Activate
+	@Modified
+	protected void activate(
+		ResourceModelCacheConfiguration resourceModelCacheConfiguration) {
+
+		synchronized (_cachedModels) {
+			_cachedModels.clear();
+
+			_maxSize = resourceModelCacheConfiguration.maxSize();
+			_resourceName = resourceModelCacheConfiguration.resourceName();
+			_staleWhileRevalidateNanos = MILLISECONDS.toNanos(
+				resourceModelCacheConfiguration.staleWhileRevalidateMillis());
+			_timeToLiveNanos = MILLISECONDS.toNanos(
+				resourceModelCacheConfiguration.timeToLiveMillis());
+		}
+	}
+
+	private static class CachedModel {
+
+		private CachedModel(Object model) {
+			_model = model;
+		}
+
+		private final long _createNanos = System.nanoTime();
+		private final Object _model;
+		private final AtomicBoolean _refreshing = new AtomicBoolean();
+
+	}
+
+	private final Map<List<Object>, CachedModel> _cachedModels =
+		new LinkedHashMap<List<Object>, CachedModel>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<List<Object>, CachedModel> eldest) {
+
+				return size() > _maxSize;
+			}
+
+		};
+
+	private final AtomicLong _generation = new AtomicLong();
+	private volatile int _maxSize;
+	private volatile String _resourceName;
+	private volatile long _staleWhileRevalidateNanos;
+	private volatile long _timeToLiveNanos;
+
+}
\ No newline at end of file
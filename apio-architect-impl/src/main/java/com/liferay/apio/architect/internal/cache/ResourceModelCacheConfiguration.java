@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+/**
+ * Enables the {@link ModelCache} of a single resource. This is a factory
+ * configuration, so a configuration instance can be created for each resource
+ * whose models should be cached. Resources without a configuration aren't
+ * cached.
+ *
+ * <p>
+ * A cached model is returned without calling the resource's getter, so any
+ * permission check the getter performs only runs when the model is loaded.
+ * Other requests, with other credentials, can then read the model from the
+ * cache until it expires. Only enable the cache for resources whose models
+ * every caller may read, or whose getter doesn't check permissions. The
+ * operations of each response are still computed from the caller's
+ * credentials.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ResourceModelCacheConfiguration {
+
+	/**
+	 * Returns the maximum number of models cached for the resource. The least
+	 * recently used models are evicted once the limit is reached.
+	 *
+	 * @return the maximum number of cached models
+	 */
+	public int maxSize() default 1000;
+
+	/**
+	 * Returns the name of the resource whose models are cached.
+	 *
+	 * @return the resource's name
+	 */
+	public String resourceName();
+
+	/**
+	 * Returns the time, in milliseconds, an expired model can still be
+	 * returned while a single request refreshes it. Zero disables
+	 * stale-while-revalidate, so expired models are always reloaded.
+	 *
+	 * @return the stale-while-revalidate window, in milliseconds
+	 */
+	public long staleWhileRevalidateMillis() default 0;
+
+	/**
+	 * Returns the time, in milliseconds, a cached model is fresh.
+	 *
+	 * @return the time to live, in milliseconds
+	 */
+	public long timeToLiveMillis() default 60000;
+
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Optional;
+
+/**
+ * Writes to the wrapped output stream while keeping a copy of the written
+ * bytes, up to a maximum size. Once more bytes than the maximum are written,
+ * the copy is discarded.
+ *
+ * @author Alejandro Hernández
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+	public CapturingOutputStream(OutputStream outputStream, int maxBytes) {
+		super(outputStream);
+
+		_maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the captured bytes, if they didn't exceed the maximum size.
+	 *
+	 * @return the captured bytes, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<byte[]> getBytesOptional() {
+		return Optional.ofNullable(
+			_byteArrayOutputStream
+		).map(
+			ByteArrayOutputStream::toByteArray
+		);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		out.write(bytes, offset, length);
+
+		_capture(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+
+		_capture(new byte[] {(byte)b}, 0, 1);
+	}
+
+	private void _capture(byte[] bytes, int offset, int length) {
+		if (_byteArrayOutputStream == null) {
+			return;
+		}
+
+		if ((_byteArrayOutputStream.size() + length) > _maxBytes) {
+			_byteArrayOutputStream = null;
+
+			return;
+		}
+
+		_byteArrayOutputStream.write(bytes, offset, length);
+	}
+
+	private ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private final int _maxBytes;
+
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Represents the serialized response of a request, shared with the identical
+ * requests that were waiting for it.
+ *
+ * @author Alejandro Hernández
+ */
+public class CoalescedResponse {
+
+	public CoalescedResponse(
+		byte[] bytes, String contentType, String contentEncoding) {
+
+		this(bytes, contentType, contentEncoding, Collections.emptyMap());
+	}
+
+	public CoalescedResponse(
+		byte[] bytes, String contentType, String contentEncoding,
+		Map<String, String> headers) {
+
+		_bytes = bytes;
+		_contentType = contentType;
+		_contentEncoding = contentEncoding;
+		_headers = headers;
+	}
+
+	/**
+	 * Returns the response's body.
+	 *
+	 * @return the response's body
+	 */
+	public byte[] getBytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Returns the content coding applied to the response's body, if any.
+	 *
+	 * @return the content coding, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getContentEncodingOptional() {
+		return Optional.ofNullable(_contentEncoding);
+	}
+
+	/**
+	 * Returns the rest of the response's headers that must be shared with the
+	 * waiting requests (for example, {@code Cache-Control}).
+	 *
+	 * @return the response's shared headers
+	 */
+	public Map<String, String> getHeaders() {
+		return _headers;
+	}
+
+	/**
+	 * Returns the response's content type.
+	 *
+	 * @return the response's content type
+	 */
+	public String getContentType() {
+		return _contentType;
+	}
+
+	private final byte[] _bytes;
+	private final String _contentEncoding;
+	private final String _contentType;
+	private final Map<String, String> _headers;
+
+}
\ No newline at end of file
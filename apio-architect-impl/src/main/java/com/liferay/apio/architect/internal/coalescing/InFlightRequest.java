@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Represents a request being computed by a leader, whose response other
+ * identical requests can wait for.
+ *
+ * @author Alejandro Hernández
+ */
+public class InFlightRequest {
+
+	/**
+	 * Waits for the leader's response.
+	 *
+	 * @param  maxWaitMillis the maximum waiting time in milliseconds
+	 * @return the leader's response, if it was shared in time; {@code
+	 *         Optional#empty()} if the leader couldn't share it or the time
+	 *         ran out
+	 */
+	public Optional<CoalescedResponse> await(long maxWaitMillis) {
+		try {
+			return Optional.ofNullable(
+				_completableFuture.get(maxWaitMillis, TimeUnit.MILLISECONDS));
+		}
+		catch (ExecutionException | TimeoutException e) {
+			return Optional.empty();
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the leader has finished the request.
+	 *
+	 * @return {@code true} if the request is finished; {@code false} otherwise
+	 */
+	public boolean isDone() {
+		return _completableFuture.isDone();
+	}
+
+	protected void complete(CoalescedResponse coalescedResponse) {
+		_completableFuture.complete(coalescedResponse);
+	}
+
+	private final CompletableFuture<CoalescedResponse> _completableFuture =
+		new CompletableFuture<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces identical concurrent requests. The first request with a given key
+ * becomes the leader and computes the response, while the identical requests
+ * that arrive before it finishes wait for and share the leader's response.
+ *
+ * <p>
+ * The leader must always call {@link #complete(String, CoalescedResponse)} or
+ * {@link #abandon(String)}. Requests are only coalesced while in flight: once
+ * the leader finishes, or a follower stops waiting for it, the next request
+ * with the same key becomes a new leader. A slow leader that finishes after
+ * that finishes the new leader's request too. Since both requests are
+ * identical, its response is still valid for the new leader's followers.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescer {
+
+	/**
+	 * Finishes the leader's request without sharing its response. The waiting
+	 * requests compute their own.
+	 *
+	 * @param key the request's key
+	 */
+	public void abandon(String key) {
+		complete(key, null);
+	}
+
+	/**
+	 * Waits for the leader's response to an in-flight request returned by
+	 * {@link #follow(String)}. If the time runs out before the leader
+	 * finishes, the in-flight request is discarded, so the next request with
+	 * the key becomes a new leader instead of waiting for a leader that may
+	 * never finish.
+	 *
+	 * @param  key the request's key
+	 * @param  inFlightRequest the in-flight request
+	 * @param  maxWaitMillis the maximum waiting time in milliseconds
+	 * @return the leader's response, if it was shared in time; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<CoalescedResponse> await(
+		String key, InFlightRequest inFlightRequest, long maxWaitMillis) {
+
+		Optional<CoalescedResponse> optional = inFlightRequest.await(
+			maxWaitMillis);
+
+		if (!inFlightRequest.isDone()) {
+			_inFlightRequests.remove(key, inFlightRequest);
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Finishes the leader's request, sharing its response with the waiting
+	 * requests.
+	 *
+	 * @param key the request's key
+	 * @param coalescedResponse the leader's response
+	 */
+	public void complete(String key, CoalescedResponse coalescedResponse) {
+		InFlightRequest inFlightRequest = _inFlightRequests.remove(key);
+
+		if (inFlightRequest != null) {
+			inFlightRequest.complete(coalescedResponse);
+		}
+	}
+
+	/**
+	 * Returns the in-flight request the caller should wait for. If there is no
+	 * in-flight request with the key, the caller becomes its leader and this
+	 * method returns {@code Optional#empty()}.
+	 *
+	 * @param  key the request's key
+	 * @return the in-flight request to wait for, if present; {@code
+	 *         Optional#empty()} if the caller is the leader
+	 */
+	public Optional<InFlightRequest> follow(String key) {
+		InFlightRequest inFlightRequest = new InFlightRequest();
+
+		InFlightRequest previousInFlightRequest =
+			_inFlightRequests.putIfAbsent(key, inFlightRequest);
+
+		return Optional.ofNullable(previousInFlightRequest);
+	}
+
+	private final Map<String, InFlightRequest> _inFlightRequests =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+/**
+ * Configures the coalescing of identical concurrent {@code GET} requests for
+ * pages and items.
+ *
+ * @author Alejandro Hernández
+ * @see    RequestCoalescer
+ */
+public @interface RequestCoalescingConfiguration {
+
+	/**
+	 * Returns {@code true} if identical concurrent requests should be
+	 * coalesced.
+	 *
+	 * @return {@code true} if requests should be coalesced; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the names of the resources whose requests must never be
+	 * coalesced.
+	 *
+	 * @return the names of the excluded resources
+	 */
+	public String[] excludedResourceNames() default {};
+
+	/**
+	 * Returns the maximum size, in bytes, of a shared response. Larger
+	 * responses aren't shared, so waiting requests compute their own.
+	 *
+	 * @return the maximum size of a shared response
+	 */
+	public int maxResponseBytes() default 1048576;
+
+	/**
+	 * Returns the maximum time, in milliseconds, a request waits for the
+	 * response of an identical in-flight request before computing its own.
+	 *
+	 * @return the maximum waiting time in milliseconds
+	 */
+	public long maxWaitMillis() default 5000;
+
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Buffers a response until it reaches a size threshold. Responses that don't
+ * reach it are written uncompressed. Once it's reached, and if the response's
+ * media type is compressible, the {@code Content-Encoding} header is added and
+ * the rest of the response is compressed with a pooled {@link Deflater}.
+ *
+ * <p>
+ * The decision is taken before writing the first byte, so the response's
+ * headers can still be modified.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class CompressingOutputStream extends OutputStream {
+
+	public CompressingOutputStream(
+		OutputStream outputStream, MultivaluedMap<String, Object> headers,
+		ContentEncoding contentEncoding, DeflaterPool deflaterPool,
+		int threshold, Predicate<String> compressibleMediaTypePredicate) {
+
+		_outputStream = outputStream;
+		_headers = headers;
+		_contentEncoding = contentEncoding;
+		_deflaterPool = deflaterPool;
+		_threshold = threshold;
+		_compressibleMediaTypePredicate = compressibleMediaTypePredicate;
+
+		_byteArrayOutputStream = new ByteArrayOutputStream(
+			Math.min(Math.max(threshold, 32), 8192));
+	}
+
+	/**
+	 * Releases the stream's resources after a failed write. Neither the
+	 * buffered bytes nor the end of the compressed stream are written, so a
+	 * truncated response is never terminated as if it were complete.
+	 */
+	public void abort() {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		_byteArrayOutputStream = null;
+
+		_releaseDeflater();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		try {
+			if (_targetOutputStream == null) {
+				_byteArrayOutputStream.writeTo(_outputStream);
+			}
+			else if (_deflaterOutputStream != null) {
+				_deflaterOutputStream.finish();
+			}
+		}
+		finally {
+			_releaseDeflater();
+
+			_outputStream.close();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (_targetOutputStream != null) {
+			_targetOutputStream.flush();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the response is being compressed.
+	 *
+	 * @return {@code true} if the response is being compressed; {@code false}
+	 *         otherwise
+	 */
+	public boolean isCompressing() {
+		return _deflaterOutputStream != null;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		if (_targetOutputStream == null) {
+			if ((_byteArrayOutputStream.size() + length) <= _threshold) {
+				_byteArrayOutputStream.write(bytes, offset, length);
+
+				return;
+			}
+
+			_switchToTarget();
+		}
+
+		_targetOutputStream.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+		write(new byte[] {(byte)value}, 0, 1);
+	}
+
+	private boolean _isCompressible() {
+		if (_headers.containsKey(CONTENT_ENCODING)) {
+			return false;
+		}
+
+		Object contentType = _headers.getFirst(CONTENT_TYPE);
+
+		if (contentType == null) {
+			return true;
+		}
+
+		return _compressibleMediaTypePredicate.test(contentType.toString());
+	}
+
+	private void _releaseDeflater() {
+		if (_deflater != null) {
+			_deflaterPool.release(_deflater);
+
+			_deflater = null;
+		}
+	}
+
+	private void _switchToTarget() throws IOException {
+		if (_isCompressible()) {
+			_headers.putSingle(CONTENT_ENCODING, _contentEncoding.getName());
+			_headers.remove(CONTENT_LENGTH);
+
+			_deflater = _deflaterPool.borrow();
+
+			if (_contentEncoding == ContentEncoding.GZIP) {
+				_deflaterOutputStream = new GZIPDeflaterOutputStream(
+					_outputStream, _deflater);
+			}
+			else {
+				_deflaterOutputStream = new DeflaterOutputStream(
+					_outputStream, _deflater, 8192);
+			}
+
+			_targetOutputStream = _deflaterOutputStream;
+		}
+		else {
+			_targetOutputStream = _outputStream;
+		}
+
+		_byteArrayOutputStream.writeTo(_targetOutputStream);
+
+		_byteArrayOutputStream = null;
+	}
+
+	private ByteArrayOutputStream _byteArrayOutputStream;
+	private boolean _closed;
+	private final Predicate<String> _compressibleMediaTypePredicate;
+	private final ContentEncoding _contentEncoding;
+	private Deflater _deflater;
+	private DeflaterOutputStream _deflaterOutputStream;
+	private final DeflaterPool _deflaterPool;
+	private final MultivaluedMap<String, Object> _headers;
+	private final OutputStream _outputStream;
+	private OutputStream _targetOutputStream;
+	private final int _threshold;
+
+}
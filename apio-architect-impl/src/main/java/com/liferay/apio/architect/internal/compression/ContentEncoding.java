@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents the content codings Apio Architect can use to compress a
+ * response.
+ *
+ * @author Alejandro Hernández
+ */
+public enum ContentEncoding {
+
+	DEFLATE("deflate"), GZIP("gzip");
+
+	/**
+	 * Returns the content coding preferred by the client, according to the
+	 * supplied {@code Accept-Encoding} header, if any is supported; returns
+	 * {@code Optional#empty()} otherwise. When both codings are equally
+	 * acceptable, {@link #GZIP} is preferred.
+	 *
+	 * @param  acceptEncoding the value of the {@code Accept-Encoding} header
+	 * @return the preferred content coding, if any is supported; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<ContentEncoding> negotiate(String acceptEncoding) {
+		if ((acceptEncoding == null) || acceptEncoding.isEmpty()) {
+			return Optional.empty();
+		}
+
+		double deflateQuality = -1;
+		double gzipQuality = -1;
+		double wildcardQuality = -1;
+
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+
+			String coding = parts[0].trim();
+
+			double quality = _getQuality(parts);
+
+			coding = coding.toLowerCase(Locale.ENGLISH);
+
+			if (coding.equals("gzip") || coding.equals("x-gzip")) {
+				gzipQuality = Math.max(gzipQuality, quality);
+			}
+			else if (coding.equals("deflate")) {
+				deflateQuality = Math.max(deflateQuality, quality);
+			}
+			else if (coding.equals("*")) {
+				wildcardQuality = quality;
+			}
+		}
+
+		if (gzipQuality < 0) {
+			gzipQuality = wildcardQuality;
+		}
+
+		if (deflateQuality < 0) {
+			deflateQuality = wildcardQuality;
+		}
+
+		if ((gzipQuality > 0) && (gzipQuality >= deflateQuality)) {
+			return Optional.of(GZIP);
+		}
+
+		if (deflateQuality > 0) {
+			return Optional.of(DEFLATE);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the coding's name, as used in the {@code Content-Encoding}
+	 * header.
+	 *
+	 * @return the coding's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	private static double _getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				}
+				catch (NumberFormatException nfe) {
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	private ContentEncoding(String name) {
+		_name = name;
+	}
+
+	private final String _name;
+
+}
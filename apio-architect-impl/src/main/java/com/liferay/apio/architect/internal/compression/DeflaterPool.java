@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Keeps a bounded pool of {@link Deflater} instances, so their native memory
+ * isn't allocated and released on every response.
+ *
+ * @author Alejandro Hernández
+ */
+public class DeflaterPool {
+
+	public DeflaterPool(int level, boolean nowrap, int capacity) {
+		_level = level;
+		_nowrap = nowrap;
+
+		_deflaters = new ArrayBlockingQueue<>(Math.max(1, capacity));
+	}
+
+	/**
+	 * Returns a pooled {@code Deflater}, or a new one if the pool is empty.
+	 *
+	 * @return the {@code Deflater}
+	 */
+	public Deflater borrow() {
+		Deflater deflater = _deflaters.poll();
+
+		if (deflater == null) {
+			return new Deflater(_level, _nowrap);
+		}
+
+		return deflater;
+	}
+
+	/**
+	 * Releases every pooled {@code Deflater}.
+	 */
+	public void clear() {
+		Deflater deflater = _deflaters.poll();
+
+		while (deflater != null) {
+			deflater.end();
+
+			deflater = _deflaters.poll();
+		}
+	}
+
+	/**
+	 * Returns a {@code Deflater} to the pool. If the pool is full, the {@code
+	 * Deflater} is released.
+	 *
+	 * @param deflater the {@code Deflater}
+	 */
+	public void release(Deflater deflater) {
+		deflater.reset();
+
+		if (!_deflaters.offer(deflater)) {
+			deflater.end();
+		}
+	}
+
+	private final BlockingQueue<Deflater> _deflaters;
+	private final int _level;
+	private final boolean _nowrap;
+
+}
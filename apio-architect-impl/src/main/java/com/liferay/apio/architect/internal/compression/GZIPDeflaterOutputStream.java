@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes data in the GZIP format using a supplied raw {@link Deflater}, unlike
+ * {@code java.util.zip.GZIPOutputStream}, which always creates its own.
+ *
+ * @author Alejandro Hernández
+ */
+public class GZIPDeflaterOutputStream extends DeflaterOutputStream {
+
+	public GZIPDeflaterOutputStream(
+			OutputStream outputStream, Deflater deflater)
+		throws IOException {
+
+		super(outputStream, deflater, 8192);
+
+		outputStream.write(_HEADER);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (def.finished()) {
+			return;
+		}
+
+		super.finish();
+
+		_writeInt((int)_crc32.getValue());
+		_writeInt((int)def.getBytesRead());
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		super.write(bytes, offset, length);
+
+		_crc32.update(bytes, offset, length);
+	}
+
+	private void _writeInt(int value) throws IOException {
+		out.write(value & 0xff);
+		out.write((value >> 8) & 0xff);
+		out.write((value >> 16) & 0xff);
+		out.write((value >> 24) & 0xff);
+	}
+
+	private static final byte[] _HEADER = {
+		(byte)0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private final CRC32 _crc32 = new CRC32();
+
+}
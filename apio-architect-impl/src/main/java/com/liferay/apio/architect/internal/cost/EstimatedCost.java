@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.cost;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the endpoint methods whose requests must be estimated with a {@link
+ * RequestCostEstimator} before they run.
+ *
+ * @author Alejandro Hernández
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface EstimatedCost {
+
+	/**
+	 * Returns {@code true} if the method also returns the items requested with
+	 * the {@code ids} parameter. Those requests are estimated as a page with
+	 * one item per identifier.
+	 *
+	 * @return {@code true} if the method supports the {@code ids} parameter;
+	 *         {@code false} otherwise
+	 */
+	public boolean identifiers() default false;
+
+	/**
+	 * Returns the type of response the method returns.
+	 *
+	 * @return the type of response
+	 */
+	public Type value();
+
+	/**
+	 * Defines the types of requests whose cost can be estimated. {@code
+	 * BATCH} requests are estimated as a page with one item per member of the
+	 * request's body.
+	 */
+	public enum Type {
+
+		BATCH, ITEM, PAGE
+
+	}
+
+}
\ No newline at end of file
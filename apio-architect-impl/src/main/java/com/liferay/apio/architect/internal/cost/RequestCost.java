@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+/**
+ * Represents the estimated cost of a request. The cost is the number of models
+ * the request fetches: the page's items, plus the models embedded in each of
+ * them.
+ *
+ * <p>
+ * The request cost filter stores the estimated cost as a request attribute, so
+ * the pagination provider can use the clamped page size.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestCost {
+
+	/**
+	 * The name of the request attribute that stores the request's cost.
+	 */
+	public static final String ATTRIBUTE_NAME = RequestCost.class.getName();
+
+	public RequestCost(
+		int itemsPerPage, int embeddingDepth, int embeddedModelsPerItem) {
+
+		_itemsPerPage = itemsPerPage;
+		_embeddingDepth = embeddingDepth;
+		_embeddedModelsPerItem = embeddedModelsPerItem;
+	}
+
+	/**
+	 * Returns the estimated cost of the request.
+	 *
+	 * @return the estimated cost
+	 */
+	public long getCost() {
+		return (long)_itemsPerPage * (1 + _embeddedModelsPerItem);
+	}
+
+	/**
+	 * Returns the number of models embedded in each item, across every
+	 * embedding level.
+	 *
+	 * @return the number of models embedded in each item
+	 */
+	public int getEmbeddedModelsPerItem() {
+		return _embeddedModelsPerItem;
+	}
+
+	/**
+	 * Returns the depth of the deepest embedded model.
+	 *
+	 * @return the embedding depth
+	 */
+	public int getEmbeddingDepth() {
+		return _embeddingDepth;
+	}
+
+	/**
+	 * Returns the number of items per page, after clamping it to the limits.
+	 * This is {@code 1} for single item requests.
+	 *
+	 * @return the number of items per page
+	 */
+	public int getItemsPerPage() {
+		return _itemsPerPage;
+	}
+
+	@Override
+	public String toString() {
+		return "{cost=" + getCost() + ", embeddedModelsPerItem=" +
+			_embeddedModelsPerItem + ", embeddingDepth=" + _embeddingDepth +
+				", itemsPerPage=" + _itemsPerPage + "}";
+	}
+
+	private final int _embeddedModelsPerItem;
+	private final int _embeddingDepth;
+	private final int _itemsPerPage;
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+/**
+ * Configures the limits used to reject requests whose estimated cost is too
+ * high. These limits apply to every resource, unless a {@link
+ * ResourceRequestCostConfiguration} overrides them for a specific resource.
+ *
+ * @author Alejandro Hernández
+ * @see    RequestCostEstimator
+ */
+public @interface RequestCostConfiguration {
+
+	/**
+	 * Returns {@code true} if requests whose page size is over the limit
+	 * should be clamped to the maximum page size, instead of rejected.
+	 *
+	 * @return {@code true} if page sizes should be clamped; {@code false} if
+	 *         those requests should be rejected
+	 */
+	public boolean clampItemsPerPage() default false;
+
+	/**
+	 * Returns {@code true} if request costs should be checked. Checking is
+	 * disabled by default, since the limits must be tuned to the resources of
+	 * each application before requests are rejected.
+	 *
+	 * @return {@code true} if request costs should be checked; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the maximum size, in bytes, of a batch request's body. Since the
+	 * body is buffered to count its members, bigger bodies are rejected with a
+	 * {@code 413} status code before they're read.
+	 *
+	 * @return the maximum size of a batch request's body
+	 */
+	public int maxBatchBytes() default 1048576;
+
+	/**
+	 * Returns the maximum estimated cost of a request. Requests over this
+	 * budget are rejected with a {@code 413} status code.
+	 *
+	 * @return the maximum estimated cost of a request
+	 */
+	public long maxCost() default 25000;
+
+	/**
+	 * Returns the maximum depth of the {@code embedded} paths. Requests
+	 * embedding deeper models are rejected with a {@code 400} status code.
+	 *
+	 * @return the maximum embedding depth
+	 */
+	public int maxEmbeddingDepth() default 4;
+
+	/**
+	 * Returns the maximum number of items per page.
+	 *
+	 * @return the maximum number of items per page
+	 */
+	public int maxItemsPerPage() default 500;
+
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Estimates the cost of a request from its page size and the related models
+ * it embeds. The embedded models are found by walking the {@link Representor}
+ * graph with the request's {@code embedded} and {@code fields} parameters, so
+ * related models hidden by sparse fields don't add any cost.
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestCostEstimator {
+
+	/**
+	 * Creates a new estimator.
+	 *
+	 * @param representorFunction the function that gets a resource's
+	 *        representor from its name
+	 * @param nameFunction the function that gets a resource's name from the
+	 *        class name of its identifier
+	 */
+	public RequestCostEstimator(
+		Function<String, Optional<Representor<?>>> representorFunction,
+		Function<String, Optional<String>> nameFunction) {
+
+		_representorFunction = representorFunction;
+		_nameFunction = nameFunction;
+	}
+
+	/**
+	 * Estimates the cost of a request to a resource.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  itemsPerPage the number of items per page; {@code 1} for single
+	 *         item requests
+	 * @param  embedded the request's {@code embedded} predicate
+	 * @param  fields the request's {@code fields} function
+	 * @return the request's estimated cost
+	 */
+	public RequestCost estimate(
+		String resourceName, int itemsPerPage, Embedded embedded,
+		Fields fields) {
+
+		Estimation estimation = new Estimation();
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			representor -> _walk(
+				representor, "", 1, embedded, fields, estimation)
+		);
+
+		return new RequestCost(
+			itemsPerPage, estimation._depth, estimation._embeddedModels);
+	}
+
+	private void _walk(
+		BaseRepresentor<?> baseRepresentor, String parentPath, int depth,
+		Embedded embedded, Fields fields, Estimation estimation) {
+
+		Predicate<String> fieldsPredicate = fields.apply(
+			baseRepresentor.getTypes());
+
+		for (RelatedModel<?, ?> relatedModel :
+				baseRepresentor.getRelatedModels()) {
+
+			String key = relatedModel.getKey();
+
+			if (!fieldsPredicate.test(key)) {
+				continue;
+			}
+
+			String path = parentPath.isEmpty() ? key : parentPath + "." + key;
+
+			if (!embedded.test(path)) {
+				continue;
+			}
+
+			estimation._embeddedModels++;
+			estimation._depth = Math.max(estimation._depth, depth);
+
+			Class<?> identifierClass = relatedModel.getIdentifierClass();
+
+			_nameFunction.apply(
+				identifierClass.getName()
+			).flatMap(
+				_representorFunction
+			).ifPresent(
+				representor -> _walk(
+					representor, path, depth + 1, embedded, fields, estimation)
+			);
+		}
+	}
+
+	private static class Estimation {
+
+		private int _depth;
+		private int _embeddedModels;
+
+	}
+
+	private final Function<String, Optional<String>> _nameFunction;
+	private final Function<String, Optional<Representor<?>>>
+		_representorFunction;
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.Response;
+
+/**
+ * Holds the limits a request's estimated cost must respect.
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestCostLimits {
+
+	/**
+	 * Creates the limits defined in a {@link RequestCostConfiguration}.
+	 *
+	 * @param  requestCostConfiguration the configuration
+	 * @return the limits
+	 */
+	public static RequestCostLimits of(
+		RequestCostConfiguration requestCostConfiguration) {
+
+		return new RequestCostLimits(
+			requestCostConfiguration.maxItemsPerPage(),
+			requestCostConfiguration.maxEmbeddingDepth(),
+			requestCostConfiguration.maxCost());
+	}
+
+	public RequestCostLimits(
+		int maxItemsPerPage, int maxEmbeddingDepth, long maxCost) {
+
+		_maxItemsPerPage = maxItemsPerPage;
+		_maxEmbeddingDepth = maxEmbeddingDepth;
+		_maxCost = maxCost;
+	}
+
+	/**
+	 * Checks that the request's estimated cost respects these limits.
+	 *
+	 * @param  requestCost the request's estimated cost
+	 * @throws BadRequestException if the page size or the embedding depth are
+	 *         over the limits
+	 * @throws ClientErrorException with a {@code 413} status code, if the
+	 *         estimated cost is over the budget
+	 */
+	public void check(RequestCost requestCost) {
+		if (requestCost.getItemsPerPage() > _maxItemsPerPage) {
+			throw new BadRequestException(
+				"The page size can't be greater than " + _maxItemsPerPage);
+		}
+
+		if (requestCost.getEmbeddingDepth() > _maxEmbeddingDepth) {
+			throw new BadRequestException(
+				"The embedding depth can't be greater than " +
+					_maxEmbeddingDepth);
+		}
+
+		if (requestCost.getCost() > _maxCost) {
+			throw new ClientErrorException(
+				"The request's estimated cost (" + requestCost.getCost() +
+					") is greater than the maximum cost (" + _maxCost +
+						"). Reduce the page size or the embedded resources",
+				Response.Status.REQUEST_ENTITY_TOO_LARGE);
+		}
+	}
+
+	/**
+	 * Returns the maximum estimated cost of a request.
+	 *
+	 * @return the maximum estimated cost
+	 */
+	public long getMaxCost() {
+		return _maxCost;
+	}
+
+	/**
+	 * Returns the maximum embedding depth.
+	 *
+	 * @return the maximum embedding depth
+	 */
+	public int getMaxEmbeddingDepth() {
+		return _maxEmbeddingDepth;
+	}
+
+	/**
+	 * Returns the maximum number of items per page.
+	 *
+	 * @return the maximum number of items per page
+	 */
+	public int getMaxItemsPerPage() {
+		return _maxItemsPerPage;
+	}
+
+	/**
+	 * Returns a copy of these limits, overridden by the non-negative values
+	 * of a {@link ResourceRequestCostConfiguration}.
+	 *
+	 * @param  resourceRequestCostConfiguration the resource's configuration
+	 * @return the overridden limits
+	 */
+	public RequestCostLimits override(
+		ResourceRequestCostConfiguration resourceRequestCostConfiguration) {
+
+		int maxItemsPerPage =
+			resourceRequestCostConfiguration.maxItemsPerPage();
+		int maxEmbeddingDepth =
+			resourceRequestCostConfiguration.maxEmbeddingDepth();
+		long maxCost = resourceRequestCostConfiguration.maxCost();
+
+		return new RequestCostLimits(
+			(maxItemsPerPage < 0) ? _maxItemsPerPage : maxItemsPerPage,
+			(maxEmbeddingDepth < 0) ? _maxEmbeddingDepth : maxEmbeddingDepth,
+			(maxCost < 0) ? _maxCost : maxCost);
+	}
+
+	private final long _maxCost;
+	private final int _maxEmbeddingDepth;
+	private final int _maxItemsPerPage;
+
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+/**
+ * Overrides the {@link RequestCostConfiguration} limits for a single resource.
+ * This is a factory configuration, so a configuration instance can be created
+ * for each resource that needs its own limits. Negative values keep the global
+ * limit.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ResourceRequestCostConfiguration {
+
+	/**
+	 * Returns the maximum estimated cost of a request to the resource.
+	 *
+	 * @return the maximum estimated cost of a request
+	 */
+	public long maxCost() default -1;
+
+	/**
+	 * Returns the maximum depth of the {@code embedded} paths of a request to
+	 * the resource.
+	 *
+	 * @return the maximum embedding depth
+	 */
+	public int maxEmbeddingDepth() default -1;
+
+	/**
+	 * Returns the maximum number of items per page of the resource.
+	 *
+	 * @return the maximum number of items per page
+	 */
+	public int maxItemsPerPage() default -1;
+
+	/**
+	 * Returns the name of the resource these limits apply to.
+	 *
+	 * @return the resource's name
+	 */
+	public String resourceName();
+
+}
\ No newline at end of file
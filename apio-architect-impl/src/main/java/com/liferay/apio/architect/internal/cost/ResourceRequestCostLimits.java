@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+
+/**
+ * Registers the request cost limits of a single resource. An instance of this
+ * component is created for each {@link ResourceRequestCostConfiguration}
+ * factory configuration.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.cost.ResourceRequestCostConfiguration",
+	configurationPolicy = ConfigurationPolicy.REQUIRE,
+	service = ResourceRequestCostLimits.class
+)
+public class ResourceRequestCostLimits {
+
+	/**
+	 * Returns the name of the resource these limits apply to.
+	 *
+	 * @return the resource's name
+	 */
+	public String getResourceName() {
+		return _resourceRequestCostConfiguration.resourceName();
+	}
+
+	/**
+	 * Returns the resource's limits, using the provided limits for the values
+	 * the resource doesn't override.
+	 *
+	 * @param  requestCostLimits the global limits
+	 * @return the resource's limits
+	 */
+	public RequestCostLimits getRequestCostLimits(
+		RequestCostLimits requestCostLimits) {
+
+		return requestCostLimits.override(_resourceRequestCostConfiguration);
+	}
+
+	@Activate
+	protected void activate(
+		ResourceRequestCostConfiguration resourceRequestCostConfiguration) {
+
+		_resourceRequestCostConfiguration = resourceRequestCostConfiguration;
+	}
+
+	private ResourceRequestCostConfiguration _resourceRequestCostConfiguration;
+
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static java.util.stream.Collectors.toList;
+
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the single models of a batch of embedded related models. Results
+ * must be returned in the same order as the suppliers, so writers can render
+ * them deterministically regardless of how they were resolved.
+ *
+ * @author Alejandro Hernández
+ */
+public interface EmbeddedModelsResolver {
+
+	/**
+	 * Returns a supplier that calls the supplied one only if the deadline
+	 * hasn't expired yet, returning {@code Optional#empty()} otherwise.
+	 *
+	 * @param  supplier the supplier of an embedded single model
+	 * @param  embeddingDeadline the request's embedding deadline
+	 * @return the supplier bounded by the deadline
+	 */
+	public static Supplier<Optional<SingleModel<?>>> bounded(
+		Supplier<Optional<SingleModel<?>>> supplier,
+		EmbeddingDeadline embeddingDeadline) {
+
+		return () -> {
+			if (embeddingDeadline.isExpired()) {
+				return Optional.empty();
+			}
+
+			return supplier.get();
+		};
+	}
+
+	/**
+	 * Returns an {@code EmbeddedModelsResolver} that resolves every supplier
+	 * sequentially in the calling thread.
+	 *
+	 * @return the sequential resolver
+	 */
+	public static EmbeddedModelsResolver sequential() {
+		return suppliers -> suppliers.stream(
+		).map(
+			Supplier::get
+		).collect(
+			toList()
+		);
+	}
+
+	/**
+	 * Resolves the supplied single models, returning the results in the
+	 * suppliers' order.
+	 *
+	 * @param  suppliers the suppliers of each embedded single model
+	 * @return the resolved single models, in the suppliers' order
+	 */
+	public List<Optional<SingleModel<?>>> resolve(
+		List<Supplier<Optional<SingleModel<?>>>> suppliers);
+
+	/**
+	 * Resolves the supplied single models like {@link #resolve(List)}, but
+	 * stops at the deadline: suppliers that haven't started when it expires
+	 * aren't called, and their models are returned as {@code
+	 * Optional#empty()}. Implementations that resolve models outside the
+	 * calling thread should also stop waiting for them at the deadline.
+	 *
+	 * @param  suppliers the suppliers of each embedded single model
+	 * @param  embeddingDeadline the request's embedding deadline
+	 * @return the resolved single models, in the suppliers' order
+	 */
+	public default List<Optional<SingleModel<?>>> resolve(
+		List<Supplier<Optional<SingleModel<?>>>> suppliers,
+		EmbeddingDeadline embeddingDeadline) {
+
+		return resolve(
+			suppliers.stream(
+			).map(
+				supplier -> bounded(supplier, embeddingDeadline)
+			).collect(
+				toList()
+			));
+	}
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+/**
+ * Configures how {@link EmbeddedModelsResolverImpl} resolves embedded related
+ * models.
+ *
+ * <p>
+ * Concurrent resolution is disabled by default. When enabled, item getters and
+ * the providers they use are executed outside the request thread, so they
+ * can't depend on thread-bound request state.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public @interface EmbeddedModelsResolverConfiguration {
+
+	/**
+	 * Returns {@code true} if embedded related models should be resolved
+	 * concurrently.
+	 *
+	 * @return {@code true} if embedded related models should be resolved
+	 *         concurrently; {@code false} otherwise
+	 */
+	public boolean concurrent() default false;
+
+	/**
+	 * Returns the maximum number of embedded related models a single request
+	 * can resolve concurrently. Once reached, the remaining models are resolved
+	 * in the request thread.
+	 *
+	 * @return the maximum number of concurrent resolutions per request
+	 */
+	public int maxConcurrencyPerRequest() default 4;
+
+	/**
+	 * Returns the maximum number of threads shared by all requests.
+	 *
+	 * @return the maximum number of threads
+	 */
+	public int maxThreads() default 16;
+
+	/**
+	 * Returns the number of resolutions that can wait for a free thread. Once
+	 * the queue is full, models are resolved in the request thread.
+	 *
+	 * @return the capacity of the queue
+	 */
+	public int queueCapacity() default 64;
+
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+import org.slf4j.Logger;
+
+/**
+ * Resolves embedded related models using a bounded thread pool shared by every
+ * request. Each request can only use a limited number of threads at a time;
+ * when that limit is reached, or the pool is saturated, the model is resolved
+ * in the request thread. Results are always returned in the suppliers' order.
+ * When resolving with an {@link EmbeddingDeadline}, the request thread stops
+ * waiting for the pool at the deadline and cancels the pending resolutions, so
+ * the ones still queued are never run.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolverConfiguration",
+	service = EmbeddedModelsResolver.class
+)
+public class EmbeddedModelsResolverImpl implements EmbeddedModelsResolver {
+
+	@Override
+	public List<Optional<SingleModel<?>>> resolve(
+		List<Supplier<Optional<SingleModel<?>>>> suppliers) {
+
+		return resolve(suppliers, EmbeddingDeadline.unlimited());
+	}
+
+	@Override
+	public List<Optional<SingleModel<?>>> resolve(
+		List<Supplier<Optional<SingleModel<?>>>> suppliers,
+		EmbeddingDeadline embeddingDeadline) {
+
+		if ((_threadPoolExecutor == null) || (suppliers.size() < 2)) {
+			return _sequentialEmbeddedModelsResolver.resolve(
+				suppliers, embeddingDeadline);
+		}
+
+		Semaphore semaphore = new Semaphore(_maxConcurrencyPerRequest);
+
+		List<CompletableFuture<Optional<SingleModel<?>>>> completableFutures =
+			new ArrayList<>(suppliers.size());
+
+		for (Supplier<Optional<SingleModel<?>>> supplier : suppliers) {
+			completableFutures.add(
+				_submit(
+					EmbeddedModelsResolver.bounded(supplier, embeddingDeadline),
+					semaphore));
+		}
+
+		List<Optional<SingleModel<?>>> singleModels = new ArrayList<>(
+			suppliers.size());
+
+		for (CompletableFuture<Optional<SingleModel<?>>> completableFuture :
+				completableFutures) {
+
+			singleModels.add(_join(completableFuture, embeddingDeadline));
+		}
+
+		return singleModels;
+	}
+
+	@Activate
+	protected void activate(
+		EmbeddedModelsResolverConfiguration
+			embeddedModelsResolverConfiguration) {
+
+		if (!embeddedModelsResolverConfiguration.concurrent()) {
+			return;
+		}
+
+		_maxConcurrencyPerRequest = Math.max(
+			1, embeddedModelsResolverConfiguration.maxConcurrencyPerRequest());
+
+		int maxThreads = Math.max(
+			1, embeddedModelsResolverConfiguration.maxThreads());
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			maxThreads, maxThreads, 60, SECONDS,
+			new ArrayBlockingQueue<>(
+				Math.max(
+					1, embeddedModelsResolverConfiguration.queueCapacity())),
+			new EmbeddedModelsThreadFactory());
+
+		_threadPoolExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_threadPoolExecutor != null) {
+			_threadPoolExecutor.shutdownNow();
+
+			_threadPoolExecutor = null;
+		}
+	}
+
+	private Optional<SingleModel<?>> _join(
+		CompletableFuture<Optional<SingleModel<?>>> completableFuture,
+		EmbeddingDeadline embeddingDeadline) {
+
+		long remainingNanos = embeddingDeadline.getRemainingNanos();
+
+		try {
+			if (remainingNanos == Long.MAX_VALUE) {
+				return completableFuture.get();
+			}
+
+			return completableFuture.get(remainingNanos, NANOSECONDS);
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			return Optional.empty();
+		}
+		catch (ExecutionException ee) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug(
+					"Unable to resolve embedded model", ee.getCause());
+			}
+
+			return Optional.empty();
+		}
+		catch (TimeoutException te) {
+			completableFuture.cancel(true);
+
+			return Optional.empty();
+		}
+	}
+
+	private CompletableFuture<Optional<SingleModel<?>>> _submit(
+		Supplier<Optional<SingleModel<?>>> supplier, Semaphore semaphore) {
+
+		if (semaphore.tryAcquire()) {
+			try {
+				return CompletableFuture.supplyAsync(
+					() -> {
+						try {
+							return supplier.get();
+						}
+						finally {
+							semaphore.release();
+						}
+					},
+					_threadPoolExecutor);
+			}
+			catch (RejectedExecutionException ree) {
+				semaphore.release();
+			}
+		}
+
+		CompletableFuture<Optional<SingleModel<?>>> completableFuture =
+			new CompletableFuture<>();
+
+		try {
+			completableFuture.complete(supplier.get());
+		}
+		catch (Exception e) {
+			completableFuture.completeExceptionally(e);
+		}
+
+		return completableFuture;
+	}
+
+	private static class EmbeddedModelsThreadFactory implements ThreadFactory {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(
+				runnable,
+				"apio-embedded-models-" + _threadNumber.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		}
+
+		private final AtomicInteger _threadNumber = new AtomicInteger();
+
+	}
+
+	private final Logger _logger = getLogger(getClass());
+	private int _maxConcurrencyPerRequest;
+	private final EmbeddedModelsResolver _sequentialEmbeddedModelsResolver =
+		EmbeddedModelsResolver.sequential();
+	private volatile ThreadPoolExecutor _threadPoolExecutor;
+
+}
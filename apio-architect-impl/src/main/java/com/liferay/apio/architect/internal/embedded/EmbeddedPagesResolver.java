@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Optional;
+
+/**
+ * Resolves the first page of the related collections that are embedded in a
+ * resource's representation. Writers register every parent first, so the
+ * pages of a whole collection page can be fetched together.
+ *
+ * @author Alejandro Hernández
+ */
+public interface EmbeddedPagesResolver {
+
+	/**
+	 * Returns an {@code EmbeddedPagesResolver} that never resolves a page, so
+	 * every related collection is written as a link.
+	 *
+	 * @return the resolver that never resolves a page
+	 */
+	public static EmbeddedPagesResolver none() {
+		return (path, nestedName, identifier) -> Optional.empty();
+	}
+
+	/**
+	 * Registers a parent whose nested collection page will be requested
+	 * later, so it can be fetched together with the rest of pending parents.
+	 *
+	 * @param path the parent's path
+	 * @param nestedName the nested collection's name
+	 * @param identifier the parent's identifier
+	 */
+	public default void addPending(
+		Path path, String nestedName, Object identifier) {
+	}
+
+	/**
+	 * Returns the first page of a parent's nested collection, if it can be
+	 * resolved; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  path the parent's path
+	 * @param  nestedName the nested collection's name
+	 * @param  identifier the parent's identifier
+	 * @return the nested collection's first page, if it can be resolved;
+	 *         {@code Optional#empty()} otherwise
+	 */
+	public Optional<PageItems<Object>> getPageItemsOptional(
+		Path path, String nestedName, Object identifier);
+
+}
\ No newline at end of file
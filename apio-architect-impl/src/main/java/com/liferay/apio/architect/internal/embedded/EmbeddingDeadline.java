@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import java.util.function.LongSupplier;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Bounds the time a request can spend resolving embedded related models. Once
+ * the deadline expires, the remaining embedded models are written as links
+ * and the response is marked as partially embedded with the {@link
+ * #HEADER_NAME} header, and made uncacheable.
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddingDeadline {
+
+	/**
+	 * The name of the header that signals a partially embedded response.
+	 */
+	public static final String HEADER_NAME = "Apio-Embedding";
+
+	/**
+	 * The value of the {@link #HEADER_NAME} header in partially embedded
+	 * responses.
+	 */
+	public static final String PARTIAL = "partial";
+
+	/**
+	 * Returns an {@code EmbeddingDeadline} that never expires.
+	 *
+	 * @return the deadline that never expires
+	 */
+	public static EmbeddingDeadline unlimited() {
+		return new EmbeddingDeadline(0);
+	}
+
+	/**
+	 * Creates a deadline that expires after the budget. A budget of zero or
+	 * less creates a deadline that never expires.
+	 *
+	 * @param budgetMillis the embedding budget, in milliseconds
+	 */
+	public EmbeddingDeadline(long budgetMillis) {
+		this(budgetMillis, System::nanoTime);
+	}
+
+	/**
+	 * Creates a deadline that expires after the budget, measured with the
+	 * supplied clock. A budget of zero or less creates a deadline that never
+	 * expires.
+	 *
+	 * @param budgetMillis the embedding budget, in milliseconds
+	 * @param nanoTimeSupplier the clock, in nanoseconds
+	 */
+	public EmbeddingDeadline(long budgetMillis, LongSupplier nanoTimeSupplier) {
+		_nanoTimeSupplier = nanoTimeSupplier;
+
+		if (budgetMillis > 0) {
+			_deadlineNanos =
+				nanoTimeSupplier.getAsLong() +
+					MILLISECONDS.toNanos(budgetMillis);
+			_limited = true;
+		}
+		else {
+			_deadlineNanos = 0;
+			_limited = false;
+		}
+	}
+
+	/**
+	 * Adds the {@link #HEADER_NAME} header to a partially embedded response.
+	 * Since embedding the same response again may succeed, partially embedded
+	 * responses are also made uncacheable: their {@code Cache-Control} header
+	 * is replaced with {@code no-store} and their {@code Last-Modified} header
+	 * is removed, so they are never revalidated with a {@code 304 Not
+	 * Modified} response. This method does nothing if the response isn't
+	 * partially embedded.
+	 *
+	 * @param headers the response's headers
+	 */
+	public void addHeaders(MultivaluedMap<String, Object> headers) {
+		if (!_partial) {
+			return;
+		}
+
+		headers.putSingle(HEADER_NAME, PARTIAL);
+		headers.putSingle(CACHE_CONTROL, "no-store");
+		headers.remove(LAST_MODIFIED);
+	}
+
+	/**
+	 * Returns the time left until the deadline expires, in nanoseconds. If the
+	 * deadline never expires, this method returns {@code Long#MAX_VALUE}.
+	 *
+	 * @return the time left, in nanoseconds
+	 */
+	public long getRemainingNanos() {
+		if (!_limited) {
+			return Long.MAX_VALUE;
+		}
+
+		return Math.max(0, _deadlineNanos - _nanoTimeSupplier.getAsLong());
+	}
+
+	/**
+	 * Returns {@code true} if the deadline has expired.
+	 *
+	 * @return {@code true} if the deadline has expired; {@code false}
+	 *         otherwise
+	 */
+	public boolean isExpired() {
+		return getRemainingNanos() == 0;
+	}
+
+	/**
+	 * Returns {@code true} if an embedded model was written as a link because
+	 * the deadline expired.
+	 *
+	 * @return {@code true} if the response is partially embedded; {@code
+	 *         false} otherwise
+	 */
+	public boolean isPartial() {
+		return _partial;
+	}
+
+	/**
+	 * Marks the response as partially embedded.
+	 */
+	public void markPartial() {
+		_partial = true;
+	}
+
+	private final long _deadlineNanos;
+	private final boolean _limited;
+	private final LongSupplier _nanoTimeSupplier;
+	private volatile boolean _partial;
+
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+/**
+ * Configures the {@link EmbeddingDeadline} of every request. This budget
+ * applies to every resource, unless a {@link
+ * ResourceEmbeddingDeadlineConfiguration} overrides it for a specific
+ * resource.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface EmbeddingDeadlineConfiguration {
+
+	/**
+	 * Returns the time a request can spend resolving embedded related models,
+	 * in milliseconds, counted from the moment its response starts being
+	 * written. Zero or less disables the deadline.
+	 *
+	 * @return the embedding budget, in milliseconds
+	 */
+	public long budgetMillis() default 0;
+
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+/**
+ * Creates the {@link EmbeddingDeadline} of each response, using the budget
+ * configured for its resource.
+ *
+ * @author Alejandro Hernández
+ */
+public interface EmbeddingDeadlineManager {
+
+	/**
+	 * Returns a new deadline for a response of the resource, starting now. If
+	 * the resource's name isn't known, the global budget is used.
+	 *
+	 * @param  resourceName the resource's name, or {@code null} if unknown
+	 * @return the response's embedding deadline
+	 */
+	public EmbeddingDeadline createEmbeddingDeadline(String resourceName);
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Creates embedding deadlines with the budget of the matching {@link
+ * ResourceEmbeddingDeadline}, if any, or the global {@link
+ * EmbeddingDeadlineConfiguration} budget otherwise.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.embedded.EmbeddingDeadlineConfiguration",
+	service = EmbeddingDeadlineManager.class
+)
+public class EmbeddingDeadlineManagerImpl implements EmbeddingDeadlineManager {
+
+	@Override
+	public EmbeddingDeadline createEmbeddingDeadline(String resourceName) {
+		if (resourceName != null) {
+			for (ResourceEmbeddingDeadline resourceEmbeddingDeadline :
+					_resourceEmbeddingDeadlines) {
+
+				if (resourceEmbeddingDeadline.matches(resourceName)) {
+					return new EmbeddingDeadline(
+						resourceEmbeddingDeadline.getBudgetMillis());
+				}
+			}
+		}
+
+		EmbeddingDeadlineConfiguration embeddingDeadlineConfiguration =
+			_embeddingDeadlineConfiguration;
+
+		return new EmbeddingDeadline(
+			embeddingDeadlineConfiguration.budgetMillis());
+	}
+
+	@Activate
+	@Modified
+	protected void activate(
+		EmbeddingDeadlineConfiguration embeddingDeadlineConfiguration) {
+
+		_embeddingDeadlineConfiguration = embeddingDeadlineConfiguration;
+	}
+
+	private volatile EmbeddingDeadlineConfiguration
+		_embeddingDeadlineConfiguration;
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<ResourceEmbeddingDeadline>
+		_resourceEmbeddingDeadlines = new ArrayList<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the embedded models fetched during a request, so each embedded model
+ * is fetched at most once per request, no matter how many times it appears in
+ * the document. The values of the basic fields of those models are memoized
+ * too, so a model that appears several times is only rendered once. Until a
+ * model is fetched, field values are computed without looking them up, so
+ * requests without embedded models don't pay for the memoization.
+ *
+ * <p>
+ * Models are identified by their resource, represented by the class name of
+ * its identifier, and their identifier. Since embedded models can be resolved
+ * in several threads, this class is thread-safe. When two threads need the
+ * same model at the same time, one of them fetches it and the other one waits
+ * for the result.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ModelIdentityMap {
+
+	/**
+	 * Returns the value of a field of a model, computing it with the provided
+	 * supplier only if the model has been fetched through this identity map
+	 * and the value hasn't been computed yet in this request.
+	 *
+	 * @param  singleModel the model
+	 * @param  key the field's key
+	 * @param  supplier the supplier that computes the field's value
+	 * @return the field's value
+	 */
+	public Object getFieldValue(
+		SingleModel<?> singleModel, String key, Supplier<Object> supplier) {
+
+		if (!_memoizing) {
+			return supplier.get();
+		}
+
+		Map<String, Optional<Object>> fieldValues = _fieldValues.get(
+			singleModel);
+
+		if (fieldValues == null) {
+			return supplier.get();
+		}
+
+		Optional<Object> optional = fieldValues.get(key);
+
+		if (optional == null) {
+			optional = Optional.ofNullable(supplier.get());
+
+			fieldValues.putIfAbsent(key, optional);
+		}
+
+		return optional.orElse(null);
+	}
+
+	/**
+	 * Returns the model with the provided identifier, fetching it with the
+	 * provided supplier only if it hasn't been fetched yet in this request.
+	 *
+	 * @param  identifierClassName the class name of the resource's identifier
+	 * @param  identifier the model's identifier
+	 * @param  supplier the supplier that fetches the model
+	 * @return the model, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<SingleModel<?>> getSingleModelOptional(
+		String identifierClassName, Object identifier,
+		Supplier<Optional<SingleModel<?>>> supplier) {
+
+		Map<Object, FutureTask<Optional<SingleModel<?>>>> futureTasks =
+			_futureTasks.computeIfAbsent(
+				identifierClassName, __ -> new ConcurrentHashMap<>());
+
+		FutureTask<Optional<SingleModel<?>>> futureTask = new FutureTask<>(
+			() -> _fetch(supplier));
+
+		FutureTask<Optional<SingleModel<?>>> previousFutureTask =
+			futureTasks.putIfAbsent(identifier, futureTask);
+
+		if (previousFutureTask == null) {
+			futureTask.run();
+		}
+		else {
+			futureTask = previousFutureTask;
+		}
+
+		try {
+			return futureTask.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			return Optional.empty();
+		}
+	}
+
+	private Optional<SingleModel<?>> _fetch(
+		Supplier<Optional<SingleModel<?>>> supplier) {
+
+		Optional<SingleModel<?>> optional = supplier.get();
+
+		optional.ifPresent(
+			singleModel -> {
+				_fieldValues.put(singleModel, new ConcurrentHashMap<>());
+
+				_memoizing = true;
+			});
+
+		return optional;
+	}
+
+	private final Map<SingleModel<?>, Map<String, Optional<Object>>>
+		_fieldValues = Collections.synchronizedMap(new IdentityHashMap<>());
+	private final Map<String, Map<Object, FutureTask<Optional<SingleModel<?>>>>>
+		_futureTasks = new ConcurrentHashMap<>();
+	private volatile boolean _memoizing;
+
+}
\ No newline at end of file
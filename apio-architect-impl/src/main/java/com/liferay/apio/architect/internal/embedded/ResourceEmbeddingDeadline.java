@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+
+/**
+ * Registers the embedding budget of a single resource. An instance of this
+ * component is created for each {@link ResourceEmbeddingDeadlineConfiguration}
+ * factory configuration.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.embedded.ResourceEmbeddingDeadlineConfiguration",
+	configurationPolicy = ConfigurationPolicy.REQUIRE,
+	service = ResourceEmbeddingDeadline.class
+)
+public class ResourceEmbeddingDeadline {
+
+	/**
+	 * Returns the resource's embedding budget, in milliseconds.
+	 *
+	 * @return the embedding budget, in milliseconds
+	 */
+	public long getBudgetMillis() {
+		return _resourceEmbeddingDeadlineConfiguration.budgetMillis();
+	}
+
+	/**
+	 * Returns {@code true} if this budget applies to the resource.
+	 *
+	 * @param  resourceName the resource's name
+	 * @return {@code true} if this budget applies; {@code false} otherwise
+	 */
+	public boolean matches(String resourceName) {
+		return resourceName.equals(
+			_resourceEmbeddingDeadlineConfiguration.resourceName());
+	}
+
+	@Activate
+	protected void activate(
+		ResourceEmbeddingDeadlineConfiguration
+			resourceEmbeddingDeadlineConfiguration) {
+
+		_resourceEmbeddingDeadlineConfiguration =
+			resourceEmbeddingDeadlineConfiguration;
+	}
+
+	private ResourceEmbeddingDeadlineConfiguration
+		_resourceEmbeddingDeadlineConfiguration;
+
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+/**
+ * Overrides the {@link EmbeddingDeadlineConfiguration} budget for the
+ * responses of a single resource. This is a factory configuration, so a
+ * configuration instance can be created for each resource that needs its own
+ * budget.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ResourceEmbeddingDeadlineConfiguration {
+
+	/**
+	 * Returns the time a response of the resource can spend resolving embedded
+	 * related models, in milliseconds. Zero or less disables the deadline for
+	 * the resource.
+	 *
+	 * @return the embedding budget, in milliseconds
+	 */
+	public long budgetMillis() default 0;
+
+	/**
+	 * Returns the name of the resource this budget applies to.
+	 *
+	 * @return the resource's name
+	 */
+	public String resourceName();
+
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded.page;
+
+import com.liferay.apio.architect.internal.cost.RequestCost;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Wraps the current request so the {@link
+ * com.liferay.apio.architect.pagination.Pagination} provided to nested
+ * collection getters always points to the first page, with the inlined page
+ * size, regardless of the pagination requested for the parent collection.
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddedPageHttpServletRequest extends HttpServletRequestWrapper {
+
+	public EmbeddedPageHttpServletRequest(
+		HttpServletRequest httpServletRequest, int itemsPerPage) {
+
+		super(httpServletRequest);
+
+		_parameters.put("page", "1");
+		_parameters.put("per_page", String.valueOf(itemsPerPage));
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		if (RequestCost.ATTRIBUTE_NAME.equals(name)) {
+			return null;
+		}
+
+		return super.getAttribute(name);
+	}
+
+	@Override
+	public String getParameter(String name) {
+		if (_parameters.containsKey(name)) {
+			return _parameters.get(name);
+		}
+
+		return super.getParameter(name);
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		Map<String, String[]> parameterMap = new HashMap<>(
+			super.getParameterMap());
+
+		_parameters.forEach(
+			(name, value) -> parameterMap.put(name, new String[] {value}));
+
+		return parameterMap;
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		if (_parameters.containsKey(name)) {
+			return new String[] {_parameters.get(name)};
+		}
+
+		return super.getParameterValues(name);
+	}
+
+	private final Map<String, String> _parameters = new HashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded.page;
+
+/**
+ * Configures how the related collections requested through the {@code
+ * embedded} parameter are inlined in their parent's representation.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface EmbeddedPagesConfiguration {
+
+	/**
+	 * Returns {@code true} if embedded related collections should be inlined.
+	 * If {@code false}, the default, they're always written as links. Inlining
+	 * is opt-in, since it fetches an extra page for every embedded collection
+	 * of every item.
+	 *
+	 * @return {@code true} if embedded related collections should be inlined;
+	 *         {@code false} otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the number of items of each inlined page. The rest of the
+	 * collection must be fetched through its URL.
+	 *
+	 * @return the number of items of each inlined page
+	 */
+	public int itemsPerPage() default 5;
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded.page;
+
+import com.liferay.apio.architect.internal.embedded.EmbeddedPagesResolver;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Creates the {@link EmbeddedPagesResolver} of each request, using the
+ * page size set in {@link EmbeddedPagesConfiguration}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.embedded.page.EmbeddedPagesConfiguration",
+	service = EmbeddedPagesResolverFactory.class
+)
+public class EmbeddedPagesResolverFactory {
+
+	/**
+	 * Returns the {@link EmbeddedPagesResolver} for the current request. If
+	 * inlining embedded related collections is disabled, this method returns a
+	 * resolver that never resolves a page.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the resolver for the current request
+	 */
+	public EmbeddedPagesResolver create(HttpServletRequest httpServletRequest) {
+		EmbeddedPagesConfiguration embeddedPagesConfiguration =
+			_embeddedPagesConfiguration;
+
+		if (!embeddedPagesConfiguration.enabled()) {
+			return EmbeddedPagesResolver.none();
+		}
+
+		int itemsPerPage = Math.max(
+			1, embeddedPagesConfiguration.itemsPerPage());
+
+		return new EmbeddedPagesResolverImpl(
+			new EmbeddedPageHttpServletRequest(
+				httpServletRequest, itemsPerPage),
+			_nestedCollectionRouterManager);
+	}
+
+	@Activate
+	@Modified
+	protected void activate(
+		EmbeddedPagesConfiguration embeddedPagesConfiguration) {
+
+		_embeddedPagesConfiguration = embeddedPagesConfiguration;
+	}
+
+	private volatile EmbeddedPagesConfiguration _embeddedPagesConfiguration;
+
+	@Reference
+	private NestedCollectionRouterManager _nestedCollectionRouterManager;
+
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded.page;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.alias.routes.NestedBatchGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.embedded.EmbeddedPagesResolver;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+
+/**
+ * Resolves the first page of embedded related collections for a single
+ * request. The first time a page is requested, the pages of every pending
+ * parent with the same nested collection are fetched together, using the
+ * router's {@link NestedBatchGetPageFunction} if it has one, or its {@link
+ * NestedGetPageFunction} once per parent otherwise. Resolved pages are kept
+ * until the end of the request.
+ *
+ * <p>
+ * Pages that can't be resolved are reported as {@code Optional#empty()}, so
+ * the writers fall back to a link.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddedPagesResolverImpl implements EmbeddedPagesResolver {
+
+	public EmbeddedPagesResolverImpl(
+		HttpServletRequest httpServletRequest,
+		NestedCollectionRouterManager nestedCollectionRouterManager) {
+
+		_httpServletRequest = httpServletRequest;
+		_nestedCollectionRouterManager = nestedCollectionRouterManager;
+	}
+
+	@Override
+	public synchronized void addPending(
+		Path path, String nestedName, Object identifier) {
+
+		String key = _getKey(path, nestedName);
+
+		Map<Object, Optional<PageItems<Object>>> pageItemsOptionals =
+			_pageItemsOptionals.get(key);
+
+		if ((pageItemsOptionals != null) &&
+			pageItemsOptionals.containsKey(identifier)) {
+
+			return;
+		}
+
+		Map<Object, Path> paths = _pendingPaths.computeIfAbsent(
+			key, __ -> new LinkedHashMap<>());
+
+		paths.put(identifier, path);
+	}
+
+	@Override
+	public synchronized Optional<PageItems<Object>> getPageItemsOptional(
+		Path path, String nestedName, Object identifier) {
+
+		String key = _getKey(path, nestedName);
+
+		Map<Object, Optional<PageItems<Object>>> pageItemsOptionals =
+			_pageItemsOptionals.computeIfAbsent(key, __ -> new HashMap<>());
+
+		if (!pageItemsOptionals.containsKey(identifier)) {
+			addPending(path, nestedName, identifier);
+
+			pageItemsOptionals.putAll(
+				_resolve(
+					path.getName(), nestedName, _pendingPaths.remove(key)));
+		}
+
+		return pageItemsOptionals.get(identifier);
+	}
+
+	private String _getKey(Path path, String nestedName) {
+		return path.getName() + "/" + nestedName;
+	}
+
+	private Map<Object, Optional<PageItems<Object>>> _resolve(
+		String name, String nestedName, Map<Object, Path> paths) {
+
+		Map<Object, Optional<PageItems<Object>>> pageItemsOptionals =
+			new HashMap<>();
+
+		for (Object identifier : paths.keySet()) {
+			pageItemsOptionals.put(identifier, Optional.empty());
+		}
+
+		Optional<NestedCollectionRoutes<Object, Object, Object>> optional =
+			_nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
+				name, nestedName);
+
+		if (!optional.isPresent()) {
+			return pageItemsOptionals;
+		}
+
+		NestedCollectionRoutes<Object, Object, Object> nestedCollectionRoutes =
+			optional.get();
+
+		Optional<NestedBatchGetPageFunction<Object, Object>>
+			nestedBatchGetPageFunctionOptional =
+				nestedCollectionRoutes.getNestedBatchGetPageFunctionOptional();
+
+		if (nestedBatchGetPageFunctionOptional.isPresent()) {
+			NestedBatchGetPageFunction<Object, Object>
+				nestedBatchGetPageFunction =
+					nestedBatchGetPageFunctionOptional.get();
+
+			Try<Map<Object, PageItems<Object>>> pageItemsMapTry =
+				nestedBatchGetPageFunction.apply(
+					_httpServletRequest
+				).apply(
+					new ArrayList<>(paths.keySet())
+				);
+
+			pageItemsMapTry.voidFold(
+				e -> _logFailure(name, nestedName, e),
+				pageItemsMap -> {
+					for (Object identifier : paths.keySet()) {
+						PageItems<Object> pageItems = pageItemsMap.get(
+							identifier);
+
+						if (pageItems == null) {
+							pageItems = new PageItems<>(
+								Collections.emptyList(), 0);
+						}
+
+						pageItemsOptionals.put(
+							identifier, Optional.of(pageItems));
+					}
+				});
+
+			return pageItemsOptionals;
+		}
+
+		Optional<NestedGetPageFunction<Object, Object>>
+			nestedGetPageFunctionOptional =
+				nestedCollectionRoutes.getNestedGetPageFunctionOptional();
+
+		if (!nestedGetPageFunctionOptional.isPresent()) {
+			return pageItemsOptionals;
+		}
+
+		NestedGetPageFunction<Object, Object> nestedGetPageFunction =
+			nestedGetPageFunctionOptional.get();
+
+		paths.forEach(
+			(identifier, path) -> nestedGetPageFunction.apply(
+				_httpServletRequest
+			).apply(
+				path
+			).apply(
+				identifier
+			).map(
+				page -> new PageItems<>(page.getItems(), page.getTotalCount())
+			).voidFold(
+				e -> _logFailure(name, nestedName, e),
+				pageItems -> pageItemsOptionals.put(
+					identifier, Optional.of(pageItems))
+			));
+
+		return pageItemsOptionals;
+	}
+
+	private void _logFailure(String name, String nestedName, Exception e) {
+		if (_logger.isDebugEnabled()) {
+			_logger.debug(
+				"Unable to get embedded pages of " + name + "/" + nestedName,
+				e);
+		}
+	}
+
+	private final HttpServletRequest _httpServletRequest;
+	private final Logger _logger = getLogger(getClass());
+	private final NestedCollectionRouterManager _nestedCollectionRouterManager;
+	private final Map<String, Map<Object, Optional<PageItems<Object>>>>
+		_pageItemsOptionals = new HashMap<>();
+	private final Map<String, Map<Object, Path>> _pendingPaths =
+		new HashMap<>();
+
+}
\ No newline at end of file
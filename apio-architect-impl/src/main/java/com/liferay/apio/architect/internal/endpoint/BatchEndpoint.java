@@ -14,14 +14,19 @@
 
 package com.liferay.apio.architect.internal.endpoint;
 
+import static com.liferay.apio.architect.internal.cost.EstimatedCost.Type.BATCH;
+
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.cost.EstimatedCost;
 
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
@@ -44,6 +49,7 @@ public interface BatchEndpoint<T> {
 	 * @return the batch result operation, or an exception if an error occurred
 	 */
 	@Consumes(APPLICATION_JSON)
+	@EstimatedCost(BATCH)
 	@Path("/")
 	@POST
 	public Try<BatchResult<T>> addBatchCollectionItems(Body body);
@@ -59,10 +65,45 @@ public interface BatchEndpoint<T> {
 	 * @return the new single model, or an exception if an error occurred
 	 */
 	@Consumes(APPLICATION_JSON)
+	@EstimatedCost(BATCH)
 	@Path("{id}/{nestedName}")
 	@POST
 	public Try<BatchResult<T>> addBatchNestedCollectionItems(
 		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
 		Body body);
 
+	/**
+	 * Removes multiple {@link
+	 * com.liferay.apio.architect.single.model.SingleModel} instances from the
+	 * resource specified by {@code name}. This occurs via a DELETE request to
+	 * the resource. Each of the body's members contains the {@code id} of an
+	 * item to remove.
+	 *
+	 * @param  body the request's body
+	 * @return the batch result operation, with the items that couldn't be
+	 *         removed, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@DELETE
+	@EstimatedCost(BATCH)
+	@Path("/")
+	public Try<BatchResult<T>> removeBatchCollectionItems(Body body);
+
+	/**
+	 * Updates multiple {@link
+	 * com.liferay.apio.architect.single.model.SingleModel} instances of the
+	 * resource specified by {@code name}. This occurs via a PUT request to the
+	 * resource. Each of the body's members contains the {@code id} of an item
+	 * to update, along with its new values.
+	 *
+	 * @param  body the request's body
+	 * @return the batch result operation, with the items that couldn't be
+	 *         updated, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@EstimatedCost(BATCH)
+	@Path("/")
+	@PUT
+	public Try<BatchResult<T>> updateBatchCollectionItems(Body body);
+
 }
\ No newline at end of file
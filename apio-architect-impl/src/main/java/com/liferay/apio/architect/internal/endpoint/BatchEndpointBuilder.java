@@ -15,14 +15,18 @@
 package com.liferay.apio.architect.internal.endpoint;
 
 import static com.liferay.apio.architect.internal.endpoint.ExceptionSupplierUtil.notAllowed;
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.bulkhead.BulkheadManager;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.supplier.ThrowableSupplier;
@@ -48,10 +52,12 @@ public interface BatchEndpointBuilder {
 	public static <T, S> RequestStep<T, S> name(String name) {
 		return httpServletRequest -> singleModelFunction ->
 			representorSupplier -> collectionRoutesSupplier ->
-				nestedCollectionRoutesFunction -> () -> new BatchEndpointImpl<>(
-					name, httpServletRequest, singleModelFunction,
-					representorSupplier, collectionRoutesSupplier,
-					nestedCollectionRoutesFunction);
+				itemRoutesSupplier -> nestedCollectionRoutesFunction ->
+					bulkheadManager -> () -> new BatchEndpointImpl<>(
+						name, httpServletRequest, singleModelFunction,
+						representorSupplier, collectionRoutesSupplier,
+						itemRoutesSupplier, nestedCollectionRoutesFunction,
+						bulkheadManager);
 	}
 
 	public class BatchEndpointImpl<T, S> implements BatchEndpoint<S> {
@@ -98,20 +104,58 @@ public interface BatchEndpointBuilder {
 			);
 		}
 
+		@Override
+		public Try<BatchResult<S>> removeBatchCollectionItems(Body body) {
+			return _bulkheadManager.execute(
+				_name, DELETE,
+				() -> Try.fromFallible(
+					_itemRoutesSupplier
+				).mapOptional(
+					ItemRoutes::getBatchRemoveItemFunctionOptional,
+					notAllowed(DELETE, _name)
+				).map(
+					requestFunction -> requestFunction.apply(
+						_httpServletRequest)
+				).flatMap(
+					bodyFunction -> bodyFunction.apply(body)
+				));
+		}
+
+		@Override
+		public Try<BatchResult<S>> updateBatchCollectionItems(Body body) {
+			return _bulkheadManager.execute(
+				_name, PUT,
+				() -> Try.fromFallible(
+					_itemRoutesSupplier
+				).mapOptional(
+					ItemRoutes::getBatchUpdateItemFunctionOptional,
+					notAllowed(PUT, _name)
+				).map(
+					requestFunction -> requestFunction.apply(
+						_httpServletRequest)
+				).flatMap(
+					bodyFunction -> bodyFunction.apply(body)
+				));
+		}
+
 		private BatchEndpointImpl(
 			String name, HttpServletRequest httpServletRequest,
 			Function<String, Try<SingleModel<T>>> singleModelFunction,
 			ThrowableSupplier<Representor<T>> representorSupplier,
 			ThrowableSupplier<CollectionRoutes<T, S>> collectionRoutesSupplier,
+			ThrowableSupplier<ItemRoutes<T, S>> itemRoutesSupplier,
 			ThrowableFunction<String, NestedCollectionRoutes<T, S, Object>>
-				nestedCollectionRoutesFunction) {
+				nestedCollectionRoutesFunction,
+			BulkheadManager bulkheadManager) {
 
 			_name = name;
 			_httpServletRequest = httpServletRequest;
 			_singleModelFunction = singleModelFunction;
 			_representorSupplier = representorSupplier;
 			_collectionRoutesSupplier = collectionRoutesSupplier;
+			_itemRoutesSupplier = itemRoutesSupplier;
 			_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
+			_bulkheadManager = bulkheadManager;
 		}
 
 		private Object _getIdentifierFunction(SingleModel<T> singleModel)
@@ -122,9 +166,11 @@ public interface BatchEndpointBuilder {
 			return representor.getIdentifier(singleModel.getModel());
 		}
 
+		private final BulkheadManager _bulkheadManager;
 		private final ThrowableSupplier<CollectionRoutes<T, S>>
 			_collectionRoutesSupplier;
 		private final HttpServletRequest _httpServletRequest;
+		private final ThrowableSupplier<ItemRoutes<T, S>> _itemRoutesSupplier;
 		private final String _name;
 		private final ThrowableFunction
 			<String, NestedCollectionRoutes<T, S, Object>>
@@ -148,6 +194,20 @@ public interface BatchEndpointBuilder {
 
 	}
 
+	@FunctionalInterface
+	public interface BulkheadManagerStep<T> {
+
+		/**
+		 * Adds information to the builder about the bulkhead manager that
+		 * bounds the concurrent calls to the batch routes.
+		 *
+		 * @param  bulkheadManager the bulkhead manager
+		 * @return the builder's following step
+		 */
+		public BuildStep<T> bulkheadManager(BulkheadManager bulkheadManager);
+
+	}
+
 	@FunctionalInterface
 	public interface CollectionRoutesSupplierStep<T, S> {
 
@@ -159,9 +219,24 @@ public interface BatchEndpointBuilder {
 		 *         collection routes
 		 * @return the builder's following step
 		 */
-		public NestedCollectionRoutesFunctionStep<T, S>
-			collectionRoutesSupplier(
-				ThrowableSupplier<CollectionRoutes<T, S>> supplier);
+		public ItemRoutesSupplierStep<T, S> collectionRoutesSupplier(
+			ThrowableSupplier<CollectionRoutes<T, S>> supplier);
+
+	}
+
+	@FunctionalInterface
+	public interface ItemRoutesSupplierStep<T, S> {
+
+		/**
+		 * Adds information to the builder about the supplier that provides the
+		 * current resource's {@link ItemRoutes}.
+		 *
+		 * @param  supplier the supplier that provides the current resource's
+		 *         item routes
+		 * @return the builder's following step
+		 */
+		public NestedCollectionRoutesFunctionStep<T, S> itemRoutesSupplier(
+			ThrowableSupplier<ItemRoutes<T, S>> supplier);
 
 	}
 
@@ -176,7 +251,7 @@ public interface BatchEndpointBuilder {
 		 * @param  function the function
 		 * @return the builder's following step
 		 */
-		public BuildStep<S> nestedCollectionRoutesFunction(
+		public BulkheadManagerStep<S> nestedCollectionRoutesFunction(
 			ThrowableFunction<String, NestedCollectionRoutes<T, S, Object>>
 				function);
 
@@ -18,6 +18,9 @@ import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 
 import com.liferay.apio.architect.operation.HTTPMethod;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.ws.rs.NotAllowedException;
@@ -58,6 +61,39 @@ public class ExceptionSupplierUtil {
 		return () -> new NotAllowedException(message, response);
 	}
 
+	/**
+	 * Returns a supplier of {@code NotAllowedException} whose response lists,
+	 * in its {@code Allow} header, the methods that are allowed for the path.
+	 *
+	 * @param  httpMethod the method that isn't allowed
+	 * @param  allowedHTTPMethods the methods that are allowed for the path
+	 * @param  path the path in which the method isn't allowed. The path's
+	 *         components are joined using forward slashes {@code /}
+	 * @return a supplier of {@code NotAllowedException}
+	 */
+	public static Supplier<NotAllowedException> notAllowed(
+		HTTPMethod httpMethod, Collection<HTTPMethod> allowedHTTPMethods,
+		String... path) {
+
+		String message =
+			httpMethod.name() + " method is not allowed for path " +
+				String.join("/", path);
+
+		Set<String> allowedMethods = new LinkedHashSet<>();
+
+		for (HTTPMethod allowedHTTPMethod : allowedHTTPMethods) {
+			allowedMethods.add(allowedHTTPMethod.name());
+		}
+
+		Response response = Response.status(
+			METHOD_NOT_ALLOWED
+		).allow(
+			allowedMethods
+		).build();
+
+		return () -> new NotAllowedException(message, response);
+	}
+
 	/**
 	 * Returns a supplier of {@code NotFoundException}.
 	 *
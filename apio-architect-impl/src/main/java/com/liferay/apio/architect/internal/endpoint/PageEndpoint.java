@@ -14,17 +14,22 @@
 
 package com.liferay.apio.architect.internal.endpoint;
 
+import static com.liferay.apio.architect.internal.cost.EstimatedCost.Type.ITEM;
+import static com.liferay.apio.architect.internal.cost.EstimatedCost.Type.PAGE;
+
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.cost.EstimatedCost;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.PATCH;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -38,6 +43,12 @@ import javax.ws.rs.core.Response;
  */
 public interface PageEndpoint<T> {
 
+	/**
+	 * The media type of a JSON Merge Patch document.
+	 */
+	public static final String APPLICATION_MERGE_PATCH_JSON =
+		"application/merge-patch+json";
+
 	/**
 	 * Adds a new {@link SingleModel} to the resource specified by {@code name}.
 	 * This occurs via a POST request to the resource.
@@ -85,6 +96,7 @@ public interface PageEndpoint<T> {
 	 * @return the {@link SingleModel} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
+	@EstimatedCost(ITEM)
 	@GET
 	@Path("{id}")
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(
@@ -96,6 +108,7 @@ public interface PageEndpoint<T> {
 	 * @return the collection {@link Page} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
+	@EstimatedCost(identifiers = true, value = PAGE)
 	@GET
 	@Path("/")
 	public Try<Page<T>> getCollectionPageTry();
@@ -108,11 +121,27 @@ public interface PageEndpoint<T> {
 	 * @return the nested collection {@link Page} for the specified resource, or
 	 *         an exception if an error occurred
 	 */
+	@EstimatedCost(PAGE)
 	@GET
 	@Path("{id}/{nestedName}")
 	public Try<Page<T>> getNestedCollectionPageTry(
 		@PathParam("id") String id, @PathParam("nestedName") String nestedName);
 
+	/**
+	 * Partially updates the specified collection item with a JSON Merge Patch
+	 * document. Only the fields present in the document are read, validated
+	 * and passed to the partial updater.
+	 *
+	 * @param  id the resource's ID
+	 * @param  body the request's body
+	 * @return the updated single model, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_MERGE_PATCH_JSON)
+	@PATCH
+	@Path("{id}")
+	public Try<SingleModel<T>> patchCollectionItem(
+		@PathParam("id") String id, Body body);
+
 	/**
 	 * Updates the specified collection item.
 	 *
@@ -14,19 +14,32 @@
 
 package com.liferay.apio.architect.internal.endpoint;
 
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.setCachePolicy;
 import static com.liferay.apio.architect.internal.endpoint.ExceptionSupplierUtil.notAllowed;
 import static com.liferay.apio.architect.internal.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.internal.pagination.IdentifiersUtil.getIdentifiers;
+import static com.liferay.apio.architect.internal.projection.ProjectionUtil.withProjectedName;
 import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
+import static com.liferay.apio.architect.operation.HTTPMethod.PATCH;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import static javax.ws.rs.core.Response.noContent;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
+import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.bulkhead.BulkheadManager;
+import com.liferay.apio.architect.internal.pagination.IdentifiersPageImpl;
+import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
@@ -36,12 +49,19 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.supplier.ThrowableSupplier;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Response;
 
 /**
@@ -58,7 +78,8 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		ThrowableTriFunction
 			<String, String, String, NestedCollectionRoutes<T, S, Object>>
 				nestedCollectionRoutesFunction,
-		IdentifierFunction<S> pathToIdentifierFunction) {
+		IdentifierFunction<S> pathToIdentifierFunction,
+		BulkheadManager bulkheadManager) {
 
 		_name = name;
 		_httpServletRequest = httpServletRequest;
@@ -68,10 +89,65 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		_itemRoutesSupplier = itemRoutesSupplier;
 		_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
 		_pathToIdentifierFunction = pathToIdentifierFunction;
+		_bulkheadManager = bulkheadManager;
 	}
 
 	@Override
 	public Try<SingleModel<T>> addCollectionItem(Body body) {
+		return _bulkheadManager.execute(
+			_name, POST, () -> _addCollectionItem(body));
+	}
+
+	@Override
+	public Try<SingleModel<T>> addNestedCollectionItem(
+		String id, String nestedName, Body body) {
+
+		return _bulkheadManager.execute(
+			nestedName, POST,
+			() -> _addNestedCollectionItem(id, nestedName, body));
+	}
+
+	@Override
+	public Response deleteCollectionItem(String id) throws Exception {
+		return _bulkheadManager.execute(
+			_name, DELETE,
+			() -> Try.fromFallible(() -> _deleteCollectionItem(id))
+		).get();
+	}
+
+	@Override
+	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
+		return _bulkheadManager.execute(
+			_name, GET, () -> _getCollectionItemSingleModelTry(id));
+	}
+
+	@Override
+	public Try<Page<T>> getCollectionPageTry() {
+		return _bulkheadManager.execute(
+			_name, GET, this::_getCollectionPageTry);
+	}
+
+	@Override
+	public Try<Page<T>> getNestedCollectionPageTry(
+		String id, String nestedName) {
+
+		return _bulkheadManager.execute(
+			nestedName, GET, () -> _getNestedCollectionPageTry(id, nestedName));
+	}
+
+	@Override
+	public Try<SingleModel<T>> patchCollectionItem(String id, Body body) {
+		return _bulkheadManager.execute(
+			_name, PATCH, () -> _patchCollectionItem(id, body));
+	}
+
+	@Override
+	public Try<SingleModel<T>> updateCollectionItem(String id, Body body) {
+		return _bulkheadManager.execute(
+			_name, PUT, () -> _updateCollectionItem(id, body));
+	}
+
+	private Try<SingleModel<T>> _addCollectionItem(Body body) {
 		return Try.fromFallible(
 			_collectionRoutesSupplier
 		).mapOptional(
@@ -84,8 +160,7 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
-	@Override
-	public Try<SingleModel<T>> addNestedCollectionItem(
+	private Try<SingleModel<T>> _addNestedCollectionItem(
 		String id, String nestedName, Body body) {
 
 		return Try.fromFallible(
@@ -105,8 +180,7 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
-	@Override
-	public Response deleteCollectionItem(String id) throws Exception {
+	private Response _deleteCollectionItem(String id) throws Exception {
 		ThrowableConsumer<S> deleteItemThrowableConsumer = Try.fromFallible(
 			_itemRoutesSupplier
 		).mapOptional(
@@ -122,67 +196,73 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return noContent().build();
 	}
 
-	@Override
-	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
-		return _singleModelFunction.apply(id);
+	private List<HTTPMethod> _getAllowedHTTPMethods(
+		ItemRoutes<T, S> itemRoutes) {
+
+		List<HTTPMethod> httpMethods = new ArrayList<>();
+
+		Optional<GetItemFunction<T, S>> getItemFunctionOptional =
+			itemRoutes.getItemFunctionOptional();
+
+		if (getItemFunctionOptional.isPresent()) {
+			httpMethods.add(GET);
+		}
+
+		Optional<UpdateItemFunction<T, S>> updateItemFunctionOptional =
+			itemRoutes.getUpdateItemFunctionOptional();
+
+		if (updateItemFunctionOptional.isPresent()) {
+			httpMethods.add(PUT);
+		}
+
+		Optional<DeleteItemConsumer<S>> deleteConsumerOptional =
+			itemRoutes.getDeleteConsumerOptional();
+
+		if (deleteConsumerOptional.isPresent()) {
+			httpMethods.add(DELETE);
+		}
+
+		return httpMethods;
 	}
 
-	@Override
-	public Try<Page<T>> getCollectionPageTry() {
-		return Try.fromFallible(
-			_collectionRoutesSupplier
-		).mapOptional(
-			CollectionRoutes::getGetPageFunctionOptional, notFound(_name)
-		).flatMap(
-			requestFunction -> requestFunction.apply(_httpServletRequest)
-		);
+	private Try<SingleModel<T>> _getCollectionItemSingleModelTry(String id) {
+		Try<SingleModel<T>> singleModelTry = withProjectedName(
+			_httpServletRequest, _name, () -> _singleModelFunction.apply(id));
+
+		if (singleModelTry.isSuccess()) {
+			Try.fromFallible(
+				_itemRoutesSupplier
+			).map(
+				ItemRoutes::getCachePolicyOptional
+			).ifSuccess(
+				this::_setCachePolicy
+			);
+		}
+
+		return singleModelTry;
 	}
 
-	@Override
-	public Try<Page<T>> getNestedCollectionPageTry(
-		String id, String nestedName) {
+	private Try<Page<T>> _getCollectionPageTry() {
+		String ids = _httpServletRequest.getParameter("ids");
+
+		if (ids != null) {
+			return _getIdentifiersPageTry(ids);
+		}
 
 		return Try.fromFallible(
-			() -> _nestedCollectionRoutesFunction.apply(_name, nestedName, id)
-		).map(
-			NestedCollectionRoutes::getNestedGetPageFunctionOptional
-		).map(
-			Optional::get
-		).map(
-			requestFunction -> requestFunction.apply(_httpServletRequest)
+			_collectionRoutesSupplier
 		).map(
-			pathFunction -> {
-				if (_name.equals("r")) {
-					return pathFunction.apply(new Path(id, nestedName));
-				}
-				else {
-					return pathFunction.apply(new Path(_name, id));
-				}
-			}
-		).flatMap(
-			identifierFunction -> _getPageTry(
-				id, nestedName, identifierFunction)
-		).mapFailMatching(
-			NoSuchElementException.class, notFound(id, nestedName)
-		);
-	}
+			collectionRoutes -> {
+				_setCachePolicy(collectionRoutes.getCachePolicyOptional());
 
-	@Override
-	public Try<SingleModel<T>> updateCollectionItem(String id, Body body) {
-		return Try.fromFallible(
-			_itemRoutesSupplier
+				return collectionRoutes;
+			}
 		).mapOptional(
-			ItemRoutes::getUpdateItemFunctionOptional,
-			notAllowed(PUT, _name, id)
-		).map(
-			requestFunction -> requestFunction.apply(_httpServletRequest)
-		).map(
-			identifierFunction -> identifierFunction.compose(
-				_pathToIdentifierFunction)
-		).map(
-			pathFunction -> pathFunction.apply(new Path(_name, id))
+			CollectionRoutes::getGetPageFunctionOptional, notFound(_name)
 		).flatMap(
-			bodyFunction -> bodyFunction.apply(body)
+			requestFunction -> withProjectedName(
+				_httpServletRequest, _name,
+				() -> requestFunction.apply(_httpServletRequest))
 		);
 	}
 
@@ -215,13 +295,136 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return representor.getIdentifier(singleModel.getModel());
 	}
 
+	private Try<Page<T>> _getIdentifiersPageTry(String ids) {
+		Try<List<String>> identifiersTry = Try.fromFallible(
+			() -> getIdentifiers(ids));
+
+		return identifiersTry.flatMap(
+			identifiers -> _getIdentifiersPageTry(identifiers));
+	}
+
+	private Try<Page<T>> _getIdentifiersPageTry(List<String> identifiers) {
+		return Try.fromFallible(
+			_itemRoutesSupplier
+		).flatMap(
+			itemRoutes -> withProjectedName(
+				_httpServletRequest, _name,
+				() -> Try.fromFallible(
+					() -> _getItems(itemRoutes, identifiers)))
+		).map(
+			items -> new IdentifiersPageImpl<>(_name, items, identifiers)
+		);
+	}
+
+	private List<T> _getItems(
+			ItemRoutes<T, S> itemRoutes, List<String> identifiers)
+		throws Exception {
+
+		List<S> list = new ArrayList<>(identifiers.size());
+
+		for (String identifier : identifiers) {
+			Path path = new Path(_name, identifier);
+
+			list.add(_pathToIdentifierFunction.apply(path));
+		}
+
+		Optional<BatchGetItemFunction<T, S>> batchGetItemFunctionOptional =
+			itemRoutes.getBatchGetItemFunctionOptional();
+
+		if (batchGetItemFunctionOptional.isPresent()) {
+			BatchGetItemFunction<T, S> batchGetItemFunction =
+				batchGetItemFunctionOptional.get();
+
+			Map<S, T> models = batchGetItemFunction.apply(
+				_httpServletRequest
+			).apply(
+				list
+			).get();
+
+			Stream<S> stream = list.stream();
+
+			return stream.map(
+				models::get
+			).filter(
+				Objects::nonNull
+			).collect(
+				Collectors.toList()
+			);
+		}
+
+		Optional<GetItemFunction<T, S>> getItemFunctionOptional =
+			itemRoutes.getItemFunctionOptional();
+
+		GetItemFunction<T, S> getItemFunction =
+			getItemFunctionOptional.orElseThrow(notFound(_name));
+
+		Function<S, Try<SingleModel<T>>> function = getItemFunction.apply(
+			_httpServletRequest);
+
+		List<T> models = new ArrayList<>(list.size());
+
+		for (S s : list) {
+			Try<SingleModel<T>> singleModelTry = function.apply(s);
+
+			try {
+				SingleModel<T> singleModel = singleModelTry.get();
+
+				models.add(singleModel.getModel());
+			}
+			catch (NotFoundException nfe) {
+
+				// Missing items are left out of the page
+
+			}
+		}
+
+		return models;
+	}
+
+	private Try<Page<T>> _getNestedCollectionPageTry(
+		String id, String nestedName) {
+
+		return Try.fromFallible(
+			() -> _nestedCollectionRoutesFunction.apply(_name, nestedName, id)
+		).map(
+			nestedCollectionRoutes -> {
+				_setCachePolicy(
+					nestedCollectionRoutes.getCachePolicyOptional());
+
+				return nestedCollectionRoutes;
+			}
+		).map(
+			NestedCollectionRoutes::getNestedGetPageFunctionOptional
+		).map(
+			Optional::get
+		).map(
+			requestFunction -> requestFunction.apply(_httpServletRequest)
+		).map(
+			pathFunction -> {
+				if (_name.equals("r")) {
+					return pathFunction.apply(new Path(id, nestedName));
+				}
+				else {
+					return pathFunction.apply(new Path(_name, id));
+				}
+			}
+		).flatMap(
+			identifierFunction -> _getPageTry(
+				id, nestedName, identifierFunction)
+		).mapFailMatching(
+			NoSuchElementException.class, notFound(id, nestedName)
+		);
+	}
+
 	private Try<Page<T>> _getPageTry(
 		String id, String nestedName,
 		Function<Object, Try<Page<T>>> identifierFunction) {
 
 		if (_name.equals("r")) {
-			return identifierFunction.apply(
-				_pathToIdentifierFunction.apply(new Path(id, nestedName)));
+			return withProjectedName(
+				_httpServletRequest, nestedName,
+				() -> identifierFunction.apply(
+					_pathToIdentifierFunction.apply(new Path(id, nestedName))));
 		}
 		else {
 			return _singleModelFunction.apply(
@@ -229,11 +432,59 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 			).map(
 				this::_getIdentifierFunction
 			).flatMap(
-				identifierFunction::apply
+				identifier -> withProjectedName(
+					_httpServletRequest, nestedName,
+					() -> identifierFunction.apply(identifier))
 			);
 		}
 	}
 
+	private Try<SingleModel<T>> _patchCollectionItem(String id, Body body) {
+		return Try.fromFallible(
+			_itemRoutesSupplier
+		).flatMap(
+			itemRoutes -> Try.fromOptional(
+				itemRoutes::getPartialUpdateItemFunctionOptional,
+				notAllowed(
+					PATCH, _getAllowedHTTPMethods(itemRoutes), _name, id))
+		).map(
+			requestFunction -> requestFunction.apply(_httpServletRequest)
+		).map(
+			identifierFunction -> identifierFunction.compose(
+				_pathToIdentifierFunction)
+		).map(
+			pathFunction -> pathFunction.apply(new Path(_name, id))
+		).flatMap(
+			bodyFunction -> bodyFunction.apply(body)
+		);
+	}
+
+	private void _setCachePolicy(
+		Optional<? extends CachePolicy<?>> cachePolicyOptional) {
+
+		cachePolicyOptional.ifPresent(
+			cachePolicy -> setCachePolicy(_httpServletRequest, cachePolicy));
+	}
+
+	private Try<SingleModel<T>> _updateCollectionItem(String id, Body body) {
+		return Try.fromFallible(
+			_itemRoutesSupplier
+		).mapOptional(
+			ItemRoutes::getUpdateItemFunctionOptional,
+			notAllowed(PUT, _name, id)
+		).map(
+			requestFunction -> requestFunction.apply(_httpServletRequest)
+		).map(
+			identifierFunction -> identifierFunction.compose(
+				_pathToIdentifierFunction)
+		).map(
+			pathFunction -> pathFunction.apply(new Path(_name, id))
+		).flatMap(
+			bodyFunction -> bodyFunction.apply(body)
+		);
+	}
+
+	private final BulkheadManager _bulkheadManager;
 	private final ThrowableSupplier<CollectionRoutes<T, S>>
 		_collectionRoutesSupplier;
 	private final HttpServletRequest _httpServletRequest;
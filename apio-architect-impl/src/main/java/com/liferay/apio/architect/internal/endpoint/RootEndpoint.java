@@ -21,6 +21,7 @@ import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
 
 /**
  * Declares the endpoint from which all of your APIs originate. There should
@@ -48,6 +49,18 @@ public interface RootEndpoint {
 	@Path("/b/")
 	public BinaryEndpoint binaryEndpoint();
 
+	/**
+	 * Returns the shared JSON-LD context with the provided hash. Since the
+	 * hash identifies the context's content, the response can be cached
+	 * forever.
+	 *
+	 * @param  hash the shared context's hash
+	 * @return the shared JSON-LD context
+	 */
+	@GET
+	@Path("/context/{hash}")
+	public Response context(@PathParam("hash") String hash);
+
 	/**
 	 * Returns the endpoint for custom operations.
 	 *
@@ -15,13 +15,17 @@
 package com.liferay.apio.architect.internal.endpoint;
 
 import static com.liferay.apio.architect.internal.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
 
 import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.bulkhead.BulkheadManager;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.CustomOperationsEndpoint;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.jsonld.SharedContext;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
@@ -39,11 +43,15 @@ import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -84,16 +92,51 @@ public class RootEndpointImpl implements RootEndpoint {
 			() -> _getRepresentorOrFail(name)
 		).collectionRoutesSupplier(
 			() -> _getCollectionRoutesOrFail(name)
+		).itemRoutesSupplier(
+			() -> _getItemRoutesOrFail(name)
 		).nestedCollectionRoutesFunction(
 			nestedName -> _getNestedCollectionRoutesOrFail(
 				name, nestedName, null)
+		).bulkheadManager(
+			_bulkheadManager
 		).build();
 	}
 
 	@Override
 	public BinaryEndpoint binaryEndpoint() {
 		return new BinaryEndpoint(
-			this::_getRepresentorOrFail, this::_getSingleModelTry);
+			this::_getRepresentorOrFail,
+			(name, id) -> _bulkheadManager.execute(
+				name, GET, () -> _getSingleModelTry(name, id)));
+	}
+
+	@Override
+	public Response context(String hash) {
+		Optional<SharedContext> optional =
+			_sharedContextManager.getSharedContextOptional();
+
+		SharedContext sharedContext = optional.filter(
+			context -> hash.equals(context.getHash())
+		).orElseThrow(
+			notFound("context", hash)
+		);
+
+		CacheControl cacheControl = new CacheControl();
+
+		cacheControl.setMaxAge(_ONE_YEAR_IN_SECONDS);
+
+		Map<String, String> cacheExtension =
+			cacheControl.getCacheExtension();
+
+		cacheExtension.put("immutable", null);
+
+		return Response.ok(
+			sharedContext.getDocument(), "application/ld+json"
+		).cacheControl(
+			cacheControl
+		).tag(
+			new EntityTag(sharedContext.getHash())
+		).build();
 	}
 
 	@Override
@@ -131,7 +174,8 @@ public class RootEndpointImpl implements RootEndpoint {
 			this::_getNestedCollectionRoutesOrFail,
 			path -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
 				path,
-				(ClassNameBaseManager)_reusableNestedCollectionRouterManager));
+				(ClassNameBaseManager)_reusableNestedCollectionRouterManager),
+			_bulkheadManager);
 	}
 
 	private CollectionRoutes<Object, Object> _getCollectionRoutesOrFail(
@@ -203,6 +247,11 @@ public class RootEndpointImpl implements RootEndpoint {
 		return _providerManager.provideOptional(_httpServletRequest, clazz);
 	}
 
+	private static final int _ONE_YEAR_IN_SECONDS = 31536000;
+
+	@Reference
+	private BulkheadManager _bulkheadManager;
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
@@ -233,4 +282,7 @@ public class RootEndpointImpl implements RootEndpoint {
 	private ReusableNestedCollectionRouterManager
 		_reusableNestedCollectionRouterManager;
 
+	@Reference
+	private SharedContextManager _sharedContextManager;
+
 }
\ No newline at end of file
@@ -132,6 +132,15 @@ public class FormImpl<T> implements Form<T> {
 		);
 	}
 
+	@Override
+	public T getPartial(Body body) {
+		T t = _supplier.get();
+
+		_getPartialFormFields(this, body, t);
+
+		return t;
+	}
+
 	@Override
 	public String getTitle(AcceptLanguage acceptLanguage) {
 		return _titleFunction.apply(acceptLanguage);
@@ -727,6 +736,76 @@ public class FormImpl<T> implements Form<T> {
 			body, u, key, consumerFunction, false);
 	}
 
+	private <U> void _getPartialFormFields(
+		FormImpl<U> formImpl, Body body, U u) {
+
+		formImpl._optionalBooleans.forEach(getOptionalBoolean(body, u));
+		formImpl._optionalBooleanLists.forEach(getOptionalBooleanList(body, u));
+		formImpl._optionalDates.forEach(getOptionalDate(body, u));
+		formImpl._optionalDateLists.forEach(getOptionalDateList(body, u));
+		formImpl._optionalDoubles.forEach(getOptionalDouble(body, u));
+		formImpl._optionalDoubleLists.forEach(getOptionalDoubleList(body, u));
+		formImpl._optionalFiles.forEach(getOptionalFile(body, u));
+		formImpl._optionalFileLists.forEach(getOptionalFileList(body, u));
+		formImpl._optionalLinkedModel.forEach(
+			getOptionalLinkedModel(body, u, _pathToIdentifierFunction));
+		formImpl._optionalLinkedModelList.forEach(
+			getOptionalLinkedModelList(body, u, _pathToIdentifierFunction));
+		formImpl._optionalLongs.forEach(getOptionalLong(body, u));
+		formImpl._optionalLongLists.forEach(getOptionalLongList(body, u));
+		formImpl._optionalNestedModel.forEach(
+			formImpl._getPartialNestedModel(body, u));
+		formImpl._optionalNestedModelLists.forEach(
+			formImpl._getOptionalNestedModelList(body, u));
+		formImpl._optionalStrings.forEach(getOptionalString(body, u));
+		formImpl._optionalStringLists.forEach(getOptionalStringList(body, u));
+		formImpl._requiredBooleans.forEach(getOptionalBoolean(body, u));
+		formImpl._requiredBooleanLists.forEach(getOptionalBooleanList(body, u));
+		formImpl._requiredDates.forEach(getOptionalDate(body, u));
+		formImpl._requiredDateLists.forEach(getOptionalDateList(body, u));
+		formImpl._requiredDoubles.forEach(getOptionalDouble(body, u));
+		formImpl._requiredDoubleLists.forEach(getOptionalDoubleList(body, u));
+		formImpl._requiredFiles.forEach(getOptionalFile(body, u));
+		formImpl._requiredFileLists.forEach(getOptionalFileList(body, u));
+		formImpl._requiredLinkedModel.forEach(
+			getOptionalLinkedModel(body, u, _pathToIdentifierFunction));
+		formImpl._requiredLinkedModelList.forEach(
+			getOptionalLinkedModelList(body, u, _pathToIdentifierFunction));
+		formImpl._requiredLongs.forEach(getOptionalLong(body, u));
+		formImpl._requiredLongLists.forEach(getOptionalLongList(body, u));
+		formImpl._requiredNestedModel.forEach(
+			formImpl._getPartialNestedModel(body, u));
+		formImpl._requiredNestedModelLists.forEach(
+			formImpl._getOptionalNestedModelList(body, u));
+		formImpl._requiredStrings.forEach(getOptionalString(body, u));
+		formImpl._requiredStringLists.forEach(getOptionalStringList(body, u));
+	}
+
+	private <U> BiConsumer
+		<String, Function<U, Consumer<Object>>> _getPartialNestedModel(
+			Body body, U u) {
+
+		return (key, consumerFunction) -> {
+			Optional<Body> bodyOptional = body.getNestedBodyOptional(key);
+
+			if (!bodyOptional.isPresent()) {
+				return;
+			}
+
+			FormImpl<Object> nestedForm = _getNestedForm(key);
+
+			Object object = nestedForm._supplier.get();
+
+			_getPartialFormFields(nestedForm, bodyOptional.get(), object);
+
+			consumerFunction.apply(
+				u
+			).accept(
+				object
+			);
+		};
+	}
+
 	private <U> BiConsumer
 		<String, Function<U, Consumer<Object>>> _getRequiredNestedModel(
 			Body body, U u) {
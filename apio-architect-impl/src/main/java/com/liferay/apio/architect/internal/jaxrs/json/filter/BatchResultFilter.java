@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.Family.SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.Family.familyOf;
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.internal.jaxrs.json.util.ErrorUtil;
+
+import java.io.IOException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Sets the status of the responses containing a {@link BatchResult} with
+ * failed items.
+ *
+ * <p>
+ * If only some items failed, the status is {@code 207 Multi-Status}, so
+ * clients know they have to check each item's error. If every item failed, the
+ * status is the one shared by every item's error, or a generic client or
+ * server error if they differ.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = ContainerResponseFilter.class
+)
+public class BatchResultFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		Try.fromFallible(
+			containerResponseContext::getEntity
+		).map(
+			Success.class::cast
+		).map(
+			Success::getValue
+		).map(
+			BatchResult.class::cast
+		).ifSuccess(
+			batchResult -> _updateStatus(containerResponseContext, batchResult)
+		);
+	}
+
+	private int _getStatus(Collection<Exception> exceptions) {
+		int status = 0;
+
+		for (Exception exception : exceptions) {
+			int statusCode = _errorUtil.getStatusCode(exception);
+
+			if (status == 0) {
+				status = statusCode;
+			}
+			else if (status != statusCode) {
+				if ((familyOf(status) == SERVER_ERROR) ||
+					(familyOf(statusCode) == SERVER_ERROR)) {
+
+					return INTERNAL_SERVER_ERROR.getStatusCode();
+				}
+
+				status = BAD_REQUEST.getStatusCode();
+			}
+		}
+
+		return status;
+	}
+
+	private void _updateStatus(
+		ContainerResponseContext containerResponseContext,
+		BatchResult<?> batchResult) {
+
+		Map<?, Exception> failures = batchResult.getFailures();
+
+		if (failures.isEmpty()) {
+			return;
+		}
+
+		List<?> identifiers = batchResult.getIdentifiers();
+
+		if (failures.size() < identifiers.size()) {
+			containerResponseContext.setStatus(_MULTI_STATUS);
+
+			return;
+		}
+
+		containerResponseContext.setStatus(_getStatus(failures.values()));
+	}
+
+	private static final int _MULTI_STATUS = 207;
+
+	@Reference
+	private ErrorUtil _errorUtil;
+
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getCacheControlOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getCachePolicyOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getLastModifiedOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getPageLastModifiedOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.toHTTPDate;
+import static com.liferay.apio.architect.internal.jaxrs.json.util.VaryUtil.addVary;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import com.liferay.apio.architect.cache.CachePolicy;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Date;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Applies the {@link CachePolicy} of the route that answered a request to its
+ * response. This filter writes the {@code Cache-Control}, {@code Vary} and
+ * {@code Last-Modified} headers and, if the request is conditional and the
+ * model hasn't been modified, replaces the response with a {@code 304 Not
+ * Modified} one, so the message body writers never render it.
+ *
+ * <p>
+ * Pages only get a {@code Last-Modified} header if the cache policy has a
+ * page's last modification date function, since the dates of the items in a
+ * page don't change when other items are removed from the collection.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = ContainerResponseFilter.class
+)
+public class CachePolicyFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		if (!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != 200)) {
+
+			return;
+		}
+
+		Optional<CachePolicy<Object>> cachePolicyOptional =
+			getCachePolicyOptional(_httpServletRequest);
+
+		if (!cachePolicyOptional.isPresent()) {
+			return;
+		}
+
+		Optional<Object> valueOptional = _getValueOptional(
+			containerResponseContext.getEntity());
+
+		if (!valueOptional.isPresent()) {
+			return;
+		}
+
+		CachePolicy<Object> cachePolicy = cachePolicyOptional.get();
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		getCacheControlOptional(
+			cachePolicy
+		).ifPresent(
+			cacheControl -> headers.putSingle(CACHE_CONTROL, cacheControl)
+		);
+
+		addVary(headers, ACCEPT);
+		addVary(headers, ACCEPT_LANGUAGE);
+
+		Optional<Date> lastModifiedOptional = _getLastModifiedOptional(
+			cachePolicy, valueOptional.get());
+
+		if (!lastModifiedOptional.isPresent()) {
+			return;
+		}
+
+		Date lastModified = lastModifiedOptional.get();
+
+		headers.putSingle(LAST_MODIFIED, toHTTPDate(lastModified));
+
+		Response.ResponseBuilder responseBuilder =
+			_request.evaluatePreconditions(lastModified);
+
+		if (responseBuilder == null) {
+			return;
+		}
+
+		Response response = responseBuilder.build();
+
+		containerResponseContext.setStatus(response.getStatus());
+		containerResponseContext.setEntity(null);
+	}
+
+	private Optional<Date> _getLastModifiedOptional(
+		CachePolicy<Object> cachePolicy, Object value) {
+
+		if (value instanceof Page) {
+			Page<Object> page = unsafeCast(value);
+
+			return getPageLastModifiedOptional(cachePolicy, page);
+		}
+
+		SingleModel<?> singleModel = (SingleModel<?>)value;
+
+		return getLastModifiedOptional(cachePolicy, singleModel.getModel());
+	}
+
+	private Optional<Object> _getValueOptional(Object entity) {
+		if (!(entity instanceof Try)) {
+			return Optional.empty();
+		}
+
+		Try<?> entityTry = (Try<?>)entity;
+
+		Optional<?> optional = entityTry.toOptional();
+
+		return optional.filter(
+			value -> (value instanceof Page) || (value instanceof SingleModel)
+		).map(
+			Object.class::cast
+		);
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Context
+	private Request _request;
+
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.functional.Try.Failure;
+import com.liferay.apio.architect.internal.metrics.RequestMetrics;
+import com.liferay.apio.architect.metrics.MetricsRecorder;
+import com.liferay.apio.architect.metrics.Stage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.reflect.Method;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Priority;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.apache.commons.io.output.CountingOutputStream;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Measures every request and hands its metrics to the registered {@link
+ * MetricsRecorder} services once the response has been written.
+ *
+ * <p>
+ * The time between the request and response filters is recorded as the {@link
+ * Stage#ROUTE} stage. The time spent writing the entity is recorded as the
+ * {@link Stage#SERIALIZATION} stage, minus the rendering and embedded
+ * resolution stages recorded by the message body writers themselves.
+ * </p>
+ *
+ * <p>
+ * The filter has the default {@link Priorities#USER} priority, so it runs
+ * inside the compression interceptor and the recorded payload size is always
+ * the size of the uncompressed response.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+@Priority(Priorities.USER)
+public class MetricsFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object property = writerInterceptorContext.getProperty(
+			RequestMetrics.ATTRIBUTE_NAME);
+
+		if (!(property instanceof RequestMetrics)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		RequestMetrics requestMetrics = (RequestMetrics)property;
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		CountingOutputStream countingOutputStream = new CountingOutputStream(
+			outputStream);
+
+		writerInterceptorContext.setOutputStream(countingOutputStream);
+
+		long startNanos = System.nanoTime();
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		catch (IOException | RuntimeException e) {
+			requestMetrics.setFailed(true);
+
+			throw e;
+		}
+		finally {
+			long nanos =
+				System.nanoTime() - startNanos -
+					requestMetrics.getDuration(Stage.RENDERING) -
+						requestMetrics.getDuration(Stage.EMBEDDED_RESOLUTION);
+
+			requestMetrics.addDuration(Stage.SERIALIZATION, Math.max(0, nanos));
+			requestMetrics.setPayloadSize(countingOutputStream.getByteCount());
+
+			_record(requestMetrics);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> pathParameters =
+			uriInfo.getPathParameters();
+
+		String resourceName = pathParameters.getFirst("name");
+
+		if (resourceName == null) {
+			Class<?> resourceClass = _resourceInfo.getResourceClass();
+
+			resourceName = resourceClass.getSimpleName();
+		}
+
+		Method resourceMethod = _resourceInfo.getResourceMethod();
+
+		containerRequestContext.setProperty(
+			RequestMetrics.ATTRIBUTE_NAME,
+			new RequestMetrics(resourceName, resourceMethod.getName()));
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object property = containerRequestContext.getProperty(
+			RequestMetrics.ATTRIBUTE_NAME);
+
+		if (!(property instanceof RequestMetrics)) {
+			return;
+		}
+
+		RequestMetrics requestMetrics = (RequestMetrics)property;
+
+		requestMetrics.addDuration(
+			Stage.ROUTE, requestMetrics.getElapsedNanos());
+
+		if ((containerResponseContext.getStatus() >= 400) ||
+			(containerResponseContext.getEntity() instanceof Failure)) {
+
+			requestMetrics.setFailed(true);
+		}
+
+		if (!containerResponseContext.hasEntity()) {
+			_record(requestMetrics);
+		}
+	}
+
+	private void _record(RequestMetrics requestMetrics) {
+		Map<Stage, Long> durations = requestMetrics.getDurations();
+
+		for (MetricsRecorder metricsRecorder : _metricsRecorders) {
+			try {
+				metricsRecorder.record(
+					requestMetrics.getResourceName(),
+					requestMetrics.getOperation(), durations,
+					requestMetrics.getPayloadSize(), requestMetrics.isFailed());
+			}
+			catch (Exception e) {
+				_logger.warn(
+					"Unable to record metrics with {}",
+					metricsRecorder.getClass(), e);
+			}
+		}
+	}
+
+	private final Logger _logger = getLogger(getClass());
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<MetricsRecorder> _metricsRecorders;
+
+	@Context
+	private ResourceInfo _resourceInfo;
+
+}
@@ -0,0 +1,387 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.COOKIE;
+import static javax.ws.rs.core.HttpHeaders.IF_MODIFIED_SINCE;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.apio.architect.coalescing.CoalescingKeyContributor;
+import com.liferay.apio.architect.functional.Try.Failure;
+import com.liferay.apio.architect.internal.coalescing.CapturingOutputStream;
+import com.liferay.apio.architect.internal.coalescing.CoalescedResponse;
+import com.liferay.apio.architect.internal.coalescing.InFlightRequest;
+import com.liferay.apio.architect.internal.coalescing.RequestCoalescer;
+import com.liferay.apio.architect.internal.coalescing.RequestCoalescingConfiguration;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.reflect.Method;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Priority;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Coalesces identical concurrent {@code GET} requests for pages and items with
+ * a {@link RequestCoalescer}. The first request computes and writes the
+ * response, keeping a copy of the written bytes, and the identical requests
+ * that arrive meanwhile are answered with that copy instead of invoking the
+ * route functions again.
+ *
+ * <p>
+ * Two requests are identical if they have the same path, query string and
+ * {@code Accept}, {@code Accept-Encoding}, {@code Accept-Language}, {@code
+ * Authorization}, {@code Cookie} and {@code Prefer} headers, and every
+ * registered {@link CoalescingKeyContributor} contributes the same value for
+ * both. Only successful responses are shared: if the first request fails, the
+ * waiting requests compute their own.
+ * </p>
+ *
+ * <p>
+ * Conditional requests (those with an {@code If-Modified-Since} header) are
+ * never coalesced, since their response depends on the client's copy. The
+ * {@code Apio-Embedding}, {@code Cache-Control}, {@code Last-Modified} and
+ * {@code Vary} headers of the first response are shared along with its bytes,
+ * so a partially embedded response keeps its marker.
+ * </p>
+ *
+ * <p>
+ * The filter has the {@link Priorities#HEADER_DECORATOR} priority, so its
+ * writer interceptor runs outside the compression interceptor. The copied
+ * bytes are therefore the ones sent to the client, encoded with the {@code
+ * Content-Encoding} they're shared with. Since {@code Accept-Encoding} is part
+ * of the key, followers always accept that encoding.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.coalescing.RequestCoalescingConfiguration",
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+@Priority(Priorities.HEADER_DECORATOR)
+public class RequestCoalescingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object property = writerInterceptorContext.getProperty(_KEY_PROPERTY);
+
+		if (!(property instanceof String)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		String key = (String)property;
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(outputStream, _maxResponseBytes);
+
+		writerInterceptorContext.setOutputStream(capturingOutputStream);
+
+		CoalescedResponse coalescedResponse = null;
+
+		try {
+			writerInterceptorContext.proceed();
+
+			MultivaluedMap<String, Object> headers =
+				writerInterceptorContext.getHeaders();
+
+			coalescedResponse = capturingOutputStream.getBytesOptional(
+			).map(
+				bytes -> new CoalescedResponse(
+					bytes, _getHeader(headers, CONTENT_TYPE),
+					_getHeader(headers, CONTENT_ENCODING),
+					_getSharedHeaders(headers))
+			).orElse(
+				null
+			);
+		}
+		finally {
+			_requestCoalescer.complete(key, coalescedResponse);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		if (!_enabled ||
+			!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			(containerRequestContext.getHeaderString(IF_MODIFIED_SINCE) !=
+				null)) {
+
+			return;
+		}
+
+		Optional<String> optional = _getKeyOptional(containerRequestContext);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		String key = optional.get();
+
+		Optional<InFlightRequest> inFlightRequestOptional =
+			_requestCoalescer.follow(key);
+
+		if (!inFlightRequestOptional.isPresent()) {
+			containerRequestContext.setProperty(_KEY_PROPERTY, key);
+
+			return;
+		}
+
+		InFlightRequest inFlightRequest = inFlightRequestOptional.get();
+
+		_requestCoalescer.await(
+			key, inFlightRequest, _maxWaitMillis
+		).map(
+			this::_toResponse
+		).ifPresent(
+			containerRequestContext::abortWith
+		);
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object property = containerRequestContext.getProperty(_KEY_PROPERTY);
+
+		if (!(property instanceof String)) {
+			return;
+		}
+
+		if ((containerResponseContext.getStatus() != 200) ||
+			!containerResponseContext.hasEntity() ||
+			(containerResponseContext.getEntity() instanceof Failure)) {
+
+			containerRequestContext.removeProperty(_KEY_PROPERTY);
+
+			_requestCoalescer.abandon((String)property);
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(
+		RequestCoalescingConfiguration requestCoalescingConfiguration) {
+
+		_enabled = requestCoalescingConfiguration.enabled();
+		_excludedResourceNames = Arrays.asList(
+			requestCoalescingConfiguration.excludedResourceNames());
+		_maxResponseBytes = Math.max(
+			0, requestCoalescingConfiguration.maxResponseBytes());
+		_maxWaitMillis = Math.max(
+			0, requestCoalescingConfiguration.maxWaitMillis());
+	}
+
+	private static String _getHeader(
+		MultivaluedMap<String, Object> headers, String name) {
+
+		Object value = headers.getFirst(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		return value.toString();
+	}
+
+	private static Map<String, String> _getSharedHeaders(
+		MultivaluedMap<String, Object> headers) {
+
+		Map<String, String> sharedHeaders = new HashMap<>();
+
+		for (String headerName : _SHARED_HEADER_NAMES) {
+			List<Object> values = headers.get(headerName);
+
+			if ((values == null) || values.isEmpty()) {
+				continue;
+			}
+
+			StringBuilder sb = new StringBuilder();
+
+			for (Object value : values) {
+				if (sb.length() > 0) {
+					sb.append(", ");
+				}
+
+				sb.append(value);
+			}
+
+			sharedHeaders.put(headerName, sb.toString());
+		}
+
+		return sharedHeaders;
+	}
+
+	private Optional<String> _getKeyOptional(
+		ContainerRequestContext containerRequestContext) {
+
+		Method resourceMethod = _resourceInfo.getResourceMethod();
+
+		if ((resourceMethod == null) ||
+			!_METHOD_NAMES.contains(resourceMethod.getName())) {
+
+			return Optional.empty();
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> pathParameters =
+			uriInfo.getPathParameters();
+
+		String resourceName = pathParameters.getFirst("nestedName");
+
+		if (resourceName == null) {
+			resourceName = pathParameters.getFirst("name");
+		}
+
+		if ((resourceName == null) ||
+			_excludedResourceNames.contains(resourceName)) {
+
+			return Optional.empty();
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(uriInfo.getPath());
+		sb.append('?');
+		sb.append(_httpServletRequest.getQueryString());
+
+		for (String headerName : _HEADER_NAMES) {
+			sb.append('\n');
+			sb.append(containerRequestContext.getHeaderString(headerName));
+		}
+
+		for (CoalescingKeyContributor coalescingKeyContributor :
+				_coalescingKeyContributors) {
+
+			Optional<String> optional = coalescingKeyContributor.getKeyPart(
+				resourceName, _httpServletRequest);
+
+			if (!optional.isPresent()) {
+				return Optional.empty();
+			}
+
+			sb.append('\n');
+			sb.append(optional.get());
+		}
+
+		return Optional.of(sb.toString());
+	}
+
+	private Response _toResponse(CoalescedResponse coalescedResponse) {
+		Response.ResponseBuilder responseBuilder = Response.ok(
+			coalescedResponse.getBytes(), coalescedResponse.getContentType());
+
+		coalescedResponse.getContentEncodingOptional(
+		).ifPresent(
+			contentEncoding -> responseBuilder.header(
+				CONTENT_ENCODING, contentEncoding)
+		);
+
+		Map<String, String> headers = coalescedResponse.getHeaders();
+
+		headers.forEach(responseBuilder::header);
+
+		return responseBuilder.build();
+	}
+
+	private static final List<String> _HEADER_NAMES = Arrays.asList(
+		ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE, AUTHORIZATION, COOKIE,
+		"Prefer");
+
+	private static final String _KEY_PROPERTY =
+		RequestCoalescingFilter.class.getName() + "#key";
+
+	private static final List<String> _METHOD_NAMES = Arrays.asList(
+		"getCollectionItemSingleModelTry", "getCollectionPageTry",
+		"getNestedCollectionPageTry");
+
+	private static final List<String> _SHARED_HEADER_NAMES = Arrays.asList(
+		CACHE_CONTROL, EmbeddingDeadline.HEADER_NAME, LAST_MODIFIED, VARY);
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<CoalescingKeyContributor> _coalescingKeyContributors;
+
+	private volatile boolean _enabled;
+	private volatile List<String> _excludedResourceNames;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private volatile int _maxResponseBytes;
+	private volatile long _maxWaitMillis;
+	private final RequestCoalescer _requestCoalescer = new RequestCoalescer();
+
+	@Context
+	private ResourceInfo _resourceInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.internal.cost.EstimatedCost.Type.BATCH;
+import static com.liferay.apio.architect.internal.cost.EstimatedCost.Type.PAGE;
+import static com.liferay.apio.architect.internal.pagination.IdentifiersUtil.getIdentifiers;
+import static com.liferay.apio.architect.internal.provider.PaginationProvider.getRequestedItemsPerPage;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.cost.EstimatedCost;
+import com.liferay.apio.architect.internal.cost.RequestCost;
+import com.liferay.apio.architect.internal.cost.RequestCostConfiguration;
+import com.liferay.apio.architect.internal.cost.RequestCostEstimator;
+import com.liferay.apio.architect.internal.cost.RequestCostLimits;
+import com.liferay.apio.architect.internal.cost.ResourceRequestCostLimits;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.lang.reflect.Method;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Estimates the cost of every request handled by an endpoint method annotated
+ * with {@link EstimatedCost}, using a {@link RequestCostEstimator}, and rejects
+ * the requests over the configured limits before any model is fetched.
+ *
+ * <p>
+ * Requests whose page size or embedding depth are over the limits are
+ * rejected with a {@code 400} status code. Requests whose estimated cost is
+ * over the budget are rejected with a {@code 413} status code. If {@link
+ * RequestCostConfiguration#clampItemsPerPage()} is enabled, page sizes over
+ * the limit are clamped instead.
+ * </p>
+ *
+ * <p>
+ * Requests for several items by their identifiers, with the {@code ids}
+ * parameter, are estimated as a page with one item per identifier. Batch
+ * requests are estimated as a page with one item per member of the body,
+ * which is buffered to count them. Since the number of identifiers or members
+ * can't be reduced, they're never clamped. Batch bodies over {@link
+ * RequestCostConfiguration#maxBatchBytes()} are rejected with a {@code 413}
+ * status code without buffering them.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.cost.RequestCostConfiguration",
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = ContainerRequestFilter.class
+)
+public class RequestCostFilter implements ContainerRequestFilter {
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		if (!_enabled) {
+			return;
+		}
+
+		Optional<EstimatedCost> optional = _getEstimatedCostOptional(
+			_resourceInfo.getResourceMethod());
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		EstimatedCost estimatedCost = optional.get();
+
+		if ((estimatedCost.value() != BATCH) &&
+			!HttpMethod.GET.equals(containerRequestContext.getMethod())) {
+
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> pathParameters =
+			uriInfo.getPathParameters();
+
+		String resourceName = pathParameters.getFirst("nestedName");
+
+		if (resourceName == null) {
+			resourceName = pathParameters.getFirst("name");
+		}
+
+		if (resourceName == null) {
+			return;
+		}
+
+		RequestCostLimits requestCostLimits = _getRequestCostLimits(
+			resourceName);
+
+		String ids = _httpServletRequest.getParameter("ids");
+
+		int itemsPerPage;
+
+		if (estimatedCost.identifiers() && (ids != null)) {
+			List<String> identifiers = getIdentifiers(ids);
+
+			itemsPerPage = identifiers.size();
+		}
+		else if (estimatedCost.value() == BATCH) {
+			itemsPerPage = _getMembersCount(containerRequestContext);
+		}
+		else if (estimatedCost.value() == PAGE) {
+			itemsPerPage = getRequestedItemsPerPage(_httpServletRequest);
+
+			if (_clampItemsPerPage) {
+				itemsPerPage = Math.min(
+					itemsPerPage, requestCostLimits.getMaxItemsPerPage());
+			}
+		}
+		else {
+			itemsPerPage = 1;
+		}
+
+		RequestCostEstimator requestCostEstimator = new RequestCostEstimator(
+			name -> unsafeCast(
+				_representableManager.getRepresentorOptional(name)),
+			_nameManager::getNameOptional);
+
+		RequestCost requestCost = requestCostEstimator.estimate(
+			resourceName, itemsPerPage,
+			_providerManager.provideOptional(
+				_httpServletRequest, Embedded.class
+			).orElse(
+				__ -> false
+			),
+			_providerManager.provideOptional(
+				_httpServletRequest, Fields.class
+			).orElse(
+				__ -> string -> true
+			));
+
+		requestCostLimits.check(requestCost);
+
+		_httpServletRequest.setAttribute(
+			RequestCost.ATTRIBUTE_NAME, requestCost);
+	}
+
+	@Activate
+	@Modified
+	protected void activate(RequestCostConfiguration requestCostConfiguration) {
+		_enabled = requestCostConfiguration.enabled();
+		_clampItemsPerPage = requestCostConfiguration.clampItemsPerPage();
+		_maxBatchBytes = requestCostConfiguration.maxBatchBytes();
+		_requestCostLimits = RequestCostLimits.of(requestCostConfiguration);
+	}
+
+	private ClientErrorException _createPayloadTooLargeException(
+		int maxBatchBytes) {
+
+		return new ClientErrorException(
+			"The body of a batch request can't be greater than " +
+				maxBatchBytes + " bytes",
+			Response.Status.REQUEST_ENTITY_TOO_LARGE);
+	}
+
+	private Optional<EstimatedCost> _getEstimatedCostOptional(Method method) {
+		if (method == null) {
+			return Optional.empty();
+		}
+
+		EstimatedCost estimatedCost = method.getAnnotation(
+			EstimatedCost.class);
+
+		if (estimatedCost != null) {
+			return Optional.of(estimatedCost);
+		}
+
+		Class<?> declaringClass = method.getDeclaringClass();
+
+		for (Class<?> interfaceClass : declaringClass.getInterfaces()) {
+			Try<Method> methodTry = Try.fromFallible(
+				() -> interfaceClass.getMethod(
+					method.getName(), method.getParameterTypes()));
+
+			Optional<EstimatedCost> optional = methodTry.map(
+				interfaceMethod -> interfaceMethod.getAnnotation(
+					EstimatedCost.class)
+			).toOptional();
+
+			if (optional.isPresent()) {
+				return optional;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private int _getMembersCount(
+			ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		int maxBatchBytes = _maxBatchBytes;
+
+		if (containerRequestContext.getLength() > maxBatchBytes) {
+			throw _createPayloadTooLargeException(maxBatchBytes);
+		}
+
+		byte[] bytes = _readBytes(
+			containerRequestContext.getEntityStream(), maxBatchBytes);
+
+		containerRequestContext.setEntityStream(
+			new ByteArrayInputStream(bytes));
+
+		try (JsonParser jsonParser = _jsonFactory.createParser(bytes)) {
+			if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+				return 1;
+			}
+
+			int count = 0;
+
+			JsonToken jsonToken = jsonParser.nextToken();
+
+			while ((jsonToken != null) && (jsonToken != JsonToken.END_ARRAY)) {
+				jsonParser.skipChildren();
+
+				count++;
+
+				jsonToken = jsonParser.nextToken();
+			}
+
+			return count;
+		}
+		catch (JsonProcessingException jpe) {
+
+			// The body is rejected when it's read
+
+			return 1;
+		}
+	}
+
+	private RequestCostLimits _getRequestCostLimits(String resourceName) {
+		for (ResourceRequestCostLimits resourceRequestCostLimits :
+				_resourceRequestCostLimits) {
+
+			if (resourceName.equals(
+					resourceRequestCostLimits.getResourceName())) {
+
+				return resourceRequestCostLimits.getRequestCostLimits(
+					_requestCostLimits);
+			}
+		}
+
+		return _requestCostLimits;
+	}
+
+	private byte[] _readBytes(InputStream inputStream, int maxBatchBytes)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[8192];
+
+		int length = inputStream.read(buffer);
+
+		while (length != -1) {
+			if ((byteArrayOutputStream.size() + length) > maxBatchBytes) {
+				throw _createPayloadTooLargeException(maxBatchBytes);
+			}
+
+			byteArrayOutputStream.write(buffer, 0, length);
+
+			length = inputStream.read(buffer);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private volatile boolean _clampItemsPerPage;
+	private volatile boolean _enabled;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private final JsonFactory _jsonFactory = new JsonFactory();
+	private volatile int _maxBatchBytes;
+
+	@Reference
+	private NameManager _nameManager;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private volatile RequestCostLimits _requestCostLimits;
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	private volatile List<ResourceRequestCostLimits> _resourceRequestCostLimits;
+
+	@Context
+	private ResourceInfo _resourceInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.profiler.RequestProfile;
+import com.liferay.apio.architect.internal.profiler.RequestProfilerConfiguration;
+
+import java.io.IOException;
+
+import java.lang.reflect.Method;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Priority;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+import org.slf4j.Logger;
+
+/**
+ * Profiles a sample of the requests and logs the timeline of those that take
+ * longer than the configured threshold, as a single JSON line. Profiling is
+ * disabled by default; while disabled, this filter doesn't create any profile
+ * and the instrumented code skips every event.
+ *
+ * <p>
+ * This filter runs after every other request filter, before every other
+ * response filter, and inside every other writer interceptor. This way, each
+ * phase is timed from its own start: the {@code route} event only covers the
+ * resource method, and the {@code write} event only covers the message body
+ * writer.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.profiler.RequestProfilerConfiguration",
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+@Priority(Integer.MAX_VALUE)
+public class RequestProfilerFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object property = writerInterceptorContext.getProperty(
+			RequestProfile.ATTRIBUTE_NAME);
+
+		if (!(property instanceof RequestProfile)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		RequestProfile requestProfile = (RequestProfile)property;
+
+		long startNanos = requestProfile.start();
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			requestProfile.record(
+				"write",
+				String.valueOf(writerInterceptorContext.getMediaType()),
+				startNanos);
+
+			_log(requestProfile);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		if (!_enabled ||
+			(ThreadLocalRandom.current().nextDouble() >= _sampleRate)) {
+
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		RequestProfile requestProfile = new RequestProfile(
+			containerRequestContext.getMethod() + " " +
+				uriInfo.getRequestUri());
+
+		containerRequestContext.setProperty(
+			RequestProfile.ATTRIBUTE_NAME, requestProfile);
+		containerRequestContext.setProperty(
+			_ROUTE_START_NANOS_PROPERTY, requestProfile.start());
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object property = containerRequestContext.getProperty(
+			RequestProfile.ATTRIBUTE_NAME);
+
+		if (!(property instanceof RequestProfile)) {
+			return;
+		}
+
+		RequestProfile requestProfile = (RequestProfile)property;
+
+		Method resourceMethod = _resourceInfo.getResourceMethod();
+
+		requestProfile.record(
+			"route",
+			resourceMethod.getName() + " -> " +
+				containerResponseContext.getStatus(),
+			(long)containerRequestContext.getProperty(
+				_ROUTE_START_NANOS_PROPERTY));
+
+		if (!containerResponseContext.hasEntity()) {
+			_log(requestProfile);
+		}
+	}
+
+	@Activate
+	protected void activate(
+		RequestProfilerConfiguration requestProfilerConfiguration) {
+
+		_enabled = requestProfilerConfiguration.enabled();
+		_sampleRate = requestProfilerConfiguration.sampleRate();
+		_thresholdNanos = MILLISECONDS.toNanos(
+			requestProfilerConfiguration.thresholdMillis());
+
+		RequestProfile.setProfiling(_enabled);
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		RequestProfile.setProfiling(false);
+	}
+
+	private void _log(RequestProfile requestProfile) {
+		long elapsedNanos = requestProfile.getElapsedNanos();
+
+		if ((elapsedNanos < _thresholdNanos) || !_logger.isWarnEnabled()) {
+			return;
+		}
+
+		_logger.warn("Slow request " + requestProfile.toJSON(elapsedNanos));
+	}
+
+	private static final String _ROUTE_START_NANOS_PROPERTY =
+		RequestProfilerFilter.class.getName() + "#routeStartNanos";
+
+	private boolean _enabled;
+	private final Logger _logger = getLogger(getClass());
+
+	@Context
+	private ResourceInfo _resourceInfo;
+
+	private double _sampleRate;
+	private long _thresholdNanos;
+
+}
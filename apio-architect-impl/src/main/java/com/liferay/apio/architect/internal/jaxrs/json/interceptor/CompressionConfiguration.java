@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.interceptor;
+
+/**
+ * Configures the compression of Apio Architect responses.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface CompressionConfiguration {
+
+	/**
+	 * Returns the compression level, from {@code 1} to {@code 9}.
+	 *
+	 * @return the compression level
+	 */
+	public int compressionLevel() default 6;
+
+	/**
+	 * Returns {@code true} if responses should be compressed when the client
+	 * accepts it. Compression is disabled by default, since responses are
+	 * often compressed by a proxy or the servlet container instead.
+	 *
+	 * @return {@code true} if responses should be compressed; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the media types that are never compressed, because they are
+	 * already compressed. A media type can use a wildcard subtype, like {@code
+	 * image/*}.
+	 *
+	 * @return the media types that are never compressed
+	 */
+	public String[] excludedMediaTypes() default {
+		"application/gzip", "application/x-7z-compressed",
+		"application/x-bzip2", "application/x-gzip",
+		"application/x-rar-compressed", "application/zip", "audio/*",
+		"image/gif", "image/jpeg", "image/png", "image/webp", "video/*"
+	};
+
+	/**
+	 * Returns the maximum number of idle {@code Deflater} instances kept for
+	 * each content coding.
+	 *
+	 * @return the maximum number of pooled {@code Deflater} instances
+	 */
+	public int poolSize() default 32;
+
+	/**
+	 * Returns the minimum size, in bytes, a response must have to be
+	 * compressed.
+	 *
+	 * @return the minimum size of a compressed response
+	 */
+	public int thresholdBytes() default 1024;
+
+}
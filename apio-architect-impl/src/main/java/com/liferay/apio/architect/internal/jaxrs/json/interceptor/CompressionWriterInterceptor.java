@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.json.util.VaryUtil.addVary;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+
+import com.liferay.apio.architect.internal.compression.CompressingOutputStream;
+import com.liferay.apio.architect.internal.compression.ContentEncoding;
+import com.liferay.apio.architect.internal.compression.DeflaterPool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Compresses the responses of the Apio Architect application with the content
+ * coding negotiated through the {@code Accept-Encoding} header. Responses under
+ * the configured size, or whose media type is already compressed (like most of
+ * the binaries written by {@code BinaryResourceBodyWriter}), are written
+ * uncompressed.
+ *
+ * <p>
+ * The interceptor has the {@link Priorities#ENTITY_CODER} priority, so it runs
+ * inside the interceptors with a lower priority value, which see the
+ * compressed bytes, and outside the ones with the default {@link
+ * Priorities#USER} priority, which see the uncompressed bytes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.jaxrs.json.interceptor.CompressionConfiguration",
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = WriterInterceptor.class
+)
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionWriterInterceptor implements WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		if (!_enabled) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		addVary(headers, ACCEPT_ENCODING);
+
+		Optional<ContentEncoding> optional = ContentEncoding.negotiate(
+			_httpHeaders.getHeaderString(ACCEPT_ENCODING));
+
+		if (!optional.isPresent()) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		ContentEncoding contentEncoding = optional.get();
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				outputStream, headers, contentEncoding,
+				_getDeflaterPool(contentEncoding), _thresholdBytes,
+				this::_isCompressible);
+
+		writerInterceptorContext.setOutputStream(compressingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		catch (IOException | RuntimeException e) {
+			compressingOutputStream.abort();
+
+			throw e;
+		}
+
+		compressingOutputStream.close();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(CompressionConfiguration compressionConfiguration) {
+		_enabled = compressionConfiguration.enabled();
+		_thresholdBytes = Math.max(
+			0, compressionConfiguration.thresholdBytes());
+
+		_excludedMediaTypes = Arrays.stream(
+			compressionConfiguration.excludedMediaTypes()
+		).map(
+			String::trim
+		).map(
+			mediaType -> mediaType.toLowerCase(Locale.ENGLISH)
+		).collect(
+			Collectors.toList()
+		);
+
+		int compressionLevel = compressionConfiguration.compressionLevel();
+		int poolSize = compressionConfiguration.poolSize();
+
+		DeflaterPool deflateDeflaterPool = _deflateDeflaterPool;
+		DeflaterPool gzipDeflaterPool = _gzipDeflaterPool;
+
+		_deflateDeflaterPool = new DeflaterPool(
+			compressionLevel, false, poolSize);
+		_gzipDeflaterPool = new DeflaterPool(compressionLevel, true, poolSize);
+
+		if (deflateDeflaterPool != null) {
+			deflateDeflaterPool.clear();
+			gzipDeflaterPool.clear();
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_deflateDeflaterPool.clear();
+		_gzipDeflaterPool.clear();
+	}
+
+	private DeflaterPool _getDeflaterPool(ContentEncoding contentEncoding) {
+		if (contentEncoding == ContentEncoding.GZIP) {
+			return _gzipDeflaterPool;
+		}
+
+		return _deflateDeflaterPool;
+	}
+
+	private boolean _isCompressible(String contentType) {
+		String mediaType = contentType;
+
+		int index = mediaType.indexOf(';');
+
+		if (index != -1) {
+			mediaType = mediaType.substring(0, index);
+		}
+
+		mediaType = mediaType.trim();
+
+		mediaType = mediaType.toLowerCase(Locale.ENGLISH);
+
+		for (String excludedMediaType : _excludedMediaTypes) {
+			if (excludedMediaType.equals(mediaType)) {
+				return false;
+			}
+
+			if (excludedMediaType.endsWith("/*") &&
+				mediaType.startsWith(
+					excludedMediaType.substring(
+						0, excludedMediaType.length() - 1))) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private volatile DeflaterPool _deflateDeflaterPool;
+	private volatile boolean _enabled;
+	private volatile List<String> _excludedMediaTypes;
+	private volatile DeflaterPool _gzipDeflaterPool;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	private volatile int _thresholdBytes;
+
+}
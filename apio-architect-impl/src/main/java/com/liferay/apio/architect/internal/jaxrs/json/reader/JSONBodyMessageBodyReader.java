@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.jaxrs.json.reader;
 
+import static com.liferay.apio.architect.internal.endpoint.PageEndpoint.APPLICATION_MERGE_PATCH_JSON;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -44,7 +46,8 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Reads JSON objects as a {@link Body}.
+ * Reads JSON objects, including JSON Merge Patch documents, as a {@link
+ * Body}.
  *
  * @author Alejandro Hernández
  */
@@ -55,7 +58,7 @@ import org.osgi.service.component.annotations.Component;
 	},
 	service = MessageBodyReader.class
 )
-@Consumes(APPLICATION_JSON)
+@Consumes({APPLICATION_JSON, APPLICATION_MERGE_PATCH_JSON})
 @Provider
 public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 
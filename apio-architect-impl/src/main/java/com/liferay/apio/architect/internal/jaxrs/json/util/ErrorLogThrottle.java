@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which errors are logged, allowing one log entry per key (usually the
+ * exception type) and interval. Errors that aren't logged are counted, so the
+ * next log entry can report how many were suppressed.
+ *
+ * @author Alejandro Hernández
+ */
+public class ErrorLogThrottle {
+
+	/**
+	 * Tries to log an error with the key. Returns the number of errors with the
+	 * same key suppressed since the last log entry if the error must be
+	 * logged; {@code -1} otherwise.
+	 *
+	 * @param  key the error's key
+	 * @param  intervalNanos the minimum time between two log entries with the
+	 *         same key, in nanoseconds
+	 * @param  nanoTime the current time, as returned by {@link
+	 *         System#nanoTime()}
+	 * @return the number of suppressed errors if the error must be logged;
+	 *         {@code -1} otherwise
+	 */
+	public long tryLog(String key, long intervalNanos, long nanoTime) {
+		LogWindow logWindow = _logWindows.computeIfAbsent(
+			key, __ -> new LogWindow(nanoTime - intervalNanos));
+
+		long lastLogNanoTime = logWindow.lastLogNanoTime.get();
+
+		if (((nanoTime - lastLogNanoTime) >= intervalNanos) &&
+			logWindow.lastLogNanoTime.compareAndSet(
+				lastLogNanoTime, nanoTime)) {
+
+			return logWindow.suppressed.getAndSet(0);
+		}
+
+		logWindow.suppressed.incrementAndGet();
+
+		return -1;
+	}
+
+	private final Map<String, LogWindow> _logWindows =
+		new ConcurrentHashMap<>();
+
+	private static class LogWindow {
+
+		public final AtomicLong lastLogNanoTime;
+		public final AtomicLong suppressed = new AtomicLong();
+
+		private LogWindow(long lastLogNanoTime) {
+			this.lastLogNanoTime = new AtomicLong(lastLogNanoTime);
+		}
+
+	}
+
+}
\ No newline at end of file
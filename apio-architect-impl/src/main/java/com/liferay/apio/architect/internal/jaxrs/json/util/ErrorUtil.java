@@ -14,22 +14,40 @@
 
 package com.liferay.apio.architect.internal.jaxrs.json.util;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 import static com.liferay.apio.architect.internal.writer.ErrorWriter.writeError;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static javax.ws.rs.core.HttpHeaders.ALLOW;
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
 
+import java.lang.reflect.Method;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 import org.slf4j.Logger;
@@ -37,11 +55,45 @@ import org.slf4j.Logger;
 /**
  * Provides utility methods for transforming exceptions into responses.
  *
+ * <p>
+ * Errors are logged at most once per exception type and {@link
+ * ErrorUtilConfiguration#logInterval()}, reporting how many similar errors were
+ * suppressed in between. The bodies of errors without a description are
+ * serialized once per error message mapper and reused.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
-@Component(service = ErrorUtil.class)
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.jaxrs.json.util.ErrorUtilConfiguration",
+	service = ErrorUtil.class
+)
 public class ErrorUtil {
 
+	/**
+	 * Returns the {@link APIError} an exception maps to, logging it like the
+	 * errors transformed by {@link #getErrorResponse(Exception, Request)}. If
+	 * no exception mapper exists for the exception, this method returns {@code
+	 * Optional#empty()}.
+	 *
+	 * @param  exception the exception
+	 * @return the exception's {@code APIError}, if a mapper exists for it;
+	 *         returns {@code Optional#empty()} otherwise
+	 */
+	public Optional<APIError> getAPIErrorOptional(Exception exception) {
+		Optional<APIError> apiErrorOptional = _exceptionMapperManager.map(
+			exception);
+
+		if (apiErrorOptional.isPresent()) {
+			_logAPIError(exception, apiErrorOptional.get());
+		}
+		else {
+			_logUnmappedException(exception);
+		}
+
+		return apiErrorOptional;
+	}
+
 	/**
 	 * Transforms an exception into a {@code Response}.
 	 *
@@ -50,13 +102,9 @@ public class ErrorUtil {
 	 * @return the response
 	 */
 	public Response getErrorResponse(Exception exception, Request request) {
-		Optional<APIError> apiErrorOptional = _exceptionMapperManager.map(
-			exception);
+		Optional<APIError> apiErrorOptional = getAPIErrorOptional(exception);
 
 		if (!apiErrorOptional.isPresent()) {
-			_logger.warn(
-				"No exception mapper found for {}", exception.getClass());
-
 			if (exception instanceof WebApplicationException) {
 				WebApplicationException webApplicationException =
 					(WebApplicationException)exception;
@@ -71,39 +119,210 @@ public class ErrorUtil {
 
 		APIError apiError = apiErrorOptional.get();
 
-		if (_logger.isDebugEnabled()) {
-			_logger.debug(apiError.getMessage(), apiError.getException());
-		}
-		else {
-			_logger.error(apiError.getMessage());
-		}
-
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
 			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
 
-		return errorMessageMapperOptional.map(
-			errorMessageMapper -> Response.status(
-				statusCode
-			).type(
+		Response.ResponseBuilder responseBuilder = Response.status(statusCode);
+
+		for (String headerName : _FORWARDED_HEADER_NAMES) {
+			_getHeaderOptional(
+				exception, headerName
+			).ifPresent(
+				header -> responseBuilder.header(headerName, header)
+			);
+		}
+
+		errorMessageMapperOptional.ifPresent(
+			errorMessageMapper -> responseBuilder.type(
 				errorMessageMapper.getMediaType()
 			).entity(
-				writeError(errorMessageMapper, apiError)
-			).build()
-		).orElseGet(
-			() -> Response.status(
-				statusCode
-			).build()
+				_getErrorBody(errorMessageMapper, apiError)
+			)
 		);
+
+		return responseBuilder.build();
+	}
+
+	/**
+	 * Returns the status code of the response an exception is transformed
+	 * into, without logging it.
+	 *
+	 * @param  exception the exception
+	 * @return the status code
+	 */
+	public int getStatusCode(Exception exception) {
+		Optional<APIError> apiErrorOptional = _exceptionMapperManager.map(
+			exception);
+
+		if (apiErrorOptional.isPresent()) {
+			APIError apiError = apiErrorOptional.get();
+
+			return apiError.getStatusCode();
+		}
+
+		if (exception instanceof WebApplicationException) {
+			WebApplicationException webApplicationException =
+				(WebApplicationException)exception;
+
+			Response response = webApplicationException.getResponse();
+
+			return response.getStatus();
+		}
+
+		return INTERNAL_SERVER_ERROR.getStatusCode();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(ErrorUtilConfiguration errorUtilConfiguration) {
+		_errorUtilConfiguration = errorUtilConfiguration;
+
+		_errorBodies.clear();
+	}
+
+	private String _getErrorBody(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		Optional<String> optional = apiError.getDescription();
+
+		if (optional.isPresent() || _overridesOnFinish(errorMessageMapper)) {
+			return writeError(errorMessageMapper, apiError);
+		}
+
+		long generation = INSTANCE.getGeneration();
+
+		if (generation != _errorBodiesGeneration) {
+			_errorBodies.clear();
+
+			_errorBodiesGeneration = generation;
+		}
+
+		List<Object> key = Arrays.asList(
+			errorMessageMapper, apiError.getStatusCode(), apiError.getTitle(),
+			apiError.getType());
+
+		String errorBody = _errorBodies.get(key);
+
+		if (errorBody != null) {
+			return errorBody;
+		}
+
+		errorBody = writeError(errorMessageMapper, apiError);
+
+		ErrorUtilConfiguration errorUtilConfiguration = _errorUtilConfiguration;
+
+		if (_errorBodies.size() <
+				errorUtilConfiguration.errorBodiesCacheSize()) {
+
+			_errorBodies.put(key, errorBody);
+		}
+
+		return errorBody;
+	}
+
+	private Optional<String> _getHeaderOptional(
+		Exception exception, String headerName) {
+
+		if (!(exception instanceof WebApplicationException)) {
+			return Optional.empty();
+		}
+
+		WebApplicationException webApplicationException =
+			(WebApplicationException)exception;
+
+		Response response = webApplicationException.getResponse();
+
+		return Optional.ofNullable(response.getHeaderString(headerName));
+	}
+
+	private String _getSuppressedMessage(long suppressed) {
+		if (suppressed == 0) {
+			return "";
+		}
+
+		return " (" + suppressed + " similar errors suppressed)";
+	}
+
+	private void _logAPIError(Exception exception, APIError apiError) {
+		if (_logger.isDebugEnabled()) {
+			_logger.debug(apiError.getMessage(), apiError.getException());
+
+			return;
+		}
+
+		if (!_logger.isErrorEnabled()) {
+			return;
+		}
+
+		Class<? extends Exception> exceptionClass = exception.getClass();
+
+		long suppressed = _tryLog(exceptionClass.getName());
+
+		if (suppressed >= 0) {
+			_logger.error(
+				apiError.getMessage() + _getSuppressedMessage(suppressed));
+		}
 	}
 
+	private void _logUnmappedException(Exception exception) {
+		if (!_logger.isWarnEnabled()) {
+			return;
+		}
+
+		Class<? extends Exception> exceptionClass = exception.getClass();
+
+		long suppressed = _tryLog("unmapped:" + exceptionClass.getName());
+
+		if (suppressed >= 0) {
+			_logger.warn(
+				"No exception mapper found for {}{}", exceptionClass,
+				_getSuppressedMessage(suppressed));
+		}
+	}
+
+	private boolean _overridesOnFinish(ErrorMessageMapper errorMessageMapper) {
+		return _overridesOnFinish.computeIfAbsent(
+			errorMessageMapper.getClass(),
+			clazz -> Try.fromFallible(
+				() -> clazz.getMethod(
+					"onFinish", JSONObjectBuilder.class, Object.class)
+			).map(
+				Method::getDeclaringClass
+			).map(
+				declaringClass -> !MessageMapper.class.equals(declaringClass)
+			).orElse(
+				true
+			));
+	}
+
+	private long _tryLog(String key) {
+		ErrorUtilConfiguration errorUtilConfiguration = _errorUtilConfiguration;
+
+		return _errorLogThrottle.tryLog(
+			key, SECONDS.toNanos(errorUtilConfiguration.logInterval()),
+			System.nanoTime());
+	}
+
+	private static final List<String> _FORWARDED_HEADER_NAMES = Arrays.asList(
+		ALLOW, RETRY_AFTER);
+
+	private final Map<List<Object>, String> _errorBodies =
+		new ConcurrentHashMap<>();
+	private volatile long _errorBodiesGeneration;
+	private final ErrorLogThrottle _errorLogThrottle = new ErrorLogThrottle();
+
 	@Reference
 	private ErrorMessageMapperManager _errorMessageMapperManager;
 
+	private volatile ErrorUtilConfiguration _errorUtilConfiguration;
+
 	@Reference
 	private ExceptionMapperManager _exceptionMapperManager;
 
 	private final Logger _logger = getLogger(getClass());
+	private final Map<Class<?>, Boolean> _overridesOnFinish =
+		new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
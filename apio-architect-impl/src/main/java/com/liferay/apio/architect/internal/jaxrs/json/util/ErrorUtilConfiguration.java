@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.util;
+
+/**
+ * Configures how {@link ErrorUtil} logs errors and caches error bodies.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ErrorUtilConfiguration {
+
+	/**
+	 * Returns the maximum number of pre-serialized error bodies to keep. Only
+	 * errors without a description, whose body only depends on their status,
+	 * title and type, are cached.
+	 *
+	 * @return the maximum number of pre-serialized error bodies
+	 */
+	public int errorBodiesCacheSize() default 256;
+
+	/**
+	 * Returns the minimum time, in seconds, between two log entries for the
+	 * same exception type. Errors in between are counted and reported with the
+	 * next entry. A value of {@code 0} logs every error.
+	 *
+	 * @return the minimum time between two log entries for the same exception
+	 *         type, in seconds
+	 */
+	public long logInterval() default 60;
+
+}
\ No newline at end of file
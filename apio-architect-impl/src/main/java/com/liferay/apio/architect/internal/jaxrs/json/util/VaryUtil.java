@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.util;
+
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import java.util.List;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Provides utility methods for maintaining the {@code Vary} header of a
+ * response.
+ *
+ * @author Alejandro Hernández
+ */
+public class VaryUtil {
+
+	/**
+	 * Adds a request header to the response's {@code Vary} header, unless it's
+	 * already listed in any of its values, or the response varies on {@code
+	 * *}.
+	 *
+	 * @param headers the response's headers
+	 * @param headerName the name of the request header
+	 */
+	public static void addVary(
+		MultivaluedMap<String, Object> headers, String headerName) {
+
+		if (!isVaryingOn(headers, headerName)) {
+			headers.add(VARY, headerName);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the response's {@code Vary} header already lists
+	 * the request header, or {@code *}.
+	 *
+	 * @param  headers the response's headers
+	 * @param  headerName the name of the request header
+	 * @return {@code true} if the response already varies on the header;
+	 *         {@code false} otherwise
+	 */
+	public static boolean isVaryingOn(
+		MultivaluedMap<String, Object> headers, String headerName) {
+
+		List<Object> values = headers.get(VARY);
+
+		if (values == null) {
+			return false;
+		}
+
+		for (Object value : values) {
+			if (value == null) {
+				continue;
+			}
+
+			String string = value.toString();
+
+			for (String name : string.split(",")) {
+				name = name.trim();
+
+				if (name.equals("*") || name.equalsIgnoreCase(headerName)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private VaryUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
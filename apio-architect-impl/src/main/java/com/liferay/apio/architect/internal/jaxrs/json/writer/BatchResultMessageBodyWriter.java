@@ -19,8 +19,10 @@ import static com.liferay.apio.architect.internal.wiring.osgi.util.GenericUtil.g
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.internal.jaxrs.json.util.ErrorUtil;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -77,7 +79,7 @@ public class BatchResultMessageBodyWriter<T>
 	}
 
 	@Override
-	protected String write(
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		Success<BatchResult<T>> success,
 		BatchResultMessageMapper<T> batchResultMessageMapper,
 		RequestInfo requestInfo) {
@@ -86,6 +88,8 @@ public class BatchResultMessageBodyWriter<T>
 			success.getValue()
 		).batchResultMessageMapper(
 			batchResultMessageMapper
+		).exceptionMapperFunction(
+			_errorUtil::getAPIErrorOptional
 		).pathFunction(
 			_pathIdentifierMapperManager::mapToPath
 		).representorFunction(
@@ -94,7 +98,8 @@ public class BatchResultMessageBodyWriter<T>
 			requestInfo
 		).build();
 
-		Optional<String> optional = batchResultWriter.write();
+		Optional<JSONObjectBuilder> optional =
+			batchResultWriter.writeJSONObjectBuilder();
 
 		return optional.orElseThrow(NotFoundException::new);
 	}
@@ -102,6 +107,9 @@ public class BatchResultMessageBodyWriter<T>
 	@Reference
 	private BatchResultMessageMapperManager _batchResultMessageMapperManager;
 
+	@Reference
+	private ErrorUtil _errorUtil;
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
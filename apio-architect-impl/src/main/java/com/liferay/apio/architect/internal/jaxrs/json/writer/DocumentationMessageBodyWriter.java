@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.jaxrs.json.writer;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
 import com.liferay.apio.architect.internal.writer.DocumentationWriter;
@@ -67,7 +68,7 @@ public class DocumentationMessageBodyWriter
 	}
 
 	@Override
-	protected String write(
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		Documentation documentation,
 		DocumentationMessageMapper documentationMessageMapper,
 		RequestInfo requestInfo) {
@@ -81,7 +82,7 @@ public class DocumentationMessageBodyWriter
 				requestInfo
 			).build());
 
-		return documentationWriter.write();
+		return documentationWriter.writeJSONObjectBuilder();
 	}
 
 	@Reference
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.jaxrs.json.writer;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.EntryPointMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -71,7 +72,7 @@ public class EntryPointMessageBodyWriter
 	}
 
 	@Override
-	protected String write(
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		EntryPoint entryPoint, EntryPointMessageMapper entryPointMessageMapper,
 		RequestInfo requestInfo) {
 
@@ -89,7 +90,7 @@ public class EntryPointMessageBodyWriter
 			)
 		).build();
 
-		return entryPointWriter.write();
+		return entryPointWriter.writeJSONObjectBuilder();
 	}
 
 	@Reference
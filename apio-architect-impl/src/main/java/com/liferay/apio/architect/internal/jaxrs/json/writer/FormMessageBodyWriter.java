@@ -19,6 +19,7 @@ import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.FormMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.FormMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.util.GenericUtil;
@@ -71,7 +72,7 @@ public class FormMessageBodyWriter
 	}
 
 	@Override
-	protected String write(
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		Success<Form> success, FormMessageMapper formMessageMapper,
 		RequestInfo requestInfo) {
 
@@ -84,7 +85,7 @@ public class FormMessageBodyWriter
 				requestInfo
 			).build());
 
-		return formWriter.write();
+		return formWriter.writeJSONObjectBuilder();
 	}
 
 	@Reference
@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
@@ -79,7 +80,16 @@ public class PageMessageBodyWriter<T>
 	}
 
 	@Override
-	protected String write(
+	protected Optional<String> getResourceNameOptional(
+		Success<Page<T>> success) {
+
+		Page<T> page = success.getValue();
+
+		return Optional.of(page.getResourceName());
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
@@ -104,7 +114,7 @@ public class PageMessageBodyWriter<T>
 				this::getSingleModelOptional
 			).build());
 
-		return pageWriter.write();
+		return pageWriter.writeJSONObjectBuilder();
 	}
 
 	@Reference
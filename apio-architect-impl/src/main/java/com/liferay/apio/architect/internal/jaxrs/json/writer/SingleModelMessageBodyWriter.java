@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
 import com.liferay.apio.architect.internal.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
@@ -82,7 +83,16 @@ public class SingleModelMessageBodyWriter<T>
 	}
 
 	@Override
-	protected String write(
+	protected Optional<String> getResourceNameOptional(
+		Success<SingleModel<T>> success) {
+
+		SingleModel<T> singleModel = success.getValue();
+
+		return Optional.of(singleModel.getResourceName());
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObjectBuilder(
 		Success<SingleModel<T>> success,
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
@@ -108,7 +118,8 @@ public class SingleModelMessageBodyWriter<T>
 				this::getSingleModelOptional
 			).build());
 
-		Optional<String> optional = singleModelWriter.write();
+		Optional<JSONObjectBuilder> optional =
+			singleModelWriter.writeJSONObjectBuilder();
 
 		return optional.orElseThrow(NotFoundException::new);
 	}
@@ -14,23 +14,39 @@
 
 package com.liferay.apio.architect.internal.jaxrs.json.writer.base;
 
+import static com.liferay.apio.architect.internal.jaxrs.json.util.VaryUtil.addVary;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getBaseURL;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.toBaseRelative;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.toRootRelative;
+
 import static java.util.Collections.singletonList;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadlineManager;
+import com.liferay.apio.architect.internal.embedded.page.EmbeddedPagesResolverFactory;
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.metrics.RequestMetrics;
+import com.liferay.apio.architect.internal.profiler.RequestProfile;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
+import com.liferay.apio.architect.internal.url.relative.RelativeURLsResolver;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ItemRouterManager;
 import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.metrics.Stage;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 
@@ -44,8 +60,11 @@ import java.lang.reflect.Type;
 
 import java.nio.charset.StandardCharsets;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -55,6 +74,8 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+import javax.ws.rs.core.Variant.VariantListBuilder;
 import javax.ws.rs.ext.MessageBodyWriter;
 
 import org.osgi.service.component.annotations.Reference;
@@ -110,24 +131,59 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			OutputStream outputStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
+		RequestProfile requestProfile = RequestProfile.getRequestProfile(
+			_httpServletRequest);
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		long messageMapperStartNanos = requestProfile.start();
 
 		Optional<S> optional = getMessageMapperOptional(_request);
 
 		S s = optional.orElseThrow(NotSupportedException::new);
 
+		requestProfile.record(
+			"message-mapper", s.getMediaType(), messageMapperStartNanos);
+
+		Optional<RequestMetrics> requestMetricsOptional =
+			RequestMetrics.getRequestMetricsOptional(_httpServletRequest);
+
+		ServerURL serverURL = providerManager.provideMandatory(
+			_httpServletRequest, ServerURL.class);
+		ApplicationURL applicationURL = providerManager.provideMandatory(
+			_httpServletRequest, ApplicationURL.class);
+		String baseURL = null;
+
+		if (relativeURLsResolver.isRelativeURLs(
+				_httpServletRequest,
+				headerName -> addVary(httpHeaders, headerName))) {
+
+			serverURL = toRootRelative(serverURL);
+
+			if (s.isBaseURLSupported()) {
+				baseURL = getBaseURL(applicationURL);
+				applicationURL = toBaseRelative();
+			}
+			else {
+				applicationURL = toRootRelative(applicationURL);
+			}
+		}
+
+		Optional<String> resourceNameOptional = getResourceNameOptional(t);
+
+		EmbeddingDeadline embeddingDeadline =
+			embeddingDeadlineManager.createEmbeddingDeadline(
+				resourceNameOptional.orElse(null));
+
+		ServerURL requestServerURL = serverURL;
+		ApplicationURL requestApplicationURL = applicationURL;
+		String requestBaseURL = baseURL;
+
 		RequestInfo requestInfo = RequestInfo.create(
 			builder -> builder.httpServletRequest(
 				_httpServletRequest
 			).serverURL(
-				providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
+				requestServerURL
 			).applicationURL(
-				providerManager.provideMandatory(
-					_httpServletRequest, ApplicationURL.class)
+				requestApplicationURL
 			).embedded(
 				providerManager.provideOptional(
 					_httpServletRequest, Embedded.class
@@ -146,15 +202,90 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 				).orElse(
 					Locale::getDefault
 				)
+			).embeddedModelsResolver(
+				requestMetricsOptional.map(
+					requestMetrics -> requestMetrics.timed(
+						embeddedModelsResolver)
+				).orElse(
+					embeddedModelsResolver
+				)
+			).embeddedPagesResolver(
+				embeddedPagesResolverFactory.create(_httpServletRequest)
+			).embeddingDeadline(
+				embeddingDeadline
+			).baseURL(
+				requestBaseURL
 			).build());
 
+		Optional<BinaryFormat> binaryFormatOptional = _getBinaryFormatOptional(
+			s);
+
+		long startNanos = System.nanoTime();
+
+		if (binaryFormatOptional.isPresent()) {
+			BinaryFormat binaryFormat = binaryFormatOptional.get();
+
+			String binaryMediaType = _getBinaryMediaType(binaryFormat, s);
+
+			JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder(
+				t, s, requestInfo);
+
+			_recordRendering(
+				requestProfile, requestMetricsOptional, binaryMediaType,
+				startNanos);
+
+			embeddingDeadline.addHeaders(httpHeaders);
+
+			httpHeaders.put(CONTENT_TYPE, singletonList(binaryMediaType));
+
+			long serializationStartNanos = requestProfile.start();
+
+			jsonObjectBuilder.build(binaryFormat, outputStream);
+
+			outputStream.flush();
+
+			requestProfile.record(
+				"serialize", binaryMediaType, serializationStartNanos);
+
+			return;
+		}
+
 		String result = write(t, s, requestInfo);
 
+		_recordRendering(
+			requestProfile, requestMetricsOptional, s.getMediaType(),
+			startNanos);
+
+		embeddingDeadline.addHeaders(httpHeaders);
+
 		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
+		long serializationStartNanos = requestProfile.start();
+
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			outputStream, StandardCharsets.UTF_8);
+
+		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+
 		printWriter.println(result);
 
 		printWriter.close();
+
+		requestProfile.record(
+			"serialize", s.getMediaType(), serializationStartNanos);
+	}
+
+	/**
+	 * Returns the name of the resource being written, if known; returns {@code
+	 * Optional#empty()} otherwise. The name is used to select the resource's
+	 * {@link EmbeddingDeadline}.
+	 *
+	 * @param  t the element being written
+	 * @return the resource's name, if known; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	protected Optional<String> getResourceNameOptional(T t) {
+		return Optional.empty();
 	}
 
 	/**
@@ -199,7 +330,107 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 * @param  requestInfo the current request info
 	 * @return the {@code String} containing the element's representation
 	 */
-	protected abstract String write(T t, S s, RequestInfo requestInfo);
+	protected String write(T t, S s, RequestInfo requestInfo) {
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder(
+			t, s, requestInfo);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes the element to a {@link JSONObjectBuilder} by using the supplied
+	 * message mapper and the current {@link RequestInfo}, without serializing
+	 * it. The builder is then serialized as text, or in the {@link
+	 * BinaryFormat} negotiated for the message mapper.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @return the JSON object builder containing the element's representation
+	 */
+	protected abstract JSONObjectBuilder writeJSONObjectBuilder(
+		T t, S s, RequestInfo requestInfo);
+
+	private Optional<BinaryFormat> _getBinaryFormatOptional(
+		MessageMapper<?> messageMapper) {
+
+		Set<BinaryFormat> binaryFormats = messageMapper.getBinaryFormats();
+
+		if (binaryFormats.isEmpty()) {
+			return Optional.empty();
+		}
+
+		String mediaType = messageMapper.getMediaType();
+
+		Map<MediaType, BinaryFormat> binaryFormatsMap = new HashMap<>();
+
+		VariantListBuilder variantListBuilder = newInstance();
+
+		variantListBuilder.mediaTypes(
+			MediaType.valueOf(mediaType)
+		).add();
+
+		for (BinaryFormat binaryFormat : binaryFormats) {
+			Optional<MediaType> optional = binaryFormat.getMediaTypeOptional(
+				mediaType
+			).map(
+				MediaType::valueOf
+			);
+
+			optional.ifPresent(
+				binaryMediaType -> {
+					binaryFormatsMap.put(binaryMediaType, binaryFormat);
+
+					variantListBuilder.mediaTypes(
+						binaryMediaType
+					).add();
+				});
+		}
+
+		Variant variant = _request.selectVariant(variantListBuilder.build());
+
+		if (variant == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(
+			binaryFormatsMap.get(variant.getMediaType()));
+	}
+
+	private String _getBinaryMediaType(
+		BinaryFormat binaryFormat, MessageMapper<?> messageMapper) {
+
+		String mediaType = messageMapper.getMediaType();
+
+		return binaryFormat.getMediaTypeOptional(
+			mediaType
+		).orElse(
+			mediaType
+		);
+	}
+
+	private void _recordRendering(
+		RequestProfile requestProfile,
+		Optional<RequestMetrics> requestMetricsOptional, String mediaType,
+		long startNanos) {
+
+		requestProfile.record("render", mediaType, startNanos);
+
+		requestMetricsOptional.ifPresent(
+			requestMetrics -> requestMetrics.addDuration(
+				Stage.RENDERING,
+				System.nanoTime() - startNanos -
+					requestMetrics.getDuration(Stage.EMBEDDED_RESOLUTION)));
+	}
+
+	@Reference
+	protected EmbeddedModelsResolver embeddedModelsResolver;
+
+	@Reference
+	protected EmbeddedPagesResolverFactory embeddedPagesResolverFactory;
+
+	@Reference
+	protected EmbeddingDeadlineManager embeddingDeadlineManager;
 
 	@Reference
 	protected ItemRouterManager itemRouterManager;
@@ -210,6 +441,9 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Reference
 	protected ProviderManager providerManager;
 
+	@Reference
+	protected RelativeURLsResolver relativeURLsResolver;
+
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jsonld;
+
+import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteURL;
+
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+
+/**
+ * Represents a versioned JSON-LD context document, shared by every JSON-LD
+ * response instead of being inlined in each one. The document is immutable:
+ * any change in its content produces a different hash, and therefore a
+ * different URL.
+ *
+ * @author Alejandro Hernández
+ */
+public class SharedContext {
+
+	public SharedContext(String hash, String document) {
+		_hash = hash;
+		_document = document;
+	}
+
+	/**
+	 * Returns the JSON-LD context document.
+	 *
+	 * @return the JSON-LD context document
+	 */
+	public String getDocument() {
+		return _document;
+	}
+
+	/**
+	 * Returns the hash that identifies this version of the document.
+	 *
+	 * @return the document's hash
+	 */
+	public String getHash() {
+		return _hash;
+	}
+
+	/**
+	 * Returns the absolute URL from which the document can be retrieved.
+	 *
+	 * @param  applicationURL the application URL
+	 * @return the document's URL
+	 */
+	public String getURL(ApplicationURL applicationURL) {
+		return createAbsoluteURL(applicationURL, "/context/" + _hash);
+	}
+
+	private final String _document;
+	private final String _hash;
+
+}
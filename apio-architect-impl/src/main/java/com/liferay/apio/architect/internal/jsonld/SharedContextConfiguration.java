@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jsonld;
+
+/**
+ * Configures whether JSON-LD responses reference a {@link SharedContext}
+ * instead of inlining their {@code @context}.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface SharedContextConfiguration {
+
+	/**
+	 * Returns {@code true} if JSON-LD responses must reference the shared
+	 * context document.
+	 *
+	 * @return {@code true} if the shared context is enabled; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jsonld;
+
+import java.util.Optional;
+
+/**
+ * Provides the {@link SharedContext} that JSON-LD responses reference, when
+ * the shared context is enabled.
+ *
+ * @author Alejandro Hernández
+ */
+public interface SharedContextManager {
+
+	/**
+	 * Returns the current shared context, if the shared context is enabled;
+	 * returns {@code Optional#empty()} if JSON-LD responses must inline their
+	 * {@code @context}.
+	 *
+	 * @return the current shared context, if enabled; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<SharedContext> getSharedContextOptional();
+
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jsonld;
+
+import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
+import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Builds the {@link SharedContext} from the registered representors. Besides
+ * the vocabularies used by every JSON-LD response, the document defines, as
+ * {@code @id} typed terms, the linked fields of every representor, so
+ * responses don't need to declare them in their own {@code @context}.
+ *
+ * <p>
+ * The document is rebuilt only when the registered representors change.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.jsonld.SharedContextConfiguration",
+	service = SharedContextManager.class
+)
+public class SharedContextManagerImpl implements SharedContextManager {
+
+	@Activate
+	public void activate(
+		SharedContextConfiguration sharedContextConfiguration) {
+
+		_enabled = sharedContextConfiguration.enabled();
+	}
+
+	@Override
+	public Optional<SharedContext> getSharedContextOptional() {
+		if (!_enabled) {
+			return Optional.empty();
+		}
+
+		Map<String, Representor> representors =
+			_representableManager.getRepresentors();
+
+		Snapshot snapshot = _snapshot;
+
+		if ((snapshot == null) || (snapshot._representors != representors)) {
+			snapshot = new Snapshot(
+				representors, createSharedContext(representors.values()));
+
+			_snapshot = snapshot;
+		}
+
+		return Optional.of(snapshot._sharedContext);
+	}
+
+	/**
+	 * Creates the shared context for the provided representors.
+	 *
+	 * @param  representors the representors
+	 * @return the shared context
+	 */
+	protected static SharedContext createSharedContext(
+		Collection<? extends BaseRepresentor> representors) {
+
+		Set<String> terms = new TreeSet<>();
+
+		representors.forEach(
+			baseRepresentor -> _collectTerms(baseRepresentor, terms));
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"@context"
+		).arrayValue(
+			arrayBuilder -> arrayBuilder.add(
+				builder -> builder.field(
+					"@vocab"
+				).stringValue(
+					"http://schema.org/"
+				)),
+			arrayBuilder -> arrayBuilder.addString(
+				"https://www.w3.org/ns/hydra/core#"),
+			arrayBuilder -> arrayBuilder.add(
+				builder -> {
+					builder.field(
+						"expects"
+					).fields(
+						nestedBuilder -> nestedBuilder.field(
+							"@id"
+						).stringValue(
+							"hydra:expects"
+						),
+						nestedBuilder -> nestedBuilder.field(
+							"@type"
+						).stringValue(
+							"@id"
+						)
+					);
+
+					builder.field(
+						"returns"
+					).fields(
+						nestedBuilder -> nestedBuilder.field(
+							"@id"
+						).stringValue(
+							"hydra:returns"
+						),
+						nestedBuilder -> nestedBuilder.field(
+							"@type"
+						).stringValue(
+							"@id"
+						)
+					);
+
+					terms.forEach(
+						term -> builder.nestedField(
+							term, "@type"
+						).stringValue(
+							"@id"
+						));
+				})
+		);
+
+		String document = jsonObjectBuilder.build();
+
+		return new SharedContext(_hash(document), document);
+	}
+
+	private static void _collectTerms(
+		BaseRepresentor<?> baseRepresentor, Set<String> terms) {
+
+		for (RelatedModel<?, ?> relatedModel :
+				baseRepresentor.getRelatedModels()) {
+
+			terms.add(relatedModel.getKey());
+		}
+
+		baseRepresentor.getRelatedCollections(
+		).forEach(
+			relatedCollection -> terms.add(relatedCollection.getKey())
+		);
+
+		for (NestedFieldFunction<?, ?> nestedFieldFunction :
+				baseRepresentor.getNestedFieldFunctions()) {
+
+			_collectTerms(nestedFieldFunction.getNestedRepresentor(), terms);
+		}
+
+		for (NestedListFieldFunction<?, ?> nestedListFieldFunction :
+				baseRepresentor.getNestedListFieldFunctions()) {
+
+			_collectTerms(
+				nestedListFieldFunction.getNestedRepresentor(), terms);
+		}
+	}
+
+	private static String _hash(String document) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			byte[] bytes = messageDigest.digest(
+				document.getBytes(StandardCharsets.UTF_8));
+
+			StringBuilder sb = new StringBuilder(32);
+
+			for (int i = 0; i < 16; i++) {
+				sb.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(bytes[i] & 0xF, 16));
+			}
+
+			return sb.toString();
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static class Snapshot {
+
+		private Snapshot(
+			Map<String, Representor> representors,
+			SharedContext sharedContext) {
+
+			_representors = representors;
+			_sharedContext = sharedContext;
+		}
+
+		private final Map<String, Representor> _representors;
+		private final SharedContext _sharedContext;
+
+	}
+
+	private volatile boolean _enabled;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private volatile Snapshot _snapshot;
+
+}
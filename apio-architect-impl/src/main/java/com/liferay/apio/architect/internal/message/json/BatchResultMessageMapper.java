@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.message.json;
 
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 
 import java.util.List;
 import java.util.Optional;
@@ -67,6 +68,20 @@ public interface BatchResultMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps the error of an item that couldn't be processed in the batch
+	 * operation to its JSON object representation.
+	 *
+	 * @param batchResultJSONObjectBuilder the JSON object builder for the batch
+	 *        result
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param apiError the item's error
+	 */
+	public default void mapItemError(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, APIError apiError) {
+	}
+
 	/**
 	 * Maps a resource URL to its JSON object representation.
 	 *
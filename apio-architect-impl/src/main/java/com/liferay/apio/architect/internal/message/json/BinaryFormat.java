@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Defines the binary encodings a {@link MessageMapper} can use to serialize
+ * the JSON object it builds, instead of writing it as text. The structure of
+ * the document stays exactly the same, only the wire format changes.
+ *
+ * @author Alejandro Hernández
+ */
+public enum BinaryFormat {
+
+	CBOR(new CBORFactory(), "application/cbor", "+cbor"),
+	SMILE(new SmileFactory(), "application/x-jackson-smile", "+smile");
+
+	/**
+	 * Returns the media type of a JSON media type encoded in this format, if
+	 * it has one; returns {@code Optional#empty()} otherwise. {@code
+	 * application/json} is mapped to the format's own media type, and a media
+	 * type with the {@code +json} suffix, like {@code application/hal+json},
+	 * keeps its subtype and gets the format's suffix instead.
+	 *
+	 * @param  jsonMediaType the JSON media type
+	 * @return the media type in this format, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getMediaTypeOptional(String jsonMediaType) {
+		String mediaType = jsonMediaType.toLowerCase(Locale.ENGLISH);
+
+		if (mediaType.equals("application/json")) {
+			return Optional.of(_mediaType);
+		}
+
+		if (mediaType.endsWith("+json")) {
+			return Optional.of(
+				mediaType.substring(0, mediaType.length() - 5) + _suffix);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Writes the JSON node to the output stream, encoded in this format. The
+	 * output stream is not closed after writing. Fields are written in the
+	 * same order as in the text representation.
+	 *
+	 * @param  jsonNode the JSON node
+	 * @param  outputStream the output stream
+	 * @throws IOException if the node couldn't be written
+	 */
+	public void write(JsonNode jsonNode, OutputStream outputStream)
+		throws IOException {
+
+		_objectMapper.writeValue(outputStream, jsonNode);
+	}
+
+	private BinaryFormat(
+		JsonFactory jsonFactory, String mediaType, String suffix) {
+
+		jsonFactory.disable(AUTO_CLOSE_TARGET);
+
+		_objectMapper = new ObjectMapper(jsonFactory);
+		_mediaType = mediaType;
+		_suffix = suffix;
+	}
+
+	private final String _mediaType;
+	private final ObjectMapper _objectMapper;
+	private final String _suffix;
+
+}
\ No newline at end of file
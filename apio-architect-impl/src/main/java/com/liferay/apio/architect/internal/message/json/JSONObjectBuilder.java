@@ -23,6 +23,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -103,6 +106,20 @@ public class JSONObjectBuilder {
 		}
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * output stream, encoded in the provided binary format.
+	 *
+	 * @param  binaryFormat the binary format
+	 * @param  outputStream the output stream
+	 * @throws IOException if the JSON object couldn't be written
+	 */
+	public void build(BinaryFormat binaryFormat, OutputStream outputStream)
+		throws IOException {
+
+		binaryFormat.write(_objectNode, outputStream);
+	}
+
 	/**
 	 * Begins creating a field inside the JSON object.
 	 *
@@ -14,6 +14,11 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import com.liferay.apio.architect.internal.request.RequestInfo;
+
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * Maps message data to its representation in a JSON object. Instances of this
  * interface work like events. The message's {@code
@@ -27,6 +32,19 @@ package com.liferay.apio.architect.internal.message.json;
  */
 public interface MessageMapper<T> {
 
+	/**
+	 * Returns the binary formats the mapped JSON object can also be written
+	 * in. The mapper is also selected for the media type of each format,
+	 * derived from {@link #getMediaType()} with {@link
+	 * BinaryFormat#getMediaTypeOptional(String)}. By default, a mapper only
+	 * writes text.
+	 *
+	 * @return the binary formats supported by the mapper
+	 */
+	public default Set<BinaryFormat> getBinaryFormats() {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Returns the media type the mapper represents.
 	 *
@@ -34,6 +52,31 @@ public interface MessageMapper<T> {
 	 */
 	public String getMediaType();
 
+	/**
+	 * Returns {@code true} if the mapper declares the base URL of the document
+	 * when the request uses relative URLs (for example, with the JSON-LD
+	 * {@code @base} keyword), so the writers can create URLs relative to it.
+	 * Otherwise, the writers create root-relative URLs.
+	 *
+	 * @return {@code true} if the mapper declares the document's base URL;
+	 *         {@code false} otherwise
+	 */
+	public default boolean isBaseURLSupported() {
+		return false;
+	}
+
+	/**
+	 * Starts the mapping. This is the first mapper method the writer should
+	 * call.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the message
+	 * @param t the message
+	 * @param requestInfo the current request's info
+	 */
+	public default void onStart(
+		JSONObjectBuilder jsonObjectBuilder, T t, RequestInfo requestInfo) {
+	}
+
 	/**
 	 * Finishes the mapping. This is the final mapper method the writer should
 	 * call.
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.message.json.hal;
 
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
@@ -22,8 +23,10 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.Rep
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -39,6 +42,11 @@ import org.osgi.service.component.annotations.Reference;
 @Component(service = PageMessageMapper.class)
 public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public Set<BinaryFormat> getBinaryFormats() {
+		return EnumSet.allOf(BinaryFormat.class);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/hal+json";
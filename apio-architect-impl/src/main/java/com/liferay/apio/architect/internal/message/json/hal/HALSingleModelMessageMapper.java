@@ -15,12 +15,15 @@
 package com.liferay.apio.architect.internal.message.json.hal;
 
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +42,11 @@ import org.osgi.service.component.annotations.Component;
 public class HALSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	@Override
+	public Set<BinaryFormat> getBinaryFormats() {
+		return EnumSet.allOf(BinaryFormat.class);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/hal+json";
@@ -14,14 +14,21 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
+
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 
 import java.util.Optional;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents batch result pages in JSON-LD + Hydra format.
@@ -46,14 +53,52 @@ public class JSONLDBatchResultMessageMapper<T>
 	public Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional() {
 
-		return Optional.of(_singleModelMessageMapper);
+		return Optional.of(singleModelMessageMapper);
+	}
+
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
 	}
 
 	@Override
 	public void mapCollectionURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 
-		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
+		singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
+	}
+
+	@Override
+	public void mapItemError(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, APIError apiError) {
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "statusCode"
+		).numberValue(
+			apiError.getStatusCode()
+		);
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "title"
+		).stringValue(
+			apiError.getTitle()
+		);
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "@type"
+		).stringValue(
+			apiError.getType()
+		);
+
+		Optional<String> optional = apiError.getDescription();
+
+		optional.ifPresent(
+			description -> itemJSONObjectBuilder.nestedField(
+				"error", "description"
+			).stringValue(
+				description
+			));
 	}
 
 	@Override
@@ -77,18 +122,20 @@ public class JSONLDBatchResultMessageMapper<T>
 			"_:batch/" + batchResult.resourceName
 		);
 
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 
 		jsonObjectBuilder.field(
 			"@type"
@@ -111,7 +158,20 @@ public class JSONLDBatchResultMessageMapper<T>
 		);
 	}
 
-	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
-		new JSONLDSingleModelMessageMapper<>();
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, BatchResult<T> batchResult,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
+	}
+
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
+	@Reference(
+		target = "(component.name=com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper)"
+	)
+	protected SingleModelMessageMapper<T> singleModelMessageMapper;
 
 }
\ No newline at end of file
@@ -15,18 +15,23 @@
 package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getOperationTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
 import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.GET;
 
 import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.operation.Operation;
 
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents documentation in JSON-LD + Hydra format.
@@ -49,6 +54,11 @@ public class JSONLDDocumentationMessageMapper
 		return "application/ld+json";
 	}
 
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
+	}
+
 	@Override
 	public void mapDescription(
 		JSONObjectBuilder jsonObjectBuilder, String description) {
@@ -217,49 +227,51 @@ public class JSONLDDocumentationMessageMapper
 	public void onFinish(
 		JSONObjectBuilder jsonObjectBuilder, Documentation documentation) {
 
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)
-			),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#"),
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"expects"
-				).fields(
-					nestedBuilder -> nestedBuilder.field(
-						"@type"
-					).stringValue(
-						"@id"
-					),
-					nestedBuilder -> nestedBuilder.field(
-						"@id"
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
 					).stringValue(
-						"hydra:expects"
+						"http://schema.org/"
 					)
 				),
-				builder -> builder.field(
-					"returns"
-				).fields(
-					nestedBuilder -> nestedBuilder.field(
-						"@id"
-					).stringValue(
-						"hydra:returns"
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#"),
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"expects"
+					).fields(
+						nestedBuilder -> nestedBuilder.field(
+							"@type"
+						).stringValue(
+							"@id"
+						),
+						nestedBuilder -> nestedBuilder.field(
+							"@id"
+						).stringValue(
+							"hydra:expects"
+						)
 					),
-					nestedBuilder -> nestedBuilder.field(
-						"@type"
-					).stringValue(
-						"@id"
+					builder -> builder.field(
+						"returns"
+					).fields(
+						nestedBuilder -> nestedBuilder.field(
+							"@id"
+						).stringValue(
+							"hydra:returns"
+						),
+						nestedBuilder -> nestedBuilder.field(
+							"@type"
+						).stringValue(
+							"@id"
+						)
 					)
 				)
-			)
-		);
+			);
+		}
 
 		jsonObjectBuilder.field(
 			"@id"
@@ -313,6 +325,14 @@ public class JSONLDDocumentationMessageMapper
 		);
 	}
 
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, Documentation documentation,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
+	}
+
 	private void _addDescription(
 		JSONObjectBuilder documentationJsonObjectBuilder, String description) {
 
@@ -343,4 +363,7 @@ public class JSONLDDocumentationMessageMapper
 		return value;
 	}
 
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
 }
\ No newline at end of file
@@ -14,11 +14,17 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
+
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents the entry point in JSON-LD + Hydra format.
@@ -38,6 +44,11 @@ public class JSONLDEntryPointMessageMapper implements EntryPointMessageMapper {
 		return "application/ld+json";
 	}
 
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
+	}
+
 	@Override
 	public void mapItemSelfURL(
 		JSONObjectBuilder entryPointJSONObjectBuilder,
@@ -82,18 +93,20 @@ public class JSONLDEntryPointMessageMapper implements EntryPointMessageMapper {
 			"EntryPoint"
 		);
 
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 	}
 
 	@Override
@@ -116,4 +129,15 @@ public class JSONLDEntryPointMessageMapper implements EntryPointMessageMapper {
 		);
 	}
 
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, EntryPoint entryPoint,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
+	}
+
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
 }
\ No newline at end of file
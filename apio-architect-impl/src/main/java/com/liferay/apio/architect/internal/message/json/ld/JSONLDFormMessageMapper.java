@@ -14,12 +14,18 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
+
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.form.FormField;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.message.json.FormMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents forms in JSON-LD + Hydra format.
@@ -39,6 +45,11 @@ public class JSONLDFormMessageMapper implements FormMessageMapper {
 		return "application/ld+json";
 	}
 
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
+	}
+
 	@Override
 	public void mapFormDescription(
 		JSONObjectBuilder jsonObjectBuilder, String description) {
@@ -113,18 +124,28 @@ public class JSONLDFormMessageMapper implements FormMessageMapper {
 			"Class"
 		);
 
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
+	}
+
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, Form form,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
 	}
 
 	private void _addFormField(FormField formField, JSONObjectBuilder builder) {
@@ -159,4 +180,7 @@ public class JSONLDFormMessageMapper implements FormMessageMapper {
 		);
 	}
 
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
 }
\ No newline at end of file
@@ -17,13 +17,23 @@ package com.liferay.apio.architect.internal.message.json.ld;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
+import com.liferay.apio.architect.internal.jsonld.SharedContext;
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder.ArrayValueStep;
 import com.liferay.apio.architect.internal.operation.BatchCreateOperation;
+import com.liferay.apio.architect.internal.operation.BatchDeleteOperation;
+import com.liferay.apio.architect.internal.operation.BatchUpdateOperation;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.operation.Operation;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Provides utility functions for JSON-LD message mappers.
@@ -47,6 +57,14 @@ public class JSONLDMessageMapperUtil {
 			return asList("BatchCreateAction", "Operation");
 		}
 
+		if (operation instanceof BatchDeleteOperation) {
+			return asList("BatchDeleteAction", "Operation");
+		}
+
+		if (operation instanceof BatchUpdateOperation) {
+			return asList("BatchReplaceAction", "Operation");
+		}
+
 		if (operation instanceof CreateOperation) {
 			return asList("CreateAction", "Operation");
 		}
@@ -55,6 +73,10 @@ public class JSONLDMessageMapperUtil {
 			return asList("DeleteAction", "Operation");
 		}
 
+		if (operation instanceof PartialUpdateOperation) {
+			return asList("UpdateAction", "Operation");
+		}
+
 		if (operation instanceof UpdateOperation) {
 			return asList("ReplaceAction", "Operation");
 		}
@@ -62,6 +84,86 @@ public class JSONLDMessageMapperUtil {
 		return singletonList("Operation");
 	}
 
+	/**
+	 * Returns {@code true} if the shared JSON-LD context is enabled and
+	 * available, so mappers can reference it instead of writing an inline
+	 * {@code @context}.
+	 *
+	 * @param  sharedContextManager the shared context manager, may be {@code
+	 *         null}
+	 * @return {@code true} if the shared context is enabled; {@code false}
+	 *         otherwise
+	 */
+	public static boolean isSharedContextEnabled(
+		SharedContextManager sharedContextManager) {
+
+		if (sharedContextManager == null) {
+			return false;
+		}
+
+		Optional<SharedContext> optional =
+			sharedContextManager.getSharedContextOptional();
+
+		return optional.isPresent();
+	}
+
+	/**
+	 * Writes the parts of the document's {@code @context} known before the
+	 * mapping starts: the URL of the shared JSON-LD context, if the shared
+	 * context is enabled, and the {@code @base} of the document's URLs, if the
+	 * request uses relative URLs.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder
+	 * @param sharedContextManager the shared context manager, may be {@code
+	 *        null}
+	 * @param requestInfo the current request's info
+	 */
+	public static void mapStartContext(
+		JSONObjectBuilder jsonObjectBuilder,
+		SharedContextManager sharedContextManager, RequestInfo requestInfo) {
+
+		Optional<String> baseURLOptional = requestInfo.getBaseURLOptional();
+
+		Optional<SharedContext> sharedContextOptional = Optional.ofNullable(
+			sharedContextManager
+		).flatMap(
+			SharedContextManager::getSharedContextOptional
+		);
+
+		Optional<String> urlOptional = sharedContextOptional.map(
+			sharedContext -> sharedContext.getURL(
+				baseURLOptional.<ApplicationURL>map(
+					baseURL -> () -> baseURL
+				).orElseGet(
+					requestInfo::getApplicationURL
+				))
+		);
+
+		if (!baseURLOptional.isPresent()) {
+			urlOptional.ifPresent(
+				url -> jsonObjectBuilder.field(
+					"@context"
+				).stringValue(
+					url
+				));
+
+			return;
+		}
+
+		ArrayValueStep arrayValueStep = jsonObjectBuilder.field(
+			"@context"
+		).arrayValue();
+
+		urlOptional.ifPresent(arrayValueStep::addString);
+
+		arrayValueStep.add(
+			builder -> builder.field(
+				"@base"
+			).stringValue(
+				baseURLOptional.get()
+			));
+	}
+
 	private JSONLDMessageMapperUtil() {
 		throw new UnsupportedOperationException();
 	}
@@ -14,10 +14,15 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
+
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
@@ -26,6 +31,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents collection pages in JSON-LD + Hydra format.
@@ -51,14 +57,19 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 	public Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional() {
 
-		return Optional.of(_singleModelMessageMapper);
+		return Optional.of(singleModelMessageMapper);
+	}
+
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
 	}
 
 	@Override
 	public void mapCollectionURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 
-		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
+		singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
 	@Override
@@ -154,18 +165,20 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
 	@Override
 	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 
 		jsonObjectBuilder.nestedField(
 			"view", "@type"
@@ -228,13 +241,26 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, Page<T> page,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
+	}
+
 	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.tailStream();
 
 		return stream.toArray(String[]::new);
 	}
 
-	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
-		new JSONLDSingleModelMessageMapper<>();
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
+	@Reference(
+		target = "(component.name=com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper)"
+	)
+	protected SingleModelMessageMapper<T> singleModelMessageMapper;
 
 }
\ No newline at end of file
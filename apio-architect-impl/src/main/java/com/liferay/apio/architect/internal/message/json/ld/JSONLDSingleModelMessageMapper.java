@@ -15,10 +15,14 @@
 package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getOperationTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.isSharedContextEnabled;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
 
+import com.liferay.apio.architect.internal.jsonld.SharedContextManager;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -28,6 +32,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Represents single models in JSON-LD + Hydra format.
@@ -50,6 +55,11 @@ public class JSONLDSingleModelMessageMapper<T>
 		return "application/ld+json";
 	}
 
+	@Override
+	public boolean isBaseURLSupported() {
+		return true;
+	}
+
 	@Override
 	public void mapBooleanField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Boolean value) {
@@ -281,6 +291,10 @@ public class JSONLDSingleModelMessageMapper<T>
 			url
 		);
 
+		if (isSharedContextEnabled(sharedContextManager)) {
+			return;
+		}
+
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
 		jsonObjectBuilder.ifElseCondition(
@@ -440,18 +454,20 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinish(
 		JSONObjectBuilder jsonObjectBuilder, SingleModel<T> singleModel) {
 
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!isSharedContextEnabled(sharedContextManager)) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 	}
 
 	@Override
@@ -519,6 +535,14 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void onStart(
+		JSONObjectBuilder jsonObjectBuilder, SingleModel<T> singleModel,
+		RequestInfo requestInfo) {
+
+		mapStartContext(jsonObjectBuilder, sharedContextManager, requestInfo);
+	}
+
 	private String[] _getMiddle(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.middleStream();
 
@@ -531,4 +555,7 @@ public class JSONLDSingleModelMessageMapper<T>
 		return stream.toArray(String[]::new);
 	}
 
+	@Reference
+	protected SharedContextManager sharedContextManager;
+
 }
\ No newline at end of file
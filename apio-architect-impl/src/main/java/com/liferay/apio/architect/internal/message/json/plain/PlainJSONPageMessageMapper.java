@@ -15,13 +15,16 @@
 package com.liferay.apio.architect.internal.message.json.plain;
 
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
@@ -36,6 +39,11 @@ import org.osgi.service.component.annotations.Component;
 @Component(service = PageMessageMapper.class)
 public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public Set<BinaryFormat> getBinaryFormats() {
+		return EnumSet.allOf(BinaryFormat.class);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/json";
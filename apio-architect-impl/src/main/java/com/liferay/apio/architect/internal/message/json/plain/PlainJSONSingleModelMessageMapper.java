@@ -15,11 +15,14 @@
 package com.liferay.apio.architect.internal.message.json.plain;
 
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
@@ -35,6 +38,11 @@ import org.osgi.service.component.annotations.Component;
 public class PlainJSONSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	@Override
+	public Set<BinaryFormat> getBinaryFormats() {
+		return EnumSet.allOf(BinaryFormat.class);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/json";
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in a fixed set of exponential buckets. This class is
+ * thread-safe and lock-free.
+ *
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogram {
+
+	public LatencyHistogram() {
+		_counts = new LongAdder[_UPPER_BOUNDS.length];
+
+		for (int i = 0; i < _counts.length; i++) {
+			_counts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Returns the histogram's buckets. Each entry's key is the bucket's
+	 * inclusive upper bound in milliseconds, and its value the number of
+	 * latencies recorded in that bucket.
+	 *
+	 * @return the histogram's buckets
+	 */
+	public SortedMap<Long, Long> getBuckets() {
+		SortedMap<Long, Long> buckets = new TreeMap<>();
+
+		for (int i = 0; i < _UPPER_BOUNDS.length; i++) {
+			buckets.put(_UPPER_BOUNDS[i], _counts[i].sum());
+		}
+
+		return buckets;
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies
+	 */
+	public long getCount() {
+		long count = 0;
+
+		for (LongAdder longAdder : _counts) {
+			count += longAdder.sum();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the maximum recorded latency, in nanoseconds.
+	 *
+	 * @return the maximum recorded latency
+	 */
+	public long getMax() {
+		return _max.get();
+	}
+
+	/**
+	 * Returns the sum of every recorded latency, in nanoseconds.
+	 *
+	 * @return the sum of every recorded latency
+	 */
+	public long getTotal() {
+		return _total.sum();
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos the latency, in nanoseconds
+	 */
+	public void record(long nanos) {
+		long millis = MILLISECONDS.convert(nanos, NANOSECONDS);
+
+		int index = 0;
+
+		while (millis > _UPPER_BOUNDS[index]) {
+			index++;
+		}
+
+		_counts[index].increment();
+		_max.accumulate(nanos);
+		_total.add(nanos);
+	}
+
+	private static final long[] _UPPER_BOUNDS = {
+		1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000,
+		Long.MAX_VALUE
+	};
+
+	private final LongAdder[] _counts;
+	private final LongAccumulator _max = new LongAccumulator(Math::max, 0);
+	private final LongAdder _total = new LongAdder();
+
+}
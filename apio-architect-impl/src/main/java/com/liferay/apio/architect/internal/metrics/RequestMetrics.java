@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.metrics.Stage;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Accumulates the metrics of a single request while it's being handled. The
+ * instance is stored as a request attribute, so every component taking part
+ * in the request can add the duration of its own stage.
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestMetrics {
+
+	/**
+	 * The name of the request attribute that stores the request's metrics.
+	 */
+	public static final String ATTRIBUTE_NAME = RequestMetrics.class.getName();
+
+	/**
+	 * Returns the metrics of the current request, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's metrics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<RequestMetrics> getRequestMetricsOptional(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+		if (attribute instanceof RequestMetrics) {
+			return Optional.of((RequestMetrics)attribute);
+		}
+
+		return Optional.empty();
+	}
+
+	public RequestMetrics(String resourceName, String operation) {
+		_resourceName = resourceName;
+		_operation = operation;
+
+		_startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Adds a duration to a stage.
+	 *
+	 * @param stage the stage
+	 * @param nanos the duration, in nanoseconds
+	 */
+	public void addDuration(Stage stage, long nanos) {
+		_durations.merge(stage, nanos, Long::sum);
+	}
+
+	/**
+	 * Returns the accumulated duration of a stage, in nanoseconds.
+	 *
+	 * @param  stage the stage
+	 * @return the stage's accumulated duration
+	 */
+	public long getDuration(Stage stage) {
+		return _durations.getOrDefault(stage, 0L);
+	}
+
+	/**
+	 * Returns the accumulated duration of every stage, in nanoseconds.
+	 *
+	 * @return the accumulated duration of every stage
+	 */
+	public Map<Stage, Long> getDurations() {
+		return new EnumMap<>(_durations);
+	}
+
+	/**
+	 * Returns the nanoseconds elapsed since the request started.
+	 *
+	 * @return the nanoseconds elapsed since the request started
+	 */
+	public long getElapsedNanos() {
+		return System.nanoTime() - _startNanos;
+	}
+
+	public String getOperation() {
+		return _operation;
+	}
+
+	public long getPayloadSize() {
+		return _payloadSize;
+	}
+
+	public String getResourceName() {
+		return _resourceName;
+	}
+
+	public boolean isFailed() {
+		return _failed;
+	}
+
+	public void setFailed(boolean failed) {
+		_failed = failed;
+	}
+
+	public void setPayloadSize(long payloadSize) {
+		_payloadSize = payloadSize;
+	}
+
+	/**
+	 * Returns an {@link EmbeddedModelsResolver} that adds the time spent by the
+	 * supplied resolver to the {@link Stage#EMBEDDED_RESOLUTION} stage.
+	 *
+	 * @param  embeddedModelsResolver the resolver to time
+	 * @return the timed resolver
+	 */
+	public EmbeddedModelsResolver timed(
+		EmbeddedModelsResolver embeddedModelsResolver) {
+
+		return new EmbeddedModelsResolver() {
+
+			@Override
+			public List<Optional<SingleModel<?>>> resolve(
+				List<Supplier<Optional<SingleModel<?>>>> suppliers) {
+
+				return _timed(() -> embeddedModelsResolver.resolve(suppliers));
+			}
+
+			@Override
+			public List<Optional<SingleModel<?>>> resolve(
+				List<Supplier<Optional<SingleModel<?>>>> suppliers,
+				EmbeddingDeadline embeddingDeadline) {
+
+				return _timed(
+					() -> embeddedModelsResolver.resolve(
+						suppliers, embeddingDeadline));
+			}
+
+		};
+	}
+
+	private <T> T _timed(Supplier<T> supplier) {
+		long startNanos = System.nanoTime();
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			addDuration(
+				Stage.EMBEDDED_RESOLUTION, System.nanoTime() - startNanos);
+		}
+	}
+
+	private final Map<Stage, Long> _durations = new EnumMap<>(Stage.class);
+	private boolean _failed;
+	private final String _operation;
+	private long _payloadSize;
+	private final String _resourceName;
+	private final long _startNanos;
+
+}
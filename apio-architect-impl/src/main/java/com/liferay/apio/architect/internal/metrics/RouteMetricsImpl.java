@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import com.liferay.apio.architect.metrics.RouteMetrics;
+import com.liferay.apio.architect.metrics.Stage;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the metrics of an operation of a resource. This class is
+ * thread-safe.
+ *
+ * @author Alejandro Hernández
+ */
+public class RouteMetricsImpl implements RouteMetrics, RouteMetricsMXBean {
+
+	public RouteMetricsImpl(String resourceName, String operation) {
+		_resourceName = resourceName;
+		_operation = operation;
+
+		for (Stage stage : Stage.values()) {
+			_latencyHistograms.put(stage, new LatencyHistogram());
+		}
+	}
+
+	@Override
+	public long getErrorCount() {
+		return _errorCount.sum();
+	}
+
+	@Override
+	public SortedMap<Long, Long> getLatencyHistogram(Stage stage) {
+		LatencyHistogram latencyHistogram = _latencyHistograms.get(stage);
+
+		return latencyHistogram.getBuckets();
+	}
+
+	@Override
+	public Map<String, SortedMap<Long, Long>> getLatencyHistograms() {
+		Map<String, SortedMap<Long, Long>> latencyHistograms =
+			new LinkedHashMap<>();
+
+		_latencyHistograms.forEach(
+			(stage, latencyHistogram) -> latencyHistograms.put(
+				stage.name(), latencyHistogram.getBuckets()));
+
+		return latencyHistograms;
+	}
+
+	@Override
+	public Map<String, Double> getMaxLatencies() {
+		Map<String, Double> maxLatencies = new LinkedHashMap<>();
+
+		_latencyHistograms.forEach(
+			(stage, latencyHistogram) -> maxLatencies.put(
+				stage.name(), latencyHistogram.getMax() / _NANOS_PER_MILLI));
+
+		return maxLatencies;
+	}
+
+	@Override
+	public long getMaxLatency(Stage stage) {
+		LatencyHistogram latencyHistogram = _latencyHistograms.get(stage);
+
+		return latencyHistogram.getMax();
+	}
+
+	@Override
+	public Map<String, Double> getMeanLatencies() {
+		Map<String, Double> meanLatencies = new LinkedHashMap<>();
+
+		_latencyHistograms.forEach(
+			(stage, latencyHistogram) -> {
+				long count = latencyHistogram.getCount();
+
+				if (count == 0) {
+					meanLatencies.put(stage.name(), 0.0);
+				}
+				else {
+					meanLatencies.put(
+						stage.name(),
+						latencyHistogram.getTotal() / _NANOS_PER_MILLI / count);
+				}
+			});
+
+		return meanLatencies;
+	}
+
+	@Override
+	public String getOperation() {
+		return _operation;
+	}
+
+	@Override
+	public long getPayloadSize() {
+		return _payloadSize.sum();
+	}
+
+	@Override
+	public long getRequestCount() {
+		return _requestCount.sum();
+	}
+
+	@Override
+	public String getResourceName() {
+		return _resourceName;
+	}
+
+	@Override
+	public long getTotalLatency(Stage stage) {
+		LatencyHistogram latencyHistogram = _latencyHistograms.get(stage);
+
+		return latencyHistogram.getTotal();
+	}
+
+	/**
+	 * Records the metrics of a finished request.
+	 *
+	 * @param durations the duration, in nanoseconds, of each of the request's
+	 *        stages
+	 * @param payloadSize the size, in bytes, of the response's payload
+	 * @param failed {@code true} if the request failed; {@code false}
+	 *        otherwise
+	 */
+	public void record(
+		Map<Stage, Long> durations, long payloadSize, boolean failed) {
+
+		_requestCount.increment();
+
+		if (failed) {
+			_errorCount.increment();
+		}
+
+		_payloadSize.add(payloadSize);
+
+		durations.forEach(
+			(stage, duration) -> {
+				LatencyHistogram latencyHistogram = _latencyHistograms.get(
+					stage);
+
+				latencyHistogram.record(duration);
+			});
+	}
+
+	private static final double _NANOS_PER_MILLI = 1000000.0;
+
+	private final LongAdder _errorCount = new LongAdder();
+	private final Map<Stage, LatencyHistogram> _latencyHistograms =
+		new EnumMap<>(Stage.class);
+	private final String _operation;
+	private final LongAdder _payloadSize = new LongAdder();
+	private final LongAdder _requestCount = new LongAdder();
+	private final String _resourceName;
+
+}
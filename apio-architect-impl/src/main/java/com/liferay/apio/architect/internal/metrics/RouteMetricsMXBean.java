@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Defines the JMX view of a {@link RouteMetricsImpl}. Latencies are expressed
+ * in milliseconds and keyed by stage name.
+ *
+ * @author Alejandro Hernández
+ */
+public interface RouteMetricsMXBean {
+
+	public long getErrorCount();
+
+	public Map<String, SortedMap<Long, Long>> getLatencyHistograms();
+
+	public Map<String, Double> getMaxLatencies();
+
+	public Map<String, Double> getMeanLatencies();
+
+	public String getOperation();
+
+	public long getPayloadSize();
+
+	public long getRequestCount();
+
+	public String getResourceName();
+
+}
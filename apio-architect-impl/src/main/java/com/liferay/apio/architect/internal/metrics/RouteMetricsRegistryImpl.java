@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.metrics.MetricsRecorder;
+import com.liferay.apio.architect.metrics.RouteMetrics;
+import com.liferay.apio.architect.metrics.RouteMetricsRegistry;
+import com.liferay.apio.architect.metrics.Stage;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.DynamicMBean;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+import org.slf4j.Logger;
+
+/**
+ * Aggregates the metrics of every request per resource and operation. Each
+ * {@link RouteMetrics} is also registered as a {@code DynamicMBean} service,
+ * so the JMX whiteboard exposes it under the {@code
+ * com.liferay.apio.architect} domain.
+ *
+ * <p>
+ * To avoid an unbounded number of entries, once {@link #MAX_ROUTES} routes are
+ * being tracked, new resources are aggregated under the {@code *} resource
+ * name.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(service = {MetricsRecorder.class, RouteMetricsRegistry.class})
+public class RouteMetricsRegistryImpl
+	implements MetricsRecorder, RouteMetricsRegistry {
+
+	/**
+	 * The maximum number of routes tracked individually.
+	 */
+	public static final int MAX_ROUTES = 500;
+
+	@Override
+	public List<RouteMetrics> getRouteMetrics() {
+		return new ArrayList<>(_routeMetricsImpls.values());
+	}
+
+	@Override
+	public Optional<RouteMetrics> getRouteMetricsOptional(
+		String resourceName, String operation) {
+
+		return Optional.ofNullable(
+			_routeMetricsImpls.get(_getKey(resourceName, operation)));
+	}
+
+	@Override
+	public void record(
+		String resourceName, String operation, Map<Stage, Long> durations,
+		long payloadSize, boolean failed) {
+
+		RouteMetricsImpl routeMetricsImpl = _getRouteMetricsImpl(
+			resourceName, operation);
+
+		routeMetricsImpl.record(durations, payloadSize, failed);
+	}
+
+	@Activate
+	protected void activate(BundleContext bundleContext) {
+		_bundleContext = bundleContext;
+	}
+
+	@Deactivate
+	protected synchronized void deactivate() {
+		_serviceRegistrations.forEach(ServiceRegistration::unregister);
+
+		_serviceRegistrations.clear();
+
+		_bundleContext = null;
+	}
+
+	/**
+	 * Returns the JMX object name of a route's metrics. Resource names come
+	 * from the request URL, so both key properties are quoted.
+	 *
+	 * @param  resourceName the route's resource name
+	 * @param  operation the route's operation
+	 * @return the object name
+	 */
+	protected static ObjectName getObjectName(
+			String resourceName, String operation)
+		throws MalformedObjectNameException {
+
+		return new ObjectName(
+			"com.liferay.apio.architect:type=RouteMetrics,resource=" +
+				ObjectName.quote(resourceName) + ",operation=" +
+					ObjectName.quote(operation));
+	}
+
+	private static String _getKey(String resourceName, String operation) {
+		return resourceName + "#" + operation;
+	}
+
+	private RouteMetricsImpl _getRouteMetricsImpl(
+		String resourceName, String operation) {
+
+		String key = _getKey(resourceName, operation);
+
+		RouteMetricsImpl routeMetricsImpl = _routeMetricsImpls.get(key);
+
+		if (routeMetricsImpl != null) {
+			return routeMetricsImpl;
+		}
+
+		if (_routeMetricsImpls.size() >= MAX_ROUTES) {
+			resourceName = "*";
+
+			key = _getKey(resourceName, operation);
+		}
+
+		routeMetricsImpl = new RouteMetricsImpl(resourceName, operation);
+
+		RouteMetricsImpl previousRouteMetricsImpl =
+			_routeMetricsImpls.putIfAbsent(key, routeMetricsImpl);
+
+		if (previousRouteMetricsImpl != null) {
+			return previousRouteMetricsImpl;
+		}
+
+		_registerMBean(routeMetricsImpl);
+
+		return routeMetricsImpl;
+	}
+
+	private synchronized void _registerMBean(
+		RouteMetricsImpl routeMetricsImpl) {
+
+		if (_bundleContext == null) {
+			return;
+		}
+
+		try {
+			ObjectName objectName = getObjectName(
+				routeMetricsImpl.getResourceName(),
+				routeMetricsImpl.getOperation());
+
+			Dictionary<String, Object> properties = new Hashtable<>();
+
+			properties.put("jmx.objectname", objectName.toString());
+
+			_serviceRegistrations.add(
+				_bundleContext.registerService(
+					DynamicMBean.class,
+					new StandardMBean(
+						routeMetricsImpl, RouteMetricsMXBean.class, true),
+					properties));
+		}
+		catch (Exception e) {
+			_logger.warn(
+				"Unable to register metrics MBean for {}",
+				routeMetricsImpl.getResourceName(), e);
+		}
+	}
+
+	private BundleContext _bundleContext;
+	private final Logger _logger = getLogger(getClass());
+	private final Map<String, RouteMetricsImpl> _routeMetricsImpls =
+		new ConcurrentHashMap<>();
+	private final List<ServiceRegistration<DynamicMBean>>
+		_serviceRegistrations = new ArrayList<>();
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.pagination;
+
+import com.liferay.apio.architect.pagination.PageItems;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a single page with the items of a collection requested by their
+ * identifiers. The page's size is the number of requested identifiers, and
+ * its total count is the number of items found.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class IdentifiersPageImpl<T> extends PageImpl<T> {
+
+	public IdentifiersPageImpl(
+		String resourceName, Collection<T> items, List<String> identifiers) {
+
+		super(
+			resourceName, new PageItems<>(items, items.size()),
+			new PaginationImpl(Math.max(1, identifiers.size()), 1),
+			Collections.emptyList());
+
+		_identifiers = identifiers;
+	}
+
+	/**
+	 * Returns the requested identifiers, in the order they were requested.
+	 *
+	 * @return the requested identifiers
+	 */
+	public List<String> getIdentifiers() {
+		return _identifiers;
+	}
+
+	private final List<String> _identifiers;
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.pagination;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Provides utility functions to parse the {@code ids} parameter of requests
+ * for several items of a collection by their identifiers.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class IdentifiersUtil {
+
+	/**
+	 * The maximum number of identifiers a single request can ask for.
+	 */
+	public static final int MAX_IDENTIFIERS = 100;
+
+	/**
+	 * Returns the identifiers of a comma-separated list, in the order they
+	 * appear. Identifiers are trimmed, and empty and repeated ones are
+	 * skipped.
+	 *
+	 * @param  ids the comma-separated identifiers
+	 * @return the identifiers
+	 * @throws BadRequestException if there are more than {@link
+	 *         #MAX_IDENTIFIERS} identifiers
+	 */
+	public static List<String> getIdentifiers(String ids) {
+		Set<String> identifiers = new LinkedHashSet<>();
+
+		for (String id : ids.split(",")) {
+			id = id.trim();
+
+			if (id.isEmpty()) {
+				continue;
+			}
+
+			identifiers.add(id);
+
+			if (identifiers.size() > MAX_IDENTIFIERS) {
+				throw new BadRequestException(
+					"Unable to get more than " + MAX_IDENTIFIERS +
+						" items by their identifiers");
+			}
+		}
+
+		return new ArrayList<>(identifiers);
+	}
+
+	private IdentifiersUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
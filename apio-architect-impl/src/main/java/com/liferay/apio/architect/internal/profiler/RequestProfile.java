@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.profiler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Captures the timeline of a single sampled request. Instances are stored as a
+ * request attribute by the profiler filter, so each component taking part in
+ * the request can add its own events.
+ *
+ * <p>
+ * When profiling is disabled, or the request hasn't been sampled, {@link
+ * #getRequestProfile(HttpServletRequest)} returns {@link #DISABLED}, whose
+ * methods do nothing. Callers should check {@link #isEnabled()} before
+ * building expensive event details.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestProfile {
+
+	/**
+	 * The name of the request attribute that stores the request's profile.
+	 */
+	public static final String ATTRIBUTE_NAME = RequestProfile.class.getName();
+
+	/**
+	 * The profile used when the request isn't being profiled.
+	 */
+	public static final RequestProfile DISABLED = new RequestProfile(
+		false, null);
+
+	/**
+	 * Returns the profile of the current request. If profiling is disabled or
+	 * the request hasn't been sampled, this method returns {@link #DISABLED}.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's profile
+	 */
+	public static RequestProfile getRequestProfile(
+		HttpServletRequest httpServletRequest) {
+
+		if (!_profiling || (httpServletRequest == null)) {
+			return DISABLED;
+		}
+
+		try {
+			Object attribute = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+			if (attribute instanceof RequestProfile) {
+				return (RequestProfile)attribute;
+			}
+		}
+		catch (RuntimeException re) {
+
+			// The request can't be accessed outside of its thread
+
+		}
+
+		return DISABLED;
+	}
+
+	/**
+	 * Sets whether any request can be profiled. This acts as a global switch,
+	 * so instrumented code doesn't even look up the request's profile while
+	 * profiling is disabled.
+	 *
+	 * @param profiling {@code true} if requests can be profiled; {@code false}
+	 *        otherwise
+	 */
+	public static void setProfiling(boolean profiling) {
+		_profiling = profiling;
+	}
+
+	public RequestProfile(String description) {
+		this(true, description);
+	}
+
+	/**
+	 * Returns the profiled request's description.
+	 *
+	 * @return the request's description
+	 */
+	public String getDescription() {
+		return _description;
+	}
+
+	/**
+	 * Returns the nanoseconds elapsed since the profile was created.
+	 *
+	 * @return the nanoseconds elapsed since the profile was created
+	 */
+	public long getElapsedNanos() {
+		return System.nanoTime() - _startNanos;
+	}
+
+	/**
+	 * Returns the profile's events, in the order they finished.
+	 *
+	 * @return the profile's events
+	 */
+	public synchronized List<Event> getEvents() {
+		return new ArrayList<>(_events);
+	}
+
+	/**
+	 * Returns the time, in nanoseconds, when the profile was created.
+	 *
+	 * @return the time when the profile was created
+	 */
+	public long getStartNanos() {
+		return _startNanos;
+	}
+
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Adds an event that started at the supplied time and finishes now.
+	 *
+	 * @param type the event's type
+	 * @param detail the event's detail
+	 * @param startNanos the value returned by {@link #start()} when the event
+	 *        started
+	 */
+	public void record(String type, String detail, long startNanos) {
+		if (!_enabled) {
+			return;
+		}
+
+		Event event = new Event(
+			type, detail, startNanos - _startNanos,
+			System.nanoTime() - startNanos);
+
+		synchronized (this) {
+			_events.add(event);
+		}
+	}
+
+	/**
+	 * Returns the current time, in nanoseconds, to be passed to {@link
+	 * #record(String, String, long)} once the event finishes. If the profile
+	 * is disabled, this method returns {@code 0}.
+	 *
+	 * @return the current time, in nanoseconds
+	 */
+	public long start() {
+		if (!_enabled) {
+			return 0;
+		}
+
+		return System.nanoTime();
+	}
+
+	/**
+	 * Returns the profile as a single-line JSON object, with the request's
+	 * description, the supplied elapsed time, and the profile's events. Times
+	 * are written in milliseconds, and event offsets are relative to the
+	 * profile's creation.
+	 *
+	 * @param  elapsedNanos the nanoseconds the request took
+	 * @return the profile as a JSON object
+	 */
+	public String toJSON(long elapsedNanos) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("{\"request\": ");
+		_appendString(sb, _description);
+		sb.append(", \"elapsedMillis\": ");
+		_appendMillis(sb, elapsedNanos);
+		sb.append(", \"events\": [");
+
+		List<Event> events = getEvents();
+
+		for (int i = 0; i < events.size(); i++) {
+			Event event = events.get(i);
+
+			if (i > 0) {
+				sb.append(", ");
+			}
+
+			sb.append("{\"type\": ");
+			_appendString(sb, event.getType());
+			sb.append(", \"detail\": ");
+			_appendString(sb, event.getDetail());
+			sb.append(", \"offsetMillis\": ");
+			_appendMillis(sb, event.getOffsetNanos());
+			sb.append(", \"durationMillis\": ");
+			_appendMillis(sb, event.getDurationNanos());
+			sb.append("}");
+		}
+
+		sb.append("]}");
+
+		return sb.toString();
+	}
+
+	/**
+	 * Represents an event of a request's timeline.
+	 */
+	public static class Event {
+
+		public Event(
+			String type, String detail, long offsetNanos, long durationNanos) {
+
+			_type = type;
+			_detail = detail;
+			_offsetNanos = offsetNanos;
+			_durationNanos = durationNanos;
+		}
+
+		public String getDetail() {
+			return _detail;
+		}
+
+		public long getDurationNanos() {
+			return _durationNanos;
+		}
+
+		public long getOffsetNanos() {
+			return _offsetNanos;
+		}
+
+		public String getType() {
+			return _type;
+		}
+
+		private final String _detail;
+		private final long _durationNanos;
+		private final long _offsetNanos;
+		private final String _type;
+
+	}
+
+	private static void _appendMillis(StringBuilder sb, long nanos) {
+		sb.append(String.format(Locale.ROOT, "%.3f", nanos / 1000000.0));
+	}
+
+	private static void _appendString(StringBuilder sb, String string) {
+		if (string == null) {
+			sb.append("null");
+
+			return;
+		}
+
+		JsonStringEncoder jsonStringEncoder = JsonStringEncoder.getInstance();
+
+		sb.append('"');
+		sb.append(jsonStringEncoder.quoteAsString(string));
+		sb.append('"');
+	}
+
+	private RequestProfile(boolean enabled, String description) {
+		_enabled = enabled;
+		_description = description;
+
+		_startNanos = enabled ? System.nanoTime() : 0;
+	}
+
+	private static volatile boolean _profiling;
+
+	private final String _description;
+	private final boolean _enabled;
+	private final List<Event> _events = new ArrayList<>();
+	private final long _startNanos;
+
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.profiler;
+
+/**
+ * Configures the slow request profiler.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface RequestProfilerConfiguration {
+
+	/**
+	 * Returns {@code true} if requests should be profiled.
+	 *
+	 * @return {@code true} if requests should be profiled; {@code false}
+	 *         otherwise
+	 */
+	public boolean enabled() default false;
+
+	/**
+	 * Returns the fraction of requests, between {@code 0} and {@code 1}, that
+	 * are profiled.
+	 *
+	 * @return the fraction of requests that are profiled
+	 */
+	public double sampleRate() default 0.1;
+
+	/**
+	 * Returns the duration, in milliseconds, above which a profiled request is
+	 * logged.
+	 *
+	 * @return the duration above which a profiled request is logged
+	 */
+	public long thresholdMillis() default 1000;
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.projection;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.projection.Projection;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Computes the {@link Projection} of a resource from its representor and the
+ * {@link Fields} and {@link Embedded} selected by the client. A field is
+ * rendered if the representor declares it and the {@code Fields} predicate
+ * for the representor's types accepts it. A related model or collection is
+ * embedded if its field is rendered and the {@code Embedded} predicate accepts
+ * its path.
+ *
+ * @author Alejandro Hernández
+ */
+public class ProjectionImpl implements Projection {
+
+	public ProjectionImpl(
+		BaseRepresentor<?> baseRepresentor, Fields fields, Embedded embedded) {
+
+		_fieldsPredicate = fields.apply(baseRepresentor.getTypes());
+		_embedded = embedded;
+
+		_addKeys(_keys, baseRepresentor.getApplicationRelativeURLFunctions());
+		_addKeys(_keys, baseRepresentor.getBinaryFunctions());
+		_addKeys(_keys, baseRepresentor.getBooleanFunctions());
+		_addKeys(_keys, baseRepresentor.getBooleanListFunctions());
+		_addKeys(_keys, baseRepresentor.getLinkFunctions());
+		_addKeys(_keys, baseRepresentor.getLocalizedStringFunctions());
+		_addKeys(_keys, baseRepresentor.getNestedFieldFunctions());
+		_addKeys(_keys, baseRepresentor.getNestedListFieldFunctions());
+		_addKeys(_keys, baseRepresentor.getNumberFunctions());
+		_addKeys(_keys, baseRepresentor.getNumberListFunctions());
+		_addKeys(_keys, baseRepresentor.getRelativeURLFunctions());
+		_addKeys(_keys, baseRepresentor.getStringFunctions());
+		_addKeys(_keys, baseRepresentor.getStringListFunctions());
+
+		for (RelatedModel<?, ?> relatedModel :
+				baseRepresentor.getRelatedModels()) {
+
+			_relationKeys.add(relatedModel.getKey());
+		}
+
+		baseRepresentor.getRelatedCollections(
+		).forEach(
+			relatedCollection -> _relationKeys.add(relatedCollection.getKey())
+		);
+
+		_keys.addAll(_relationKeys);
+	}
+
+	@Override
+	public boolean isEmbedded(String path) {
+		int index = path.indexOf('.');
+
+		String key = (index == -1) ? path : path.substring(0, index);
+
+		if (!_relationKeys.contains(key) || !_fieldsPredicate.test(key)) {
+			return false;
+		}
+
+		return _embedded.test(path);
+	}
+
+	@Override
+	public boolean isRendered(String key) {
+		if (_keys.contains(key) && _fieldsPredicate.test(key)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static void _addKeys(
+		Set<String> keys, List<? extends FieldFunction<?, ?>> fieldFunctions) {
+
+		for (FieldFunction<?, ?> fieldFunction : fieldFunctions) {
+			keys.add(fieldFunction.getKey());
+		}
+	}
+
+	private final Embedded _embedded;
+	private final Predicate<String> _fieldsPredicate;
+	private final Set<String> _keys = new HashSet<>();
+	private final Set<String> _relationKeys = new HashSet<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.projection;
+
+import com.liferay.apio.architect.projection.Projection;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides utility functions to keep track of the resource whose models are
+ * being loaded, so the {@link Projection} provided to its route functions can
+ * be computed from the resource's representor.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class ProjectionUtil {
+
+	/**
+	 * The name of the request attribute that holds the name of the resource
+	 * whose models are being loaded.
+	 */
+	public static final String ATTRIBUTE_NAME = Projection.class.getName();
+
+	/**
+	 * Returns the name of the resource whose models are being loaded, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the resource's name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<String> getProjectedNameOptional(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+		if (attribute instanceof String) {
+			return Optional.of((String)attribute);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the result of the supplier, which loads models of the resource
+	 * with the name. The resource's name is only available to {@link
+	 * #getProjectedNameOptional(HttpServletRequest)} while the supplier runs.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  supplier the supplier that loads the models
+	 * @return the result of the supplier
+	 */
+	public static <T> T withProjectedName(
+		HttpServletRequest httpServletRequest, String name,
+		Supplier<T> supplier) {
+
+		Object previous = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+		httpServletRequest.setAttribute(ATTRIBUTE_NAME, name);
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			httpServletRequest.setAttribute(ATTRIBUTE_NAME, previous);
+		}
+	}
+
+	private ProjectionUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.cost.RequestCost;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.provider.Provider;
@@ -34,11 +35,25 @@ import org.osgi.service.component.annotations.Component;
 @Component(service = Provider.class)
 public class PaginationProvider implements Provider<Pagination> {
 
-	@Override
-	public Pagination createContext(HttpServletRequest httpServletRequest) {
-		int itemsPerPage = _getAsInt(
+	/**
+	 * Returns the number of items per page requested with the {@code
+	 * per_page} parameter. If the parameter is missing or isn't a positive
+	 * integer, the default number of items per page is returned.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the requested number of items per page
+	 */
+	public static int getRequestedItemsPerPage(
+		HttpServletRequest httpServletRequest) {
+
+		return _getAsInt(
 			httpServletRequest.getParameter("per_page"),
 			_ITEMS_PER_PAGE_DEFAULT);
+	}
+
+	@Override
+	public Pagination createContext(HttpServletRequest httpServletRequest) {
+		int itemsPerPage = _getItemsPerPage(httpServletRequest);
 
 		int pageNumber = _getAsInt(
 			httpServletRequest.getParameter("page"), _PAGE_NUMBER_DEFAULT);
@@ -46,7 +61,7 @@ public class PaginationProvider implements Provider<Pagination> {
 		return new PaginationImpl(itemsPerPage, pageNumber);
 	}
 
-	private int _getAsInt(String parameterValue, int defaultValue) {
+	private static int _getAsInt(String parameterValue, int defaultValue) {
 		return Try.success(
 			parameterValue
 		).map(
@@ -58,6 +73,19 @@ public class PaginationProvider implements Provider<Pagination> {
 		);
 	}
 
+	private int _getItemsPerPage(HttpServletRequest httpServletRequest) {
+		Object attribute = httpServletRequest.getAttribute(
+			RequestCost.ATTRIBUTE_NAME);
+
+		if (attribute instanceof RequestCost) {
+			RequestCost requestCost = (RequestCost)attribute;
+
+			return requestCost.getItemsPerPage();
+		}
+
+		return getRequestedItemsPerPage(httpServletRequest);
+	}
+
 	private static final int _ITEMS_PER_PAGE_DEFAULT = 30;
 
 	private static final int _PAGE_NUMBER_DEFAULT = 1;
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static com.liferay.apio.architect.internal.projection.ProjectionUtil.getProjectedNameOptional;
+
+import com.liferay.apio.architect.internal.projection.ProjectionImpl;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.projection.Projection;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.representor.Representor;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Lets resources provide the {@link Projection} of the current request as a
+ * parameter in the methods of any of the routes builders, so route functions
+ * only load the fields and related models that are rendered.
+ *
+ * <p>
+ * The projection is computed from the {@link Fields} and {@link Embedded}
+ * provided for the request, and the representor of the resource whose models
+ * are being loaded.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(service = Provider.class)
+public class ProjectionProvider implements Provider<Projection> {
+
+	@Override
+	public Projection createContext(HttpServletRequest httpServletRequest) {
+		return getProjectedNameOptional(
+			httpServletRequest
+		).flatMap(
+			_representableManager::getRepresentorOptional
+		).<Projection>map(
+			representor -> _createProjection(httpServletRequest, representor)
+		).orElse(
+			_FULL_PROJECTION
+		);
+	}
+
+	private Projection _createProjection(
+		HttpServletRequest httpServletRequest, Representor<?> representor) {
+
+		Fields fields = _providerManager.provideMandatory(
+			httpServletRequest, Fields.class);
+		Embedded embedded = _providerManager.provideMandatory(
+			httpServletRequest, Embedded.class);
+
+		return new ProjectionImpl(representor, fields, embedded);
+	}
+
+	private static final Projection _FULL_PROJECTION = new Projection() {
+
+		@Override
+		public boolean isEmbedded(String path) {
+			return true;
+		}
+
+		@Override
+		public boolean isRendered(String key) {
+			return true;
+		}
+
+	};
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+}
\ No newline at end of file
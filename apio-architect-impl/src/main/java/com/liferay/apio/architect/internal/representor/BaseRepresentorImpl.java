@@ -190,6 +190,24 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the {@link RenderPlan} compiled from the representor's basic
+	 * fields. The plan is compiled the first time this method is called.
+	 *
+	 * @return the representor's render plan
+	 */
+	public RenderPlan<T> getRenderPlan() {
+		RenderPlan<T> renderPlan = _renderPlan;
+
+		if (renderPlan == null) {
+			renderPlan = new RenderPlan<>(this);
+
+			_renderPlan = renderPlan;
+		}
+
+		return renderPlan;
+	}
+
 	@Override
 	public List<FieldFunction<T, String>> getStringFunctions() {
 		return Optional.ofNullable(
@@ -729,5 +747,6 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	private final Function<Class<? extends Identifier<?>>, String>
 		_nameFunction;
+	private volatile RenderPlan<T> _renderPlan;
 
 }
\ No newline at end of file
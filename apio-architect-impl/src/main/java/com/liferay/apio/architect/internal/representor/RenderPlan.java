@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.representor;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents the precompiled list of basic fields declared by a {@link
+ * BaseRepresentor}. Each step of the plan has its key and field type already
+ * resolved, so writers can render every basic field of a model in a single
+ * pass, instead of querying the representor once per field type.
+ *
+ * <p>
+ * Plans are compiled once per representor and can be filtered by the sparse
+ * fieldset selected in a request with {@link #filter(Predicate)}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class RenderPlan<T> {
+
+	/**
+	 * Returns the render plan of a representor. If the representor is a
+	 * {@link BaseRepresentorImpl}, the plan is only compiled the first time
+	 * and reused afterwards.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @return the representor's render plan
+	 */
+	public static <T> RenderPlan<T> of(BaseRepresentor<T> baseRepresentor) {
+		if (baseRepresentor instanceof BaseRepresentorImpl) {
+			BaseRepresentorImpl<T> baseRepresentorImpl =
+				(BaseRepresentorImpl<T>)baseRepresentor;
+
+			return baseRepresentorImpl.getRenderPlan();
+		}
+
+		return new RenderPlan<>(baseRepresentor);
+	}
+
+	/**
+	 * Returns a render plan containing only the steps whose key matches the
+	 * predicate. If every step matches, this method returns the same plan.
+	 *
+	 * @param  predicate the predicate the steps' keys must match
+	 * @return the filtered render plan
+	 */
+	public RenderPlan<T> filter(Predicate<String> predicate) {
+		List<Step<T>> steps = new ArrayList<>(_steps.size());
+
+		for (Step<T> step : _steps) {
+			if (predicate.test(step.getKey())) {
+				steps.add(step);
+			}
+		}
+
+		if (steps.size() == _steps.size()) {
+			return this;
+		}
+
+		return new RenderPlan<>(steps);
+	}
+
+	/**
+	 * Returns the plan's steps, in rendering order.
+	 *
+	 * @return the plan's steps
+	 */
+	public List<Step<T>> getSteps() {
+		return _steps;
+	}
+
+	/**
+	 * Defines the types of basic fields a render plan can contain.
+	 */
+	public enum FieldType {
+
+		APPLICATION_RELATIVE_URL, BINARY, BOOLEAN, BOOLEAN_LIST, LINK,
+		LOCALIZED_STRING, NUMBER, NUMBER_LIST, RELATIVE_URL, STRING,
+		STRING_LIST
+
+	}
+
+	/**
+	 * Represents a single field of a render plan.
+	 *
+	 * @param <T> the model's type
+	 */
+	public static class Step<T> {
+
+		/**
+		 * Returns the function that calculates the field's value.
+		 *
+		 * @return the function that calculates the field's value
+		 */
+		public FieldFunction<T, ?> getFieldFunction() {
+			return _fieldFunction;
+		}
+
+		/**
+		 * Returns the field's type.
+		 *
+		 * @return the field's type
+		 */
+		public FieldType getFieldType() {
+			return _fieldType;
+		}
+
+		/**
+		 * Returns the field's key.
+		 *
+		 * @return the field's key
+		 */
+		public String getKey() {
+			return _key;
+		}
+
+		private Step(FieldFunction<T, ?> fieldFunction, FieldType fieldType) {
+			_fieldFunction = fieldFunction;
+			_fieldType = fieldType;
+
+			_key = fieldFunction.getKey();
+		}
+
+		private final FieldFunction<T, ?> _fieldFunction;
+		private final FieldType _fieldType;
+		private final String _key;
+
+	}
+
+	RenderPlan(BaseRepresentor<T> baseRepresentor) {
+		List<Step<T>> steps = new ArrayList<>();
+
+		_addSteps(
+			steps, baseRepresentor,
+			BaseRepresentor::getApplicationRelativeURLFunctions,
+			FieldType.APPLICATION_RELATIVE_URL);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getBooleanFunctions,
+			FieldType.BOOLEAN);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getBooleanListFunctions,
+			FieldType.BOOLEAN_LIST);
+		_addSteps(
+			steps, baseRepresentor,
+			BaseRepresentor::getLocalizedStringFunctions,
+			FieldType.LOCALIZED_STRING);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getNumberFunctions,
+			FieldType.NUMBER);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getNumberListFunctions,
+			FieldType.NUMBER_LIST);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getRelativeURLFunctions,
+			FieldType.RELATIVE_URL);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getStringFunctions,
+			FieldType.STRING);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getStringListFunctions,
+			FieldType.STRING_LIST);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getLinkFunctions,
+			FieldType.LINK);
+		_addSteps(
+			steps, baseRepresentor, BaseRepresentor::getBinaryFunctions,
+			FieldType.BINARY);
+
+		_steps = Collections.unmodifiableList(steps);
+	}
+
+	private RenderPlan(List<Step<T>> steps) {
+		_steps = Collections.unmodifiableList(steps);
+	}
+
+	private <S> void _addSteps(
+		List<Step<T>> steps, BaseRepresentor<T> baseRepresentor,
+		Function<BaseRepresentor<T>, List<FieldFunction<T, S>>> function,
+		FieldType fieldType) {
+
+		List<FieldFunction<T, S>> fieldFunctions = function.apply(
+			baseRepresentor);
+
+		for (FieldFunction<T, S> fieldFunction : fieldFunctions) {
+			steps.add(new Step<>(fieldFunction, fieldType));
+		}
+	}
+
+	private final List<Step<T>> _steps;
+
+}
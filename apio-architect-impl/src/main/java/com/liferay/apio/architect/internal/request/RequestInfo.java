@@ -14,12 +14,23 @@
 
 package com.liferay.apio.architect.internal.request;
 
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddedPagesResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.internal.embedded.ModelIdentityMap;
+import com.liferay.apio.architect.internal.representor.RenderPlan;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.representor.BaseRepresentor;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.servlet.http.HttpServletRequest;
@@ -60,6 +71,17 @@ public class RequestInfo {
 		return _applicationURL;
 	}
 
+	/**
+	 * Returns the absolute URL the response's relative URLs are resolved
+	 * against, if the request uses URLs relative to a base declared in the
+	 * document; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the base URL, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<String> getBaseURLOptional() {
+		return Optional.ofNullable(_baseURL);
+	}
+
 	/**
 	 * Returns the information about embedded resources.
 	 *
@@ -69,6 +91,38 @@ public class RequestInfo {
 		return _embedded;
 	}
 
+	/**
+	 * Returns the resolver used to get the embedded related models. If none
+	 * has been provided, this method returns a resolver that resolves them
+	 * sequentially.
+	 *
+	 * @return the resolver used to get the embedded related models
+	 */
+	public EmbeddedModelsResolver getEmbeddedModelsResolver() {
+		return _embeddedModelsResolver;
+	}
+
+	/**
+	 * Returns the resolver used to get the first page of embedded related
+	 * collections. If none has been provided, this method returns a resolver
+	 * that never resolves a page.
+	 *
+	 * @return the resolver used to get the embedded related collections
+	 */
+	public EmbeddedPagesResolver getEmbeddedPagesResolver() {
+		return _embeddedPagesResolver;
+	}
+
+	/**
+	 * Returns the deadline for resolving embedded related models. If none has
+	 * been provided, this method returns a deadline that never expires.
+	 *
+	 * @return the deadline for resolving embedded related models
+	 */
+	public EmbeddingDeadline getEmbeddingDeadline() {
+		return _embeddingDeadline;
+	}
+
 	/**
 	 * Returns the information about selected fields.
 	 *
@@ -82,6 +136,38 @@ public class RequestInfo {
 		return _httpServletRequest;
 	}
 
+	/**
+	 * Returns the {@link ModelIdentityMap} that keeps the embedded models
+	 * fetched while writing this request.
+	 *
+	 * @return the request's identity map
+	 */
+	public ModelIdentityMap getModelIdentityMap() {
+		return _modelIdentityMap;
+	}
+
+	/**
+	 * Returns the representor's {@link RenderPlan}, filtered with the fields
+	 * selected in this request. The filtered plan is calculated once per
+	 * representor and reused for every model written during the request.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @return the representor's render plan, filtered for this request
+	 */
+	public <T> RenderPlan<T> getRenderPlan(BaseRepresentor<T> baseRepresentor) {
+		RenderPlan<?> renderPlan = _renderPlans.computeIfAbsent(
+			baseRepresentor,
+			__ -> {
+				RenderPlan<T> representorRenderPlan = RenderPlan.of(
+					baseRepresentor);
+
+				return representorRenderPlan.filter(
+					_fields.apply(baseRepresentor.getTypes()));
+			});
+
+		return unsafeCast(renderPlan);
+	}
+
 	/**
 	 * Returns the server URL.
 	 *
@@ -128,6 +214,20 @@ public class RequestInfo {
 
 		public class BuildStep {
 
+			/**
+			 * Adds the absolute URL the response's relative URLs are resolved
+			 * against to the builder. This step is optional, and should only
+			 * be used if the application URL creates URLs relative to it.
+			 *
+			 * @param  baseURL the base URL
+			 * @return the builder's current step
+			 */
+			public BuildStep baseURL(String baseURL) {
+				_baseURL = baseURL;
+
+				return this;
+			}
+
 			/**
 			 * Constructs and returns a {@link RequestInfo} instance with the
 			 * information provided to the builder.
@@ -138,6 +238,54 @@ public class RequestInfo {
 				return new RequestInfo(Builder.this);
 			}
 
+			/**
+			 * Adds the resolver used to get the embedded related models to the
+			 * builder. This step is optional.
+			 *
+			 * @param  embeddedModelsResolver the resolver used to get the
+			 *         embedded related models
+			 * @return the builder's current step
+			 */
+			public BuildStep embeddedModelsResolver(
+				EmbeddedModelsResolver embeddedModelsResolver) {
+
+				_embeddedModelsResolver = embeddedModelsResolver;
+
+				return this;
+			}
+
+			/**
+			 * Adds the resolver used to get the first page of embedded related
+			 * collections to the builder. This step is optional.
+			 *
+			 * @param  embeddedPagesResolver the resolver used to get the
+			 *         embedded related collections
+			 * @return the builder's current step
+			 */
+			public BuildStep embeddedPagesResolver(
+				EmbeddedPagesResolver embeddedPagesResolver) {
+
+				_embeddedPagesResolver = embeddedPagesResolver;
+
+				return this;
+			}
+
+			/**
+			 * Adds the deadline for resolving embedded related models to the
+			 * builder. This step is optional.
+			 *
+			 * @param  embeddingDeadline the deadline for resolving embedded
+			 *         related models
+			 * @return the builder's current step
+			 */
+			public BuildStep embeddingDeadline(
+				EmbeddingDeadline embeddingDeadline) {
+
+				_embeddingDeadline = embeddingDeadline;
+
+				return this;
+			}
+
 		}
 
 		public class EmbeddedStep {
@@ -206,7 +354,14 @@ public class RequestInfo {
 
 		private AcceptLanguage _acceptLanguage;
 		private ApplicationURL _applicationURL;
+		private String _baseURL;
 		private Embedded _embedded;
+		private EmbeddedModelsResolver _embeddedModelsResolver =
+			EmbeddedModelsResolver.sequential();
+		private EmbeddedPagesResolver _embeddedPagesResolver =
+			EmbeddedPagesResolver.none();
+		private EmbeddingDeadline _embeddingDeadline =
+			EmbeddingDeadline.unlimited();
 		private Fields _fields;
 		private HttpServletRequest _httpServletRequest;
 		private ServerURL _serverURL;
@@ -218,15 +373,26 @@ public class RequestInfo {
 		_fields = builder._fields;
 		_serverURL = builder._serverURL;
 		_applicationURL = builder._applicationURL;
+		_baseURL = builder._baseURL;
 		_embedded = builder._embedded;
+		_embeddedModelsResolver = builder._embeddedModelsResolver;
+		_embeddedPagesResolver = builder._embeddedPagesResolver;
+		_embeddingDeadline = builder._embeddingDeadline;
 		_httpServletRequest = builder._httpServletRequest;
 	}
 
 	private final AcceptLanguage _acceptLanguage;
 	private final ApplicationURL _applicationURL;
+	private final String _baseURL;
 	private final Embedded _embedded;
+	private final EmbeddedModelsResolver _embeddedModelsResolver;
+	private final EmbeddedPagesResolver _embeddedPagesResolver;
+	private final EmbeddingDeadline _embeddingDeadline;
 	private final Fields _fields;
 	private final HttpServletRequest _httpServletRequest;
+	private final ModelIdentityMap _modelIdentityMap = new ModelIdentityMap();
+	private final Map<BaseRepresentor<?>, RenderPlan<?>> _renderPlans =
+		new ConcurrentHashMap<>();
 	private final ServerURL _serverURL;
 
 }
\ No newline at end of file
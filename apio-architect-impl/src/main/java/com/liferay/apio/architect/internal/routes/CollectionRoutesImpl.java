@@ -19,11 +19,14 @@ import static com.liferay.apio.architect.internal.routes.RoutesBuilderUtil.provi
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchRemoveItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CustomPageFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.custom.actions.CustomRoute;
 import com.liferay.apio.architect.form.Body;
@@ -39,6 +42,8 @@ import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.internal.form.FormImpl;
 import com.liferay.apio.architect.internal.operation.BatchCreateOperation;
+import com.liferay.apio.architect.internal.operation.BatchDeleteOperation;
+import com.liferay.apio.architect.internal.operation.BatchUpdateOperation;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
 import com.liferay.apio.architect.internal.operation.RetrieveOperation;
@@ -50,6 +55,7 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.ArrayList;
@@ -71,6 +77,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 
 	public CollectionRoutesImpl(BuilderImpl<T, S> builderImpl) {
 		_batchCreateItemFunction = builderImpl._batchCreateItemFunction;
+		_cachePolicy = builderImpl._cachePolicy;
 		_createItemFunction = builderImpl._createItemFunction;
 		_form = builderImpl._form;
 		_getPageFunction = builderImpl._getPageFunction;
@@ -86,6 +93,11 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		return Optional.ofNullable(_batchCreateItemFunction);
 	}
 
+	@Override
+	public Optional<CachePolicy<T>> getCachePolicyOptional() {
+		return Optional.ofNullable(_cachePolicy);
+	}
+
 	@Override
 	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
 		return Optional.ofNullable(_createItemFunction);
@@ -122,6 +134,20 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			Function<T, S> modelToIdentifierFunction,
 			Function<String, Optional<String>> nameFunction) {
 
+			this(
+				name, provideFunction, neededProviderConsumer,
+				pathToIdentifierFunction, modelToIdentifierFunction,
+				nameFunction, null);
+		}
+
+		public BuilderImpl(
+			String name, ProvideFunction provideFunction,
+			Consumer<String> neededProviderConsumer,
+			Function<Path, ?> pathToIdentifierFunction,
+			Function<T, S> modelToIdentifierFunction,
+			Function<String, Optional<String>> nameFunction,
+			ItemRoutes<T, S> itemRoutes) {
+
 			_name = name;
 			_provideFunction = provideFunction;
 			_neededProviderConsumer = neededProviderConsumer;
@@ -129,6 +155,14 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			_pathToIdentifierFunction = pathToIdentifierFunction::apply;
 			_modelToIdentifierFunction = modelToIdentifierFunction;
 			_nameFunction = nameFunction;
+			_itemRoutes = itemRoutes;
+		}
+
+		@Override
+		public Builder<T, S> addCachePolicy(CachePolicy<T> cachePolicy) {
+			_cachePolicy = cachePolicy;
+
+			return this;
 		}
 
 		@Override
@@ -738,6 +772,35 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			}
 		}
 
+		private List<Operation> _createBatchOperations() {
+			if (_itemRoutes == null) {
+				return Collections.emptyList();
+			}
+
+			List<Operation> operations = new ArrayList<>();
+
+			Optional<BatchRemoveItemFunction<S>> batchRemoveOptional =
+				_itemRoutes.getBatchRemoveItemFunctionOptional();
+
+			if (batchRemoveOptional.isPresent()) {
+				operations.add(new BatchDeleteOperation(_name, _name));
+			}
+
+			Optional<BatchUpdateItemFunction<S>> batchUpdateOptional =
+				_itemRoutes.getBatchUpdateItemFunctionOptional();
+
+			if (batchUpdateOptional.isPresent()) {
+				Form<?> form = _itemRoutes.getFormOptional(
+				).orElse(
+					null
+				);
+
+				operations.add(new BatchUpdateOperation(form, _name, _name));
+			}
+
+			return operations;
+		}
+
 		private List<Operation> _createCustomOperations(
 			Credentials credentials) {
 
@@ -808,23 +871,23 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 				false
 			);
 
-			if (!canAdd) {
-				return Collections.emptyList();
-			}
-
 			List<Operation> operations = new ArrayList<>();
 
-			CreateOperation createOperation = new CreateOperation(
-				_form, _name, _name);
+			if (canAdd) {
+				CreateOperation createOperation = new CreateOperation(
+					_form, _name, _name);
 
-			operations.add(createOperation);
+				operations.add(createOperation);
 
-			BatchCreateOperation batchCreateOperation =
-				new BatchCreateOperation(_form, _name, _name);
+				BatchCreateOperation batchCreateOperation =
+					new BatchCreateOperation(_form, _name, _name);
 
-			operations.add(batchCreateOperation);
+				operations.add(batchCreateOperation);
+
+				operations.addAll(_createCustomOperations(credentials));
+			}
 
-			operations.addAll(_createCustomOperations(credentials));
+			operations.addAll(_createBatchOperations());
 
 			return operations;
 		}
@@ -872,6 +935,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		}
 
 		private BatchCreateItemFunction<S> _batchCreateItemFunction;
+		private CachePolicy<T> _cachePolicy;
 		private CreateItemFunction<T> _createItemFunction;
 		private final Map<String, Function<Credentials, Boolean>>
 			_customPermissionFunctions = new HashMap<>();
@@ -881,6 +945,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		private Form _form;
 		private GetPageFunction<T> _getPageFunction;
 		private HasAddingPermissionFunction _hasAddingPermissionFunction;
+		private final ItemRoutes<T, S> _itemRoutes;
 		private final Function<T, S> _modelToIdentifierFunction;
 		private final String _name;
 		private final Function<String, Optional<String>> _nameFunction;
@@ -891,6 +956,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 	}
 
 	private final BatchCreateItemFunction<S> _batchCreateItemFunction;
+	private final CachePolicy<T> _cachePolicy;
 	private final CreateItemFunction<T> _createItemFunction;
 	private final Map<String, CustomPageFunction<?>> _customPageFunctions;
 	private final Map<String, CustomRoute> _customRoutes;
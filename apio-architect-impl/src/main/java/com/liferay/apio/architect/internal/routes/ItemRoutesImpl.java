@@ -14,17 +14,25 @@
 
 package com.liferay.apio.architect.internal.routes;
 
+import static com.liferay.apio.architect.internal.cache.ModelCacheKeyUtil.getKeyOptional;
 import static com.liferay.apio.architect.internal.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.internal.routes.RoutesBuilderUtil.provideConsumer;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.BatchGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchRemoveItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.CustomItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.alias.routes.permission.BulkPermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.consumer.throwable.ThrowableBiConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowablePentaConsumer;
@@ -43,45 +51,91 @@ import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.cache.ModelCache;
 import com.liferay.apio.architect.internal.form.FormImpl;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.operation.RetrieveOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ForbiddenException;
+
 /**
  * @author Alejandro Hernández
  */
 public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 	public ItemRoutesImpl(BuilderImpl<T, S> builderImpl) {
-		_deleteItemConsumer = builderImpl._deleteItemConsumer;
+		_batchGetItemFunction = builderImpl._batchGetItemFunction;
+		_batchRemoveItemFunction = builderImpl._getBatchRemoveItemFunction();
+		_batchUpdateItemFunction = builderImpl._getBatchUpdateItemFunction();
+		_cachePolicy = builderImpl._cachePolicy;
+		_deleteItemConsumer = _invalidateOnDelete(
+			builderImpl._deleteItemConsumer, builderImpl._modelCache);
 		_form = builderImpl._form;
+		_partialUpdateItemFunction = _invalidateOnUpdate(
+			builderImpl._partialUpdateItemFunction, builderImpl._modelCache);
 		_singleModelFunction = builderImpl._singleModelFunction;
-		_updateItemFunction = builderImpl._updateItemFunction;
+		_updateItemFunction = _invalidateOnUpdate(
+			builderImpl._updateItemFunction, builderImpl._modelCache);
 
 		_customItemFunctions = builderImpl._customItemFunctions;
 		_customRoutes = builderImpl._customRoutes;
 	}
 
+	@Override
+	public Optional<BatchGetItemFunction<T, S>>
+		getBatchGetItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchGetItemFunction);
+	}
+
+	@Override
+	public Optional<BatchRemoveItemFunction<S>>
+		getBatchRemoveItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchRemoveItemFunction);
+	}
+
+	@Override
+	public Optional<BatchUpdateItemFunction<S>>
+		getBatchUpdateItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchUpdateItemFunction);
+	}
+
+	@Override
+	public Optional<CachePolicy<T>> getCachePolicyOptional() {
+		return Optional.ofNullable(_cachePolicy);
+	}
+
 	@Override
 	public Optional<Map<String, CustomItemFunction<?, S>>>
 		getCustomItemFunctionsOptional() {
@@ -109,11 +163,58 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		return Optional.ofNullable(_singleModelFunction);
 	}
 
+	@Override
+	public Optional<UpdateItemFunction<T, S>>
+		getPartialUpdateItemFunctionOptional() {
+
+		return Optional.ofNullable(_partialUpdateItemFunction);
+	}
+
 	@Override
 	public Optional<UpdateItemFunction<T, S>> getUpdateItemFunctionOptional() {
 		return Optional.ofNullable(_updateItemFunction);
 	}
 
+	private static <S> DeleteItemConsumer<S> _invalidateOnDelete(
+		DeleteItemConsumer<S> deleteItemConsumer, ModelCache modelCache) {
+
+		if (deleteItemConsumer == null) {
+			return null;
+		}
+
+		return httpServletRequest -> s -> {
+			ThrowableConsumer<S> throwableConsumer = deleteItemConsumer.apply(
+				httpServletRequest);
+
+			throwableConsumer.accept(s);
+
+			modelCache.invalidate(s);
+		};
+	}
+
+	private static <T, S> UpdateItemFunction<T, S> _invalidateOnUpdate(
+		UpdateItemFunction<T, S> updateItemFunction, ModelCache modelCache) {
+
+		if (updateItemFunction == null) {
+			return null;
+		}
+
+		return httpServletRequest -> s -> body -> {
+			Function<S, Function<Body, Try<SingleModel<T>>>> function =
+				updateItemFunction.apply(httpServletRequest);
+
+			Try<SingleModel<T>> singleModelTry = function.apply(
+				s
+			).apply(
+				body
+			);
+
+			singleModelTry.ifSuccess(__ -> modelCache.invalidate(s));
+
+			return singleModelTry;
+		};
+	}
+
 	/**
 	 * Creates the {@code ItemRoutes} of an {@link
 	 * com.liferay.apio.architect.router.ItemRouter}.
@@ -132,6 +233,20 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			Function<S, Optional<Path>> identifierToPathFunction,
 			Function<String, Optional<String>> nameFunction) {
 
+			this(
+				name, provideFunction, neededProviderConsumer,
+				pathToIdentifierFunction, identifierToPathFunction,
+				nameFunction, ModelCache.disabled());
+		}
+
+		public BuilderImpl(
+			String name, ProvideFunction provideFunction,
+			Consumer<String> neededProviderConsumer,
+			Function<Path, ?> pathToIdentifierFunction,
+			Function<S, Optional<Path>> identifierToPathFunction,
+			Function<String, Optional<String>> nameFunction,
+			ModelCache modelCache) {
+
 			_name = name;
 			_provideFunction = provideFunction;
 			_neededProviderConsumer = neededProviderConsumer;
@@ -139,6 +254,35 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_pathToIdentifierFunction = pathToIdentifierFunction::apply;
 			_identifierToPathFunction = identifierToPathFunction;
 			_nameFunction = nameFunction;
+			_modelCache = modelCache;
+		}
+
+		@Override
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<Collection<S>, Map<S, T>>
+				batchGetterThrowableFunction) {
+
+			_batchGetItemFunction = httpServletRequest -> identifiers ->
+				Try.fromFallible(
+					() -> batchGetterThrowableFunction.apply(identifiers));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addBulkPermissionFunction(
+			BulkPermissionFunction<S> bulkPermissionFunction) {
+
+			_bulkPermissionFunction = bulkPermissionFunction;
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addCachePolicy(CachePolicy<T> cachePolicy) {
+			_cachePolicy = cachePolicy;
+
+			return this;
 		}
 
 		@Override
@@ -328,12 +472,9 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass,
 				Credentials.class,
-				(a, credentials) -> getterThrowableBiFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, a
-				));
+				(a, credentials) -> _getSingleModel(
+					httpServletRequest, credentials, s,
+					() -> getterThrowableBiFunction.apply(s, a), a));
 
 			return this;
 		}
@@ -344,12 +485,9 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), Credentials.class,
-				credentials -> getterThrowableFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s
-				));
+				credentials -> _getSingleModel(
+					httpServletRequest, credentials, s,
+					() -> getterThrowableFunction.apply(s)));
 
 			return this;
 		}
@@ -369,13 +507,10 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, dClass, Credentials.class,
-				(a, b, c, d, credentials) ->
-					getterThrowablePentaFunction.andThen(
-						t -> new SingleModelImpl<>(
-							t, _name, _getOperations(credentials, s))
-					).apply(
-						s, a, b, c, d
-					));
+				(a, b, c, d, credentials) -> _getSingleModel(
+					httpServletRequest, credentials, s,
+					() -> getterThrowablePentaFunction.apply(s, a, b, c, d), a,
+					b, c, d));
 
 			return this;
 		}
@@ -392,12 +527,10 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, Credentials.class,
-				(a, b, c, credentials) -> getterThrowableTetraFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, a, b, c
-				));
+				(a, b, c, credentials) -> _getSingleModel(
+					httpServletRequest, credentials, s,
+					() -> getterThrowableTetraFunction.apply(s, a, b, c), a, b,
+					c));
 
 			return this;
 		}
@@ -413,12 +546,9 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				Credentials.class,
-				(a, b, credentials) -> getterThrowableTriFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, a, b
-				));
+				(a, b, credentials) -> _getSingleModel(
+					httpServletRequest, credentials, s,
+					() -> getterThrowableTriFunction.apply(s, a, b), a, b));
 
 			return this;
 		}
@@ -452,6 +582,26 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public Builder<T, S> addRemover(
+			ThrowableConsumer<S> removerThrowableConsumer,
+			ThrowableFunction<List<S>, Map<S, Exception>>
+				batchRemoverThrowableFunction,
+			HasRemovePermissionFunction<S> hasRemovePermissionFunction) {
+
+			addRemover(removerThrowableConsumer, hasRemovePermissionFunction);
+
+			_batchRemoveItemFunction =
+				httpServletRequest -> body -> Try.fromFallible(
+					() -> _getBatchResult(
+						httpServletRequest, _getBodies(body),
+						BulkPermissionFunction.REMOVE,
+						_hasRemovePermissionFunction,
+						batchRemoverThrowableFunction));
+
+			return this;
+		}
+
 		@Override
 		public <A, B, C, D> Builder<T, S> addRemover(
 			ThrowablePentaConsumer<S, A, B, C, D> removerThrowablePentaConsumer,
@@ -530,7 +680,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				_provideFunction.apply(httpServletRequest), Credentials.class,
 				credentials -> updaterThrowableBiFunction.andThen(
 					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
+						t, _name,
+						_getOperations(httpServletRequest, credentials, s))
 				).apply(
 					s, form.get(body)
 				));
@@ -538,6 +689,65 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <R> Builder<T, S> addUpdater(
+			ThrowableBiFunction<S, R, T> updaterThrowableBiFunction,
+			ThrowableFunction<Map<S, R>, Map<S, Exception>>
+				batchUpdaterThrowableFunction,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowableBiFunction, hasUpdatePermissionFunction,
+				formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_batchUpdateItemFunction =
+				httpServletRequest -> body -> Try.fromFallible(
+					() -> {
+						Map<S, Body> bodies = _getBodies(body);
+
+						return _getBatchResult(
+							httpServletRequest, bodies,
+							BulkPermissionFunction.UPDATE,
+							_hasUpdatePermissionFunction,
+							identifiers -> _getFailures(
+								identifiers, bodies, form,
+								batchUpdaterThrowableFunction));
+					});
+
+			return this;
+		}
+
+		@Override
+		public <R> Builder<T, S> addUpdater(
+			ThrowableBiFunction<S, R, T> updaterThrowableBiFunction,
+			ThrowableBiFunction<S, R, T> partialUpdaterThrowableBiFunction,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowableBiFunction, hasUpdatePermissionFunction,
+				formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_partialUpdateItemFunction =
+				httpServletRequest -> s -> body -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Credentials.class,
+					credentials -> partialUpdaterThrowableBiFunction.andThen(
+						t -> new SingleModelImpl<>(
+							t, _name,
+							_getOperations(httpServletRequest, credentials, s))
+					).apply(
+						s, form.getPartial(body)
+					));
+
+			return this;
+		}
+
 		@Override
 		public <A, B, C, D, R> Builder<T, S> addUpdater(
 			ThrowableHexaFunction<S, R, A, B, C, D, T>
@@ -565,7 +775,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				(a, b, c, d, credentials) ->
 					updaterThrowableHexaFunction.andThen(
 						t -> new SingleModelImpl<>(
-							t, _name, _getOperations(credentials, s))
+							t, _name,
+							_getOperations(httpServletRequest, credentials, s))
 					).apply(
 						s, form.get(body), a, b, c, d
 					));
@@ -573,6 +784,39 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A, B, C, D, R> Builder<T, S> addUpdater(
+			ThrowableHexaFunction<S, R, A, B, C, D, T>
+				updaterThrowableHexaFunction,
+			ThrowableHexaFunction<S, R, A, B, C, D, T>
+				partialUpdaterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowableHexaFunction, aClass, bClass, cClass, dClass,
+				hasUpdatePermissionFunction, formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_partialUpdateItemFunction =
+				httpServletRequest -> s -> body -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, dClass, Credentials.class,
+					(a, b, c, d, credentials) ->
+						partialUpdaterThrowableHexaFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name,
+								_getOperations(
+									httpServletRequest, credentials, s))
+						).apply(
+							s, form.getPartial(body), a, b, c, d
+						));
+
+			return this;
+		}
+
 		@Override
 		public <A, B, C, R> Builder<T, S> addUpdater(
 			ThrowablePentaFunction<S, R, A, B, C, T>
@@ -598,7 +842,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				cClass, Credentials.class,
 				(a, b, c, credentials) -> updaterThrowablePentaFunction.andThen(
 					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
+						t, _name,
+						_getOperations(httpServletRequest, credentials, s))
 				).apply(
 					s, form.get(body), a, b, c
 				));
@@ -606,6 +851,39 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A, B, C, R> Builder<T, S> addUpdater(
+			ThrowablePentaFunction<S, R, A, B, C, T>
+				updaterThrowablePentaFunction,
+			ThrowablePentaFunction<S, R, A, B, C, T>
+				partialUpdaterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowablePentaFunction, aClass, bClass, cClass,
+				hasUpdatePermissionFunction, formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_partialUpdateItemFunction =
+				httpServletRequest -> s -> body -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, Credentials.class,
+					(a, b, c, credentials) ->
+						partialUpdaterThrowablePentaFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name,
+								_getOperations(
+									httpServletRequest, credentials, s))
+						).apply(
+							s, form.getPartial(body), a, b, c
+						));
+
+			return this;
+		}
+
 		@Override
 		public <A, B, R> Builder<T, S> addUpdater(
 			ThrowableTetraFunction<S, R, A, B, T> updaterThrowableTetraFunction,
@@ -629,7 +907,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				Credentials.class,
 				(a, b, credentials) -> updaterThrowableTetraFunction.andThen(
 					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
+						t, _name,
+						_getOperations(httpServletRequest, credentials, s))
 				).apply(
 					s, form.get(body), a, b
 				));
@@ -637,6 +916,39 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A, B, R> Builder<T, S> addUpdater(
+			ThrowableTetraFunction<S, R, A, B, T>
+				updaterThrowableTetraFunction,
+			ThrowableTetraFunction<S, R, A, B, T>
+				partialUpdaterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowableTetraFunction, aClass, bClass,
+				hasUpdatePermissionFunction, formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_partialUpdateItemFunction =
+				httpServletRequest -> s -> body -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					Credentials.class,
+					(a, b, credentials) ->
+						partialUpdaterThrowableTetraFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name,
+								_getOperations(
+									httpServletRequest, credentials, s))
+						).apply(
+							s, form.getPartial(body), a, b
+						));
+
+			return this;
+		}
+
 		@Override
 		public <A, R> Builder<T, S> addUpdater(
 			ThrowableTriFunction<S, R, A, T> updaterThrowableTriFunction,
@@ -659,7 +971,8 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				Credentials.class,
 				(a, credentials) -> updaterThrowableTriFunction.andThen(
 					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
+						t, _name,
+						_getOperations(httpServletRequest, credentials, s))
 				).apply(
 					s, form.get(body), a
 				));
@@ -667,6 +980,39 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A, R> Builder<T, S> addUpdater(
+			ThrowableTriFunction<S, R, A, T>
+				updaterThrowableTriFunction,
+			ThrowableTriFunction<S, R, A, T>
+				partialUpdaterThrowableTriFunction,
+			Class<A> aClass,
+			HasUpdatePermissionFunction<S> hasUpdatePermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			addUpdater(
+				updaterThrowableTriFunction, aClass,
+				hasUpdatePermissionFunction, formBuilderFunction);
+
+			Form<R> form = unsafeCast(_form);
+
+			_partialUpdateItemFunction =
+				httpServletRequest -> s -> body -> provide(
+					_provideFunction.apply(httpServletRequest), aClass,
+					Credentials.class,
+					(a, credentials) ->
+						partialUpdaterThrowableTriFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name,
+								_getOperations(
+									httpServletRequest, credentials, s))
+						).apply(
+							s, form.getPartial(body), a
+						));
+
+			return this;
+		}
+
 		@Override
 		public ItemRoutes<T, S> build() {
 			return new ItemRoutesImpl<>(this);
@@ -706,6 +1052,252 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return null;
 		}
 
+		private BatchRemoveItemFunction<S> _getBatchRemoveItemFunction() {
+			if ((_batchRemoveItemFunction != null) ||
+				(_deleteItemConsumer == null)) {
+
+				return _batchRemoveItemFunction;
+			}
+
+			DeleteItemConsumer<S> deleteItemConsumer = _deleteItemConsumer;
+
+			return httpServletRequest -> body -> Try.fromFallible(
+				() -> {
+					ThrowableConsumer<S> throwableConsumer =
+						deleteItemConsumer.apply(httpServletRequest);
+
+					return _getBatchResult(
+						httpServletRequest, _getBodies(body),
+						BulkPermissionFunction.REMOVE,
+						_hasRemovePermissionFunction,
+						identifiers -> _getFailures(
+							identifiers, throwableConsumer));
+				});
+		}
+
+		private BatchResult<S> _getBatchResult(
+			HttpServletRequest httpServletRequest, Map<S, Body> bodies,
+			String permission,
+			ThrowableBiFunction<Credentials, S, Boolean> permissionFunction,
+			ThrowableFunction<List<S>, Map<S, Exception>>
+				failuresThrowableFunction) {
+
+			List<S> identifiers = new ArrayList<>(bodies.keySet());
+
+			Map<S, Exception> failures = _getForbiddenFailures(
+				httpServletRequest, identifiers, permission,
+				permissionFunction);
+
+			List<S> permittedIdentifiers = new ArrayList<>();
+
+			for (S identifier : identifiers) {
+				if (!failures.containsKey(identifier)) {
+					permittedIdentifiers.add(identifier);
+				}
+			}
+
+			if (!permittedIdentifiers.isEmpty()) {
+				Map<S, Exception> batchFailures = Try.fromFallible(
+					() -> failuresThrowableFunction.apply(permittedIdentifiers)
+				).recover(
+					exception -> _getFailures(permittedIdentifiers, exception)
+				);
+
+				if (batchFailures != null) {
+					failures.putAll(batchFailures);
+				}
+			}
+
+			for (S identifier : permittedIdentifiers) {
+				if (!failures.containsKey(identifier)) {
+					_modelCache.invalidate(identifier);
+				}
+			}
+
+			return new BatchResult<>(identifiers, failures, _name);
+		}
+
+		private BatchUpdateItemFunction<S> _getBatchUpdateItemFunction() {
+			if ((_batchUpdateItemFunction != null) ||
+				(_updateItemFunction == null)) {
+
+				return _batchUpdateItemFunction;
+			}
+
+			UpdateItemFunction<T, S> updateItemFunction = _updateItemFunction;
+
+			return httpServletRequest -> body -> Try.fromFallible(
+				() -> {
+					Map<S, Body> bodies = _getBodies(body);
+
+					Function<S, Function<Body, Try<SingleModel<T>>>> function =
+						updateItemFunction.apply(httpServletRequest);
+
+					return _getBatchResult(
+						httpServletRequest, bodies,
+						BulkPermissionFunction.UPDATE,
+						_hasUpdatePermissionFunction,
+						identifiers -> _getFailures(
+							identifiers,
+							s -> function.apply(
+								s
+							).apply(
+								bodies.get(s)
+							).get()));
+				});
+		}
+
+		private Map<S, Body> _getBodies(Body body) {
+			Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+			List<Body> members = optional.orElseThrow(
+				() -> new BadRequestException("Body does not contain members"));
+
+			Map<S, Body> bodies = new LinkedHashMap<>();
+
+			for (Body member : members) {
+				S identifier = _getIdentifier(member);
+
+				if (bodies.put(identifier, member) != null) {
+					throw new BadRequestException(
+						"Body contains more than one member with the id " +
+							identifier);
+				}
+			}
+
+			return bodies;
+		}
+
+		private Map<S, Exception> _getFailures(
+			List<S> identifiers, Exception exception) {
+
+			Map<S, Exception> failures = new HashMap<>();
+
+			for (S identifier : identifiers) {
+				failures.put(identifier, exception);
+			}
+
+			return failures;
+		}
+
+		private <R> Map<S, Exception> _getFailures(
+			List<S> identifiers, Map<S, Body> bodies, Form<R> form,
+			ThrowableFunction<Map<S, R>, Map<S, Exception>>
+				batchUpdaterThrowableFunction) {
+
+			Map<S, Exception> failures = new HashMap<>();
+			Map<S, R> models = new LinkedHashMap<>();
+
+			for (S identifier : identifiers) {
+				try {
+					models.put(identifier, form.get(bodies.get(identifier)));
+				}
+				catch (Exception e) {
+					failures.put(identifier, e);
+				}
+			}
+
+			if (models.isEmpty()) {
+				return failures;
+			}
+
+			try {
+				Map<S, Exception> batchFailures =
+					batchUpdaterThrowableFunction.apply(models);
+
+				if (batchFailures != null) {
+					failures.putAll(batchFailures);
+				}
+			}
+			catch (Exception e) {
+				failures.putAll(
+					_getFailures(new ArrayList<>(models.keySet()), e));
+			}
+
+			return failures;
+		}
+
+		private Map<S, Exception> _getFailures(
+			List<S> identifiers, ThrowableConsumer<S> throwableConsumer) {
+
+			Map<S, Exception> failures = new HashMap<>();
+
+			for (S identifier : identifiers) {
+				try {
+					throwableConsumer.accept(identifier);
+				}
+				catch (Exception e) {
+					failures.put(identifier, e);
+				}
+			}
+
+			return failures;
+		}
+
+		private Map<S, Exception> _getForbiddenFailures(
+			HttpServletRequest httpServletRequest, List<S> identifiers,
+			String permission,
+			ThrowableBiFunction<Credentials, S, Boolean> permissionFunction) {
+
+			Try<Map<S, Exception>> failuresTry = provide(
+				_provideFunction.apply(httpServletRequest), Credentials.class,
+				credentials -> {
+					Map<S, Exception> failures = new HashMap<>();
+
+					Map<S, Set<String>> bulkPermissions = null;
+
+					if (_bulkPermissionFunction != null) {
+						bulkPermissions = _getBulkPermissions(
+							credentials, identifiers);
+					}
+
+					for (S identifier : identifiers) {
+						boolean permitted;
+
+						if (bulkPermissions != null) {
+							Set<String> permissions =
+								bulkPermissions.getOrDefault(
+									identifier, Collections.emptySet());
+
+							permitted = permissions.contains(permission);
+						}
+						else {
+							permitted = Try.fromFallible(
+								() -> permissionFunction.apply(
+									credentials, identifier)
+							).orElse(
+								false
+							);
+						}
+
+						if (!permitted) {
+							failures.put(
+								identifier,
+								new ForbiddenException(
+									"Not allowed to " + permission +
+										" the item " + identifier));
+						}
+					}
+
+					return failures;
+				});
+
+			return failuresTry.recover(
+				exception -> _getFailures(identifiers, exception));
+		}
+
+		@SuppressWarnings("unchecked")
+		private S _getIdentifier(Body body) {
+			String id = body.getValueOptional(
+				"id"
+			).orElseThrow(
+				() -> new BadRequestException(
+					"Body member does not contain an id")
+			);
+
+			return (S)_pathToIdentifierFunction.apply(new Path(_name, id));
+		}
+
 		private <R> R _getModel(Optional<Form<?>> formOptional, Body body) {
 			return (R)formOptional.map(
 				form -> form.get(body)
@@ -714,8 +1306,19 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			);
 		}
 
+		private Map<S, Set<String>> _getBulkPermissions(
+			Credentials credentials, Collection<S> identifiers) {
+
+			return Try.fromFallible(
+				() -> _bulkPermissionFunction.apply(credentials, identifiers)
+			).orElse(
+				Collections.emptyMap()
+			);
+		}
+
 		private List<Operation> _getOperations(
-			Credentials credentials, S identifier) {
+			HttpServletRequest httpServletRequest, Credentials credentials,
+			S identifier) {
 
 			Optional<Path> optional = _identifierToPathFunction.apply(
 				identifier);
@@ -726,37 +1329,46 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			Path path = optional.get();
 
+			PermissionsMemo permissionsMemo =
+				PermissionsMemo.getPermissionsMemo(httpServletRequest);
+
+			Set<String> permissions;
+
+			if (_bulkPermissionFunction == null) {
+				permissions = permissionsMemo.getPermissions(
+					_name, identifier, s -> _getPermissions(credentials, s));
+			}
+			else {
+				permissions = permissionsMemo.getPermissions(
+					_name, identifier, this::_isIdentifierClassName,
+					identifiers -> _getBulkPermissions(
+						credentials, identifiers));
+			}
+
 			List<Operation> operations = new ArrayList<>();
 
-			if (_hasRemovePermissionFunction != null) {
-				Boolean canRemove = Try.fromFallible(
-					() -> _hasRemovePermissionFunction.apply(
-						credentials, identifier)
-				).orElse(
-					false
-				);
+			if ((_hasRemovePermissionFunction != null) &&
+				permissions.contains(BulkPermissionFunction.REMOVE)) {
 
-				if (canRemove) {
-					DeleteOperation deleteOperation = new DeleteOperation(
-						_name, path.asURI());
+				DeleteOperation deleteOperation = new DeleteOperation(
+					_name, path.asURI());
 
-					operations.add(deleteOperation);
-				}
+				operations.add(deleteOperation);
 			}
 
-			if (_hasUpdatePermissionFunction != null) {
-				Boolean canUpdate = Try.fromFallible(
-					() -> _hasUpdatePermissionFunction.apply(
-						credentials, identifier)
-				).orElse(
-					false
-				);
+			if ((_hasUpdatePermissionFunction != null) &&
+				permissions.contains(BulkPermissionFunction.UPDATE)) {
 
-				if (canUpdate) {
-					UpdateOperation updateOperation = new UpdateOperation(
-						_form, _name, path.asURI());
+				UpdateOperation updateOperation = new UpdateOperation(
+					_form, _name, path.asURI());
+
+				operations.add(updateOperation);
+
+				if (_partialUpdateItemFunction != null) {
+					PartialUpdateOperation partialUpdateOperation =
+						new PartialUpdateOperation(_form, _name, path.asURI());
 
-					operations.add(updateOperation);
+					operations.add(partialUpdateOperation);
 				}
 			}
 
@@ -767,7 +1379,7 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 				customPermissionKeys.stream();
 
 			customPermissionKeysStream.filter(
-				key -> _getPermissionFunction(credentials, identifier, key)
+				permissions::contains
 			).forEach(
 				routeEntry -> {
 					CustomRoute customRoute = _customRoutes.get(routeEntry);
@@ -802,6 +1414,52 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			);
 		}
 
+		private Set<String> _getPermissions(
+			Credentials credentials, S identifier) {
+
+			Set<String> permissions = new HashSet<>();
+
+			if (_hasRemovePermissionFunction != null) {
+				Boolean canRemove = Try.fromFallible(
+					() -> _hasRemovePermissionFunction.apply(
+						credentials, identifier)
+				).orElse(
+					false
+				);
+
+				if (canRemove) {
+					permissions.add(BulkPermissionFunction.REMOVE);
+				}
+			}
+
+			if (_hasUpdatePermissionFunction != null) {
+				Boolean canUpdate = Try.fromFallible(
+					() -> _hasUpdatePermissionFunction.apply(
+						credentials, identifier)
+				).orElse(
+					false
+				);
+
+				if (canUpdate) {
+					permissions.add(BulkPermissionFunction.UPDATE);
+				}
+			}
+
+			Set<String> customPermissionKeys =
+				_customPermissionFunctions.keySet();
+
+			Stream<String> customPermissionKeysStream =
+				customPermissionKeys.stream();
+
+			customPermissionKeysStream.filter(
+				key -> _getPermissionFunction(credentials, identifier, key)
+			).forEach(
+				permissions::add
+			);
+
+			return permissions;
+		}
+
 		private <I extends Identifier<?>> String _getResourceName(
 			Class<I> supplier) {
 
@@ -812,6 +1470,34 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			);
 		}
 
+		private SingleModel<T> _getSingleModel(
+				HttpServletRequest httpServletRequest, Credentials credentials,
+				S s, Callable<T> loader, Object... values)
+			throws Exception {
+
+			Optional<List<Object>> optional = getKeyOptional(s, values);
+
+			T t = optional.isPresent() ?
+				_modelCache.get(optional.get(), loader) : loader.call();
+
+			return new SingleModelImpl<>(
+				t, _name, _getOperations(httpServletRequest, credentials, s));
+		}
+
+		private boolean _isIdentifierClassName(String identifierClassName) {
+			Optional<String> optional = _nameFunction.apply(
+				identifierClassName);
+
+			return optional.filter(
+				_name::equals
+			).isPresent();
+		}
+
+		private BatchGetItemFunction<T, S> _batchGetItemFunction;
+		private BatchRemoveItemFunction<S> _batchRemoveItemFunction;
+		private BatchUpdateItemFunction<S> _batchUpdateItemFunction;
+		private BulkPermissionFunction<S> _bulkPermissionFunction;
+		private CachePolicy<T> _cachePolicy;
 		private Map<String, CustomItemFunction<?, S>> _customItemFunctions =
 			new HashMap<>();
 		private Map<String, BiFunction<Credentials, S, Boolean>>
@@ -822,9 +1508,11 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		private HasRemovePermissionFunction<S> _hasRemovePermissionFunction;
 		private HasUpdatePermissionFunction<S> _hasUpdatePermissionFunction;
 		private final Function<S, Optional<Path>> _identifierToPathFunction;
+		private final ModelCache _modelCache;
 		private final String _name;
 		private final Function<String, Optional<String>> _nameFunction;
 		private final Consumer<String> _neededProviderConsumer;
+		private UpdateItemFunction<T, S> _partialUpdateItemFunction;
 		private final IdentifierFunction<?> _pathToIdentifierFunction;
 		private final ProvideFunction _provideFunction;
 		private GetItemFunction<T, S> _singleModelFunction;
@@ -832,10 +1520,15 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 	}
 
+	private final BatchGetItemFunction<T, S> _batchGetItemFunction;
+	private final BatchRemoveItemFunction<S> _batchRemoveItemFunction;
+	private final BatchUpdateItemFunction<S> _batchUpdateItemFunction;
+	private final CachePolicy<T> _cachePolicy;
 	private final Map<String, CustomItemFunction<?, S>> _customItemFunctions;
 	private final Map<String, CustomRoute> _customRoutes;
 	private final DeleteItemConsumer<S> _deleteItemConsumer;
 	private final Form _form;
+	private final UpdateItemFunction<T, S> _partialUpdateItemFunction;
 	private final GetItemFunction<T, S> _singleModelFunction;
 	private final UpdateItemFunction<T, S> _updateItemFunction;
 
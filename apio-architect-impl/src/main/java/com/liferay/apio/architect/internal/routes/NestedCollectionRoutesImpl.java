@@ -19,10 +19,12 @@ import static com.liferay.apio.architect.internal.routes.RoutesBuilderUtil.provi
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedBatchGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
@@ -46,8 +48,10 @@ import com.liferay.apio.architect.uri.Path;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -59,13 +63,20 @@ public class NestedCollectionRoutesImpl<T, S, U>
 	implements NestedCollectionRoutes<T, S, U> {
 
 	public NestedCollectionRoutesImpl(BuilderImpl<T, S, U> builderImpl) {
+		_cachePolicy = builderImpl._cachePolicy;
 		_form = builderImpl._form;
 		_nestedCreateItemFunction = builderImpl._nestedCreateItemFunction;
 		_nestedBatchCreateItemFunction =
 			builderImpl._nestedBatchCreateItemFunction;
+		_nestedBatchGetPageFunction = builderImpl._nestedBatchGetPageFunction;
 		_nestedGetPageFunction = builderImpl._nestedGetPageFunction;
 	}
 
+	@Override
+	public Optional<CachePolicy<T>> getCachePolicyOptional() {
+		return Optional.ofNullable(_cachePolicy);
+	}
+
 	@Override
 	public Optional<Form> getFormOptional() {
 		return Optional.ofNullable(_form);
@@ -78,6 +89,13 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		return Optional.ofNullable(_nestedBatchCreateItemFunction);
 	}
 
+	@Override
+	public Optional<NestedBatchGetPageFunction<T, U>>
+		getNestedBatchGetPageFunctionOptional() {
+
+		return Optional.ofNullable(_nestedBatchGetPageFunction);
+	}
+
 	@Override
 	public Optional<NestedCreateItemFunction<T, U>>
 		getNestedCreateItemFunctionOptional() {
@@ -112,6 +130,28 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			_modelToIdentifierFunction = modelToIdentifierFunction;
 		}
 
+		@Override
+		public Builder<T, S, U> addBatchGetter(
+			ThrowableBiFunction<Pagination, Collection<U>, Map<U, PageItems<T>>>
+				batchGetterThrowableBiFunction) {
+
+			_nestedBatchGetPageFunction =
+				httpServletRequest -> identifiers -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class,
+					pagination -> batchGetterThrowableBiFunction.apply(
+						pagination, identifiers));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S, U> addCachePolicy(CachePolicy<T> cachePolicy) {
+			_cachePolicy = cachePolicy;
+
+			return this;
+		}
+
 		@Override
 		public <R> Builder<T, S, U> addCreator(
 			ThrowableBiFunction<U, R, T> creatorThrowableBiFunction,
@@ -633,6 +673,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			return newList;
 		}
 
+		private CachePolicy<T> _cachePolicy;
 		private Form _form;
 		private ThrowableBiFunction<Credentials, U, Boolean>
 			_hasNestedAddingPermissionFunction;
@@ -642,6 +683,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		private final Consumer<String> _neededProviderConsumer;
 		private NestedBatchCreateItemFunction<S, U>
 			_nestedBatchCreateItemFunction;
+		private NestedBatchGetPageFunction<T, U> _nestedBatchGetPageFunction;
 		private NestedCreateItemFunction<T, U> _nestedCreateItemFunction;
 		private NestedGetPageFunction<T, U> _nestedGetPageFunction;
 		private final String _nestedName;
@@ -650,9 +692,11 @@ public class NestedCollectionRoutesImpl<T, S, U>
 
 	}
 
+	private final CachePolicy<T> _cachePolicy;
 	private final Form _form;
 	private final NestedBatchCreateItemFunction<S, U>
 		_nestedBatchCreateItemFunction;
+	private final NestedBatchGetPageFunction<T, U> _nestedBatchGetPageFunction;
 	private final NestedCreateItemFunction<T, U> _nestedCreateItemFunction;
 	private final NestedGetPageFunction<T, U> _nestedGetPageFunction;
 
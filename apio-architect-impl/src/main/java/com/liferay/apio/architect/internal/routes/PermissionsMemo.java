@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.routes;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Memoizes the permissions of the items rendered during a request, so the
+ * permissions of an item are never evaluated twice in the same request.
+ * Instances are stored as a request attribute.
+ *
+ * <p>
+ * Writers add the identifiers of the items they're about to render as pending
+ * identifiers. When the permissions of one of those items are requested for
+ * the first time, the permissions of every pending item of the same resource
+ * are evaluated at once with the resource's bulk permission function.
+ * </p>
+ *
+ * <p>
+ * Since embedded models can be resolved in several threads, this class is
+ * thread-safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class PermissionsMemo {
+
+	/**
+	 * The name of the request attribute that stores the request's memo.
+	 */
+	public static final String ATTRIBUTE_NAME = PermissionsMemo.class.getName();
+
+	/**
+	 * Returns the memo of the current request, creating it if it doesn't exist
+	 * yet. If the request isn't available, this method returns a new memo that
+	 * isn't shared.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's memo
+	 */
+	public static PermissionsMemo getPermissionsMemo(
+		HttpServletRequest httpServletRequest) {
+
+		if (httpServletRequest == null) {
+			return new PermissionsMemo();
+		}
+
+		try {
+			Object attribute = httpServletRequest.getAttribute(ATTRIBUTE_NAME);
+
+			if (attribute instanceof PermissionsMemo) {
+				return (PermissionsMemo)attribute;
+			}
+
+			PermissionsMemo permissionsMemo = new PermissionsMemo();
+
+			httpServletRequest.setAttribute(ATTRIBUTE_NAME, permissionsMemo);
+
+			return permissionsMemo;
+		}
+		catch (RuntimeException re) {
+
+			// The request can't be accessed outside of its thread
+
+			return new PermissionsMemo();
+		}
+	}
+
+	/**
+	 * Adds an identifier whose permissions will be needed soon, so they can be
+	 * evaluated together with those of the rest of pending identifiers of the
+	 * same resource.
+	 *
+	 * @param identifierClassName the class name of the resource's identifier
+	 * @param identifier the item's identifier
+	 */
+	public synchronized void addPending(
+		String identifierClassName, Object identifier) {
+
+		Set<Object> identifiers = _pendingIdentifiers.computeIfAbsent(
+			identifierClassName, __ -> new LinkedHashSet<>());
+
+		identifiers.add(identifier);
+	}
+
+	/**
+	 * Returns the names of the permitted operations of an item, evaluating
+	 * them with the provided function only if they haven't been evaluated yet
+	 * in this request.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the item's identifier
+	 * @param  function the function that evaluates the item's permissions
+	 * @return the names of the item's permitted operations
+	 */
+	public synchronized <S> Set<String> getPermissions(
+		String name, S identifier, Function<S, Set<String>> function) {
+
+		Map<Object, Set<String>> permissions = _getPermissions(name);
+
+		Set<String> names = permissions.get(identifier);
+
+		if (names == null) {
+			names = function.apply(identifier);
+
+			permissions.put(identifier, names);
+		}
+
+		return names;
+	}
+
+	/**
+	 * Returns the names of the permitted operations of an item. If they
+	 * haven't been evaluated yet in this request, the permissions of the item,
+	 * and those of every pending identifier of the same resource, are
+	 * evaluated with a single call to the provided bulk function.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the item's identifier
+	 * @param  identifierClassNamePredicate the predicate that checks if a
+	 *         pending identifier's class name belongs to the resource
+	 * @param  bulkFunction the function that evaluates the permissions of
+	 *         several items
+	 * @return the names of the item's permitted operations
+	 */
+	public synchronized <S> Set<String> getPermissions(
+		String name, S identifier,
+		Predicate<String> identifierClassNamePredicate,
+		Function<Collection<S>, Map<S, Set<String>>> bulkFunction) {
+
+		Map<Object, Set<String>> permissions = _getPermissions(name);
+
+		Set<String> names = permissions.get(identifier);
+
+		if (names != null) {
+			return names;
+		}
+
+		Set<S> identifiers = new LinkedHashSet<>();
+
+		identifiers.add(identifier);
+
+		Set<Map.Entry<String, Set<Object>>> entries =
+			_pendingIdentifiers.entrySet();
+
+		Iterator<Map.Entry<String, Set<Object>>> iterator = entries.iterator();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, Set<Object>> entry = iterator.next();
+
+			if (!identifierClassNamePredicate.test(entry.getKey())) {
+				continue;
+			}
+
+			for (Object pendingIdentifier : entry.getValue()) {
+				if (!permissions.containsKey(pendingIdentifier)) {
+					identifiers.add(unsafeCast(pendingIdentifier));
+				}
+			}
+
+			iterator.remove();
+		}
+
+		Map<S, Set<String>> bulkPermissions = bulkFunction.apply(identifiers);
+
+		if (bulkPermissions == null) {
+			bulkPermissions = Collections.emptyMap();
+		}
+
+		for (S s : identifiers) {
+			Set<String> sNames = bulkPermissions.get(s);
+
+			if (sNames == null) {
+				sNames = Collections.emptySet();
+			}
+
+			permissions.put(s, sNames);
+		}
+
+		return permissions.get(identifier);
+	}
+
+	private Map<Object, Set<String>> _getPermissions(String name) {
+		return _permissions.computeIfAbsent(name, __ -> new HashMap<>());
+	}
+
+	private final Map<String, Set<Object>> _pendingIdentifiers =
+		new HashMap<>();
+	private final Map<String, Map<Object, Set<String>>> _permissions =
+		new HashMap<>();
+
+}
\ No newline at end of file
@@ -14,12 +14,13 @@
 
 package com.liferay.apio.architect.internal.url;
 
-import static java.lang.String.join;
-
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.internal.operation.BatchCreateOperation;
+import com.liferay.apio.architect.internal.operation.BatchDeleteOperation;
+import com.liferay.apio.architect.internal.operation.BatchUpdateOperation;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.operation.RetrieveOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
 import com.liferay.apio.architect.internal.pagination.PageType;
@@ -27,14 +28,23 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.uri.Path;
 
-import java.util.Optional;
+import java.io.UnsupportedEncodingException;
 
-import javax.ws.rs.core.UriBuilder;
+import java.net.URLEncoder;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Manages the creation of URLs and has all their necessary information.
  *
  * <p>
+ * URLs are built by appending their variable parts to the {@link URLPrefixes}
+ * of the application URL, which are computed once, using a string builder
+ * reused by each thread.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -52,7 +62,7 @@ public final class URLCreator {
 	public static String createAbsoluteURL(
 		ApplicationURL applicationURL, String relativeURL) {
 
-		return _buildURL(applicationURL.get(), relativeURL);
+		return _buildURL(URLPrefixes.of(applicationURL.get()), relativeURL);
 	}
 
 	/**
@@ -65,7 +75,7 @@ public final class URLCreator {
 	public static String createAbsoluteURL(
 		ServerURL serverURL, String relativeURL) {
 
-		return _buildURL(serverURL.get(), relativeURL);
+		return _buildURL(URLPrefixes.of(serverURL.get()), relativeURL);
 	}
 
 	/**
@@ -79,8 +89,47 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		return createAbsoluteURL(
-			applicationURL, join("/", "b", path.asURI(), binaryId));
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getBinary());
+		_appendPath(sb, path);
+		sb.append('/');
+		sb.append(binaryId);
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the URL for the items of a collection requested by their
+	 * identifiers. Each identifier is URL-encoded.
+	 *
+	 * @param  applicationURL the application URL
+	 * @param  name the resource's name
+	 * @param  identifiers the requested identifiers
+	 * @return the collection items URL
+	 */
+	public static String createCollectionItemsURL(
+		ApplicationURL applicationURL, String name, List<String> identifiers) {
+
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getResource());
+		sb.append(name);
+		sb.append("?ids=");
+
+		for (int i = 0; i < identifiers.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+
+			sb.append(_encode(identifiers.get(i)));
+		}
+
+		return sb.toString();
 	}
 
 	/**
@@ -93,14 +142,34 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
-		return UriBuilder.fromUri(
-			collectionURL
-		).queryParam(
-			"page", pageType.getPageNumber(page)
-		).queryParam(
-			"per_page", page.getItemsPerPage()
-		).build(
-		).toString();
+		StringBuilder sb = _getStringBuilder();
+
+		int fragmentIndex = collectionURL.indexOf('#');
+
+		if (fragmentIndex == -1) {
+			sb.append(collectionURL);
+		}
+		else {
+			sb.append(collectionURL, 0, fragmentIndex);
+		}
+
+		if (sb.indexOf("?") == -1) {
+			sb.append('?');
+		}
+		else {
+			sb.append('&');
+		}
+
+		sb.append("page=");
+		sb.append(pageType.getPageNumber(page));
+		sb.append("&per_page=");
+		sb.append(page.getItemsPerPage());
+
+		if (fragmentIndex != -1) {
+			sb.append(collectionURL, fragmentIndex, collectionURL.length());
+		}
+
+		return sb.toString();
 	}
 
 	/**
@@ -113,7 +182,14 @@ public final class URLCreator {
 	public static String createCollectionURL(
 		ApplicationURL applicationURL, String name) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + name);
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getResource());
+		sb.append(name);
+
+		return sb.toString();
 	}
 
 	/**
@@ -126,7 +202,14 @@ public final class URLCreator {
 	public static String createFormURL(
 		ApplicationURL applicationURL, Form form) {
 
-		return createAbsoluteURL(applicationURL, join("/", "f", form.getId()));
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getForm());
+		sb.append(form.getId());
+
+		return sb.toString();
 	}
 
 	/**
@@ -140,7 +223,22 @@ public final class URLCreator {
 	public static String createNestedCollectionURL(
 		ApplicationURL applicationURL, Path path, String name) {
 
-		return createAbsoluteURL(applicationURL, _getReusablePath(path, name));
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		if (name.equals(path.getName())) {
+			sb.append(urlPrefixes.getReusable());
+			_appendPath(sb, path);
+		}
+		else {
+			sb.append(urlPrefixes.getResource());
+			_appendPath(sb, path);
+			sb.append('/');
+			sb.append(name);
+		}
+
+		return sb.toString();
 	}
 
 	/**
@@ -157,34 +255,31 @@ public final class URLCreator {
 
 		return optional.map(
 			uri -> {
-				if (operation instanceof BatchCreateOperation) {
-					return "batch/" + uri;
-				}
+				URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
 
-				if (operation.isCustom()) {
-					return _createCustomOperationURL(operation, uri);
-				}
+				if ((operation instanceof BatchCreateOperation) ||
+					(operation instanceof BatchDeleteOperation) ||
+					(operation instanceof BatchUpdateOperation)) {
 
-				if (operation instanceof CreateOperation) {
-					return "p/" + uri;
+					return urlPrefixes.getBatch() + uri;
 				}
 
-				if (operation instanceof DeleteOperation) {
-					return "p/" + uri;
+				if (operation.isCustom()) {
+					return _createCustomOperationURL(
+						urlPrefixes, operation, uri);
 				}
 
-				if (operation instanceof RetrieveOperation) {
-					return "p/" + uri;
-				}
+				if ((operation instanceof CreateOperation) ||
+					(operation instanceof DeleteOperation) ||
+					(operation instanceof PartialUpdateOperation) ||
+					(operation instanceof RetrieveOperation) ||
+					(operation instanceof UpdateOperation)) {
 
-				if (operation instanceof UpdateOperation) {
-					return "p/" + uri;
+					return urlPrefixes.getResource() + uri;
 				}
 
 				return null;
 			}
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri)
 		);
 	}
 
@@ -199,52 +294,100 @@ public final class URLCreator {
 	public static String createSingleURL(
 		ApplicationURL applicationURL, Path path) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + path.asURI());
+		URLPrefixes urlPrefixes = URLPrefixes.of(applicationURL.get());
+
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getResource());
+		_appendPath(sb, path);
+
+		return sb.toString();
 	}
 
 	/**
-	 * Returns the {@link Path} from the HTTP servlet request's original URL.
+	 * Returns the {@link Path} from a single resource's URL (for example,
+	 * {@code http://localhost/p/name/id}), if the URL contains exactly one
+	 * {@code /b/}, {@code /f/} or {@code /p/} segment; {@code null} otherwise.
 	 *
-	 * @return a Path objectSingleModelWriter.java
+	 * @param  url the URL
+	 * @return the URL's path, or {@code null} if the URL doesn't have one
 	 */
 	public static Path getPath(String url) {
-		String[] serverAndPath = url.split("/[bfp]/");
+		int index = _indexOfPathSegment(url, 0);
 
-		if (serverAndPath.length == 2) {
-			String fullPath = serverAndPath[1];
+		if (index == -1) {
+			return null;
+		}
+
+		int pathStart = index + 3;
+
+		int pathEnd = _indexOfPathSegment(url, pathStart);
+
+		if (pathEnd == -1) {
+			pathEnd = url.length();
+		}
+		else if (!_isEmptyAfter(url, pathEnd)) {
+			return null;
+		}
+
+		if (pathStart == pathEnd) {
+			return null;
+		}
+
+		int nameEnd = url.indexOf('/', pathStart);
+
+		if ((nameEnd == -1) || (nameEnd >= pathEnd)) {
+			return new Path(url.substring(pathStart, pathEnd), null);
+		}
+
+		String name = url.substring(pathStart, nameEnd);
 
-			String[] pathComponents = fullPath.split("/");
+		if (_isOnlySlashes(url, nameEnd, pathEnd)) {
+			return new Path(name, null);
+		}
 
-			String id = pathComponents.length == 1 ? null : pathComponents[1];
+		int idEnd = url.indexOf('/', nameEnd + 1);
 
-			return new Path(pathComponents[0], id);
+		if ((idEnd == -1) || (idEnd > pathEnd)) {
+			idEnd = pathEnd;
 		}
 
-		return null;
+		return new Path(name, url.substring(nameEnd + 1, idEnd));
+	}
+
+	private static void _appendPath(StringBuilder sb, Path path) {
+		sb.append(path.getName());
+		sb.append('/');
+		sb.append(path.getId());
 	}
 
-	private static String _buildURL(String baseUrl, String relativeURL) {
+	private static String _buildURL(
+		URLPrefixes urlPrefixes, String relativeURL) {
+
 		if ((relativeURL == null) || relativeURL.isEmpty()) {
 			return null;
 		}
 
-		if (baseUrl.endsWith("/")) {
-			baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
-		}
+		StringBuilder sb = _getStringBuilder();
+
+		sb.append(urlPrefixes.getBase());
 
 		if (relativeURL.startsWith("/")) {
-			relativeURL = relativeURL.substring(1);
+			sb.append(relativeURL, 1, relativeURL.length());
+		}
+		else {
+			sb.append(relativeURL);
 		}
 
-		return join("/", baseUrl, relativeURL);
+		return sb.toString();
 	}
 
 	private static String _createCustomOperationURL(
-		Operation operation, String uri) {
+		URLPrefixes urlPrefixes, Operation operation, String uri) {
 
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = _getStringBuilder();
 
-		sb.append("c/");
+		sb.append(urlPrefixes.getCustom());
 		sb.append(uri);
 		sb.append("/");
 		sb.append(operation.getCustomRoute());
@@ -252,16 +395,100 @@ public final class URLCreator {
 		return sb.toString();
 	}
 
-	private static String _getReusablePath(Path path, String name) {
-		if (name.equals(path.getName())) {
-			return join("/", "p", "r", path.asURI());
+	private static String _encode(String string) {
+		try {
+			return URLEncoder.encode(string, "UTF-8");
+		}
+		catch (UnsupportedEncodingException uee) {
+			throw new IllegalStateException(uee);
 		}
+	}
+
+	/**
+	 * Returns the string builder of the current thread, emptied. Builders that
+	 * grew too much are replaced, so a single long URL doesn't retain memory.
+	 */
+	private static StringBuilder _getStringBuilder() {
+		StringBuilder sb = _stringBuilderThreadLocal.get();
+
+		if (sb.capacity() > _MAX_STRING_BUILDER_CAPACITY) {
+			sb = new StringBuilder(_INITIAL_STRING_BUILDER_CAPACITY);
+
+			_stringBuilderThreadLocal.set(sb);
+		}
+
+		sb.setLength(0);
 
-		return join("/", "p", path.asURI(), name);
+		return sb;
+	}
+
+	/**
+	 * Returns the index of the first {@code /b/}, {@code /f/} or {@code /p/}
+	 * segment found from {@code fromIndex}; {@code -1} if there isn't any.
+	 */
+	private static int _indexOfPathSegment(String url, int fromIndex) {
+		int index = url.indexOf('/', fromIndex);
+
+		while ((index != -1) && ((index + 2) < url.length())) {
+			char c = url.charAt(index + 1);
+
+			if (((c == 'b') || (c == 'f') || (c == 'p')) &&
+				(url.charAt(index + 2) == '/')) {
+
+				return index;
+			}
+
+			index = url.indexOf('/', index + 1);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if the URL, from the segment starting at {@code
+	 * index}, only contains consecutive segments. Splitting the URL by its
+	 * segments would only add trailing empty strings, which are discarded.
+	 */
+	private static boolean _isEmptyAfter(String url, int index) {
+		int next = index;
+
+		while (next != -1) {
+			int end = _indexOfPathSegment(url, next + 3);
+
+			if (end == -1) {
+				return (next + 3) == url.length();
+			}
+
+			if (end != (next + 3)) {
+				return false;
+			}
+
+			next = end;
+		}
+
+		return true;
+	}
+
+	private static boolean _isOnlySlashes(String url, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (url.charAt(i) != '/') {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private URLCreator() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final int _INITIAL_STRING_BUILDER_CAPACITY = 128;
+
+	private static final int _MAX_STRING_BUILDER_CAPACITY = 2048;
+
+	private static final ThreadLocal<StringBuilder> _stringBuilderThreadLocal =
+		ThreadLocal.withInitial(
+			() -> new StringBuilder(_INITIAL_STRING_BUILDER_CAPACITY));
+
 }
\ No newline at end of file
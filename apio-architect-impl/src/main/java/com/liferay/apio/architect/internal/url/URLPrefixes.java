@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contains the URL prefixes of an application URL (for example, {@code
+ * http://localhost/p/} for single and collection resources), computed once per
+ * application URL so the {@link URLCreator} only has to append the variable
+ * parts of each URL.
+ *
+ * @author Alejandro Hernández
+ */
+final class URLPrefixes {
+
+	/**
+	 * Returns the URL prefixes of an application or server URL.
+	 *
+	 * @param  baseURL the application or server URL
+	 * @return the URL prefixes
+	 */
+	public static URLPrefixes of(String baseURL) {
+		URLPrefixes urlPrefixes = _urlPrefixesMap.get(baseURL);
+
+		if (urlPrefixes != null) {
+			return urlPrefixes;
+		}
+
+		urlPrefixes = new URLPrefixes(baseURL);
+
+		if (_urlPrefixesMap.size() < _MAX_SIZE) {
+			_urlPrefixesMap.put(baseURL, urlPrefixes);
+		}
+
+		return urlPrefixes;
+	}
+
+	/**
+	 * Returns the base URL, followed by a slash. If the base URL is empty, the
+	 * URLs are relative to the document's base, so this method returns an
+	 * empty string.
+	 *
+	 * @return the base URL, followed by a slash
+	 */
+	public String getBase() {
+		return _base;
+	}
+
+	/**
+	 * Returns the prefix of batch operation URLs.
+	 *
+	 * @return the prefix of batch operation URLs
+	 */
+	public String getBatch() {
+		return _batch;
+	}
+
+	/**
+	 * Returns the prefix of binary resource URLs.
+	 *
+	 * @return the prefix of binary resource URLs
+	 */
+	public String getBinary() {
+		return _binary;
+	}
+
+	/**
+	 * Returns the prefix of custom operation URLs.
+	 *
+	 * @return the prefix of custom operation URLs
+	 */
+	public String getCustom() {
+		return _custom;
+	}
+
+	/**
+	 * Returns the prefix of form URLs.
+	 *
+	 * @return the prefix of form URLs
+	 */
+	public String getForm() {
+		return _form;
+	}
+
+	/**
+	 * Returns the prefix of single and collection resource URLs.
+	 *
+	 * @return the prefix of single and collection resource URLs
+	 */
+	public String getResource() {
+		return _resource;
+	}
+
+	/**
+	 * Returns the prefix of reusable nested collection URLs.
+	 *
+	 * @return the prefix of reusable nested collection URLs
+	 */
+	public String getReusable() {
+		return _reusable;
+	}
+
+	private URLPrefixes(String baseURL) {
+		if (baseURL.isEmpty() || baseURL.endsWith("/")) {
+			_base = baseURL;
+		}
+		else {
+			_base = baseURL + "/";
+		}
+
+		_batch = _base + "batch/";
+		_binary = _base + "b/";
+		_custom = _base + "c/";
+		_form = _base + "f/";
+		_resource = _base + "p/";
+		_reusable = _base + "p/r/";
+	}
+
+	private static final int _MAX_SIZE = 64;
+
+	private static final Map<String, URLPrefixes> _urlPrefixesMap =
+		new ConcurrentHashMap<>();
+
+	private final String _base;
+	private final String _batch;
+	private final String _binary;
+	private final String _custom;
+	private final String _form;
+	private final String _resource;
+	private final String _reusable;
+
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url.relative;
+
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.ServerURL;
+
+import java.util.Optional;
+
+/**
+ * Provides utility functions to write relative URLs instead of absolute ones,
+ * and to read the URLs a client prefers from its request headers.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class RelativeURLs {
+
+	/**
+	 * Returns the URLs preferred in an {@code Accept} header, through the
+	 * {@code urls} parameter of any of its media types (for example, {@code
+	 * application/hal+json;urls=relative}).
+	 *
+	 * @param  accept the value of the {@code Accept} header, may be {@code
+	 *         null}
+	 * @return {@code true} if relative URLs are preferred, {@code false} if
+	 *         absolute URLs are preferred, or {@code Optional#empty()} if the
+	 *         header doesn't choose
+	 */
+	public static Optional<Boolean> getAcceptPreferenceOptional(
+		String accept) {
+
+		if (accept == null) {
+			return Optional.empty();
+		}
+
+		for (String mediaType : accept.split(",")) {
+			String[] parameters = mediaType.split(";");
+
+			for (int i = 1; i < parameters.length; i++) {
+				Optional<Boolean> optional = _getPreferenceOptional(
+					parameters[i]);
+
+				if (optional.isPresent()) {
+					return optional;
+				}
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the absolute URL that URLs created with {@link #toBaseRelative()}
+	 * are relative to.
+	 *
+	 * @param  applicationURL the absolute application URL
+	 * @return the absolute URL, followed by a slash
+	 */
+	public static String getBaseURL(ApplicationURL applicationURL) {
+		String url = applicationURL.get();
+
+		if (url.endsWith("/")) {
+			return url;
+		}
+
+		return url + "/";
+	}
+
+	/**
+	 * Returns the URLs preferred in a {@code Prefer} header, through its
+	 * {@code urls} preference (for example, {@code Prefer: urls=relative}).
+	 *
+	 * @param  prefer the value of the {@code Prefer} header, may be {@code
+	 *         null}
+	 * @return {@code true} if relative URLs are preferred, {@code false} if
+	 *         absolute URLs are preferred, or {@code Optional#empty()} if the
+	 *         header doesn't choose
+	 */
+	public static Optional<Boolean> getPreferPreferenceOptional(
+		String prefer) {
+
+		if (prefer == null) {
+			return Optional.empty();
+		}
+
+		for (String preference : prefer.split(",")) {
+			int index = preference.indexOf(';');
+
+			if (index != -1) {
+				preference = preference.substring(0, index);
+			}
+
+			Optional<Boolean> optional = _getPreferenceOptional(preference);
+
+			if (optional.isPresent()) {
+				return optional;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns an application URL that creates URLs relative to the URL
+	 * returned by {@link #getBaseURL(ApplicationURL)}. Since the created URLs
+	 * are just the paths after the application URL, this URL is always empty.
+	 * Only documents that declare that base URL (for example, with the
+	 * JSON-LD {@code @base} keyword) should use it.
+	 *
+	 * @return the base-relative application URL
+	 */
+	public static ApplicationURL toBaseRelative() {
+		return () -> "";
+	}
+
+	/**
+	 * Returns an application URL that creates root-relative URLs: the
+	 * absolute URLs without their scheme and authority (for example, {@code
+	 * /o/api/p/people/1}).
+	 *
+	 * @param  applicationURL the absolute application URL
+	 * @return the root-relative application URL
+	 */
+	public static ApplicationURL toRootRelative(ApplicationURL applicationURL) {
+		String path = _getPath(applicationURL.get());
+
+		return () -> path;
+	}
+
+	/**
+	 * Returns a server URL that creates root-relative URLs.
+	 *
+	 * @param  serverURL the absolute server URL
+	 * @return the root-relative server URL
+	 */
+	public static ServerURL toRootRelative(ServerURL serverURL) {
+		String path = _getPath(serverURL.get());
+
+		return () -> path;
+	}
+
+	private static String _getPath(String url) {
+		int index = url.indexOf("://");
+
+		if (index != -1) {
+			index = url.indexOf('/', index + 3);
+
+			if (index == -1) {
+				return "/";
+			}
+
+			url = url.substring(index);
+		}
+
+		if (url.isEmpty()) {
+			return "/";
+		}
+
+		return url;
+	}
+
+	private static Optional<Boolean> _getPreferenceOptional(String parameter) {
+		int index = parameter.indexOf('=');
+
+		if (index == -1) {
+			return Optional.empty();
+		}
+
+		String name = parameter.substring(0, index);
+
+		name = name.trim();
+
+		if (!name.equalsIgnoreCase("urls")) {
+			return Optional.empty();
+		}
+
+		String value = parameter.substring(index + 1);
+
+		value = value.trim();
+
+		if ((value.length() > 1) && value.startsWith("\"") &&
+			value.endsWith("\"")) {
+
+			value = value.substring(1, value.length() - 1);
+		}
+
+		if (value.equalsIgnoreCase("absolute")) {
+			return Optional.of(false);
+		}
+
+		if (value.equalsIgnoreCase("relative")) {
+			return Optional.of(true);
+		}
+
+		return Optional.empty();
+	}
+
+	private RelativeURLs() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url.relative;
+
+/**
+ * Configures whether the hypermedia URLs of the responses are written as
+ * relative URLs instead of absolute ones.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface RelativeURLsConfiguration {
+
+	/**
+	 * Returns {@code true} if clients can choose between absolute and relative
+	 * URLs in each request, through the {@code urls} parameter of the {@code
+	 * Accept} media type or the {@code urls} preference of the {@code Prefer}
+	 * header.
+	 *
+	 * @return {@code true} if clients can choose the URLs of each request;
+	 *         {@code false} otherwise
+	 */
+	public boolean allowRequestPreference() default true;
+
+	/**
+	 * Returns {@code true} if responses should use relative URLs when the
+	 * request doesn't choose. If {@code false}, the default, responses use
+	 * absolute URLs.
+	 *
+	 * @return {@code true} if responses should use relative URLs by default;
+	 *         {@code false} otherwise
+	 */
+	public boolean enabled() default false;
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url.relative;
+
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getAcceptPreferenceOptional;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getPreferPreferenceOptional;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+
+import java.util.Enumeration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Decides whether the hypermedia URLs of each response are written as relative
+ * URLs, using the defaults set in {@link RelativeURLsConfiguration} and the
+ * preferences of the request.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.url.relative.RelativeURLsConfiguration",
+	service = RelativeURLsResolver.class
+)
+public class RelativeURLsResolver {
+
+	/**
+	 * Returns {@code true} if the response to a request should use relative
+	 * URLs. The {@code Prefer} header's preference takes precedence over the
+	 * {@code Accept} header's, and both over the configured default. If one of
+	 * those headers decides, its name is passed to the consumer, so the
+	 * response can vary with it.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  headerNameConsumer the consumer of the name of the header that
+	 *         decides, if any
+	 * @return {@code true} if the response should use relative URLs; {@code
+	 *         false} otherwise
+	 */
+	public boolean isRelativeURLs(
+		HttpServletRequest httpServletRequest,
+		Consumer<String> headerNameConsumer) {
+
+		RelativeURLsConfiguration relativeURLsConfiguration =
+			_relativeURLsConfiguration;
+
+		if (!relativeURLsConfiguration.allowRequestPreference()) {
+			return relativeURLsConfiguration.enabled();
+		}
+
+		Enumeration<String> enumeration = httpServletRequest.getHeaders(
+			"Prefer");
+
+		while ((enumeration != null) && enumeration.hasMoreElements()) {
+			Optional<Boolean> optional = getPreferPreferenceOptional(
+				enumeration.nextElement());
+
+			if (optional.isPresent()) {
+				headerNameConsumer.accept("Prefer");
+
+				return optional.get();
+			}
+		}
+
+		Optional<Boolean> optional = getAcceptPreferenceOptional(
+			httpServletRequest.getHeader(ACCEPT));
+
+		if (optional.isPresent()) {
+			headerNameConsumer.accept(ACCEPT);
+
+			return optional.get();
+		}
+
+		return relativeURLsConfiguration.enabled();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(
+		RelativeURLsConfiguration relativeURLsConfiguration) {
+
+		_relativeURLsConfiguration = relativeURLsConfiguration;
+	}
+
+	private volatile RelativeURLsConfiguration _relativeURLsConfiguration;
+
+}
\ No newline at end of file
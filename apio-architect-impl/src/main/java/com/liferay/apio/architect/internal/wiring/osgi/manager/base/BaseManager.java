@@ -61,11 +61,32 @@ public abstract class BaseManager<T, U> {
 		INSTANCE.clear();
 	}
 
+	/**
+	 * Calls the bi-consumer with every service and its key, notifying the
+	 * {@code ManagerCache} listeners the time spent with each service, or the
+	 * exception thrown while computing it.
+	 *
+	 * @param biConsumer the bi-consumer
+	 */
 	public void forEachService(BiConsumer<U, T> biConsumer) {
 		Set<U> keys = serviceTrackerMap.keySet();
 
 		keys.forEach(
-			u -> biConsumer.accept(u, serviceTrackerMap.getService(u)));
+			u -> {
+				long start = System.nanoTime();
+
+				try {
+					biConsumer.accept(u, serviceTrackerMap.getService(u));
+				}
+				catch (RuntimeException re) {
+					INSTANCE.notifyServiceFailed(_managedClass, u, re);
+
+					throw re;
+				}
+
+				INSTANCE.notifyServiceComputed(
+					_managedClass, u, System.nanoTime() - start);
+			});
 	}
 
 	/**
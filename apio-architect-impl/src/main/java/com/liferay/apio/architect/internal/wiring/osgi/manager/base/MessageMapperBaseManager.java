@@ -16,9 +16,12 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.base;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.liferay.apio.architect.internal.message.json.BinaryFormat;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
 import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.ws.rs.core.MediaType;
@@ -46,21 +49,26 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 
 	/**
 	 * Computes the list of managed message mappers and uses the provided
-	 * consumer to store them.
+	 * consumer to store them. Each message mapper is also stored under the
+	 * media type of each of its {@link BinaryFormat}s, unless another message
+	 * mapper is registered for that media type.
 	 */
 	protected void computeMessageMappers() {
 		forEachService(
 			(key, messageMapper) -> {
-				try {
-					MediaType mediaType = MediaType.valueOf(key);
+				Set<BinaryFormat> binaryFormats =
+					messageMapper.getBinaryFormats();
 
-					_storeBiConsumer.accept(mediaType, messageMapper);
-				}
-				catch (IllegalArgumentException iae) {
-					_logger.warn(
-						"Message mapper has invalid media type: {}", key);
+				for (BinaryFormat binaryFormat : binaryFormats) {
+					Optional<String> optional =
+						binaryFormat.getMediaTypeOptional(key);
+
+					optional.ifPresent(
+						mediaType -> _store(mediaType, messageMapper));
 				}
 			});
+
+		forEachService(this::_store);
 	}
 
 	@Override
@@ -73,6 +81,17 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 		emitter.emit(t.getMediaType());
 	}
 
+	private void _store(String key, T messageMapper) {
+		try {
+			MediaType mediaType = MediaType.valueOf(key);
+
+			_storeBiConsumer.accept(mediaType, messageMapper);
+		}
+		catch (IllegalArgumentException iae) {
+			_logger.warn("Message mapper has invalid media type: {}", key);
+		}
+	}
+
 	private Logger _logger = getLogger(getClass());
 	private final BiConsumer<MediaType, T> _storeBiConsumer;
 
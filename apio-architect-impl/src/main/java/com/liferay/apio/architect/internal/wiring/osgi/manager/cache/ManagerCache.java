@@ -40,6 +40,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -54,6 +57,25 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * Every cached value is computed under the lock of its manager, and published
+ * atomically once its computation has finished, so no thread ever reads a
+ * partially computed map. Values stored while computing are only visible to
+ * the computing thread. A computation that overlaps a call to {@link #clear()}
+ * is discarded instead of published.
+ * </p>
+ *
+ * <p>
+ * The root resources (the collection routes and root resource names) and the
+ * representables (the names, identifier classes and representors) are each
+ * computed under a lock shared by their entries. Computing the root resources
+ * needs the representables, so the only valid order is to acquire the root
+ * resources lock before the representables lock. Requesting the root
+ * resources while computing the representables throws an {@code
+ * IllegalStateException}, instead of risking a deadlock with a thread
+ * computing them in the valid order.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -64,24 +86,40 @@ public class ManagerCache {
 	public static final ManagerCache INSTANCE = new ManagerCache();
 
 	/**
-	 * Clears the cache.
+	 * Adds a listener that is notified when the cache is cleared and every
+	 * time a manager computes one of its services.
+	 *
+	 * @param managerCacheListener the listener
+	 */
+	public void addListener(ManagerCacheListener managerCacheListener) {
+		_managerCacheListeners.add(managerCacheListener);
+	}
+
+	/**
+	 * Clears the cache. This method never blocks, computations in progress are
+	 * discarded once they finish.
 	 */
 	public void clear() {
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_entryPointMessageMappers = null;
-		_errorMessageMappers = null;
-		_formMessageMappers = null;
-		_identifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_batchResultMessageMappers = null;
-		_representors = null;
-		_reusableNestedCollectionRoutes = null;
-		_rootResourceNames = null;
-		_singleModelMessageMappers = null;
+		_generation.incrementAndGet();
+
+		_batchResultMessageMappers.reset();
+		_collectionRoutes.reset();
+		_customDocumentation.reset();
+		_documentationMessageMappers.reset();
+		_entryPointMessageMappers.reset();
+		_errorMessageMappers.reset();
+		_formMessageMappers.reset();
+		_identifierClasses.reset();
+		_itemRoutes.reset();
+		_names.reset();
+		_nestedCollectionRoutes.reset();
+		_pageMessageMappers.reset();
+		_representors.reset();
+		_reusableNestedCollectionRoutes.reset();
+		_rootResourceNames.reset();
+		_singleModelMessageMappers.reset();
+
+		_managerCacheListeners.forEach(ManagerCacheListener::onCleared);
 	}
 
 	/**
@@ -98,12 +136,8 @@ public class ManagerCache {
 		getBatchResultMessageMapperOptional(
 			Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_batchResultMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<BatchResultMessageMapper> optional = _getMessageMapperOptional(
-			request, _batchResultMessageMappers);
+			request, _batchResultMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -111,11 +145,7 @@ public class ManagerCache {
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _collectionRoutes;
+		return _get(_collectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -129,12 +159,8 @@ public class ManagerCache {
 	public <T, S> Optional<CollectionRoutes<T, S>> getCollectionRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_collectionRoutes
+			_get(_collectionRoutes, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -145,11 +171,7 @@ public class ManagerCache {
 	public CustomDocumentation getDocumentationContribution(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_customDocumentation == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _customDocumentation;
+		return _get(_customDocumentation, computeEmptyFunction);
 	}
 
 	/**
@@ -166,12 +188,9 @@ public class ManagerCache {
 		getDocumentationMessageMapperOptional(
 			Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+			_getMessageMapperOptional(
+				request, _documentationMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -189,12 +208,8 @@ public class ManagerCache {
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
 		Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_entryPointMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<EntryPointMessageMapper> optional = _getMessageMapperOptional(
-			request, _entryPointMessageMappers);
+			request, _entryPointMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -212,12 +227,8 @@ public class ManagerCache {
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
 		Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+			request, _errorMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -235,12 +246,8 @@ public class ManagerCache {
 	public Optional<FormMessageMapper> getFormMessageMapperOptional(
 		Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_formMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<FormMessageMapper> optional = _getMessageMapperOptional(
-			request, _formMessageMappers);
+			request, _formMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -256,12 +263,8 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_identifierClasses
+			_get(_identifierClasses, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -269,14 +272,20 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the number of times the cache has been cleared. Comparing two
+	 * values tells whether the cache has been cleared in between.
+	 *
+	 * @return the number of times the cache has been cleared
+	 */
+	public long getGeneration() {
+		return _generation.get();
+	}
+
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _itemRoutes;
+		return _get(_itemRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -290,12 +299,8 @@ public class ManagerCache {
 	public <T, S> Optional<ItemRoutes<T, S>> getItemRoutesOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_itemRoutes
+			_get(_itemRoutes, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -315,13 +320,11 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		Optional<Map<String, String>> optional = getNamesOptional();
-
-		return optional.map(map -> map.get(className));
+		return Optional.ofNullable(
+			_get(_names, computeEmptyFunction)
+		).map(
+			map -> map.get(className)
+		);
 	}
 
 	/**
@@ -334,17 +337,13 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		return Optional.ofNullable(_peek(_names));
 	}
 
 	public Map<String, NestedCollectionRoutes> getNestedCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _nestedCollectionRoutes;
+		return _get(_nestedCollectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -362,12 +361,8 @@ public class ManagerCache {
 			String name, String nestedName,
 			EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_nestedCollectionRoutes
+			_get(_nestedCollectionRoutes, computeEmptyFunction)
 		).map(
 			map -> map.get(name + "-" + nestedName)
 		).map(
@@ -388,12 +383,8 @@ public class ManagerCache {
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
 		Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+			request, _pageMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -401,11 +392,7 @@ public class ManagerCache {
 	public Map<String, Representor> getRepresentorMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _representors;
+		return _get(_representors, computeEmptyFunction);
 	}
 
 	/**
@@ -420,12 +407,8 @@ public class ManagerCache {
 	public <T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_representors
+			_get(_representors, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -436,11 +419,7 @@ public class ManagerCache {
 	public Map<String, NestedCollectionRoutes> getReusableCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _reusableNestedCollectionRoutes;
+		return _get(_reusableNestedCollectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -456,12 +435,8 @@ public class ManagerCache {
 		getReusableNestedCollectionRoutesOptional(
 			String name, EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_reusableNestedCollectionRoutes
+			_get(_reusableNestedCollectionRoutes, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -479,12 +454,8 @@ public class ManagerCache {
 	public List<String> getRootResourceNames(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_rootResourceNames == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_rootResourceNames
+			_get(_rootResourceNames, computeEmptyFunction)
 		).orElseGet(
 			Collections::emptyList
 		);
@@ -504,16 +475,43 @@ public class ManagerCache {
 		getSingleModelMessageMapperOptional(
 			Request request, EmptyFunction computeEmptyFunction) {
 
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+			request, _singleModelMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Notifies the listeners that a manager has computed one of its services.
+	 *
+	 * @param managedClass the class of the services of the manager
+	 * @param key the service's key
+	 * @param elapsedNanos the time spent computing the service, in nanoseconds
+	 */
+	public void notifyServiceComputed(
+		Class<?> managedClass, Object key, long elapsedNanos) {
+
+		_managerCacheListeners.forEach(
+			managerCacheListener -> managerCacheListener.onServiceComputed(
+				managedClass, key, elapsedNanos));
+	}
+
+	/**
+	 * Notifies the listeners that a manager has failed computing one of its
+	 * services.
+	 *
+	 * @param managedClass the class of the services of the manager
+	 * @param key the service's key
+	 * @param exception the exception thrown by the computation
+	 */
+	public void notifyServiceFailed(
+		Class<?> managedClass, Object key, Exception exception) {
+
+		_managerCacheListeners.forEach(
+			managerCacheListener -> managerCacheListener.onServiceFailed(
+				managedClass, key, exception));
+	}
+
 	/**
 	 * Adds a batch result message mapper.
 	 *
@@ -524,11 +522,9 @@ public class ManagerCache {
 		MediaType mediaType,
 		BatchResultMessageMapper batchResultMessageMapper) {
 
-		if (_batchResultMessageMappers == null) {
-			_batchResultMessageMappers = new HashMap<>();
-		}
-
-		_batchResultMessageMappers.put(mediaType, batchResultMessageMapper);
+		_stage(
+			_batchResultMessageMappers, HashMap::new
+		).put(mediaType, batchResultMessageMapper);
 	}
 
 	/**
@@ -540,17 +536,15 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
-
-		_collectionRoutes.put(key, collectionRoutes);
+		_stage(
+			_collectionRoutes, HashMap::new
+		).put(key, collectionRoutes);
 	}
 
 	public void putDocumentationContribution(
 		CustomDocumentation customDocumentation) {
 
-		_customDocumentation = customDocumentation;
+		_set(_customDocumentation, customDocumentation);
 	}
 
 	/**
@@ -563,11 +557,9 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
-
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+		_stage(
+			_documentationMessageMappers, HashMap::new
+		).put(mediaType, documentationMessageMapper);
 	}
 
 	/**
@@ -579,11 +571,9 @@ public class ManagerCache {
 	public void putEntryPointMessageMapper(
 		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
 
-		if (_entryPointMessageMappers == null) {
-			_entryPointMessageMappers = new HashMap<>();
-		}
-
-		_entryPointMessageMappers.put(mediaType, entryPointMessageMapper);
+		_stage(
+			_entryPointMessageMappers, HashMap::new
+		).put(mediaType, entryPointMessageMapper);
 	}
 
 	/**
@@ -595,11 +585,9 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
-
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+		_stage(
+			_errorMessageMappers, HashMap::new
+		).put(mediaType, errorMessageMapper);
 	}
 
 	/**
@@ -611,11 +599,9 @@ public class ManagerCache {
 	public void putFormMessageMapper(
 		MediaType mediaType, FormMessageMapper formMessageMapper) {
 
-		if (_formMessageMappers == null) {
-			_formMessageMappers = new HashMap<>();
-		}
-
-		_formMessageMappers.put(mediaType, formMessageMapper);
+		_stage(
+			_formMessageMappers, HashMap::new
+		).put(mediaType, formMessageMapper);
 	}
 
 	/**
@@ -627,11 +613,9 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
-
-		_identifierClasses.put(key, identifierClass);
+		_stage(
+			_identifierClasses, HashMap::new
+		).put(key, identifierClass);
 	}
 
 	/**
@@ -641,11 +625,9 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
-
-		_itemRoutes.put(key, itemRoutes);
+		_stage(
+			_itemRoutes, HashMap::new
+		).put(key, itemRoutes);
 	}
 
 	/**
@@ -655,11 +637,9 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
-
-		_names.put(key, name);
+		_stage(
+			_names, HashMap::new
+		).put(key, name);
 	}
 
 	/**
@@ -671,11 +651,9 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
-
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+		_stage(
+			_nestedCollectionRoutes, HashMap::new
+		).put(key, nestedCollectionRoutes);
 	}
 
 	/**
@@ -687,11 +665,9 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
-
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+		_stage(
+			_pageMessageMappers, HashMap::new
+		).put(mediaType, pageMessageMapper);
 	}
 
 	/**
@@ -701,11 +677,9 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
-
-		_representors.put(key, representor);
+		_stage(
+			_representors, HashMap::new
+		).put(key, representor);
 	}
 
 	/**
@@ -718,11 +692,9 @@ public class ManagerCache {
 	public void putReusableNestedCollectionRoutes(
 		String key, NestedCollectionRoutes reusableNestedCollectionRoutes) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			_reusableNestedCollectionRoutes = new HashMap<>();
-		}
-
-		_reusableNestedCollectionRoutes.put(
+		_stage(
+			_reusableNestedCollectionRoutes, HashMap::new
+		).put(
 			key, reusableNestedCollectionRoutes);
 	}
 
@@ -732,11 +704,9 @@ public class ManagerCache {
 	 * @param rootResourceName the root resource name
 	 */
 	public void putRootResourceName(String rootResourceName) {
-		if (_rootResourceNames == null) {
-			_rootResourceNames = new ArrayList<>();
-		}
-
-		_rootResourceNames.add(rootResourceName);
+		_stage(
+			_rootResourceNames, ArrayList::new
+		).add(rootResourceName);
 	}
 
 	/**
@@ -749,18 +719,120 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
-		}
+		_stage(
+			_singleModelMessageMappers, HashMap::new
+		).put(mediaType, singleModelMessageMapper);
+	}
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+	/**
+	 * Removes a listener previously added with {@link
+	 * #addListener(ManagerCacheListener)}.
+	 *
+	 * @param managerCacheListener the listener
+	 */
+	public void removeListener(ManagerCacheListener managerCacheListener) {
+		_managerCacheListeners.remove(managerCacheListener);
 	}
 
 	private ManagerCache() {
+		_batchResultMessageMappers = new CacheEntry<>();
+		_collectionRoutes = new CacheEntry<>(_rootResourcesLock);
+		_customDocumentation = new CacheEntry<>();
+		_documentationMessageMappers = new CacheEntry<>();
+		_entryPointMessageMappers = new CacheEntry<>();
+		_errorMessageMappers = new CacheEntry<>();
+		_formMessageMappers = new CacheEntry<>();
+		_identifierClasses = new CacheEntry<>(_representablesLock);
+		_itemRoutes = new CacheEntry<>();
+		_names = new CacheEntry<>(_representablesLock);
+		_nestedCollectionRoutes = new CacheEntry<>();
+		_pageMessageMappers = new CacheEntry<>();
+		_representors = new CacheEntry<>(_representablesLock);
+		_reusableNestedCollectionRoutes = new CacheEntry<>();
+		_rootResourceNames = new CacheEntry<>(_rootResourcesLock);
+		_singleModelMessageMappers = new CacheEntry<>();
+	}
+
+	/**
+	 * Checks that acquiring the cache entry's lock respects the lock order:
+	 * the root resources lock can't be acquired while holding the
+	 * representables lock.
+	 */
+	private void _checkLockOrder(CacheEntry<?> cacheEntry) {
+		if ((cacheEntry.lock == _rootResourcesLock) &&
+			!Thread.holdsLock(_rootResourcesLock) &&
+			Thread.holdsLock(_representablesLock)) {
+
+			throw new IllegalStateException(
+				"Root resources can't be computed while computing " +
+					"representables");
+		}
+	}
+
+	/**
+	 * Returns the published value of the cache entry, computing it first if
+	 * needed. Computations are serialized by the entry's lock, and their values
+	 * are only published once the computation has finished. Reentrant calls
+	 * from the computing thread see the values stored so far.
+	 */
+	private <T> T _get(
+		CacheEntry<T> cacheEntry, EmptyFunction computeEmptyFunction) {
+
+		T value = cacheEntry.value;
+
+		if (value != null) {
+			return value;
+		}
+
+		_checkLockOrder(cacheEntry);
+
+		synchronized (cacheEntry.lock) {
+			value = cacheEntry.value;
+
+			if (value != null) {
+				return value;
+			}
+
+			if (cacheEntry.computing) {
+				return cacheEntry.stagedValue;
+			}
+
+			long generation = _generation.get();
+
+			List<CacheEntry<?>> cacheEntries = new ArrayList<>();
+
+			List<CacheEntry<?>> previousCacheEntries =
+				_stagedCacheEntries.get();
+
+			_stagedCacheEntries.set(cacheEntries);
+
+			cacheEntry.computing = true;
+
+			try {
+				computeEmptyFunction.invoke();
+
+				value = cacheEntry.stagedValue;
+
+				cacheEntries.forEach(entry -> _publish(entry, generation));
+			}
+			finally {
+				cacheEntry.computing = false;
+
+				cacheEntries.forEach(CacheEntry::discardStagedValue);
+
+				_stagedCacheEntries.set(previousCacheEntries);
+			}
+
+			return value;
+		}
 	}
 
 	private <T> Optional<T> _getMessageMapperOptional(
-		Request request, Map<MediaType, T> messageMappers) {
+		Request request, CacheEntry<Map<MediaType, T>> cacheEntry,
+		EmptyFunction computeEmptyFunction) {
+
+		Map<MediaType, T> messageMappers = _get(
+			cacheEntry, computeEmptyFunction);
 
 		return Optional.ofNullable(
 			messageMappers
@@ -804,25 +876,136 @@ public class ManagerCache {
 		return variantListBuilder.mediaTypes(mediaTypes);
 	}
 
+	private <T> T _peek(CacheEntry<T> cacheEntry) {
+		T value = cacheEntry.value;
+
+		if ((value == null) && Thread.holdsLock(cacheEntry.lock)) {
+			return cacheEntry.stagedValue;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Publishes the staged value of the cache entry, unless the cache has been
+	 * cleared since the computation started. The generation is checked again
+	 * after publishing, so a concurrent {@link #clear()} always wins.
+	 */
+	private void _publish(CacheEntry<?> cacheEntry, long generation) {
+		cacheEntry.publish();
+
+		if (generation != _generation.get()) {
+			cacheEntry.reset();
+		}
+	}
+
+	private <T> void _set(CacheEntry<T> cacheEntry, T value) {
+		List<CacheEntry<?>> cacheEntries = _stagedCacheEntries.get();
+
+		if (cacheEntries == null) {
+			cacheEntry.value = value;
+
+			return;
+		}
+
+		if (cacheEntry.stagedValue == null) {
+			cacheEntries.add(cacheEntry);
+		}
+
+		cacheEntry.stagedValue = value;
+	}
+
+	private <T> T _stage(CacheEntry<T> cacheEntry, Supplier<T> supplier) {
+		List<CacheEntry<?>> cacheEntries = _stagedCacheEntries.get();
+
+		if (cacheEntries == null) {
+			_checkLockOrder(cacheEntry);
+
+			synchronized (cacheEntry.lock) {
+				if (cacheEntry.value == null) {
+					cacheEntry.value = supplier.get();
+				}
+
+				return cacheEntry.value;
+			}
+		}
+
+		if (cacheEntry.stagedValue == null) {
+			cacheEntry.stagedValue = supplier.get();
+
+			cacheEntries.add(cacheEntry);
+		}
+
+		return cacheEntry.stagedValue;
+	}
+
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
 
-	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private CustomDocumentation _customDocumentation;
-	private Map<MediaType, DocumentationMessageMapper>
+	private final CacheEntry<Map<MediaType, BatchResultMessageMapper>>
+		_batchResultMessageMappers;
+	private final CacheEntry<Map<String, CollectionRoutes>> _collectionRoutes;
+	private final CacheEntry<CustomDocumentation> _customDocumentation;
+	private final CacheEntry<Map<MediaType, DocumentationMessageMapper>>
 		_documentationMessageMappers;
-	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<MediaType, FormMessageMapper> _formMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, Representor> _representors;
-	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
-	private List<String> _rootResourceNames;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private final CacheEntry<Map<MediaType, EntryPointMessageMapper>>
+		_entryPointMessageMappers;
+	private final CacheEntry<Map<MediaType, ErrorMessageMapper>>
+		_errorMessageMappers;
+	private final CacheEntry<Map<MediaType, FormMessageMapper>>
+		_formMessageMappers;
+	private final AtomicLong _generation = new AtomicLong();
+	private final CacheEntry<Map<String, Class<Identifier>>> _identifierClasses;
+	private final CacheEntry<Map<String, ItemRoutes>> _itemRoutes;
+	private final List<ManagerCacheListener> _managerCacheListeners =
+		new CopyOnWriteArrayList<>();
+	private final CacheEntry<Map<String, String>> _names;
+	private final CacheEntry<Map<String, NestedCollectionRoutes>>
+		_nestedCollectionRoutes;
+	private final CacheEntry<Map<MediaType, PageMessageMapper>>
+		_pageMessageMappers;
+	private final Object _representablesLock = new Object();
+	private final CacheEntry<Map<String, Representor>> _representors;
+	private final CacheEntry<Map<String, NestedCollectionRoutes>>
+		_reusableNestedCollectionRoutes;
+	private final CacheEntry<List<String>> _rootResourceNames;
+	private final Object _rootResourcesLock = new Object();
+	private final CacheEntry<Map<MediaType, SingleModelMessageMapper>>
+		_singleModelMessageMappers;
+	private final ThreadLocal<List<CacheEntry<?>>> _stagedCacheEntries =
+		new ThreadLocal<>();
+
+	/**
+	 * Holds a cached value. Entries computed together, like the names,
+	 * identifier classes and representors, share the same lock.
+	 */
+	private static class CacheEntry<T> {
+
+		public void discardStagedValue() {
+			stagedValue = null;
+		}
+
+		public void publish() {
+			value = stagedValue;
+		}
+
+		public void reset() {
+			value = null;
+		}
+
+		public boolean computing;
+		public final Object lock;
+		public T stagedValue;
+		public volatile T value;
+
+		private CacheEntry() {
+			lock = new Object();
+		}
+
+		private CacheEntry(Object lock) {
+			this.lock = lock;
+		}
+
+	}
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+/**
+ * Listens to the lifecycle of the {@link ManagerCache}: notified when the cache
+ * is cleared, and every time a manager computes one of its services.
+ *
+ * @author Alejandro Hernández
+ */
+public interface ManagerCacheListener {
+
+	/**
+	 * Called after the cache has been cleared.
+	 */
+	public default void onCleared() {
+	}
+
+	/**
+	 * Called after a manager has computed one of its services.
+	 *
+	 * @param managedClass the class of the services of the manager
+	 * @param key the service's key
+	 * @param elapsedNanos the time spent computing the service, in nanoseconds
+	 */
+	public default void onServiceComputed(
+		Class<?> managedClass, Object key, long elapsedNanos) {
+	}
+
+	/**
+	 * Called after a manager has failed computing one of its services.
+	 *
+	 * @param managedClass the class of the services of the manager
+	 * @param key the service's key
+	 * @param exception the exception thrown by the computation
+	 */
+	public default void onServiceFailed(
+		Class<?> managedClass, Object key, Exception exception) {
+	}
+
+}
\ No newline at end of file
@@ -15,16 +15,26 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.exception.mapper.ExceptionMapper;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.annotations.Component;
 
 /**
+ * Resolves the exception mappers of each exception class once per registry
+ * snapshot. The resolution walks the exception's superclass chain, and is
+ * discarded every time the {@code ManagerCache} is cleared.
+ *
  * @author Alejandro Hernández
  */
 @Component(service = ExceptionMapperManager.class)
@@ -38,28 +48,81 @@ public class ExceptionMapperManagerImpl
 
 	@Override
 	public <T extends Exception> Optional<APIError> map(T exception) {
-		return _convert(exception, unsafeCast(exception.getClass()));
+		List<ExceptionMapper<?>> exceptionMappers = _getExceptionMappers(
+			exception.getClass());
+
+		for (ExceptionMapper<?> exceptionMapper : exceptionMappers) {
+			ExceptionMapper<T> typedExceptionMapper = unsafeCast(
+				exceptionMapper);
+
+			APIError apiError = typedExceptionMapper.map(exception);
+
+			if (apiError != null) {
+				return Optional.of(apiError);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private List<ExceptionMapper<?>> _computeExceptionMappers(
+		Class<?> exceptionClass) {
+
+		List<ExceptionMapper<?>> exceptionMappers = new ArrayList<>();
+
+		Class<?> clazz = exceptionClass;
+
+		while ((clazz != null) && Exception.class.isAssignableFrom(clazz)) {
+			getServiceOptional(
+				clazz
+			).ifPresent(
+				exceptionMappers::add
+			);
+
+			clazz = clazz.getSuperclass();
+		}
+
+		return Collections.unmodifiableList(exceptionMappers);
 	}
 
-	private <T extends Exception> Optional<APIError> _convert(
-		T exception, Class<T> exceptionClass) {
-
-		Optional<ExceptionMapper<T>> optional = unsafeCast(
-			getServiceOptional(exceptionClass));
-
-		return optional.map(
-			exceptionConverter -> exceptionConverter.map(exception)
-		).map(
-			Optional::of
-		).orElseGet(
-			() -> Optional.ofNullable(
-				exceptionClass.getSuperclass()
-			).filter(
-				Exception.class::isAssignableFrom
-			).flatMap(
-				clazz -> _convert(exception, unsafeCast(clazz))
-			)
-		);
+	private List<ExceptionMapper<?>> _getExceptionMappers(
+		Class<?> exceptionClass) {
+
+		ExceptionMappersSnapshot exceptionMappersSnapshot =
+			_exceptionMappersSnapshot;
+
+		long generation = INSTANCE.getGeneration();
+
+		if (exceptionMappersSnapshot.generation != generation) {
+			exceptionMappersSnapshot = new ExceptionMappersSnapshot(generation);
+
+			_exceptionMappersSnapshot = exceptionMappersSnapshot;
+		}
+
+		Map<Class<?>, List<ExceptionMapper<?>>> exceptionMappers =
+			exceptionMappersSnapshot.exceptionMappers;
+
+		return exceptionMappers.computeIfAbsent(
+			exceptionClass, this::_computeExceptionMappers);
+	}
+
+	private volatile ExceptionMappersSnapshot _exceptionMappersSnapshot =
+		new ExceptionMappersSnapshot(-1);
+
+	/**
+	 * Holds the exception mappers resolved for each exception class while the
+	 * {@code ManagerCache} generation doesn't change.
+	 */
+	private static class ExceptionMappersSnapshot {
+
+		public final Map<Class<?>, List<ExceptionMapper<?>>> exceptionMappers =
+			new ConcurrentHashMap<>();
+		public final long generation;
+
+		private ExceptionMappersSnapshot(long generation) {
+			this.generation = generation;
+		}
+
 	}
 
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.profiler.RequestProfile;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.provider.Provider;
 
@@ -95,8 +96,17 @@ public class ProviderManagerImpl
 
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
+		RequestProfile requestProfile = RequestProfile.getRequestProfile(
+			httpServletRequest);
+
+		long startNanos = requestProfile.start();
+
+		Optional<T> contextOptional = optional.map(
 			provider -> provider.createContext(httpServletRequest));
+
+		requestProfile.record("provider", clazz.getName(), startNanos);
+
+		return contextOptional;
 	}
 
 	private Logger _logger = getLogger(getClass());
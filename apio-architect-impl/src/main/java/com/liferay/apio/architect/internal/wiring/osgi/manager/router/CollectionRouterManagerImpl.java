@@ -115,13 +115,24 @@ public class CollectionRouterManagerImpl
 
 				Representor<Object> representor = representorOptional.get();
 
+				Optional<ItemRoutes<Object, Object>> optional =
+					_itemRouterManager.getItemRoutesOptional(name);
+
+				if (!optional.isPresent()) {
+					_logger.warn(
+						"Missing item router for resource with name {}", name);
+
+					return;
+				}
+
 				Set<String> neededProviders = new TreeSet<>();
 
 				Builder builder = new BuilderImpl<>(
 					name, curry(_providerManager::provideMandatory),
 					neededProviders::add,
 					_pathIdentifierMapperManager::mapToIdentifierOrFail,
-					representor::getIdentifier, _nameManager::getNameOptional);
+					representor::getIdentifier, _nameManager::getNameOptional,
+					optional.get());
 
 				@SuppressWarnings("unchecked")
 				CollectionRoutes collectionRoutes =
@@ -137,16 +148,6 @@ public class CollectionRouterManagerImpl
 					return;
 				}
 
-				Optional<ItemRoutes<Object, Object>> optional =
-					_itemRouterManager.getItemRoutesOptional(name);
-
-				if (!optional.isPresent()) {
-					_logger.warn(
-						"Missing item router for resource with name {}", name);
-
-					return;
-				}
-
 				INSTANCE.putRootResourceName(name);
 				INSTANCE.putCollectionRoutes(name, collectionRoutes);
 			});
@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.Mana
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.liferay.apio.architect.internal.cache.ModelCacheManager;
 import com.liferay.apio.architect.internal.routes.ItemRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -98,7 +99,8 @@ public class ItemRouterManagerImpl
 					_pathIdentifierMapperManager::mapToIdentifierOrFail,
 					identifier -> _pathIdentifierMapperManager.mapToPath(
 						name, identifier),
-					_nameManager::getNameOptional);
+					_nameManager::getNameOptional,
+					_modelCacheManager.getModelCache(name));
 
 				@SuppressWarnings("unchecked")
 				ItemRoutes itemRoutes = itemRouter.itemRoutes(builder);
@@ -119,6 +121,9 @@ public class ItemRouterManagerImpl
 
 	private Logger _logger = getLogger(getClass());
 
+	@Reference
+	private ModelCacheManager _modelCacheManager;
+
 	@Reference
 	private NameManager _nameManager;
 
@@ -0,0 +1,316 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.warmup;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCacheListener;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.CollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Computes the manager caches in the background once the registry settles, so
+ * the first request after a deploy doesn't pay for running every router.
+ *
+ * <p>
+ * Every {@code ManagerCache} clear restarts a countdown of {@link
+ * ManagerCacheWarmUpConfiguration#settleDelay()} milliseconds. When it ends,
+ * the representors, routes and custom documentation are computed in parallel.
+ * Caches that depend on others (for example, collection routes on item routes)
+ * wait for them through the cache's own locks. Each cache is published
+ * atomically when its computation finishes, and discarded if the registry
+ * changes in the meantime.
+ * </p>
+ *
+ * <p>
+ * The compute times of each manager and service, as well as the failures, are
+ * logged as a summary and available through {@link
+ * #getLastWarmUpReportOptional()}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPid = "com.liferay.apio.architect.internal.wiring.osgi.manager.warmup.ManagerCacheWarmUpConfiguration",
+	immediate = true, service = ManagerCacheWarmUp.class
+)
+public class ManagerCacheWarmUp implements ManagerCacheListener {
+
+	/**
+	 * Returns the report of the last finished warm up, if present; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the report of the last finished warm up, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<ManagerCacheWarmUpReport> getLastWarmUpReportOptional() {
+		return Optional.ofNullable(_lastManagerCacheWarmUpReport);
+	}
+
+	@Override
+	public void onCleared() {
+		_scheduleWarmUp();
+	}
+
+	@Override
+	public void onServiceComputed(
+		Class<?> managedClass, Object key, long elapsedNanos) {
+
+		ManagerCacheWarmUpReport managerCacheWarmUpReport =
+			_managerCacheWarmUpReport;
+
+		if (managerCacheWarmUpReport != null) {
+			managerCacheWarmUpReport.addService(
+				managedClass, key, elapsedNanos);
+		}
+	}
+
+	@Override
+	public void onServiceFailed(
+		Class<?> managedClass, Object key, Exception exception) {
+
+		ManagerCacheWarmUpReport managerCacheWarmUpReport =
+			_managerCacheWarmUpReport;
+
+		if (managerCacheWarmUpReport != null) {
+			managerCacheWarmUpReport.addServiceFailure(
+				managedClass, key, exception);
+		}
+	}
+
+	/**
+	 * Computes every manager cache and waits for them to be published.
+	 *
+	 * @return the report of the warm up
+	 */
+	public ManagerCacheWarmUpReport warmUp() {
+		ManagerCacheWarmUpReport managerCacheWarmUpReport =
+			new ManagerCacheWarmUpReport();
+
+		_managerCacheWarmUpReport = managerCacheWarmUpReport;
+
+		long generation = INSTANCE.getGeneration();
+		long start = System.nanoTime();
+
+		try {
+			Map<String, Runnable> runnables = _getRunnables();
+
+			CompletableFuture<?>[] completableFutures = runnables.entrySet(
+			).stream(
+			).map(
+				entry -> CompletableFuture.runAsync(
+					() -> _compute(
+						managerCacheWarmUpReport, entry.getKey(),
+						entry.getValue()),
+					_executorService)
+			).toArray(
+				CompletableFuture[]::new
+			);
+
+			CompletableFuture.allOf(completableFutures).join();
+		}
+		finally {
+			_managerCacheWarmUpReport = null;
+		}
+
+		managerCacheWarmUpReport.finish(
+			System.nanoTime() - start, generation != INSTANCE.getGeneration());
+
+		_lastManagerCacheWarmUpReport = managerCacheWarmUpReport;
+
+		return managerCacheWarmUpReport;
+	}
+
+	@Activate
+	protected void activate(
+		ManagerCacheWarmUpConfiguration managerCacheWarmUpConfiguration) {
+
+		_managerCacheWarmUpConfiguration = managerCacheWarmUpConfiguration;
+
+		_executorService = Executors.newFixedThreadPool(
+			Math.max(1, managerCacheWarmUpConfiguration.threads()),
+			_getThreadFactory("Apio Architect manager cache warm up"));
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			_getThreadFactory("Apio Architect manager cache warm up timer"));
+
+		INSTANCE.addListener(this);
+
+		_scheduleWarmUp();
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		INSTANCE.removeListener(this);
+
+		_scheduledExecutorService.shutdownNow();
+		_executorService.shutdownNow();
+	}
+
+	@Modified
+	protected void modified(
+		ManagerCacheWarmUpConfiguration managerCacheWarmUpConfiguration) {
+
+		_managerCacheWarmUpConfiguration = managerCacheWarmUpConfiguration;
+
+		_scheduleWarmUp();
+	}
+
+	private void _compute(
+		ManagerCacheWarmUpReport managerCacheWarmUpReport, String name,
+		Runnable runnable) {
+
+		long start = System.nanoTime();
+
+		try {
+			runnable.run();
+
+			managerCacheWarmUpReport.addManager(
+				name, System.nanoTime() - start, null);
+		}
+		catch (Exception e) {
+			managerCacheWarmUpReport.addManager(
+				name, System.nanoTime() - start, e);
+		}
+	}
+
+	private Map<String, Runnable> _getRunnables() {
+		Map<String, Runnable> runnables = new LinkedHashMap<>();
+
+		runnables.put(
+			"collectionRoutes", _collectionRouterManager::getCollectionRoutes);
+		runnables.put(
+			"customDocumentation",
+			_customDocumentationManager::getCustomDocumentation);
+		runnables.put("itemRoutes", _itemRouterManager::getItemRoutes);
+		runnables.put(
+			"nestedCollectionRoutes",
+			_nestedCollectionRouterManager::getNestedCollectionRoutes);
+		runnables.put("representors", _representableManager::getRepresentors);
+		runnables.put(
+			"reusableNestedCollectionRoutes",
+			_reusableNestedCollectionRouterManager::
+				getReusableCollectionRoutes);
+
+		return runnables;
+	}
+
+	private ThreadFactory _getThreadFactory(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	private void _scheduleWarmUp() {
+		ManagerCacheWarmUpConfiguration managerCacheWarmUpConfiguration =
+			_managerCacheWarmUpConfiguration;
+
+		synchronized (this) {
+			if (_scheduledFuture != null) {
+				_scheduledFuture.cancel(false);
+
+				_scheduledFuture = null;
+			}
+
+			if (!managerCacheWarmUpConfiguration.enabled() ||
+				_scheduledExecutorService.isShutdown()) {
+
+				return;
+			}
+
+			_scheduledFuture = _scheduledExecutorService.schedule(
+				this::_warmUpAndLog,
+				Math.max(0, managerCacheWarmUpConfiguration.settleDelay()),
+				MILLISECONDS);
+		}
+	}
+
+	private void _warmUpAndLog() {
+		ManagerCacheWarmUpReport managerCacheWarmUpReport = warmUp();
+
+		if (_logger.isInfoEnabled()) {
+			_logger.info(
+				managerCacheWarmUpReport.getSummary(
+					_managerCacheWarmUpConfiguration.slowestServicesCount()));
+		}
+
+		Map<String, Exception> failures =
+			managerCacheWarmUpReport.getFailures();
+
+		failures.forEach(
+			(name, exception) -> _logger.warn(
+				"Unable to warm up " + name, exception));
+	}
+
+	@Reference
+	private CollectionRouterManager _collectionRouterManager;
+
+	@Reference
+	private CustomDocumentationManager _customDocumentationManager;
+
+	private ExecutorService _executorService;
+
+	@Reference
+	private ItemRouterManager _itemRouterManager;
+
+	private volatile ManagerCacheWarmUpReport _lastManagerCacheWarmUpReport;
+	private final Logger _logger = getLogger(getClass());
+	private volatile ManagerCacheWarmUpConfiguration
+		_managerCacheWarmUpConfiguration;
+	private volatile ManagerCacheWarmUpReport _managerCacheWarmUpReport;
+
+	@Reference
+	private NestedCollectionRouterManager _nestedCollectionRouterManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Reference
+	private ReusableNestedCollectionRouterManager
+		_reusableNestedCollectionRouterManager;
+
+	private ScheduledExecutorService _scheduledExecutorService;
+	private Future<?> _scheduledFuture;
+
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.warmup;
+
+/**
+ * Configures how the manager caches are warmed up after the registry changes.
+ *
+ * @author Alejandro Hernández
+ */
+public @interface ManagerCacheWarmUpConfiguration {
+
+	/**
+	 * Returns {@code true} if the manager caches should be computed in the
+	 * background after every registry change. If {@code false}, they're
+	 * computed by the first request that needs them.
+	 *
+	 * @return {@code true} if the manager caches should be warmed up; {@code
+	 *         false} otherwise
+	 */
+	public boolean enabled() default true;
+
+	/**
+	 * Returns the time, in milliseconds, the registry must stay unchanged
+	 * before the warm up starts. Every change during this time restarts the
+	 * countdown, so a deploy of several bundles only triggers one warm up.
+	 *
+	 * @return the time the registry must stay unchanged, in milliseconds
+	 */
+	public long settleDelay() default 500;
+
+	/**
+	 * Returns the number of services with the longest compute times to include
+	 * in the warm up summary.
+	 *
+	 * @return the number of slowest services to include in the summary
+	 */
+	public int slowestServicesCount() default 5;
+
+	/**
+	 * Returns the number of threads used to compute the manager caches in
+	 * parallel.
+	 *
+	 * @return the number of threads used to compute the caches
+	 */
+	public int threads() default 4;
+
+}
\ No newline at end of file
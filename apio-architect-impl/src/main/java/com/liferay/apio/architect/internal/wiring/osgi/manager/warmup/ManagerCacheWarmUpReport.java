@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.warmup;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contains the compute times and failures of a manager cache warm up.
+ *
+ * <p>
+ * Compute times are reported per manager (the time spent computing each
+ * cache) and per service (the time spent computing each router or
+ * representable). Services are identified by their managed class's simple
+ * name and their key (for example, {@code ItemRouter:people}).
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheWarmUpReport {
+
+	/**
+	 * Returns the time spent by the whole warm up, in nanoseconds.
+	 *
+	 * @return the time spent by the warm up, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return _elapsedNanos;
+	}
+
+	/**
+	 * Returns the exceptions thrown while warming up, indexed by the manager
+	 * or service that threw them.
+	 *
+	 * @return the exceptions thrown while warming up
+	 */
+	public Map<String, Exception> getFailures() {
+		return Collections.unmodifiableMap(_failures);
+	}
+
+	/**
+	 * Returns the time spent computing each manager cache, in nanoseconds.
+	 *
+	 * @return the time spent computing each manager cache
+	 */
+	public Map<String, Long> getManagerNanos() {
+		return Collections.unmodifiableMap(_managerNanos);
+	}
+
+	/**
+	 * Returns the time spent computing each service, in nanoseconds.
+	 *
+	 * @return the time spent computing each service
+	 */
+	public Map<String, Long> getServiceNanos() {
+		return Collections.unmodifiableMap(_serviceNanos);
+	}
+
+	/**
+	 * Returns a one line summary of this report, including the {@code
+	 * slowestServicesCount} services with the longest compute times.
+	 *
+	 * @param  slowestServicesCount the number of slowest services to include
+	 * @return the summary of this report
+	 */
+	public String getSummary(int slowestServicesCount) {
+		StringJoiner stringJoiner = new StringJoiner(", ");
+
+		Map<String, Long> managerNanos = new TreeMap<>(_managerNanos);
+
+		managerNanos.forEach(
+			(name, nanos) -> stringJoiner.add(name + "=" + _toMillis(nanos)));
+
+		Stream<Map.Entry<String, Long>> stream =
+			_serviceNanos.entrySet().stream();
+
+		String slowestServices = stream.sorted(
+			Map.Entry.<String, Long>comparingByValue(
+			).reversed(
+			).thenComparing(
+				Map.Entry.comparingByKey(Comparator.naturalOrder())
+			)
+		).limit(
+			Math.max(0, slowestServicesCount)
+		).map(
+			entry -> entry.getKey() + "=" + _toMillis(entry.getValue())
+		).collect(
+			Collectors.joining(", ")
+		);
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("Warmed up manager caches in ");
+		sb.append(_toMillis(_elapsedNanos));
+		sb.append(" {");
+		sb.append(stringJoiner.toString());
+		sb.append("}, slowest services {");
+		sb.append(slowestServices);
+		sb.append("}, ");
+		sb.append(_failures.size());
+		sb.append(" failures");
+
+		if (_discarded) {
+			sb.append(", discarded because the registry changed");
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns {@code true} if the registry changed while warming up, so the
+	 * computed caches were discarded and a new warm up has been scheduled.
+	 *
+	 * @return {@code true} if the computed caches were discarded; {@code false}
+	 *         otherwise
+	 */
+	public boolean isDiscarded() {
+		return _discarded;
+	}
+
+	protected void addManager(String name, long nanos, Exception exception) {
+		_managerNanos.put(name, nanos);
+
+		if (exception != null) {
+			_failures.put(name, exception);
+		}
+	}
+
+	protected void addService(Class<?> managedClass, Object key, long nanos) {
+		String name = _getServiceName(managedClass, key);
+
+		_serviceNanos.merge(name, nanos, Long::sum);
+	}
+
+	protected void addServiceFailure(
+		Class<?> managedClass, Object key, Exception exception) {
+
+		_failures.put(_getServiceName(managedClass, key), exception);
+	}
+
+	protected void finish(long elapsedNanos, boolean discarded) {
+		_elapsedNanos = elapsedNanos;
+		_discarded = discarded;
+	}
+
+	private String _getServiceName(Class<?> managedClass, Object key) {
+		if (key instanceof Class) {
+			Class<?> clazz = (Class<?>)key;
+
+			key = clazz.getName();
+		}
+
+		return managedClass.getSimpleName() + ":" + key;
+	}
+
+	private String _toMillis(long nanos) {
+		return NANOSECONDS.toMillis(nanos) + " ms";
+	}
+
+	private volatile boolean _discarded;
+	private volatile long _elapsedNanos;
+	private final Map<String, Exception> _failures = new ConcurrentHashMap<>();
+	private final Map<String, Long> _managerNanos = new ConcurrentHashMap<>();
+	private final Map<String, Long> _serviceNanos = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
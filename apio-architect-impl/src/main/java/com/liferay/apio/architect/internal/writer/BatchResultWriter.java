@@ -16,7 +16,11 @@ package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createSingleURL;
 
+import static javax.ws.rs.core.Response.Status.Family.SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
@@ -26,9 +30,13 @@ import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
 /**
  * Writes a {@link BatchResult}.
  *
@@ -45,8 +53,24 @@ public class BatchResultWriter<T> {
 	 * @return the batch result's representation, if the {@code Representor}
 	 *         exists for the resource; returns {@code Optional#empty()}
 	 *         otherwise
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public Optional<String> write() {
+		Optional<JSONObjectBuilder> optional = writeJSONObjectBuilder();
+
+		return optional.map(JSONObjectBuilder::build);
+	}
+
+	/**
+	 * Writes the handled batch result to a {@link JSONObjectBuilder}, without
+	 * serializing it. If no {@code Representor} exists for the resource, this
+	 * method returns {@code Optional#empty()}.
+	 *
+	 * @return the JSON object builder containing the batch result, if the
+	 *         {@code Representor} exists for the resource; returns {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<JSONObjectBuilder> writeJSONObjectBuilder() {
 		Optional<Representor<Object>> optional = _representorFunction.apply(
 			_batchResult.resourceName);
 
@@ -56,6 +80,9 @@ public class BatchResultWriter<T> {
 
 		Representor<Object> representor = optional.get();
 
+		_batchResultMessageMapper.onStart(
+			_jsonObjectBuilder, _batchResult, _requestInfo);
+
 		Collection<T> identifiers = _batchResult.getIdentifiers();
 
 		_batchResultMessageMapper.mapItemTotalCount(
@@ -65,6 +92,8 @@ public class BatchResultWriter<T> {
 
 		List<String> types = representor.getTypes();
 
+		Map<T, Exception> failures = _batchResult.getFailures();
+
 		for (T identifier : identifiers) {
 			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
 
@@ -83,6 +112,14 @@ public class BatchResultWriter<T> {
 					_batchResultMessageMapper.mapItemTypes(
 						_jsonObjectBuilder, itemJsonObjectBuilder, types);
 
+					Exception exception = failures.get(identifier);
+
+					if (exception != null) {
+						_batchResultMessageMapper.mapItemError(
+							_jsonObjectBuilder, itemJsonObjectBuilder,
+							_getAPIError(exception));
+					}
+
 					_batchResultMessageMapper.onFinishItem(
 						_jsonObjectBuilder, itemJsonObjectBuilder);
 				}
@@ -91,7 +128,7 @@ public class BatchResultWriter<T> {
 
 		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return Optional.of(_jsonObjectBuilder);
 	}
 
 	/**
@@ -108,10 +145,11 @@ public class BatchResultWriter<T> {
 		public static <T> BatchResultMessageMapperStep<T> batchResult(
 			BatchResult<T> batchResult) {
 
-			return batchResultMessageMapper -> pathFunction ->
-				representorFunction -> requestInfo ->
+			return batchResultMessageMapper -> exceptionMapperFunction ->
+				pathFunction -> representorFunction -> requestInfo ->
 					() -> new BatchResultWriter<>(
-						batchResult, batchResultMessageMapper, pathFunction,
+						batchResult, batchResultMessageMapper,
+						exceptionMapperFunction, pathFunction,
 						representorFunction, requestInfo);
 		}
 
@@ -124,7 +162,7 @@ public class BatchResultWriter<T> {
 			 * @param  batchResultMessageMapper the batch result message mapper
 			 * @return the updated builder
 			 */
-			public PathFunctionStep<T> batchResultMessageMapper(
+			public ExceptionMapperFunctionStep<T> batchResultMessageMapper(
 				BatchResultMessageMapper<T> batchResultMessageMapper);
 
 		}
@@ -141,6 +179,24 @@ public class BatchResultWriter<T> {
 
 		}
 
+		public interface ExceptionMapperFunctionStep<T> {
+
+			/**
+			 * Adds information to the builder about the function that converts
+			 * the exception of a failed item to its {@link APIError}
+			 * representation.
+			 *
+			 * @param  exceptionMapperFunction the function that converts an
+			 *         exception to an {@code APIError}, if a mapper for it
+			 *         exists
+			 * @return the updated builder
+			 */
+			public PathFunctionStep<T> exceptionMapperFunction(
+				Function<Exception, Optional<APIError>>
+					exceptionMapperFunction);
+
+		}
+
 		public interface PathFunctionStep<T> {
 
 			/**
@@ -191,12 +247,14 @@ public class BatchResultWriter<T> {
 	private BatchResultWriter(
 		BatchResult<T> batchResult,
 		BatchResultMessageMapper<T> batchResultMessageMapper,
+		Function<Exception, Optional<APIError>> exceptionMapperFunction,
 		PathFunction pathFunction,
 		Function<String, Optional<Representor<Object>>> representorFunction,
 		RequestInfo requestInfo) {
 
 		_batchResult = batchResult;
 		_batchResultMessageMapper = batchResultMessageMapper;
+		_exceptionMapperFunction = exceptionMapperFunction;
 		_pathFunction = pathFunction;
 		_representorFunction = representorFunction;
 		_requestInfo = requestInfo;
@@ -204,8 +262,38 @@ public class BatchResultWriter<T> {
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	private APIError _getAPIError(Exception exception) {
+		Optional<APIError> optional = _exceptionMapperFunction.apply(exception);
+
+		return optional.orElseGet(
+			() -> {
+				Response.StatusType statusType = INTERNAL_SERVER_ERROR;
+
+				if (exception instanceof WebApplicationException) {
+					WebApplicationException webApplicationException =
+						(WebApplicationException)exception;
+
+					Response response = webApplicationException.getResponse();
+
+					statusType = response.getStatusInfo();
+				}
+
+				String type = "client-error";
+
+				if (statusType.getFamily() == SERVER_ERROR) {
+					type = "server-error";
+				}
+
+				return new APIError(
+					exception, statusType.getReasonPhrase(), type,
+					statusType.getStatusCode());
+			});
+	}
+
 	private final BatchResult<T> _batchResult;
 	private final BatchResultMessageMapper<T> _batchResultMessageMapper;
+	private final Function<Exception, Optional<APIError>>
+		_exceptionMapperFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
 	private final Function<String, Optional<Representor<Object>>>
@@ -24,6 +24,7 @@ import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapp
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.operation.RetrieveOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
 import com.liferay.apio.architect.internal.request.RequestInfo;
@@ -80,10 +81,26 @@ public class DocumentationWriter {
 	 * Writes the {@link Documentation} to a string.
 	 *
 	 * @return the JSON representation of the {@code Documentation}
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public String write() {
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder();
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes the {@link Documentation} to a {@link JSONObjectBuilder}, without
+	 * serializing it.
+	 *
+	 * @return the JSON object builder containing the {@code Documentation}
+	 */
+	public JSONObjectBuilder writeJSONObjectBuilder() {
 		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
 
+		_documentationMessageMapper.onStart(
+			jsonObjectBuilder, _documentation, _requestInfo);
+
 		_writeDocumentationMetadata(jsonObjectBuilder);
 
 		Map<String, Representor> representors =
@@ -131,7 +148,7 @@ public class DocumentationWriter {
 
 		_documentationMessageMapper.onFinish(jsonObjectBuilder, _documentation);
 
-		return jsonObjectBuilder.build();
+		return jsonObjectBuilder;
 	}
 
 	/**
@@ -390,6 +407,18 @@ public class DocumentationWriter {
 				_writeOperation(
 					updateOperation, resourceJsonObjectBuilder, name, type);
 
+				Optional<?> partialUpdateOptional =
+					itemRoutes.getPartialUpdateItemFunctionOptional();
+
+				if (partialUpdateOptional.isPresent()) {
+					PartialUpdateOperation partialUpdateOperation =
+						new PartialUpdateOperation(optional.orElse(null), name);
+
+					_writeOperation(
+						partialUpdateOperation, resourceJsonObjectBuilder, name,
+						type);
+				}
+
 				DeleteOperation deleteOperation = new DeleteOperation(name);
 
 				_writeOperation(
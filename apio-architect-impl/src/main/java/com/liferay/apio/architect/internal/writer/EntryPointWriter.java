@@ -38,10 +38,26 @@ public class EntryPointWriter {
 	 * Writes the handled {@link EntryPoint} to a string.
 	 *
 	 * @return the entry point's representation
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public String write() {
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder();
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes the handled {@link EntryPoint} to a {@link JSONObjectBuilder},
+	 * without serializing it.
+	 *
+	 * @return the JSON object builder containing the entry point
+	 */
+	public JSONObjectBuilder writeJSONObjectBuilder() {
 		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
 
+		_entryPointMessageMapper.onStart(
+			_jsonObjectBuilder, _entryPoint, _requestInfo);
+
 		_entryPointMessageMapper.mapSelfURL(
 			_jsonObjectBuilder, applicationURL.get());
 
@@ -63,7 +79,7 @@ public class EntryPointWriter {
 
 		_entryPointMessageMapper.onFinish(_jsonObjectBuilder, _entryPoint);
 
-		return _jsonObjectBuilder.build();
+		return _jsonObjectBuilder;
 	}
 
 	/**
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import java.util.List;
+
+/**
+ * Receives the basic fields of a model, already resolved and typed, while a
+ * {@link FieldsWriter} executes a {@link
+ * com.liferay.apio.architect.internal.representor.RenderPlan}. Each writer
+ * implements this interface to map the fields with its message mapper.
+ *
+ * @author Alejandro Hernández
+ * @see    FieldsWriter#writeBasicFields(FieldRenderer)
+ */
+public interface FieldRenderer {
+
+	/**
+	 * Renders a boolean field.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderBoolean(String key, Boolean value);
+
+	/**
+	 * Renders a boolean list field.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderBooleanList(String key, List<Boolean> value);
+
+	/**
+	 * Renders a link, including the links to binary resources.
+	 *
+	 * @param key the link's key
+	 * @param url the link's URL
+	 */
+	public void renderLink(String key, String url);
+
+	/**
+	 * Renders a number field.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderNumber(String key, Number value);
+
+	/**
+	 * Renders a number list field.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderNumberList(String key, List<Number> value);
+
+	/**
+	 * Renders a string field, including localized strings and absolute URLs
+	 * calculated from relative ones.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderString(String key, String value);
+
+	/**
+	 * Renders a string list field.
+	 *
+	 * @param key the field's key
+	 * @param value the field's value
+	 */
+	public void renderStringList(String key, List<String> value);
+
+}
@@ -30,27 +30,44 @@ import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddedPagesResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.internal.embedded.ModelIdentityMap;
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.profiler.RequestProfile;
+import com.liferay.apio.architect.internal.representor.RenderPlan;
+import com.liferay.apio.architect.internal.representor.RenderPlan.FieldType;
+import com.liferay.apio.architect.internal.representor.RenderPlan.Step;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.routes.PermissionsMemo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.servlet.http.HttpServletRequest;
+
 import org.slf4j.Logger;
 
 /**
@@ -99,6 +116,80 @@ public class FieldsWriter<T> {
 		_pathFunction = pathFunction;
 	}
 
+	/**
+	 * Adds the handled model as a pending parent of the {@link
+	 * EmbeddedPagesResolver} for every related collection that is going to be
+	 * embedded, so the pages of every item in a collection page can be fetched
+	 * together.
+	 *
+	 * @param nameFunction the function that gets a class's {@code
+	 *        com.liferay.apio.architect.resource.CollectionResource} name
+	 */
+	public void addPendingPages(
+		Function<String, Optional<String>> nameFunction) {
+
+		EmbeddedPagesResolver embeddedPagesResolver =
+			_requestInfo.getEmbeddedPagesResolver();
+
+		Stream<RelatedCollection<T, ?>> stream =
+			_baseRepresentor.getRelatedCollections();
+
+		stream.forEach(
+			relatedCollection -> _getEmbeddedParentIdentifierOptional(
+				relatedCollection
+			).ifPresent(
+				identifier -> _getRelatedCollectionName(
+					relatedCollection, nameFunction
+				).ifPresent(
+					name -> embeddedPagesResolver.addPending(
+						_path, name, identifier)
+				)
+			));
+	}
+
+	/**
+	 * Adds the identifiers of the related models that are going to be embedded
+	 * as pending identifiers of the {@link PermissionsMemo}, so their
+	 * permissions can be evaluated together.
+	 *
+	 * @param permissionsMemo the request's permissions memo
+	 */
+	public void addPendingPermissions(PermissionsMemo permissionsMemo) {
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		Predicate<String> embedded = _requestInfo.getEmbedded();
+
+		for (RelatedModel<T, ?> relatedModel :
+				_baseRepresentor.getRelatedModels()) {
+
+			String key = relatedModel.getKey();
+
+			if (!fieldsPredicate.test(key)) {
+				continue;
+			}
+
+			FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+				_embeddedPathElements, key);
+
+			if (!embedded.test(_getEmbeddedPath(embeddedPathElements))) {
+				continue;
+			}
+
+			Function<T, ?> modelToIdentifierFunction =
+				relatedModel.getModelToIdentifierFunction();
+
+			Object identifier = modelToIdentifierFunction.apply(
+				_singleModel.getModel());
+
+			if (identifier != null) {
+				Class<?> identifierClass = relatedModel.getIdentifierClass();
+
+				permissionsMemo.addPending(
+					identifierClass.getName(), identifier);
+			}
+		}
+	}
+
 	/**
 	 * Returns the {@link Fields} predicate from the internal {@link
 	 * RequestInfo}. If no {@code Fields} information is provided to the {@code
@@ -113,6 +204,15 @@ public class FieldsWriter<T> {
 		return fields.apply(_baseRepresentor.getTypes());
 	}
 
+	/**
+	 * Returns the single model this writer handles.
+	 *
+	 * @return the single model
+	 */
+	public SingleModel<T> getSingleModel() {
+		return _singleModel;
+	}
+
 	/**
 	 * Writes the relative URL fields for the model's application. This method
 	 * uses a consumer so each {@code javax.ws.rs.ext.MessageBodyWriter} can
@@ -131,6 +231,25 @@ public class FieldsWriter<T> {
 				biConsumer));
 	}
 
+	/**
+	 * Writes every basic field of the model in a single pass, by executing
+	 * the representor's {@link RenderPlan} already filtered with the {@link
+	 * Fields} selected in the request. Types, related models, related
+	 * collections and nested fields aren't written by this method.
+	 *
+	 * @param fieldRenderer the renderer called to write each field
+	 */
+	public void writeBasicFields(FieldRenderer fieldRenderer) {
+		RenderPlan<T> renderPlan = _requestInfo.getRenderPlan(_baseRepresentor);
+
+		T model = _singleModel.getModel();
+
+		for (Step<T> step : renderPlan.getSteps()) {
+			_tryToWriteField(
+				step.getKey(), key -> _renderStep(step, model, fieldRenderer));
+		}
+	}
+
 	/**
 	 * Writes binary resources. This method uses a {@code BiConsumer} so each
 	 * {@code javax.ws.rs.ext.MessageBodyWriter} can write each binary
@@ -471,6 +590,66 @@ public class FieldsWriter<T> {
 			});
 	}
 
+	/**
+	 * Writes the related collections contained in the {@link Representor} this
+	 * writer handles. Related collections that are embedded, and whose first
+	 * page can be resolved by the request's {@link EmbeddedPagesResolver}, are
+	 * written inline with the {@code TriConsumer}; the rest are written as
+	 * links with the {@code BiConsumer}.
+	 *
+	 * @param nameFunction the function that gets a class's {@code
+	 *        com.liferay.apio.architect.resource.CollectionResource} name
+	 * @param biConsumer the consumer that writes a linked related collection's
+	 *        URL
+	 * @param pageItemsTriConsumer the consumer that writes the first page of an
+	 *        embedded related collection, using the collection's name, its
+	 *        page items and its embedded path elements
+	 */
+	public void writeRelatedCollections(
+		Function<String, Optional<String>> nameFunction,
+		BiConsumer<String, FunctionalList<String>> biConsumer,
+		TriConsumer<String, PageItems<Object>, FunctionalList<String>>
+			pageItemsTriConsumer) {
+
+		EmbeddedPagesResolver embeddedPagesResolver =
+			_requestInfo.getEmbeddedPagesResolver();
+
+		Stream<RelatedCollection<T, ?>> stream =
+			_baseRepresentor.getRelatedCollections();
+
+		stream.forEach(
+			relatedCollection -> _getRelatedCollectionName(
+				relatedCollection, nameFunction
+			).ifPresent(
+				name -> {
+					Optional<PageItems<Object>> pageItemsOptional =
+						_getEmbeddedParentIdentifierOptional(
+							relatedCollection
+						).flatMap(
+							identifier ->
+								embeddedPagesResolver.getPageItemsOptional(
+									_path, name, identifier)
+						);
+
+					if (pageItemsOptional.isPresent()) {
+						String key = relatedCollection.getKey();
+
+						_tryToWriteField(
+							key,
+							__ -> pageItemsTriConsumer.accept(
+								name, pageItemsOptional.get(),
+								new FunctionalList<>(
+									_embeddedPathElements, key)));
+					}
+					else {
+						writeRelatedCollection(
+							relatedCollection, name, _embeddedPathElements,
+							biConsumer);
+					}
+				}
+			));
+	}
+
 	/**
 	 * Writes a related model. This method uses three consumers: one that writes
 	 * the model's info, one that writes its URL if it's a linked related model,
@@ -498,14 +677,7 @@ public class FieldsWriter<T> {
 			(url, embeddedPathElements) -> {
 				Predicate<String> embedded = _requestInfo.getEmbedded();
 
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
-
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
-
-				if (embedded.test(embeddedPath)) {
+				if (embedded.test(_getEmbeddedPath(embeddedPathElements))) {
 					Optional<SingleModel<U>> singleModelOptional =
 						getSingleModel(
 							relatedModel, _singleModel,
@@ -580,6 +752,16 @@ public class FieldsWriter<T> {
 	 * each {@code javax.ws.rs.ext.MessageBodyWriter} can write the related
 	 * model differently.
 	 *
+	 * <p>
+	 * Embedded related models are resolved together by the request's {@link
+	 * EmbeddedModelsResolver}, and then written in the order they were declared
+	 * in the {@code Representor}. If the request's {@link EmbeddingDeadline}
+	 * expires before a model is resolved, the model is written as a linked
+	 * related model instead, and the response is marked as partially embedded.
+	 * Each model is read from its own supplier's result, so a model that
+	 * doesn't exist is told apart from one the resolver stopped waiting for.
+	 * </p>
+	 *
 	 * @param modelBiConsumer the consumer that writes the related model's
 	 *        information
 	 * @param linkedURLBiConsumer the consumer that writes a linked related
@@ -593,13 +775,99 @@ public class FieldsWriter<T> {
 		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
 		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
 
-		List<RelatedModel<T, ?>> embeddedRelatedModels =
+		List<RelatedModel<T, ?>> relatedModels =
 			_baseRepresentor.getRelatedModels();
 
-		embeddedRelatedModels.forEach(
+		Predicate<String> embedded = _requestInfo.getEmbedded();
+
+		EmbeddingDeadline embeddingDeadline =
+			_requestInfo.getEmbeddingDeadline();
+
+		HttpServletRequest httpServletRequest =
+			_requestInfo.getHttpServletRequest();
+
+		addPendingPermissions(
+			PermissionsMemo.getPermissionsMemo(httpServletRequest));
+
+		RequestProfile requestProfile = RequestProfile.getRequestProfile(
+			httpServletRequest);
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+		List<Runnable> runnables = new ArrayList<>();
+
+		relatedModels.forEach(
 			relatedModel -> writeRelatedModel(
-				relatedModel, pathFunction, modelBiConsumer,
-				linkedURLBiConsumer, embeddedURLBiConsumer));
+				relatedModel, pathFunction,
+				(url, embeddedPathElements) -> {
+					String key = relatedModel.getKey();
+
+					String embeddedPath = _getEmbeddedPath(
+						embeddedPathElements);
+
+					if (!embedded.test(embeddedPath)) {
+						runnables.add(
+							() -> _tryToWriteField(
+								key,
+								__ -> linkedURLBiConsumer.accept(
+									url, embeddedPathElements)));
+
+						return;
+					}
+
+					AtomicReference<Optional<SingleModel<?>>>
+						singleModelOptionalReference = new AtomicReference<>();
+
+					suppliers.add(
+						() -> {
+							long startNanos = requestProfile.start();
+
+							Optional<SingleModel<?>> singleModelOptional =
+								_getSingleModelOptional(relatedModel, key);
+
+							requestProfile.record(
+								"embedded", embeddedPath, startNanos);
+
+							singleModelOptionalReference.set(
+								singleModelOptional);
+
+							return singleModelOptional;
+						});
+
+					runnables.add(
+						() -> {
+							Optional<SingleModel<?>> singleModelOptional =
+								singleModelOptionalReference.get();
+
+							if (singleModelOptional == null) {
+								embeddingDeadline.markPartial();
+
+								_tryToWriteField(
+									key,
+									__ -> linkedURLBiConsumer.accept(
+										url, embeddedPathElements));
+							}
+							else if (singleModelOptional.isPresent()) {
+								_tryToWriteField(
+									key,
+									__ -> {
+										embeddedURLBiConsumer.accept(
+											url, embeddedPathElements);
+										modelBiConsumer.accept(
+											singleModelOptional.get(),
+											embeddedPathElements);
+									});
+							}
+						});
+				}));
+
+		if (!suppliers.isEmpty()) {
+			EmbeddedModelsResolver embeddedModelsResolver =
+				_requestInfo.getEmbeddedModelsResolver();
+
+			embeddedModelsResolver.resolve(suppliers, embeddingDeadline);
+		}
+
+		runnables.forEach(Runnable::run);
 	}
 
 	/**
@@ -621,11 +889,16 @@ public class FieldsWriter<T> {
 	/**
 	 * Writes the the handled resource's single URL. This method uses a consumer
 	 * so each {@code javax.ws.rs.ext.MessageBodyWriter} can write the URL
-	 * differently.
+	 * differently. Nested resources don't have a URL of their own, so nothing
+	 * is written for them.
 	 *
 	 * @param urlConsumer the consumer that writes the URL
 	 */
 	public void writeSingleURL(Consumer<String> urlConsumer) {
+		if (_baseRepresentor.isNested()) {
+			return;
+		}
+
 		String url = createSingleURL(_requestInfo.getApplicationURL(), _path);
 
 		urlConsumer.accept(url);
@@ -667,6 +940,156 @@ public class FieldsWriter<T> {
 		consumer.accept(_baseRepresentor.getTypes());
 	}
 
+	private String _getEmbeddedPath(
+		FunctionalList<String> embeddedPathElements) {
+
+		Stream<String> stream = Stream.concat(
+			Stream.of(embeddedPathElements.head()),
+			embeddedPathElements.tailStream());
+
+		return String.join(".", stream.collect(Collectors.toList()));
+	}
+
+	private Optional<Object> _getEmbeddedParentIdentifierOptional(
+		RelatedCollection<T, ?> relatedCollection) {
+
+		if (_baseRepresentor.isNested() ||
+			(relatedCollection.getModelToIdentifierFunction() != null)) {
+
+			return Optional.empty();
+		}
+
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		String key = relatedCollection.getKey();
+
+		if (!fieldsPredicate.test(key)) {
+			return Optional.empty();
+		}
+
+		Predicate<String> embedded = _requestInfo.getEmbedded();
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			_embeddedPathElements, key);
+
+		if (!embedded.test(_getEmbeddedPath(embeddedPathElements))) {
+			return Optional.empty();
+		}
+
+		Representor<T> representor = (Representor<T>)_baseRepresentor;
+
+		return Optional.ofNullable(
+			representor.getIdentifier(_singleModel.getModel()));
+	}
+
+	private Optional<String> _getRelatedCollectionName(
+		RelatedCollection<T, ?> relatedCollection,
+		Function<String, Optional<String>> nameFunction) {
+
+		Class<?> identifierClass = relatedCollection.getIdentifierClass();
+
+		return nameFunction.apply(identifierClass.getName());
+	}
+
+	private <U> Optional<SingleModel<?>> _getSingleModelOptional(
+		RelatedModel<T, U> relatedModel, String key) {
+
+		ModelIdentityMap modelIdentityMap =
+			_requestInfo.getModelIdentityMap();
+
+		SingleModelFunction singleModelFunction =
+			(identifier, identifierClass) -> unsafeCast(
+				modelIdentityMap.getSingleModelOptional(
+					identifierClass.getName(), identifier,
+					() -> unsafeCast(
+						_singleModelFunction.apply(
+							identifier, identifierClass))));
+
+		try {
+			return unsafeCast(
+				getSingleModel(
+					relatedModel, _singleModel, singleModelFunction));
+		}
+		catch (Exception e) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug("Unable to get embedded model " + key, e);
+			}
+
+			return Optional.empty();
+		}
+	}
+
+	private void _renderStep(
+		Step<T> step, T model, FieldRenderer fieldRenderer) {
+
+		String key = step.getKey();
+		FieldType fieldType = step.getFieldType();
+
+		if (fieldType == FieldType.BINARY) {
+			fieldRenderer.renderLink(
+				key,
+				createBinaryURL(_requestInfo.getApplicationURL(), key, _path));
+
+			return;
+		}
+
+		FieldFunction<T, ?> fieldFunction = step.getFieldFunction();
+
+		ModelIdentityMap modelIdentityMap = _requestInfo.getModelIdentityMap();
+
+		Object value = modelIdentityMap.getFieldValue(
+			_singleModel, key, () -> fieldFunction.apply(model));
+
+		if (fieldType == FieldType.APPLICATION_RELATIVE_URL) {
+			value = createAbsoluteURL(
+				_requestInfo.getApplicationURL(), (String)value);
+		}
+		else if (fieldType == FieldType.LOCALIZED_STRING) {
+			Function<AcceptLanguage, String> function = unsafeCast(value);
+
+			value = function.apply(_requestInfo.getAcceptLanguage());
+		}
+		else if (fieldType == FieldType.RELATIVE_URL) {
+			value = createAbsoluteURL(
+				_requestInfo.getServerURL(), (String)value);
+		}
+
+		if ((value == null) ||
+			((value instanceof String) && ((String)value).isEmpty())) {
+
+			return;
+		}
+
+		switch (fieldType) {
+			case BOOLEAN:
+				fieldRenderer.renderBoolean(key, (Boolean)value);
+
+				break;
+			case BOOLEAN_LIST:
+				fieldRenderer.renderBooleanList(key, unsafeCast(value));
+
+				break;
+			case LINK:
+				fieldRenderer.renderLink(key, (String)value);
+
+				break;
+			case NUMBER:
+				fieldRenderer.renderNumber(key, (Number)value);
+
+				break;
+			case NUMBER_LIST:
+				fieldRenderer.renderNumberList(key, unsafeCast(value));
+
+				break;
+			case STRING_LIST:
+				fieldRenderer.renderStringList(key, unsafeCast(value));
+
+				break;
+			default:
+				fieldRenderer.renderString(key, (String)value);
+		}
+	}
+
 	private void _tryToWriteField(String key, Consumer<String> consumer) {
 		try {
 			consumer.accept(key);
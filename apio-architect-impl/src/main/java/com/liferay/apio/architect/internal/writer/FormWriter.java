@@ -53,13 +53,24 @@ public class FormWriter {
 	 * Writes the {@link Form} to a string.
 	 *
 	 * @return the JSON representation of the {@code Form}
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public String write() {
-		JSONObjectBuilder jsonObjectBuilder = _writeForm();
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder();
 
 		return jsonObjectBuilder.build();
 	}
 
+	/**
+	 * Writes the {@link Form} to a {@link JSONObjectBuilder}, without
+	 * serializing it.
+	 *
+	 * @return the JSON object builder containing the {@code Form}
+	 */
+	public JSONObjectBuilder writeJSONObjectBuilder() {
+		return _writeForm();
+	}
+
 	/**
 	 * Creates {@code FormWriter} instances.
 	 */
@@ -158,6 +169,8 @@ public class FormWriter {
 	private JSONObjectBuilder _writeForm() {
 		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
 
+		_formMessageMapper.onStart(jsonObjectBuilder, _form, _requestInfo);
+
 		String url = createFormURL(_requestInfo.getApplicationURL(), _form);
 
 		_formMessageMapper.mapFormURL(jsonObjectBuilder, url);
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionItemsURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedCollectionURL;
@@ -29,15 +30,19 @@ import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.pagination.IdentifiersPageImpl;
 import com.liferay.apio.architect.internal.pagination.PageType;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.routes.PermissionsMemo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -79,17 +84,29 @@ public class PageWriter<T> {
 	}
 
 	/**
-	 * Writes the handled {@link Page} to a string. This method uses a {@link
-	 * FieldsWriter} to write the different fields of its items' {@link
-	 * com.liferay.apio.architect.representor.Representor}. If no {@code
-	 * Representor} or {@code Path} exist for the model, this method returns
-	 * {@code Optional#empty()}.
+	 * Writes the handled {@link Page} to a string.
 	 *
-	 * @return the representation of the {@code Page}, if the {@code
-	 *         Representor} and {@code Path} exist for the model; returns {@code
-	 *         Optional#empty()} otherwise
+	 * @return the string representation of the {@code Page}
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public String write() {
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder();
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes the handled {@link Page} to a {@link JSONObjectBuilder}, without
+	 * serializing it. This method uses a {@link FieldsWriter} to write the
+	 * different fields of its items' {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @return the JSON object builder containing the representation of the
+	 *         {@code Page}
+	 */
+	public JSONObjectBuilder writeJSONObjectBuilder() {
+		_pageMessageMapper.onStart(_jsonObjectBuilder, _page, _requestInfo);
+
 		_pageMessageMapper.mapItemTotalCount(
 			_jsonObjectBuilder, _page.getTotalCount());
 
@@ -105,10 +122,28 @@ public class PageWriter<T> {
 
 		String resourceName = _page.getResourceName();
 
-		items.forEach(
-			model -> _writeItem(
+		List<FieldsWriter<T>> fieldsWriters = new ArrayList<>(items.size());
+
+		for (T model : items) {
+			Optional<FieldsWriter<T>> optional = _getItemFieldsWriterOptional(
 				new SingleModelImpl<>(
-					model, resourceName, Collections.emptyList())));
+					model, resourceName, Collections.emptyList()));
+
+			optional.ifPresent(fieldsWriters::add);
+		}
+
+		PermissionsMemo permissionsMemo = PermissionsMemo.getPermissionsMemo(
+			_requestInfo.getHttpServletRequest());
+
+		fieldsWriters.forEach(
+			fieldsWriter -> fieldsWriter.addPendingPermissions(
+				permissionsMemo));
+
+		fieldsWriters.forEach(
+			fieldsWriter -> fieldsWriter.addPendingPages(
+				_resourceNameFunction));
+
+		fieldsWriters.forEach(this::_writeItem);
 
 		List<Operation> operations = _page.getOperations();
 
@@ -125,7 +160,7 @@ public class PageWriter<T> {
 
 		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
 
-		return _jsonObjectBuilder.build();
+		return _jsonObjectBuilder;
 	}
 
 	/**
@@ -293,6 +328,15 @@ public class PageWriter<T> {
 	}
 
 	private String _getCollectionURL() {
+		if (_page instanceof IdentifiersPageImpl) {
+			IdentifiersPageImpl<T> identifiersPageImpl =
+				(IdentifiersPageImpl<T>)_page;
+
+			return createCollectionItemsURL(
+				_requestInfo.getApplicationURL(), _page.getResourceName(),
+				identifiersPageImpl.getIdentifiers());
+		}
+
 		Optional<Path> optional = _page.getPathOptional();
 
 		return optional.map(
@@ -304,6 +348,21 @@ public class PageWriter<T> {
 		);
 	}
 
+	private Optional<FieldsWriter<T>> _getItemFieldsWriterOptional(
+		SingleModel<T> singleModel) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		return getFieldsWriter(
+			singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get(), _pathFunction);
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -317,53 +376,11 @@ public class PageWriter<T> {
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) -> _pageMessageMapper.mapItemBooleanField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) -> _pageMessageMapper.mapItemBooleanListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) -> _pageMessageMapper.mapItemNumberField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) -> _pageMessageMapper.mapItemNumberListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeRelativeURLFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) -> _pageMessageMapper.mapItemStringListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, jsonObjectBuilder, fieldName, link));
+		fieldsWriter.writeBasicFields(new ItemFieldRenderer(jsonObjectBuilder));
 
 		fieldsWriter.writeTypes(
 			types -> _pageMessageMapper.mapItemTypes(
 				_jsonObjectBuilder, jsonObjectBuilder, types));
-
-		fieldsWriter.writeBinaries(
-			(field, value) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 	}
 
 	private <U> void _writeItem(
@@ -395,6 +412,10 @@ public class PageWriter<T> {
 
 		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
 
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
 		Optional<FieldsWriter<U>> relatedModelsFieldsWriterOptional =
 			getFieldsWriter(
 				singleModel, null, _requestInfo, baseRepresentorFunction,
@@ -443,23 +464,8 @@ public class PageWriter<T> {
 			collectionJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
-	private void _writeItem(SingleModel<T> singleModel) {
-		Optional<Path> pathOptional = getPathOptional(
-			singleModel, _pathFunction, _representorFunction::apply);
-
-		if (!pathOptional.isPresent()) {
-			return;
-		}
-
-		Optional<FieldsWriter<T>> optional = getFieldsWriter(
-			singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get(), _pathFunction);
-
-		if (!optional.isPresent()) {
-			return;
-		}
-
-		FieldsWriter<T> fieldsWriter = optional.get();
+	private void _writeItem(FieldsWriter<T> fieldsWriter) {
+		SingleModel<T> singleModel = fieldsWriter.getSingleModel();
 
 		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
 
@@ -489,7 +495,11 @@ public class PageWriter<T> {
 			(url, embeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
+					embeddedPathElements, url),
+			(resourceName, pageItems, embeddedPathElements) ->
+				_writeRelatedCollectionPage(
+					resourceName, pageItems, itemJsonObjectBuilder,
+					embeddedPathElements, singleModel));
 
 		fieldsWriter.writeNestedResources(
 			_representorFunction::apply, singleModel, null,
@@ -542,81 +552,15 @@ public class PageWriter<T> {
 
 		FieldsWriter<S> fieldsWriter = fieldsWriterOptional.get();
 
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceBooleanField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceBooleanListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceNumberField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceNumberListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeRelativeURLFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _pageMessageMapper.mapItemEmbeddedResourceLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
-				fieldName, link));
+		fieldsWriter.writeBasicFields(
+			new ItemEmbeddedFieldRenderer(
+				itemJsonObjectBuilder, embeddedPathElements));
 
 		fieldsWriter.writeTypes(
 			types -> _pageMessageMapper.mapItemEmbeddedResourceTypes(
 				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
 				types));
 
-		fieldsWriter.writeBinaries(
-			(field, value) -> _pageMessageMapper.mapItemEmbeddedResourceLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
-				field, value));
-
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
 			(embeddedSingleModel, embeddedModelEmbeddedPathElements) ->
@@ -729,6 +673,159 @@ public class PageWriter<T> {
 		}
 	}
 
+	private void _writeRelatedCollectionPage(
+		String resourceName, PageItems<Object> pageItems,
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements,
+		SingleModel<T> rootSingleModel) {
+
+		JSONObjectBuilder nestedPageJSONObjectBuilder = new JSONObjectBuilder();
+
+		_pageMessageMapper.mapItemTotalCount(
+			nestedPageJSONObjectBuilder, pageItems.getTotalCount());
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(nestedPageJSONObjectBuilder)
+		);
+
+		List<Object> items = new ArrayList<>(pageItems.getItems());
+
+		items.forEach(
+			model -> _writeItem(
+				nestedPageJSONObjectBuilder,
+				new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList()),
+				embeddedPathElements, _representorFunction::apply,
+				rootSingleModel));
+
+		String key = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		_pageMessageMapper.onFinishNestedCollection(
+			jsonObjectBuilder, nestedPageJSONObjectBuilder, key, items,
+			embeddedPathElements);
+	}
+
+	private class ItemEmbeddedFieldRenderer implements FieldRenderer {
+
+		@Override
+		public void renderBoolean(String key, Boolean value) {
+			_pageMessageMapper.mapItemEmbeddedResourceBooleanField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderBooleanList(String key, List<Boolean> value) {
+			_pageMessageMapper.mapItemEmbeddedResourceBooleanListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderLink(String key, String url) {
+			_pageMessageMapper.mapItemEmbeddedResourceLink(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, url);
+		}
+
+		@Override
+		public void renderNumber(String key, Number value) {
+			_pageMessageMapper.mapItemEmbeddedResourceNumberField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderNumberList(String key, List<Number> value) {
+			_pageMessageMapper.mapItemEmbeddedResourceNumberListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderString(String key, String value) {
+			_pageMessageMapper.mapItemEmbeddedResourceStringField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderStringList(String key, List<String> value) {
+			_pageMessageMapper.mapItemEmbeddedResourceStringListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder,
+				_embeddedPathElements, key, value);
+		}
+
+		private ItemEmbeddedFieldRenderer(
+			JSONObjectBuilder itemJSONObjectBuilder,
+			FunctionalList<String> embeddedPathElements) {
+
+			_itemJSONObjectBuilder = itemJSONObjectBuilder;
+			_embeddedPathElements = embeddedPathElements;
+		}
+
+		private final FunctionalList<String> _embeddedPathElements;
+		private final JSONObjectBuilder _itemJSONObjectBuilder;
+
+	}
+
+	private class ItemFieldRenderer implements FieldRenderer {
+
+		@Override
+		public void renderBoolean(String key, Boolean value) {
+			_pageMessageMapper.mapItemBooleanField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderBooleanList(String key, List<Boolean> value) {
+			_pageMessageMapper.mapItemBooleanListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderLink(String key, String url) {
+			_pageMessageMapper.mapItemLink(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, url);
+		}
+
+		@Override
+		public void renderNumber(String key, Number value) {
+			_pageMessageMapper.mapItemNumberField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderNumberList(String key, List<Number> value) {
+			_pageMessageMapper.mapItemNumberListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderString(String key, String value) {
+			_pageMessageMapper.mapItemStringField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderStringList(String key, List<String> value) {
+			_pageMessageMapper.mapItemStringListField(
+				_jsonObjectBuilder, _itemJSONObjectBuilder, key, value);
+		}
+
+		private ItemFieldRenderer(JSONObjectBuilder itemJSONObjectBuilder) {
+			_itemJSONObjectBuilder = itemJSONObjectBuilder;
+		}
+
+		private final JSONObjectBuilder _itemJSONObjectBuilder;
+
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
@@ -32,10 +32,12 @@ import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -78,17 +80,34 @@ public class SingleModelWriter<T> {
 	}
 
 	/**
-	 * Writes the handled {@link SingleModel} to a string. This method uses a
-	 * {@link FieldsWriter} to write the different fields of its {@link
-	 * com.liferay.apio.architect.representor.Representor}. If no {@code
+	 * Writes the handled {@link SingleModel} to a string. If no {@code
 	 * Representor} or {@code Path} exists for the model, this method returns
 	 * {@code Optional#empty()}.
 	 *
 	 * @return the string representation of the {@code SingleModel}, if the
 	 *         model's {@code Representor} and {@code Path} exist; returns
 	 *         {@code Optional#empty()} otherwise
+	 * @see    #writeJSONObjectBuilder()
 	 */
 	public Optional<String> write() {
+		Optional<JSONObjectBuilder> optional = writeJSONObjectBuilder();
+
+		return optional.map(JSONObjectBuilder::build);
+	}
+
+	/**
+	 * Writes the handled {@link SingleModel} to a {@link JSONObjectBuilder},
+	 * without serializing it. This method uses a {@link FieldsWriter} to
+	 * write the different fields of its {@link
+	 * com.liferay.apio.architect.representor.Representor}. If no {@code
+	 * Representor} or {@code Path} exists for the model, this method returns
+	 * {@code Optional#empty()}.
+	 *
+	 * @return the JSON object builder containing the {@code SingleModel}, if
+	 *         the model's {@code Representor} and {@code Path} exist; returns
+	 *         {@code Optional#empty()} otherwise
+	 */
+	public Optional<JSONObjectBuilder> writeJSONObjectBuilder() {
 		Optional<Path> pathOptional = getPathOptional(
 			_singleModel, _pathFunction, _representorFunction::apply);
 
@@ -106,6 +125,9 @@ public class SingleModelWriter<T> {
 
 		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
 
+		_singleModelMessageMapper.onStart(
+			_jsonObjectBuilder, _singleModel, _requestInfo);
+
 		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
 
 		fieldsWriter.writeSingleURL(
@@ -134,7 +156,11 @@ public class SingleModelWriter<T> {
 			_resourceNameFunction,
 			(url, embeddedPathElements) ->
 				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
+					_jsonObjectBuilder, embeddedPathElements, url),
+			(resourceName, pageItems, embeddedPathElements) ->
+				_writeRelatedCollectionPage(
+					resourceName, pageItems, _jsonObjectBuilder,
+					embeddedPathElements));
 
 		fieldsWriter.writeNestedResources(
 			_representorFunction::apply, _singleModel, null,
@@ -150,7 +176,7 @@ public class SingleModelWriter<T> {
 
 		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return Optional.of(_jsonObjectBuilder);
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -441,116 +467,24 @@ public class SingleModelWriter<T> {
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberListField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeRelativeURLFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) -> _singleModelMessageMapper.mapStringListField(
-				jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _singleModelMessageMapper.mapLink(
-				jsonObjectBuilder, fieldName, link));
+		fieldsWriter.writeBasicFields(
+			new SingleModelFieldRenderer(jsonObjectBuilder));
 
 		fieldsWriter.writeTypes(
 			types -> _singleModelMessageMapper.mapTypes(
 				jsonObjectBuilder, types));
-
-		fieldsWriter.writeBinaries(
-			(field, value) -> _singleModelMessageMapper.mapLink(
-				jsonObjectBuilder, field, value));
 	}
 
 	private void _writeEmbeddedBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements) {
 
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceStringField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceBooleanField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceBooleanListField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceStringField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceNumberField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceNumberListField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeRelativeURLFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceStringField(
-					_jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceStringField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) ->
-				_singleModelMessageMapper.mapEmbeddedResourceStringListField(
-					jsonObjectBuilder, embeddedPathElements, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _singleModelMessageMapper.
-				mapEmbeddedResourceLink(
-					jsonObjectBuilder, embeddedPathElements, fieldName, link));
+		fieldsWriter.writeBasicFields(
+			new EmbeddedFieldRenderer(jsonObjectBuilder, embeddedPathElements));
 
 		fieldsWriter.writeTypes(
 			types -> _singleModelMessageMapper.mapEmbeddedResourceTypes(
 				jsonObjectBuilder, embeddedPathElements, types));
-
-		fieldsWriter.writeBinaries(
-			(field, value) -> _singleModelMessageMapper.mapEmbeddedResourceLink(
-				jsonObjectBuilder, embeddedPathElements, field, value));
 	}
 
 	private <U> void _writeItem(
@@ -581,6 +515,10 @@ public class SingleModelWriter<T> {
 
 		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
 
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				itemJsonObjectBuilder, url));
+
 		Optional<FieldsWriter<U>> relatedModelsFieldsWriterOptional =
 			getFieldsWriter(
 				singleModel, null, _requestInfo, baseRepresentorFunction,
@@ -755,6 +693,149 @@ public class SingleModelWriter<T> {
 		);
 	}
 
+	private void _writeRelatedCollectionPage(
+		String resourceName, PageItems<Object> pageItems,
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		JSONObjectBuilder pageJSONObjectBuilder = new JSONObjectBuilder();
+
+		_singleModelMessageMapper.mapNestedPageItemTotalCount(
+			pageJSONObjectBuilder, pageItems.getTotalCount());
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(pageJSONObjectBuilder)
+		);
+
+		List<Object> items = new ArrayList<>(pageItems.getItems());
+
+		items.forEach(
+			model -> _writeItem(
+				pageJSONObjectBuilder,
+				new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList()),
+				embeddedPathElements, _representorFunction::apply));
+
+		String key = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		_singleModelMessageMapper.onFinishNestedCollection(
+			jsonObjectBuilder, pageJSONObjectBuilder, key, items,
+			embeddedPathElements);
+	}
+
+	private class EmbeddedFieldRenderer implements FieldRenderer {
+
+		@Override
+		public void renderBoolean(String key, Boolean value) {
+			_singleModelMessageMapper.mapEmbeddedResourceBooleanField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderBooleanList(String key, List<Boolean> value) {
+			_singleModelMessageMapper.mapEmbeddedResourceBooleanListField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderLink(String key, String url) {
+			_singleModelMessageMapper.mapEmbeddedResourceLink(
+				_jsonObjectBuilder, _embeddedPathElements, key, url);
+		}
+
+		@Override
+		public void renderNumber(String key, Number value) {
+			_singleModelMessageMapper.mapEmbeddedResourceNumberField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderNumberList(String key, List<Number> value) {
+			_singleModelMessageMapper.mapEmbeddedResourceNumberListField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderString(String key, String value) {
+			_singleModelMessageMapper.mapEmbeddedResourceStringField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		@Override
+		public void renderStringList(String key, List<String> value) {
+			_singleModelMessageMapper.mapEmbeddedResourceStringListField(
+				_jsonObjectBuilder, _embeddedPathElements, key, value);
+		}
+
+		private EmbeddedFieldRenderer(
+			JSONObjectBuilder jsonObjectBuilder,
+			FunctionalList<String> embeddedPathElements) {
+
+			_jsonObjectBuilder = jsonObjectBuilder;
+			_embeddedPathElements = embeddedPathElements;
+		}
+
+		private final FunctionalList<String> _embeddedPathElements;
+		private final JSONObjectBuilder _jsonObjectBuilder;
+
+	}
+
+	private class SingleModelFieldRenderer implements FieldRenderer {
+
+		@Override
+		public void renderBoolean(String key, Boolean value) {
+			_singleModelMessageMapper.mapBooleanField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderBooleanList(String key, List<Boolean> value) {
+			_singleModelMessageMapper.mapBooleanListField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderLink(String key, String url) {
+			_singleModelMessageMapper.mapLink(_jsonObjectBuilder, key, url);
+		}
+
+		@Override
+		public void renderNumber(String key, Number value) {
+			_singleModelMessageMapper.mapNumberField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderNumberList(String key, List<Number> value) {
+			_singleModelMessageMapper.mapNumberListField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderString(String key, String value) {
+			_singleModelMessageMapper.mapStringField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		@Override
+		public void renderStringList(String key, List<String> value) {
+			_singleModelMessageMapper.mapStringListField(
+				_jsonObjectBuilder, key, value);
+		}
+
+		private SingleModelFieldRenderer(JSONObjectBuilder jsonObjectBuilder) {
+			_jsonObjectBuilder = jsonObjectBuilder;
+		}
+
+		private final JSONObjectBuilder _jsonObjectBuilder;
+
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
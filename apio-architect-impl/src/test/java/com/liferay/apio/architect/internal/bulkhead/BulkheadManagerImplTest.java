@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
+import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.lang.annotation.Annotation;
+
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadManagerImplTest {
+
+	@Before
+	public void setUp() {
+		_bulkheadManagerImpl = new BulkheadManagerImpl();
+
+		_bulkheadManagerImpl.activate(_createBulkheadConfiguration(true));
+	}
+
+	@Test
+	public void testDisabledBulkheadsNeverRejectCalls() {
+		_bulkheadManagerImpl.activate(_createBulkheadConfiguration(false));
+
+		Try<String> stringTry = _bulkheadManagerImpl.execute(
+			"resource", GET,
+			() -> _bulkheadManagerImpl.execute(
+				"resource", GET, () -> Try.success("Apio")));
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+	}
+
+	@Test
+	public void testExecuteRejectsCallsOverTheLimit() {
+		Try<String> stringTry = _bulkheadManagerImpl.execute(
+			"resource", GET,
+			() -> _bulkheadManagerImpl.execute(
+				"resource", GET, () -> Try.success("Apio")));
+
+		assertThat(stringTry.isFailure(), is(true));
+
+		Exception exception = stringTry.fold(e -> e, __ -> null);
+
+		assertThat(
+			exception, is(instanceOf(ServiceUnavailableException.class)));
+
+		ServiceUnavailableException serviceUnavailableException =
+			(ServiceUnavailableException)exception;
+
+		Response response = serviceUnavailableException.getResponse();
+
+		assertThat(response.getHeaderString(RETRY_AFTER), is("7"));
+	}
+
+	@Test
+	public void testExecuteReturnsTheSupplierResult() {
+		Try<String> stringTry = _bulkheadManagerImpl.execute(
+			"resource", GET, () -> Try.success("Apio"));
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+
+		stringTry = _bulkheadManagerImpl.execute(
+			"resource", GET, () -> Try.success("Architect"));
+
+		assertThat(stringTry.getUnchecked(), is("Architect"));
+	}
+
+	@Test
+	public void testResourcesAndMethodsHaveIndependentBulkheads() {
+		Try<String> stringTry = _bulkheadManagerImpl.execute(
+			"resource", GET,
+			() -> _bulkheadManagerImpl.execute(
+				"resource", POST,
+				() -> _bulkheadManagerImpl.execute(
+					"other", GET, () -> Try.success("Apio"))));
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+	}
+
+	private BulkheadConfiguration _createBulkheadConfiguration(
+		boolean enabled) {
+
+		return new BulkheadConfiguration() {
+
+			@Override
+			public boolean adaptive() {
+				return false;
+			}
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return BulkheadConfiguration.class;
+			}
+
+			@Override
+			public boolean enabled() {
+				return enabled;
+			}
+
+			@Override
+			public int maxConcurrentCalls() {
+				return 1;
+			}
+
+			@Override
+			public int maxWaitingCalls() {
+				return 0;
+			}
+
+			@Override
+			public long maxWaitMillis() {
+				return 0;
+			}
+
+			@Override
+			public int minConcurrentCalls() {
+				return 1;
+			}
+
+			@Override
+			public long retryAfterSeconds() {
+				return 7;
+			}
+
+			@Override
+			public long targetLatencyMillis() {
+				return 0;
+			}
+
+		};
+	}
+
+	private BulkheadManagerImpl _bulkheadManagerImpl;
+
+}
\ No newline at end of file
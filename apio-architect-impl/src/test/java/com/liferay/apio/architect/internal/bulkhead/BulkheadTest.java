@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.bulkhead;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadTest {
+
+	@Test
+	public void testAdaptiveBulkheadGrowsBackAfterFastCalls() {
+		Bulkhead bulkhead = new Bulkhead(10, 0, 0, 2, 100);
+
+		_call(bulkhead, _SLOW_CALL_NANOS);
+
+		assertThat(bulkhead.getLimit(), is(9));
+
+		for (int i = 0; i < 9; i++) {
+			_call(bulkhead, 0);
+		}
+
+		assertThat(bulkhead.getLimit(), is(10));
+
+		for (int i = 0; i < 100; i++) {
+			_call(bulkhead, 0);
+		}
+
+		assertThat(bulkhead.getLimit(), is(10));
+	}
+
+	@Test
+	public void testAdaptiveBulkheadShrinksAfterSlowCalls() {
+		Bulkhead bulkhead = new Bulkhead(10, 0, 0, 2, 100);
+
+		for (int i = 0; i < 100; i++) {
+			_call(bulkhead, _SLOW_CALL_NANOS);
+		}
+
+		assertThat(bulkhead.getLimit(), is(2));
+	}
+
+	@Test
+	public void testBulkheadRejectsCallsOverTheLimitWithoutQueue() {
+		Bulkhead bulkhead = new Bulkhead(2, 0, 1000);
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(false));
+		assertThat(bulkhead.getConcurrentCalls(), is(2));
+
+		bulkhead.release(0);
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+	}
+
+	@Test
+	public void testBulkheadRejectsWaitingCallsAfterTheMaximumWait() {
+		Bulkhead bulkhead = new Bulkhead(1, 1, 10);
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(false));
+		assertThat(bulkhead.getWaitingCalls(), is(0));
+	}
+
+	@Test
+	public void testBulkheadWithFixedLimitDoesNotAdapt() {
+		Bulkhead bulkhead = new Bulkhead(10, 0, 0);
+
+		_call(bulkhead, _SLOW_CALL_NANOS);
+
+		assertThat(bulkhead.getLimit(), is(10));
+	}
+
+	@Test
+	public void testWaitingCallAcquiresTheReleasedSlot() throws Exception {
+		Bulkhead bulkhead = new Bulkhead(1, 1, 10000);
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			CountDownLatch countDownLatch = new CountDownLatch(1);
+
+			Future<Boolean> future = executorService.submit(
+				() -> {
+					countDownLatch.countDown();
+
+					return bulkhead.tryAcquire();
+				});
+
+			countDownLatch.await();
+
+			while (bulkhead.getWaitingCalls() == 0) {
+				Thread.sleep(1);
+			}
+
+			assertThat(bulkhead.tryAcquire(), is(false));
+
+			bulkhead.release(0);
+
+			assertThat(future.get(10, TimeUnit.SECONDS), is(true));
+			assertThat(bulkhead.getConcurrentCalls(), is(1));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void _call(Bulkhead bulkhead, long elapsedNanos) {
+		assertThat(bulkhead.tryAcquire(), is(true));
+
+		bulkhead.release(elapsedNanos);
+	}
+
+	private static final long _SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getCacheControlOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getLastModifiedOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.getPageLastModifiedOptional;
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.toHTTPDate;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.cache.CachePolicy;
+import com.liferay.apio.architect.cache.CachePolicy.Scope;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CachePolicyUtilTest {
+
+	@Test
+	public void testGetCacheControlOptional() {
+		CachePolicy<String> cachePolicy = new CachePolicy.Builder<String>(
+		).scope(
+			Scope.PUBLIC
+		).maxAge(
+			60
+		).sharedMaxAge(
+			300
+		).staleWhileRevalidate(
+			30
+		).build();
+
+		assertThat(
+			getCacheControlOptional(cachePolicy),
+			is(
+				optionalWithValue(
+					is(
+						"public, max-age=60, s-maxage=300, " +
+							"stale-while-revalidate=30"))));
+	}
+
+	@Test
+	public void testGetCacheControlOptionalWithoutDirectivesIsEmpty() {
+		CachePolicy<String> cachePolicy =
+			new CachePolicy.Builder<String>().build();
+
+		assertThat(getCacheControlOptional(cachePolicy), is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetCacheControlOptionalWithPrivateScope() {
+		CachePolicy<String> cachePolicy = new CachePolicy.Builder<String>(
+		).scope(
+			Scope.PRIVATE
+		).maxAge(
+			0
+		).build();
+
+		assertThat(
+			getCacheControlOptional(cachePolicy),
+			is(optionalWithValue(is("private, max-age=0"))));
+	}
+
+	@Test
+	public void testGetLastModifiedOptionalReturnsDateInSeconds() {
+		CachePolicy<Long> cachePolicy = new CachePolicy.Builder<Long>(
+		).lastModified(
+			Date::new
+		).build();
+
+		assertThat(
+			getLastModifiedOptional(cachePolicy, 5999L),
+			is(optionalWithValue(is(new Date(5000L)))));
+	}
+
+	@Test
+	public void testGetLastModifiedOptionalWithoutDateIsEmpty() {
+		CachePolicy<Long> cachePolicy = new CachePolicy.Builder<Long>(
+		).lastModified(
+			millis -> null
+		).build();
+
+		assertThat(
+			getLastModifiedOptional(cachePolicy, 1L), is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetLastModifiedOptionalWithoutFunctionIsEmpty() {
+		CachePolicy<Long> cachePolicy = new CachePolicy.Builder<Long>().build();
+
+		assertThat(
+			getLastModifiedOptional(cachePolicy, 1L), is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetPageLastModifiedOptionalIgnoresItemDates() {
+		CachePolicy<Long> cachePolicy = new CachePolicy.Builder<Long>(
+		).lastModified(
+			Date::new
+		).build();
+
+		assertThat(
+			getPageLastModifiedOptional(
+				cachePolicy, _createPage(Arrays.asList(1000L, 5999L))),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetPageLastModifiedOptionalReturnsDateInSeconds() {
+		CachePolicy<Long> cachePolicy = new CachePolicy.Builder<Long>(
+		).pageLastModified(
+			page -> new Date(7999L)
+		).build();
+
+		assertThat(
+			getPageLastModifiedOptional(
+				cachePolicy, _createPage(Arrays.asList(1000L, 5999L))),
+			is(optionalWithValue(is(new Date(7000L)))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxAgeThrowsException() {
+		new CachePolicy.Builder<String>().maxAge(-1);
+	}
+
+	@Test
+	public void testToHTTPDate() {
+		assertThat(
+			toHTTPDate(new Date(784111777000L)),
+			is("Sun, 06 Nov 1994 08:49:37 GMT"));
+	}
+
+	private static Page<Long> _createPage(List<Long> items) {
+		return new PageImpl<>(
+			"people", new PageItems<>(items, items.size()),
+			new PaginationImpl(30, 1), new Path("name", "id"),
+			Collections.emptyList());
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.cache.ModelCacheKeyUtil.getKeyOptional;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.language.AcceptLanguage;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ModelCacheKeyUtilTest {
+
+	@Test
+	public void testGetKeyOptionalResolvesTheAcceptLanguage() {
+		AcceptLanguage acceptLanguage = () -> Locale.GERMAN;
+
+		assertThat(
+			getKeyOptional(42L, acceptLanguage),
+			is(optionalWithValue(contains(42L, Locale.GERMAN))));
+		assertThat(
+			getKeyOptional(42L, acceptLanguage),
+			is(getKeyOptional(42L, (AcceptLanguage)() -> Locale.GERMAN)));
+	}
+
+	@Test
+	public void testGetKeyOptionalWithoutValueTypes() {
+		assertThat(getKeyOptional(42L, new Object()), is(emptyOptional()));
+		assertThat(
+			getKeyOptional(42L, "value", new StringBuilder()),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetKeyOptionalWithValueTypes() {
+		assertThat(
+			getKeyOptional(42L), is(optionalWithValue(contains(42L))));
+		assertThat(
+			getKeyOptional(42L, "value", 1, true, Locale.US),
+			is(optionalWithValue(contains(42L, "value", 1, true, Locale.US))));
+	}
+
+}
\ No newline at end of file
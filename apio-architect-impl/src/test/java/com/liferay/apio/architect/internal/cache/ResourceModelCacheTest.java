@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResourceModelCacheTest {
+
+	@Test
+	public void testExpiredModelIsReloaded() throws Exception {
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			10, 1, 0);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Callable<Integer> loader = counter::incrementAndGet;
+
+		assertThat(resourceModelCache.get(_key(42L), loader), is(1));
+
+		Thread.sleep(5);
+
+		assertThat(resourceModelCache.get(_key(42L), loader), is(2));
+	}
+
+	@Test
+	public void testInvalidateRemovesEveryKeyOfTheIdentifier()
+		throws Exception {
+
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			10, 60000, 0);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Callable<Integer> loader = counter::incrementAndGet;
+
+		resourceModelCache.get(_key(42L), loader);
+		resourceModelCache.get(Arrays.asList(42L, "Apio"), loader);
+		resourceModelCache.get(_key(43L), loader);
+
+		resourceModelCache.invalidate(42L);
+
+		assertThat(resourceModelCache.get(_key(42L), loader), is(4));
+		assertThat(
+			resourceModelCache.get(Arrays.asList(42L, "Apio"), loader), is(5));
+		assertThat(resourceModelCache.get(_key(43L), loader), is(3));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedModelIsEvicted() throws Exception {
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			2, 60000, 0);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Callable<Integer> loader = counter::incrementAndGet;
+
+		resourceModelCache.get(_key(1L), loader);
+		resourceModelCache.get(_key(2L), loader);
+		resourceModelCache.get(_key(1L), loader);
+		resourceModelCache.get(_key(3L), loader);
+
+		assertThat(resourceModelCache.get(_key(1L), loader), is(1));
+		assertThat(resourceModelCache.get(_key(2L), loader), is(4));
+	}
+
+	@Test
+	public void testMatches() {
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			10, 60000, 0);
+
+		assertThat(resourceModelCache.matches("name"), is(true));
+		assertThat(resourceModelCache.matches("other"), is(false));
+	}
+
+	@Test
+	public void testModelsAreCachedPerKey() throws Exception {
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			10, 60000, 0);
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Callable<Integer> loader = counter::incrementAndGet;
+
+		assertThat(resourceModelCache.get(_key(42L), loader), is(1));
+		assertThat(resourceModelCache.get(_key(42L), loader), is(1));
+		assertThat(
+			resourceModelCache.get(Arrays.asList(42L, "Apio"), loader), is(2));
+		assertThat(resourceModelCache.get(_key(43L), loader), is(3));
+	}
+
+	@Test
+	public void testStaleModelIsReturnedWhileAnotherRequestRefreshesIt()
+		throws Exception {
+
+		ResourceModelCache resourceModelCache = _createResourceModelCache(
+			10, 1, 60000);
+
+		resourceModelCache.get(_key(42L), () -> "Stale");
+
+		Thread.sleep(5);
+
+		String model = resourceModelCache.get(
+			_key(42L),
+			() -> {
+				String concurrentModel = resourceModelCache.get(
+					_key(42L), () -> "Concurrent");
+
+				assertThat(concurrentModel, is("Stale"));
+
+				return "Fresh";
+			});
+
+		assertThat(model, is("Fresh"));
+	}
+
+	private static ResourceModelCache _createResourceModelCache(
+		int maxSize, long timeToLiveMillis, long staleWhileRevalidateMillis) {
+
+		ResourceModelCache resourceModelCache = new ResourceModelCache();
+
+		resourceModelCache.activate(
+			new ResourceModelCacheConfiguration() {
+
+				@Override
+				public Class<? extends Annotation> annotationType() {
+					return ResourceModelCacheConfiguration.class;
+				}
+
+				@Override
+				public int maxSize() {
+					return maxSize;
+				}
+
+				@Override
+				public String resourceName() {
+					return "name";
+				}
+
+				@Override
+				public long staleWhileRevalidateMillis() {
+					return staleWhileRevalidateMillis;
+				}
+
+				@Override
+				public long timeToLiveMillis() {
+					return timeToLiveMillis;
+				}
+
+			});
+
+		return resourceModelCache;
+	}
+
+	private static List<Object> _key(Object identifier) {
+		return Collections.singletonList(identifier);
+	}
+
+}
\ No newline at end of file
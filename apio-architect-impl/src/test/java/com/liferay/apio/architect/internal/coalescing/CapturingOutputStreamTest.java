@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CapturingOutputStreamTest {
+
+	@Test
+	public void testCapturingOutputStreamDiscardsCopiesOverTheMaximum()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(byteArrayOutputStream, 4);
+
+		capturingOutputStream.write(new byte[] {1, 2, 3});
+		capturingOutputStream.write(new byte[] {4, 5});
+
+		assertThat(
+			capturingOutputStream.getBytesOptional(), is(emptyOptional()));
+		assertThat(
+			byteArrayOutputStream.toByteArray(),
+			is(new byte[] {1, 2, 3, 4, 5}));
+	}
+
+	@Test
+	public void testCapturingOutputStreamKeepsACopyOfTheWrittenBytes()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(byteArrayOutputStream, 4);
+
+		capturingOutputStream.write(1);
+		capturingOutputStream.write(new byte[] {2, 3, 4});
+
+		assertThat(
+			capturingOutputStream.getBytesOptional(),
+			is(optionalWithValue(is(new byte[] {1, 2, 3, 4}))));
+		assertThat(
+			byteArrayOutputStream.toByteArray(), is(new byte[] {1, 2, 3, 4}));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.coalescing;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescerTest {
+
+	@Test
+	public void testAbandonedRequestIsNotShared() {
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+
+		InFlightRequest inFlightRequest = _follow("key");
+
+		_requestCoalescer.abandon("key");
+
+		assertThat(inFlightRequest.await(1000), is(emptyOptional()));
+	}
+
+	@Test
+	public void testCompletedRequestIsSharedWithFollowers() throws Exception {
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+
+		InFlightRequest inFlightRequest = _follow("key");
+
+		CompletableFuture<Optional<CoalescedResponse>> completableFuture =
+			CompletableFuture.supplyAsync(() -> inFlightRequest.await(10000));
+
+		CoalescedResponse coalescedResponse = new CoalescedResponse(
+			new byte[] {1, 2, 3}, "application/json", null);
+
+		_requestCoalescer.complete("key", coalescedResponse);
+
+		assertThat(
+			completableFuture.get(10, TimeUnit.SECONDS),
+			is(optionalWithValue(is(coalescedResponse))));
+	}
+
+	@Test
+	public void testDifferentKeysHaveDifferentLeaders() {
+		assertThat(_requestCoalescer.follow("key1"), is(emptyOptional()));
+		assertThat(_requestCoalescer.follow("key2"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testFollowerStopsWaitingAfterTheMaximumWait() {
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+
+		InFlightRequest inFlightRequest = _follow("key");
+
+		assertThat(inFlightRequest.await(10), is(emptyOptional()));
+	}
+
+	@Test
+	public void testNextRequestLeadsOnceTheLeaderFinishes() {
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+
+		_requestCoalescer.complete("key", null);
+
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testTimedOutFollowerLetsTheNextRequestLead() {
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+
+		InFlightRequest inFlightRequest = _follow("key");
+
+		assertThat(
+			_requestCoalescer.await("key", inFlightRequest, 10),
+			is(emptyOptional()));
+
+		assertThat(_requestCoalescer.follow("key"), is(emptyOptional()));
+	}
+
+	private InFlightRequest _follow(String key) {
+		Optional<InFlightRequest> optional = _requestCoalescer.follow(key);
+
+		return optional.orElseThrow(AssertionError::new);
+	}
+
+	private final RequestCoalescer _requestCoalescer = new RequestCoalescer();
+
+}
\ No newline at end of file
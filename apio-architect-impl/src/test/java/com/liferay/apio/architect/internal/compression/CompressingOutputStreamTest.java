@@ -0,0 +1,250 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressingOutputStreamTest {
+
+	@Before
+	public void setUp() {
+		_byteArrayOutputStream = new ByteArrayOutputStream();
+		_headers = new MultivaluedHashMap<>();
+
+		_headers.putSingle(CONTENT_TYPE, "application/ld+json");
+	}
+
+	@After
+	public void tearDown() {
+		_gzipDeflaterPool.clear();
+		_zlibDeflaterPool.clear();
+	}
+
+	@Test(expected = EOFException.class)
+	public void testAbortedStreamIsNotFinished() throws IOException {
+		byte[] bytes = _createContent(4096).getBytes(UTF_8);
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				_byteArrayOutputStream, _headers, ContentEncoding.GZIP,
+				_gzipDeflaterPool, 1024, __ -> true);
+
+		compressingOutputStream.write(bytes, 0, 2048);
+
+		compressingOutputStream.abort();
+		compressingOutputStream.close();
+
+		assertThat(compressingOutputStream.isCompressing(), is(true));
+
+		_read(
+			new GZIPInputStream(
+				new ByteArrayInputStream(
+					_byteArrayOutputStream.toByteArray())));
+	}
+
+	@Test
+	public void testAbortedStreamUnderThresholdWritesNothing()
+		throws IOException {
+
+		byte[] bytes = _createContent(512).getBytes(UTF_8);
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				_byteArrayOutputStream, _headers, ContentEncoding.GZIP,
+				_gzipDeflaterPool, 1024, __ -> true);
+
+		compressingOutputStream.write(bytes, 0, bytes.length);
+
+		compressingOutputStream.abort();
+
+		assertThat(_byteArrayOutputStream.size(), is(0));
+	}
+
+	@Test
+	public void testExcludedMediaTypeIsNotCompressed() throws IOException {
+		_headers.putSingle(CONTENT_TYPE, "image/png");
+		_headers.putSingle(CONTENT_LENGTH, 2048);
+
+		String content = _createContent(2048);
+
+		CompressingOutputStream compressingOutputStream = _write(
+			ContentEncoding.GZIP, content,
+			mediaType -> !mediaType.equals("image/png"));
+
+		assertThat(compressingOutputStream.isCompressing(), is(false));
+		assertThat(_headers.containsKey(CONTENT_ENCODING), is(false));
+		assertThat(_headers.getFirst(CONTENT_LENGTH), is(2048));
+		assertThat(
+			new String(_byteArrayOutputStream.toByteArray(), UTF_8),
+			is(content));
+	}
+
+	@Test
+	public void testPayloadOverThresholdIsDeflated() throws IOException {
+		String content = _createContent(4096);
+
+		CompressingOutputStream compressingOutputStream = _write(
+			ContentEncoding.DEFLATE, content, __ -> true);
+
+		assertThat(compressingOutputStream.isCompressing(), is(true));
+		assertThat(_headers.getFirst(CONTENT_ENCODING), is("deflate"));
+		assertThat(
+			_read(
+				new InflaterInputStream(
+					new ByteArrayInputStream(
+						_byteArrayOutputStream.toByteArray()))),
+			is(content));
+	}
+
+	@Test
+	public void testPayloadOverThresholdIsGZipped() throws IOException {
+		_headers.putSingle(CONTENT_LENGTH, 4096);
+
+		String content = _createContent(4096);
+
+		CompressingOutputStream compressingOutputStream = _write(
+			ContentEncoding.GZIP, content, __ -> true);
+
+		assertThat(compressingOutputStream.isCompressing(), is(true));
+		assertThat(_headers.getFirst(CONTENT_ENCODING), is("gzip"));
+		assertThat(_headers.containsKey(CONTENT_LENGTH), is(false));
+		assertThat(
+			_read(
+				new GZIPInputStream(
+					new ByteArrayInputStream(
+						_byteArrayOutputStream.toByteArray()))),
+			is(content));
+	}
+
+	@Test
+	public void testPayloadUnderThresholdIsNotCompressed() throws IOException {
+		String content = _createContent(512);
+
+		CompressingOutputStream compressingOutputStream = _write(
+			ContentEncoding.GZIP, content, __ -> true);
+
+		assertThat(compressingOutputStream.isCompressing(), is(false));
+		assertThat(_headers.containsKey(CONTENT_ENCODING), is(false));
+		assertThat(
+			new String(_byteArrayOutputStream.toByteArray(), UTF_8),
+			is(content));
+	}
+
+	@Test
+	public void testReusedDeflaterProducesValidOutput() throws IOException {
+		String content = _createContent(4096);
+
+		_write(ContentEncoding.GZIP, content, __ -> true);
+
+		_byteArrayOutputStream.reset();
+
+		_headers.remove(CONTENT_ENCODING);
+
+		_write(ContentEncoding.GZIP, content, __ -> true);
+
+		assertThat(
+			_read(
+				new GZIPInputStream(
+					new ByteArrayInputStream(
+						_byteArrayOutputStream.toByteArray()))),
+			is(content));
+	}
+
+	private static String _createContent(int length) {
+		StringBuilder sb = new StringBuilder(length);
+
+		while (sb.length() < length) {
+			sb.append("{\"@type\": \"Person\"}");
+		}
+
+		return sb.substring(0, length);
+	}
+
+	private static String _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] bytes = new byte[1024];
+
+		int length = inputStream.read(bytes);
+
+		while (length != -1) {
+			byteArrayOutputStream.write(bytes, 0, length);
+
+			length = inputStream.read(bytes);
+		}
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private CompressingOutputStream _write(
+			ContentEncoding contentEncoding, String content,
+			Predicate<String> predicate)
+		throws IOException {
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				_byteArrayOutputStream, _headers, contentEncoding,
+				(contentEncoding == ContentEncoding.GZIP) ? _gzipDeflaterPool :
+					_zlibDeflaterPool,
+				1024, predicate);
+
+		byte[] bytes = content.getBytes(UTF_8);
+
+		for (int i = 0; i < bytes.length; i += 100) {
+			compressingOutputStream.write(
+				bytes, i, Math.min(100, bytes.length - i));
+		}
+
+		compressingOutputStream.close();
+
+		return compressingOutputStream;
+	}
+
+	private ByteArrayOutputStream _byteArrayOutputStream;
+	private final DeflaterPool _gzipDeflaterPool = new DeflaterPool(
+		6, true, 1);
+	private MultivaluedMap<String, Object> _headers;
+	private final DeflaterPool _zlibDeflaterPool = new DeflaterPool(
+		6, false, 1);
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.compression;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ContentEncodingTest {
+
+	@Test
+	public void testNegotiateHonorsQualityValues() {
+		assertThat(
+			ContentEncoding.negotiate("gzip;q=0.5, deflate"),
+			is(optionalWithValue(is(ContentEncoding.DEFLATE))));
+		assertThat(
+			ContentEncoding.negotiate("gzip;q=0, deflate;q=0"),
+			is(emptyOptional()));
+		assertThat(
+			ContentEncoding.negotiate("*;q=0.1, gzip;q=0"),
+			is(optionalWithValue(is(ContentEncoding.DEFLATE))));
+	}
+
+	@Test
+	public void testNegotiatePrefersGZIP() {
+		assertThat(
+			ContentEncoding.negotiate("deflate, gzip"),
+			is(optionalWithValue(is(ContentEncoding.GZIP))));
+		assertThat(
+			ContentEncoding.negotiate("*"),
+			is(optionalWithValue(is(ContentEncoding.GZIP))));
+		assertThat(
+			ContentEncoding.negotiate("X-GZIP"),
+			is(optionalWithValue(is(ContentEncoding.GZIP))));
+	}
+
+	@Test
+	public void testNegotiateWithoutSupportedCodingReturnsEmpty() {
+		assertThat(ContentEncoding.negotiate(null), is(emptyOptional()));
+		assertThat(ContentEncoding.negotiate(""), is(emptyOptional()));
+		assertThat(
+			ContentEncoding.negotiate("br, identity"), is(emptyOptional()));
+	}
+
+}
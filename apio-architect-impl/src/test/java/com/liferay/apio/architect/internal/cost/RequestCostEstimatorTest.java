@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.SecondEmbeddedId;
+import com.liferay.apio.architect.test.util.identifier.ThirdEmbeddedId;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCostEstimatorTest {
+
+	@Before
+	public void setUp() {
+		Map<String, String> names = new HashMap<>();
+
+		names.put(FirstEmbeddedId.class.getName(), "first");
+		names.put(SecondEmbeddedId.class.getName(), "second");
+		names.put(ThirdEmbeddedId.class.getName(), "third");
+
+		_requestCostEstimator = new RequestCostEstimator(
+			MockWriterUtil::getRepresentorOptional,
+			className -> Optional.ofNullable(names.get(className)));
+	}
+
+	@Test
+	public void testEstimateCountsEveryEmbeddedModel() {
+		RequestCost requestCost = _requestCostEstimator.estimate(
+			"root", 10,
+			Arrays.asList("embedded1", "embedded1.embedded")::contains,
+			_allFields);
+
+		assertThat(requestCost.getItemsPerPage(), is(10));
+		assertThat(requestCost.getEmbeddingDepth(), is(2));
+		assertThat(requestCost.getEmbeddedModelsPerItem(), is(2));
+		assertThat(requestCost.getCost(), is(30L));
+	}
+
+	@Test
+	public void testEstimateIgnoresRelatedModelsHiddenBySparseFields() {
+		Fields fields = types -> field -> !types.contains("Type 1") ||
+			!field.equals("embedded1");
+
+		RequestCost requestCost = _requestCostEstimator.estimate(
+			"root", 10,
+			Arrays.asList("embedded1", "embedded1.embedded", "embedded2")::
+				contains,
+			fields);
+
+		assertThat(requestCost.getEmbeddingDepth(), is(1));
+		assertThat(requestCost.getEmbeddedModelsPerItem(), is(1));
+		assertThat(requestCost.getCost(), is(20L));
+	}
+
+	@Test
+	public void testEstimateWithoutEmbeddedModelsCostsThePageSize() {
+		RequestCost requestCost = _requestCostEstimator.estimate(
+			"root", 30, __ -> false, _allFields);
+
+		assertThat(requestCost.getEmbeddingDepth(), is(0));
+		assertThat(requestCost.getEmbeddedModelsPerItem(), is(0));
+		assertThat(requestCost.getCost(), is(30L));
+	}
+
+	private final Fields _allFields = __ -> string -> true;
+	private RequestCostEstimator _requestCostEstimator;
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cost;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCostLimitsTest {
+
+	@Test
+	public void testCheckAcceptsRequestsWithinTheLimits() {
+		_requestCostLimits.check(new RequestCost(100, 2, 9));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testCheckRejectsDeepEmbeddingWithBadRequest() {
+		_requestCostLimits.check(new RequestCost(1, 3, 3));
+	}
+
+	@Test
+	public void testCheckRejectsExpensiveRequestsWithPayloadTooLarge() {
+		try {
+			_requestCostLimits.check(new RequestCost(100, 2, 10));
+
+			throw new AssertionError("The request should have been rejected");
+		}
+		catch (ClientErrorException cee) {
+			Response response = cee.getResponse();
+
+			assertThat(response.getStatus(), is(413));
+		}
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testCheckRejectsHugePagesWithBadRequest() {
+		_requestCostLimits.check(new RequestCost(101, 0, 0));
+	}
+
+	@Test
+	public void testOverrideKeepsTheLimitsWithNegativeValues() {
+		RequestCostLimits requestCostLimits = _requestCostLimits.override(
+			new ResourceRequestCostConfiguration() {
+
+				@Override
+				public Class<ResourceRequestCostConfiguration>
+					annotationType() {
+
+					return ResourceRequestCostConfiguration.class;
+				}
+
+				@Override
+				public long maxCost() {
+					return 5000;
+				}
+
+				@Override
+				public int maxEmbeddingDepth() {
+					return -1;
+				}
+
+				@Override
+				public int maxItemsPerPage() {
+					return 0;
+				}
+
+				@Override
+				public String resourceName() {
+					return "resource";
+				}
+
+			});
+
+		assertThat(requestCostLimits.getMaxCost(), is(5000L));
+		assertThat(requestCostLimits.getMaxEmbeddingDepth(), is(2));
+		assertThat(requestCostLimits.getMaxItemsPerPage(), is(0));
+	}
+
+	private final RequestCostLimits _requestCostLimits = new RequestCostLimits(
+		100, 2, 1000);
+
+}
\ No newline at end of file
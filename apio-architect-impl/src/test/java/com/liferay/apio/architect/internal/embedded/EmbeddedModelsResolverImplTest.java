@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedModelsResolverImplTest {
+
+	@After
+	public void tearDown() {
+		_embeddedModelsResolverImpl.deactivate();
+	}
+
+	@Test
+	public void testResolveConcurrentlyKeepsOrderAndRespectsLimit() {
+		_embeddedModelsResolverImpl.activate(_createConfiguration(true, 2));
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+			String model = String.valueOf(i);
+
+			suppliers.add(
+				() -> {
+					maxRunning.accumulateAndGet(
+						running.incrementAndGet(), Math::max);
+
+					try {
+						Thread.sleep(10);
+					}
+					catch (InterruptedException ie) {
+						throw new RuntimeException(ie);
+					}
+					finally {
+						running.decrementAndGet();
+					}
+
+					return Optional.of(
+						new SingleModelImpl<>(
+							model, "name", Collections.emptyList()));
+				});
+		}
+
+		List<Optional<SingleModel<?>>> singleModels =
+			_embeddedModelsResolverImpl.resolve(suppliers);
+
+		assertThat(
+			_getModels(singleModels),
+			contains("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"));
+
+		assertThat(maxRunning.get(), is(lessThanOrEqualTo(3)));
+	}
+
+	@Test(timeout = 10000)
+	public void testResolveConcurrentlyStopsWaitingAtDeadline() {
+		_embeddedModelsResolverImpl.activate(_createConfiguration(true, 4));
+
+		AtomicLong nanoTime = new AtomicLong();
+
+		EmbeddingDeadline embeddingDeadline = new EmbeddingDeadline(
+			100, nanoTime::get);
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+
+		suppliers.add(
+			() -> {
+				nanoTime.addAndGet(MILLISECONDS.toNanos(100));
+
+				return Optional.of(
+					new SingleModelImpl<>(
+						"0", "name", Collections.emptyList()));
+			});
+		suppliers.add(
+			() -> {
+				try {
+					countDownLatch.await();
+				}
+				catch (InterruptedException ie) {
+					return Optional.empty();
+				}
+
+				return Optional.of(
+					new SingleModelImpl<>(
+						"1", "name", Collections.emptyList()));
+			});
+
+		try {
+			List<Optional<SingleModel<?>>> singleModels =
+				_embeddedModelsResolverImpl.resolve(
+					suppliers, embeddingDeadline);
+
+			assertThat(_getModels(singleModels), contains("0"));
+			assertThat(singleModels.get(1).isPresent(), is(false));
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+	}
+
+	@Test
+	public void testResolveReturnsEmptyIfSupplierFails() {
+		_embeddedModelsResolverImpl.activate(_createConfiguration(true, 4));
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+
+		suppliers.add(
+			() -> Optional.of(
+				new SingleModelImpl<>("0", "name", Collections.emptyList())));
+		suppliers.add(
+			() -> {
+				throw new IllegalStateException();
+			});
+
+		List<Optional<SingleModel<?>>> singleModels =
+			_embeddedModelsResolverImpl.resolve(suppliers);
+
+		assertThat(singleModels.get(0).isPresent(), is(true));
+		assertThat(singleModels.get(1).isPresent(), is(false));
+	}
+
+	@Test
+	public void testResolveSequentiallyIfNotConcurrent() {
+		_embeddedModelsResolverImpl.activate(_createConfiguration(false, 4));
+
+		Thread thread = Thread.currentThread();
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+
+		for (int i = 0; i < 3; i++) {
+			suppliers.add(
+				() -> Optional.of(
+					new SingleModelImpl<>(
+						Thread.currentThread(), "name",
+						Collections.emptyList())));
+		}
+
+		List<Optional<SingleModel<?>>> singleModels =
+			_embeddedModelsResolverImpl.resolve(suppliers);
+
+		assertThat(_getModels(singleModels), contains(thread, thread, thread));
+	}
+
+	@Test
+	public void testResolveSequentiallySkipsSuppliersAfterDeadline() {
+		_embeddedModelsResolverImpl.activate(_createConfiguration(false, 4));
+
+		AtomicLong nanoTime = new AtomicLong();
+
+		EmbeddingDeadline embeddingDeadline = new EmbeddingDeadline(
+			50, nanoTime::get);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		List<Supplier<Optional<SingleModel<?>>>> suppliers = new ArrayList<>();
+
+		for (int i = 0; i < 3; i++) {
+			suppliers.add(
+				() -> {
+					calls.incrementAndGet();
+
+					nanoTime.addAndGet(MILLISECONDS.toNanos(50));
+
+					return Optional.of(
+						new SingleModelImpl<>(
+							"model", "name", Collections.emptyList()));
+				});
+		}
+
+		List<Optional<SingleModel<?>>> singleModels =
+			_embeddedModelsResolverImpl.resolve(suppliers, embeddingDeadline);
+
+		assertThat(calls.get(), is(1));
+		assertThat(_getModels(singleModels), contains("model"));
+	}
+
+	private static EmbeddedModelsResolverConfiguration _createConfiguration(
+		boolean concurrent, int maxConcurrencyPerRequest) {
+
+		return new EmbeddedModelsResolverConfiguration() {
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return EmbeddedModelsResolverConfiguration.class;
+			}
+
+			@Override
+			public boolean concurrent() {
+				return concurrent;
+			}
+
+			@Override
+			public int maxConcurrencyPerRequest() {
+				return maxConcurrencyPerRequest;
+			}
+
+			@Override
+			public int maxThreads() {
+				return 4;
+			}
+
+			@Override
+			public int queueCapacity() {
+				return 1;
+			}
+
+		};
+	}
+
+	private static List<Object> _getModels(
+		List<Optional<SingleModel<?>>> singleModels) {
+
+		List<Object> models = new ArrayList<>();
+
+		singleModels.forEach(
+			optional -> optional.map(
+				SingleModel::getModel
+			).ifPresent(
+				models::add
+			));
+
+		return models;
+	}
+
+	private final EmbeddedModelsResolverImpl _embeddedModelsResolverImpl =
+		new EmbeddedModelsResolverImpl();
+
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddingDeadlineTest {
+
+	@Test
+	public void testAddHeadersMakesPartialResponsesUncacheable() {
+		EmbeddingDeadline embeddingDeadline = new EmbeddingDeadline(1);
+
+		MultivaluedMap<String, Object> headers = _createHeaders();
+
+		embeddingDeadline.addHeaders(headers);
+
+		assertThat(headers.getFirst(CACHE_CONTROL), is("max-age=60"));
+		assertThat(
+			headers.getFirst(LAST_MODIFIED),
+			is("Sun, 06 Nov 1994 08:49:37 GMT"));
+		assertThat(
+			headers.containsKey(EmbeddingDeadline.HEADER_NAME), is(false));
+
+		embeddingDeadline.markPartial();
+
+		embeddingDeadline.addHeaders(headers);
+
+		assertThat(headers.getFirst(CACHE_CONTROL), is("no-store"));
+		assertThat(
+			headers.getFirst(EmbeddingDeadline.HEADER_NAME),
+			is(EmbeddingDeadline.PARTIAL));
+		assertThat(headers.containsKey(LAST_MODIFIED), is(false));
+	}
+
+	@Test
+	public void testDeadlineExpiresAfterBudget() {
+		AtomicLong nanoTime = new AtomicLong();
+
+		EmbeddingDeadline embeddingDeadline = new EmbeddingDeadline(
+			10, nanoTime::get);
+
+		assertThat(embeddingDeadline.isExpired(), is(false));
+		assertThat(
+			embeddingDeadline.getRemainingNanos(),
+			is(MILLISECONDS.toNanos(10)));
+
+		nanoTime.addAndGet(MILLISECONDS.toNanos(4));
+
+		assertThat(embeddingDeadline.isExpired(), is(false));
+		assertThat(
+			embeddingDeadline.getRemainingNanos(),
+			is(MILLISECONDS.toNanos(6)));
+
+		nanoTime.addAndGet(MILLISECONDS.toNanos(6));
+
+		assertThat(embeddingDeadline.isExpired(), is(true));
+		assertThat(embeddingDeadline.getRemainingNanos(), is(0L));
+	}
+
+	@Test
+	public void testMarkPartial() {
+		EmbeddingDeadline embeddingDeadline = new EmbeddingDeadline(1);
+
+		assertThat(embeddingDeadline.isPartial(), is(false));
+
+		embeddingDeadline.markPartial();
+
+		assertThat(embeddingDeadline.isPartial(), is(true));
+	}
+
+	@Test
+	public void testUnlimitedDeadlineNeverExpires() {
+		EmbeddingDeadline embeddingDeadline = EmbeddingDeadline.unlimited();
+
+		assertThat(embeddingDeadline.isExpired(), is(false));
+		assertThat(embeddingDeadline.getRemainingNanos(), is(Long.MAX_VALUE));
+
+		EmbeddingDeadline zeroEmbeddingDeadline = new EmbeddingDeadline(0);
+
+		assertThat(zeroEmbeddingDeadline.isExpired(), is(false));
+	}
+
+	private MultivaluedMap<String, Object> _createHeaders() {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.putSingle(CACHE_CONTROL, "max-age=60");
+		headers.putSingle(LAST_MODIFIED, "Sun, 06 Nov 1994 08:49:37 GMT");
+
+		return headers;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ModelIdentityMapTest {
+
+	@Test
+	public void testEmptyModelIsFetchedOnce() {
+		ModelIdentityMap modelIdentityMap = new ModelIdentityMap();
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Supplier<Optional<SingleModel<?>>> supplier = () -> {
+			counter.incrementAndGet();
+
+			return Optional.empty();
+		};
+
+		Optional<SingleModel<?>> firstOptional =
+			modelIdentityMap.getSingleModelOptional("id", 1L, supplier);
+		Optional<SingleModel<?>> secondOptional =
+			modelIdentityMap.getSingleModelOptional("id", 1L, supplier);
+
+		assertThat(firstOptional, is(emptyOptional()));
+		assertThat(secondOptional, is(emptyOptional()));
+		assertThat(counter.get(), is(1));
+	}
+
+	@Test
+	public void testFieldValuesAreOnlyMemoizedForFetchedModels() {
+		ModelIdentityMap modelIdentityMap = new ModelIdentityMap();
+
+		SingleModel<String> singleModel = _createSingleModel("Apio");
+
+		modelIdentityMap.getSingleModelOptional(
+			"id", 1L, () -> Optional.of(singleModel));
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Supplier<Object> supplier = counter::incrementAndGet;
+
+		assertThat(
+			modelIdentityMap.getFieldValue(singleModel, "key", supplier),
+			is(1));
+		assertThat(
+			modelIdentityMap.getFieldValue(singleModel, "key", supplier),
+			is(1));
+		assertThat(
+			modelIdentityMap.getFieldValue(singleModel, "other", supplier),
+			is(2));
+
+		SingleModel<String> otherSingleModel = _createSingleModel("Apio");
+
+		assertThat(
+			modelIdentityMap.getFieldValue(otherSingleModel, "key", supplier),
+			is(3));
+		assertThat(
+			modelIdentityMap.getFieldValue(otherSingleModel, "key", supplier),
+			is(4));
+	}
+
+	@Test
+	public void testModelsAreFetchedOncePerResourceAndIdentifier() {
+		ModelIdentityMap modelIdentityMap = new ModelIdentityMap();
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Supplier<Optional<SingleModel<?>>> supplier = () -> Optional.of(
+			_createSingleModel("Apio " + counter.incrementAndGet()));
+
+		Optional<SingleModel<?>> firstOptional =
+			modelIdentityMap.getSingleModelOptional("id", 1L, supplier);
+		Optional<SingleModel<?>> secondOptional =
+			modelIdentityMap.getSingleModelOptional("id", 1L, supplier);
+
+		assertThat(firstOptional, is(optionalWithValue()));
+		assertThat(counter.get(), is(1));
+		assertThat(secondOptional.get(), is(sameInstance(firstOptional.get())));
+
+		modelIdentityMap.getSingleModelOptional("id", 2L, supplier);
+		modelIdentityMap.getSingleModelOptional("otherId", 1L, supplier);
+
+		assertThat(counter.get(), is(3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSupplierExceptionIsRethrown() {
+		ModelIdentityMap modelIdentityMap = new ModelIdentityMap();
+
+		modelIdentityMap.getSingleModelOptional(
+			"id", 1L,
+			() -> {
+				throw new IllegalArgumentException();
+			});
+	}
+
+	private SingleModel<String> _createSingleModel(String model) {
+		return new SingleModelImpl<>(model, "name", Collections.emptyList());
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.embedded.page;
+
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.IDENTIFIER_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.IDENTIFIER_TO_PATH_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.routes.NestedCollectionRoutesImpl.BuilderImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes.Builder;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedPagesResolverImplTest {
+
+	@Test
+	public void testBatchGetterIsCalledOnceForEveryPendingParent() {
+		List<List<Long>> calls = new ArrayList<>();
+
+		EmbeddedPagesResolverImpl embeddedPagesResolverImpl =
+			_createEmbeddedPagesResolverImpl(
+				builder -> builder.addBatchGetter(
+					(pagination, identifiers) -> {
+						calls.add(new ArrayList<>(identifiers));
+
+						Map<Long, PageItems<String>> pageItemsMap =
+							new HashMap<>();
+
+						pageItemsMap.put(1L, _createPageItems(1L));
+
+						return pageItemsMap;
+					}
+				).build());
+
+		embeddedPagesResolverImpl.addPending(_path(1L), "nested", 1L);
+		embeddedPagesResolverImpl.addPending(_path(2L), "nested", 2L);
+
+		_assertPageItems(
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(1L), "nested", 1L),
+			"Apio1", 1);
+
+		Optional<PageItems<Object>> optional =
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(2L), "nested", 2L);
+
+		PageItems<Object> pageItems = optional.get();
+
+		assertThat(pageItems.getItems(), is(empty()));
+		assertThat(pageItems.getTotalCount(), is(0));
+
+		_assertPageItems(
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(1L), "nested", 1L),
+			"Apio1", 1);
+
+		assertThat(calls.size(), is(1));
+		assertThat(calls.get(0), contains(1L, 2L));
+	}
+
+	@Test
+	public void testGetterIsCalledForEveryParentWithoutBatchGetter() {
+		List<Long> calls = new ArrayList<>();
+
+		EmbeddedPagesResolverImpl embeddedPagesResolverImpl =
+			_createEmbeddedPagesResolverImpl(
+				builder -> builder.addGetter(
+					(pagination, identifier) -> {
+						calls.add(identifier);
+
+						return _createPageItems(identifier);
+					}
+				).build());
+
+		embeddedPagesResolverImpl.addPending(_path(1L), "nested", 1L);
+		embeddedPagesResolverImpl.addPending(_path(2L), "nested", 2L);
+
+		_assertPageItems(
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(2L), "nested", 2L),
+			"Apio2", 1);
+		_assertPageItems(
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(1L), "nested", 1L),
+			"Apio1", 1);
+
+		assertThat(calls, contains(1L, 2L));
+	}
+
+	@Test
+	public void testPagesWithoutRoutesAreNotResolved() {
+		EmbeddedPagesResolverImpl embeddedPagesResolverImpl =
+			_createEmbeddedPagesResolverImpl(Builder::build);
+
+		Optional<PageItems<Object>> optional1 =
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(1L), "nested", 1L);
+
+		assertThat(optional1, is(emptyOptional()));
+
+		Optional<PageItems<Object>> optional2 =
+			embeddedPagesResolverImpl.getPageItemsOptional(
+				_path(1L), "other", 1L);
+
+		assertThat(optional2, is(emptyOptional()));
+	}
+
+	private static Path _path(long id) {
+		return new Path("name", String.valueOf(id));
+	}
+
+	private void _assertPageItems(
+		Optional<PageItems<Object>> optional, String item, int totalCount) {
+
+		PageItems<Object> pageItems = optional.get();
+
+		assertThat(pageItems.getItems(), contains(item));
+		assertThat(pageItems.getTotalCount(), is(totalCount));
+	}
+
+	private EmbeddedPagesResolverImpl _createEmbeddedPagesResolverImpl(
+		Function
+			<Builder<String, Long, Long>,
+			 NestedCollectionRoutes<String, Long, Long>> function) {
+
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, IDENTIFIER_FUNCTION);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			function.apply(builder);
+
+		return new EmbeddedPagesResolverImpl(
+			null,
+			new NestedCollectionRouterManager() {
+
+				@Override
+				public Map<String, NestedCollectionRoutes>
+					getNestedCollectionRoutes() {
+
+					return Collections.singletonMap(
+						"name-nested", nestedCollectionRoutes);
+				}
+
+				@Override
+				public <T, S, U> Optional<NestedCollectionRoutes<T, S, U>>
+					getNestedCollectionRoutesOptional(
+						String name, String nestedName) {
+
+					if (name.equals("name") && nestedName.equals("nested")) {
+						return Optional.of(
+							(NestedCollectionRoutes<T, S, U>)
+								nestedCollectionRoutes);
+					}
+
+					return Optional.empty();
+				}
+
+			});
+	}
+
+	private PageItems<String> _createPageItems(long identifier) {
+		return new PageItems<>(
+			Collections.singletonList("Apio" + identifier), 1);
+	}
+
+}
\ No newline at end of file
@@ -17,6 +17,9 @@ package com.liferay.apio.architect.internal.endpoint;
 import static com.liferay.apio.architect.internal.endpoint.EndpointsTestUtil.emptyNestedCollectionRoutes;
 import static com.liferay.apio.architect.internal.endpoint.EndpointsTestUtil.nestedCollectionRoutes;
 
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 
@@ -27,13 +30,19 @@ import static org.hamcrest.core.Is.is;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.bulkhead.BulkheadManager;
 import com.liferay.apio.architect.internal.representor.RepresentorImpl;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.representor.Representor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.ServiceUnavailableException;
 
 import org.junit.Test;
 
@@ -56,8 +65,12 @@ public class BatchEndpointTest {
 			() -> null
 		).collectionRoutesSupplier(
 			EndpointsTestUtil::emptyCollectionRoutes
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> null
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -66,6 +79,62 @@ public class BatchEndpointTest {
 		batchResultTry.get();
 	}
 
+	@Test(expected = NotAllowedException.class)
+	public void testEmptyItemRoutesSupplierProvokesFailureOnBatchRemove()
+		throws Exception {
+
+		BatchEndpoint<Object> batchEndpoint = BatchEndpointBuilder.name(
+			"name"
+		).httpServletRequest(
+			null
+		).singleModelFunction(
+			__ -> null
+		).representorSupplier(
+			() -> null
+		).collectionRoutesSupplier(
+			() -> null
+		).itemRoutesSupplier(
+			EndpointsTestUtil::emptyItemRoutes
+		).nestedCollectionRoutesFunction(
+			__ -> null
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
+		).build();
+
+		Try<BatchResult<Object>> batchResultTry =
+			batchEndpoint.removeBatchCollectionItems(__ -> Optional.empty());
+
+		batchResultTry.get();
+	}
+
+	@Test(expected = NotAllowedException.class)
+	public void testEmptyItemRoutesSupplierProvokesFailureOnBatchUpdate()
+		throws Exception {
+
+		BatchEndpoint<Object> batchEndpoint = BatchEndpointBuilder.name(
+			"name"
+		).httpServletRequest(
+			null
+		).singleModelFunction(
+			__ -> null
+		).representorSupplier(
+			() -> null
+		).collectionRoutesSupplier(
+			() -> null
+		).itemRoutesSupplier(
+			EndpointsTestUtil::emptyItemRoutes
+		).nestedCollectionRoutesFunction(
+			__ -> null
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
+		).build();
+
+		Try<BatchResult<Object>> batchResultTry =
+			batchEndpoint.updateBatchCollectionItems(__ -> Optional.empty());
+
+		batchResultTry.get();
+	}
+
 	@Test(expected = NotAllowedException.class)
 	public void testEmptyNestedCollectionRoutesSupplierProvokesFailure()
 		throws Exception {
@@ -80,8 +149,12 @@ public class BatchEndpointTest {
 			() -> null
 		).collectionRoutesSupplier(
 			() -> null
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> emptyNestedCollectionRoutes()
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -107,8 +180,12 @@ public class BatchEndpointTest {
 			() -> {
 				throw new IllegalArgumentException();
 			}
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> null
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -131,10 +208,14 @@ public class BatchEndpointTest {
 			() -> null
 		).collectionRoutesSupplier(
 			() -> null
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> {
 				throw new IllegalArgumentException();
 			}
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -144,6 +225,52 @@ public class BatchEndpointTest {
 		batchResultTry.get();
 	}
 
+	@Test
+	public void testBatchRemoveAndUpdateGoThroughTheBulkhead() {
+		List<HTTPMethod> httpMethods = new ArrayList<>();
+
+		BatchEndpoint<Object> batchEndpoint = BatchEndpointBuilder.name(
+			"name"
+		).httpServletRequest(
+			null
+		).singleModelFunction(
+			null
+		).representorSupplier(
+			() -> null
+		).collectionRoutesSupplier(
+			() -> null
+		).itemRoutesSupplier(
+			EndpointsTestUtil::emptyItemRoutes
+		).nestedCollectionRoutesFunction(
+			__ -> null
+		).bulkheadManager(
+			new BulkheadManager() {
+
+				@Override
+				public <T> Try<T> execute(
+					String resourceName, HTTPMethod httpMethod,
+					Supplier<Try<T>> supplier) {
+
+					assertThat(resourceName, is("name"));
+
+					httpMethods.add(httpMethod);
+
+					return Try.fail(new ServiceUnavailableException());
+				}
+
+			}
+		).build();
+
+		Try<BatchResult<Object>> removeBatchResultTry =
+			batchEndpoint.removeBatchCollectionItems(null);
+		Try<BatchResult<Object>> updateBatchResultTry =
+			batchEndpoint.updateBatchCollectionItems(null);
+
+		assertThat(removeBatchResultTry.isFailure(), is(true));
+		assertThat(updateBatchResultTry.isFailure(), is(true));
+		assertThat(httpMethods, contains(DELETE, PUT));
+	}
+
 	@Test
 	public void testValidBatchEndpointCreatesValidBatchResult() {
 		BatchEndpoint<Object> batchEndpoint = BatchEndpointBuilder.name(
@@ -157,8 +284,12 @@ public class BatchEndpointTest {
 			BatchEndpointTest::_representor
 		).collectionRoutesSupplier(
 			EndpointsTestUtil::collectionRoutes
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> nestedCollectionRoutes()
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Body body = Body.create(
@@ -191,12 +322,16 @@ public class BatchEndpointTest {
 			BatchEndpointTest::_representor
 		).collectionRoutesSupplier(
 			EndpointsTestUtil::collectionRoutes
+		).itemRoutesSupplier(
+			() -> null
 		).nestedCollectionRoutesFunction(
 			name -> {
 				assertThat(name, is("nested"));
 
 				return nestedCollectionRoutes();
 			}
+		).bulkheadManager(
+			_BULKHEAD_MANAGER
 		).build();
 
 		Body body = Body.create(
@@ -223,4 +358,17 @@ public class BatchEndpointTest {
 		).build();
 	}
 
+	private static final BulkheadManager _BULKHEAD_MANAGER =
+		new BulkheadManager() {
+
+			@Override
+			public <T> Try<T> execute(
+				String resourceName, HTTPMethod httpMethod,
+				Supplier<Try<T>> supplier) {
+
+				return supplier.get();
+			}
+
+		};
+
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.endpoint;
+
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.HAS_UPDATE_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
+
+import static javax.ws.rs.core.HttpHeaders.ALLOW;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.bulkhead.BulkheadManager;
+import com.liferay.apio.architect.internal.pagination.IdentifiersPageImpl;
+import com.liferay.apio.architect.internal.routes.ItemRoutesImpl.BuilderImpl;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes.Builder;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageEndpointImplTest {
+
+	@Test
+	public void testGetCollectionPageTryWithIdsFallsBackToGetter()
+		throws Exception {
+
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addGetter(
+			identifier -> {
+				if (identifier == 7L) {
+					throw new NotFoundException();
+				}
+
+				return "Item " + identifier;
+			}
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl("3,7,1", itemRoutes);
+
+		Try<Page<String>> pageTry = pageEndpointImpl.getCollectionPageTry();
+
+		Page<String> page = pageTry.get();
+
+		assertThat(page.getItems(), contains("Item 3", "Item 1"));
+		assertThat(page.getTotalCount(), is(2));
+	}
+
+	@Test
+	public void testGetCollectionPageTryWithIdsPropagatesGetterFailures() {
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addGetter(
+			identifier -> {
+				throw new IllegalStateException();
+			}
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl("1", itemRoutes);
+
+		Try<Page<String>> pageTry = pageEndpointImpl.getCollectionPageTry();
+
+		assertThat(pageTry.isFailure(), is(true));
+	}
+
+	@Test
+	public void testGetCollectionPageTryWithIdsUsesBatchGetter()
+		throws Exception {
+
+		List<Collection<Long>> calls = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addBatchGetter(
+			identifiers -> {
+				calls.add(identifiers);
+
+				Map<Long, String> models = new HashMap<>();
+
+				for (Long identifier : identifiers) {
+					if (identifier != 7L) {
+						models.put(identifier, "Item " + identifier);
+					}
+				}
+
+				return models;
+			}
+		).addGetter(
+			identifier -> {
+				throw new AssertionError("The getter shouldn't be called");
+			}
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl("3, 1,,7,3,2", itemRoutes);
+
+		Try<Page<String>> pageTry = pageEndpointImpl.getCollectionPageTry();
+
+		Page<String> page = pageTry.get();
+
+		assertThat(calls, contains(contains(3L, 1L, 7L, 2L)));
+		assertThat(page.getItems(), contains("Item 3", "Item 1", "Item 2"));
+		assertThat(page.getItemsPerPage(), is(4));
+		assertThat(page.getPageNumber(), is(1));
+		assertThat(page.getTotalCount(), is(3));
+		assertThat(page, is(instanceOf(IdentifiersPageImpl.class)));
+
+		IdentifiersPageImpl<String> identifiersPageImpl =
+			(IdentifiersPageImpl<String>)page;
+
+		assertThat(
+			identifiersPageImpl.getIdentifiers(), contains("3", "1", "7", "2"));
+	}
+
+	@Test
+	public void testPatchCollectionItemAdvertisesAllowedMethodsIfNotAllowed() {
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addUpdater(
+			(identifier, map) -> "Updated", HAS_UPDATE_PERMISSION_FUNCTION,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl(null, itemRoutes);
+
+		Try<SingleModel<String>> singleModelTry =
+			pageEndpointImpl.patchCollectionItem(
+				"42", __ -> Optional.of("Apio"));
+
+		Exception exception = singleModelTry.fold(
+			Function.identity(), __ -> null);
+
+		assertThat(exception, is(instanceOf(NotAllowedException.class)));
+
+		NotAllowedException notAllowedException =
+			(NotAllowedException)exception;
+
+		Response response = notAllowedException.getResponse();
+
+		assertThat(response.getHeaderString(ALLOW), is("PUT"));
+	}
+
+	@Test(expected = NotAllowedException.class)
+	public void testPatchCollectionItemFailsIfThereIsNoPartialUpdater()
+		throws Exception {
+
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addUpdater(
+			(identifier, map) -> "Updated", HAS_UPDATE_PERMISSION_FUNCTION,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl(null, itemRoutes);
+
+		Try<SingleModel<String>> singleModelTry =
+			pageEndpointImpl.patchCollectionItem(
+				"42", __ -> Optional.of("Apio"));
+
+		singleModelTry.get();
+	}
+
+	@Test
+	public void testPatchCollectionItemUsesPartialUpdater() throws Exception {
+		List<Long> identifiers = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = _createBuilder(
+		).addUpdater(
+			(identifier, map) -> {
+				throw new AssertionError("The updater shouldn't be called");
+			},
+			(identifier, map) -> {
+				identifiers.add(identifier);
+
+				return "Patched " + map.get("key");
+			},
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		PageEndpointImpl<String, Long> pageEndpointImpl =
+			_createPageEndpointImpl(null, itemRoutes);
+
+		Try<SingleModel<String>> singleModelTry =
+			pageEndpointImpl.patchCollectionItem(
+				"42", __ -> Optional.of("Apio"));
+
+		SingleModel<String> singleModel = singleModelTry.get();
+
+		assertThat(identifiers, contains(42L));
+		assertThat(singleModel.getModel(), is("Patched Apio"));
+	}
+
+	private static Builder<String, Long> _createBuilder() {
+		return new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, __ -> Optional.empty(), __ -> Optional.empty());
+	}
+
+	private static PageEndpointImpl<String, Long> _createPageEndpointImpl(
+		String ids, ItemRoutes<String, Long> itemRoutes) {
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("ids")
+		).thenReturn(
+			ids
+		);
+
+		return new PageEndpointImpl<>(
+			"name", httpServletRequest, __ -> null, () -> null, () -> null,
+			() -> itemRoutes, (name, nestedName, id) -> null,
+			path -> Long.valueOf(path.getId()), _BULKHEAD_MANAGER);
+	}
+
+	private static final BulkheadManager _BULKHEAD_MANAGER =
+		new BulkheadManager() {
+
+			@Override
+			public <T> Try<T> execute(
+				String resourceName, HTTPMethod httpMethod,
+				Supplier<Try<T>> supplier) {
+
+				return supplier.get();
+			}
+
+		};
+
+}
\ No newline at end of file
@@ -314,6 +314,35 @@ public class FormTest {
 		list.forEach(FormTest::_testBody);
 	}
 
+	@Test(expected = BadRequestException.class)
+	public void testPartialFormFailsIfPresentFieldIsNotValid() {
+		Form<Map<String, Object>> form = _mapForm(
+			builder -> builder.addRequiredLong(
+				"string1", (map, aLong) -> map.put("l1", aLong)));
+
+		form.getPartial(_body);
+	}
+
+	@Test
+	public void testPartialFormOnlyAddsPresentFields() {
+		Form<Map<String, Object>> form = _mapForm(
+			builder -> builder.addOptionalLong(
+				"long1", (map, aLong) -> map.put("l1", aLong)
+			).addOptionalString(
+				"string3", (map, string) -> map.put("s3", string)
+			).addRequiredDate(
+				"date3", (map, date) -> map.put("d3", date)
+			).addRequiredString(
+				"string1", (map, string) -> map.put("s1", string)
+			));
+
+		Map<String, Object> map = form.getPartial(_body);
+
+		assertThat(map.size(), is(2));
+		assertThat(map, hasEntry(equalTo("l1"), equalTo(42L)));
+		assertThat(map, hasEntry(equalTo("s1"), equalTo("Apio")));
+	}
+
 	private static Body _createBody(
 		Map<String, String> values, Map<String, List<String>> valueLists) {
 
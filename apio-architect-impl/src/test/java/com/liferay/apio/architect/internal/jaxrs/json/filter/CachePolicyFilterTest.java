@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.internal.cache.CachePolicyUtil.ATTRIBUTE_NAME;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.cache.CachePolicy;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.uri.Path;
+
+import java.lang.reflect.Field;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CachePolicyFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_cachePolicyFilter = new CachePolicyFilter();
+
+		_setField("_httpServletRequest", _httpServletRequest);
+		_setField("_request", _request);
+
+		Mockito.when(
+			_containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			_request.evaluatePreconditions(Mockito.any(Date.class))
+		).thenReturn(
+			Response.notModified()
+		);
+	}
+
+	@Test
+	public void testPagesWithoutPageFunctionAreNeverValidated() {
+		_setCachePolicy(
+			new CachePolicy.Builder<Long>(
+			).lastModified(
+				Date::new
+			).maxAge(
+				60
+			).build());
+
+		ContainerResponseContext containerResponseContext =
+			_createContainerResponseContext(_createPage());
+
+		_cachePolicyFilter.filter(
+			_containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(headers.getFirst(CACHE_CONTROL), is("max-age=60"));
+		assertThat(headers.getFirst(LAST_MODIFIED), is(nullValue()));
+
+		Mockito.verify(
+			_request, Mockito.never()
+		).evaluatePreconditions(
+			Mockito.any(Date.class)
+		);
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Mockito.anyInt()
+		);
+	}
+
+	@Test
+	public void testPagesWithPageFunctionAreValidated() {
+		_setCachePolicy(
+			new CachePolicy.Builder<Long>(
+			).pageLastModified(
+				page -> new Date(784111777000L)
+			).build());
+
+		ContainerResponseContext containerResponseContext =
+			_createContainerResponseContext(_createPage());
+
+		_cachePolicyFilter.filter(
+			_containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst(LAST_MODIFIED),
+			is("Sun, 06 Nov 1994 08:49:37 GMT"));
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			304
+		);
+	}
+
+	@Test
+	public void testSingleModelsAreValidated() {
+		_setCachePolicy(
+			new CachePolicy.Builder<Long>(
+			).lastModified(
+				Date::new
+			).build());
+
+		ContainerResponseContext containerResponseContext =
+			_createContainerResponseContext(
+				new SingleModelImpl<>(784111777000L, "people"));
+
+		_cachePolicyFilter.filter(
+			_containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst(LAST_MODIFIED),
+			is("Sun, 06 Nov 1994 08:49:37 GMT"));
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			304
+		);
+	}
+
+	@Test
+	public void testVaryOnlyAddsMissingHeaders() {
+		_setCachePolicy(new CachePolicy.Builder<Long>().build());
+
+		ContainerResponseContext containerResponseContext =
+			_createContainerResponseContext(_createPage());
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.add(VARY, ACCEPT);
+
+		_cachePolicyFilter.filter(
+			_containerRequestContext, containerResponseContext);
+
+		assertThat(headers.get(VARY), contains(ACCEPT, ACCEPT_LANGUAGE));
+	}
+
+	private static ContainerResponseContext _createContainerResponseContext(
+		Object model) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			200
+		);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			Try.success(model)
+		);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		return containerResponseContext;
+	}
+
+	private static PageImpl<Long> _createPage() {
+		List<Long> items = Arrays.asList(1000L, 784111777000L);
+
+		return new PageImpl<>(
+			"people", new PageItems<>(items, items.size()),
+			new PaginationImpl(30, 1), new Path("name", "id"),
+			Collections.emptyList());
+	}
+
+	private void _setCachePolicy(CachePolicy<Long> cachePolicy) {
+		Mockito.when(
+			_httpServletRequest.getAttribute(ATTRIBUTE_NAME)
+		).thenReturn(
+			cachePolicy
+		);
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = CachePolicyFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_cachePolicyFilter, value);
+	}
+
+	private CachePolicyFilter _cachePolicyFilter;
+	private final ContainerRequestContext _containerRequestContext =
+		Mockito.mock(ContainerRequestContext.class);
+	private final HttpServletRequest _httpServletRequest = Mockito.mock(
+		HttpServletRequest.class);
+	private final Request _request = Mockito.mock(Request.class);
+
+}
\ No newline at end of file
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.internal.jaxrs.json.interceptor.CompressionTestUtil.createCompressionWriterInterceptor;
+import static com.liferay.apio.architect.internal.jaxrs.json.interceptor.CompressionTestUtil.gunzip;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.internal.coalescing.RequestCoalescingConfiguration;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.internal.endpoint.PageEndpoint;
+import com.liferay.apio.architect.internal.jaxrs.json.interceptor.WriterInterceptorChain;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescingFilterTest {
+
+	@Test(timeout = 10000)
+	public void testFollowersReceiveTheCompressedBytesOfTheLeader()
+		throws Exception {
+
+		RequestCoalescingFilter requestCoalescingFilter =
+			_createRequestCoalescingFilter();
+
+		WriterInterceptorChain writerInterceptorChain =
+			new WriterInterceptorChain(
+				_ENTITY, APPLICATION_JSON_TYPE,
+				createCompressionWriterInterceptor("gzip"),
+				requestCoalescingFilter);
+
+		Response response = _getFollowerResponse(
+			requestCoalescingFilter, writerInterceptorChain);
+
+		assertThat(response.getHeaderString(CONTENT_ENCODING), is("gzip"));
+
+		byte[] followerBytes = (byte[])response.getEntity();
+
+		assertThat(gunzip(followerBytes), is(_ENTITY));
+	}
+
+	@Test(timeout = 10000)
+	public void testFollowersReceiveThePartialEmbeddingHeaderOfTheLeader()
+		throws Exception {
+
+		RequestCoalescingFilter requestCoalescingFilter =
+			_createRequestCoalescingFilter();
+
+		WriterInterceptor writerInterceptor = writerInterceptorContext -> {
+			MultivaluedMap<String, Object> headers =
+				writerInterceptorContext.getHeaders();
+
+			headers.putSingle(
+				EmbeddingDeadline.HEADER_NAME, EmbeddingDeadline.PARTIAL);
+			headers.putSingle(CACHE_CONTROL, "no-store");
+
+			writerInterceptorContext.proceed();
+		};
+
+		WriterInterceptorChain writerInterceptorChain =
+			new WriterInterceptorChain(
+				_ENTITY, APPLICATION_JSON_TYPE, writerInterceptor,
+				requestCoalescingFilter);
+
+		Response response = _getFollowerResponse(
+			requestCoalescingFilter, writerInterceptorChain);
+
+		assertThat(
+			response.getHeaderString(EmbeddingDeadline.HEADER_NAME),
+			is(EmbeddingDeadline.PARTIAL));
+		assertThat(response.getHeaderString(CACHE_CONTROL), is("no-store"));
+		assertThat(response.getHeaderString(LAST_MODIFIED), is(nullValue()));
+		assertThat(response.getEntity(), is(_ENTITY));
+	}
+
+	private static ContainerRequestContext _createContainerRequestContext() {
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(ACCEPT_ENCODING)
+		).thenReturn(
+			"gzip"
+		);
+
+		MultivaluedMap<String, String> pathParameters =
+			new MultivaluedHashMap<>();
+
+		pathParameters.putSingle("name", "people");
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPath()
+		).thenReturn(
+			"p/people"
+		);
+
+		Mockito.when(
+			uriInfo.getPathParameters()
+		).thenReturn(
+			pathParameters
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		return containerRequestContext;
+	}
+
+	private static RequestCoalescingFilter _createRequestCoalescingFilter()
+		throws Exception {
+
+		RequestCoalescingFilter requestCoalescingFilter =
+			new RequestCoalescingFilter();
+
+		requestCoalescingFilter.activate(
+			new RequestCoalescingConfiguration() {
+
+				@Override
+				public Class<? extends Annotation> annotationType() {
+					return RequestCoalescingConfiguration.class;
+				}
+
+				@Override
+				public boolean enabled() {
+					return true;
+				}
+
+				@Override
+				public String[] excludedResourceNames() {
+					return new String[0];
+				}
+
+				@Override
+				public int maxResponseBytes() {
+					return 1048576;
+				}
+
+				@Override
+				public long maxWaitMillis() {
+					return 10000;
+				}
+
+			});
+
+		ResourceInfo resourceInfo = Mockito.mock(ResourceInfo.class);
+
+		Mockito.when(
+			resourceInfo.getResourceMethod()
+		).thenReturn(
+			PageEndpoint.class.getMethod("getCollectionPageTry")
+		);
+
+		_setField(
+			requestCoalescingFilter, "_coalescingKeyContributors",
+			Collections.emptyList());
+		_setField(
+			requestCoalescingFilter, "_httpServletRequest",
+			Mockito.mock(HttpServletRequest.class));
+		_setField(requestCoalescingFilter, "_resourceInfo", resourceInfo);
+
+		return requestCoalescingFilter;
+	}
+
+	private static Response _getFollowerResponse(
+			RequestCoalescingFilter requestCoalescingFilter,
+			WriterInterceptorChain writerInterceptorChain)
+		throws Exception {
+
+		ContainerRequestContext leaderContainerRequestContext =
+			_createContainerRequestContext();
+
+		requestCoalescingFilter.filter(leaderContainerRequestContext);
+
+		ArgumentCaptor<String> nameArgumentCaptor = ArgumentCaptor.forClass(
+			String.class);
+		ArgumentCaptor<Object> keyArgumentCaptor = ArgumentCaptor.forClass(
+			Object.class);
+
+		Mockito.verify(
+			leaderContainerRequestContext
+		).setProperty(
+			nameArgumentCaptor.capture(), keyArgumentCaptor.capture()
+		);
+
+		ContainerRequestContext followerContainerRequestContext =
+			_createContainerRequestContext();
+
+		Thread thread = new Thread(
+			() -> requestCoalescingFilter.filter(
+				followerContainerRequestContext));
+
+		thread.start();
+
+		while (thread.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(1);
+		}
+
+		writerInterceptorChain.setProperty(
+			nameArgumentCaptor.getValue(), keyArgumentCaptor.getValue());
+
+		writerInterceptorChain.write();
+
+		thread.join();
+
+		ArgumentCaptor<Response> responseArgumentCaptor =
+			ArgumentCaptor.forClass(Response.class);
+
+		Mockito.verify(
+			followerContainerRequestContext
+		).abortWith(
+			responseArgumentCaptor.capture()
+		);
+
+		return responseArgumentCaptor.getValue();
+	}
+
+	private static void _setField(Object object, String name, Object value)
+		throws Exception {
+
+		Class<?> clazz = object.getClass();
+
+		Field field = clazz.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(object, value);
+	}
+
+	private static final byte[] _ENTITY = "{\"@type\": \"Person\"}".getBytes(
+		UTF_8);
+
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.cost.RequestCost;
+import com.liferay.apio.architect.internal.cost.RequestCostConfiguration;
+import com.liferay.apio.architect.internal.endpoint.BatchEndpoint;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+
+import org.apache.commons.io.IOUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCostFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_requestCostFilter = new RequestCostFilter();
+
+		_requestCostFilter.activate(
+			new RequestCostConfiguration() {
+
+				@Override
+				public Class<? extends Annotation> annotationType() {
+					return RequestCostConfiguration.class;
+				}
+
+				@Override
+				public boolean clampItemsPerPage() {
+					return false;
+				}
+
+				@Override
+				public boolean enabled() {
+					return true;
+				}
+
+				@Override
+				public int maxBatchBytes() {
+					return 32;
+				}
+
+				@Override
+				public long maxCost() {
+					return 25000;
+				}
+
+				@Override
+				public int maxEmbeddingDepth() {
+					return 4;
+				}
+
+				@Override
+				public int maxItemsPerPage() {
+					return 500;
+				}
+
+			});
+
+		ResourceInfo resourceInfo = Mockito.mock(ResourceInfo.class);
+
+		Mockito.when(
+			resourceInfo.getResourceMethod()
+		).thenReturn(
+			BatchEndpoint.class.getMethod(
+				"addBatchCollectionItems", Body.class)
+		);
+
+		_setField("_httpServletRequest", _httpServletRequest);
+		_setField("_nameManager", Mockito.mock(NameManager.class));
+		_setField("_providerManager", Mockito.mock(ProviderManager.class));
+		_setField(
+			"_representableManager", Mockito.mock(RepresentableManager.class));
+		_setField("_resourceInfo", resourceInfo);
+		_setField("_resourceRequestCostLimits", Collections.emptyList());
+	}
+
+	@Test
+	public void testBatchBodyUnderLimitIsCountedAndRestored()
+		throws Exception {
+
+		byte[] bytes = "[{\"id\": 1}, {\"id\": 2}]".getBytes(UTF_8);
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(bytes, bytes.length);
+
+		_requestCostFilter.filter(containerRequestContext);
+
+		ArgumentCaptor<InputStream> argumentCaptor = ArgumentCaptor.forClass(
+			InputStream.class);
+
+		Mockito.verify(
+			containerRequestContext
+		).setEntityStream(
+			argumentCaptor.capture()
+		);
+
+		assertThat(IOUtils.toByteArray(argumentCaptor.getValue()), is(bytes));
+
+		ArgumentCaptor<RequestCost> requestCostArgumentCaptor =
+			ArgumentCaptor.forClass(RequestCost.class);
+
+		Mockito.verify(
+			_httpServletRequest
+		).setAttribute(
+			Mockito.eq(RequestCost.ATTRIBUTE_NAME),
+			requestCostArgumentCaptor.capture()
+		);
+
+		RequestCost requestCost = requestCostArgumentCaptor.getValue();
+
+		assertThat(requestCost.getItemsPerPage(), is(2));
+	}
+
+	@Test
+	public void testBatchBodyWithContentLengthOverLimitIsNeverRead()
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(new byte[0], 33);
+
+		try {
+			_requestCostFilter.filter(containerRequestContext);
+
+			throw new AssertionError("The body should have been rejected");
+		}
+		catch (ClientErrorException cee) {
+			assertThat(cee.getResponse().getStatus(), is(413));
+		}
+
+		Mockito.verify(
+			containerRequestContext, Mockito.never()
+		).getEntityStream();
+	}
+
+	@Test
+	public void testBatchBodyWithoutContentLengthOverLimitIsRejected()
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(new byte[33], -1);
+
+		try {
+			_requestCostFilter.filter(containerRequestContext);
+
+			throw new AssertionError("The body should have been rejected");
+		}
+		catch (ClientErrorException cee) {
+			assertThat(cee.getResponse().getStatus(), is(413));
+		}
+
+		Mockito.verify(
+			containerRequestContext, Mockito.never()
+		).setEntityStream(
+			Mockito.any(InputStream.class)
+		);
+	}
+
+	private static ContainerRequestContext _createContainerRequestContext(
+		byte[] bytes, int length) {
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"POST"
+		);
+
+		Mockito.when(
+			containerRequestContext.getLength()
+		).thenReturn(
+			length
+		);
+
+		Mockito.when(
+			containerRequestContext.getEntityStream()
+		).thenReturn(
+			new ByteArrayInputStream(bytes)
+		);
+
+		MultivaluedMap<String, String> pathParameters =
+			new MultivaluedHashMap<>();
+
+		pathParameters.putSingle("name", "people");
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPathParameters()
+		).thenReturn(
+			pathParameters
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		return containerRequestContext;
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = RequestCostFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_requestCostFilter, value);
+	}
+
+	private final HttpServletRequest _httpServletRequest = Mockito.mock(
+		HttpServletRequest.class);
+	private RequestCostFilter _requestCostFilter;
+
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.jaxrs.json.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.apache.commons.io.IOUtils;
+
+import org.mockito.Mockito;
+
+/**
+ * Provides utilities for testing the compression of responses.
+ *
+ * @author Alejandro Hernández
+ */
+public class CompressionTestUtil {
+
+	/**
+	 * Returns an enabled {@link CompressionWriterInterceptor} that compresses
+	 * every response of a request with the provided {@code Accept-Encoding}
+	 * header.
+	 *
+	 * @param  acceptEncoding the request's {@code Accept-Encoding} header
+	 * @return the compression writer interceptor
+	 */
+	public static CompressionWriterInterceptor
+			createCompressionWriterInterceptor(String acceptEncoding)
+		throws Exception {
+
+		CompressionWriterInterceptor compressionWriterInterceptor =
+			new CompressionWriterInterceptor();
+
+		compressionWriterInterceptor.activate(
+			new CompressionConfiguration() {
+
+				@Override
+				public Class<? extends Annotation> annotationType() {
+					return CompressionConfiguration.class;
+				}
+
+				@Override
+				public int compressionLevel() {
+					return 6;
+				}
+
+				@Override
+				public boolean enabled() {
+					return true;
+				}
+
+				@Override
+				public String[] excludedMediaTypes() {
+					return new String[0];
+				}
+
+				@Override
+				public int poolSize() {
+					return 1;
+				}
+
+				@Override
+				public int thresholdBytes() {
+					return 0;
+				}
+
+			});
+
+		HttpHeaders httpHeaders = Mockito.mock(HttpHeaders.class);
+
+		Mockito.when(
+			httpHeaders.getHeaderString(ACCEPT_ENCODING)
+		).thenReturn(
+			acceptEncoding
+		);
+
+		Field field = CompressionWriterInterceptor.class.getDeclaredField(
+			"_httpHeaders");
+
+		field.setAccessible(true);
+
+		field.set(compressionWriterInterceptor, httpHeaders);
+
+		return compressionWriterInterceptor;
+	}
+
+	/**
+	 * Decompresses a gzip-encoded array of bytes.
+	 *
+	 * @param  bytes the gzip-encoded bytes
+	 * @return the decompressed bytes
+	 */
+	public static byte[] gunzip(byte[] bytes) throws IOException {
+		return IOUtils.toByteArray(
+			new GZIPInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.jaxrs.json.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.json.interceptor.CompressionTestUtil.createCompressionWriterInterceptor;
+import static com.liferay.apio.architect.internal.jaxrs.json.interceptor.CompressionTestUtil.gunzip;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.coalescing.CapturingOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Priority;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressionWriterInterceptorTest {
+
+	@Test
+	public void testInterceptorsWithDefaultPriorityWriteUncompressedBytes()
+		throws Exception {
+
+		CapturingWriterInterceptor capturingWriterInterceptor =
+			new CapturingWriterInterceptor();
+
+		WriterInterceptorChain writerInterceptorChain =
+			new WriterInterceptorChain(
+				_ENTITY, APPLICATION_JSON_TYPE, capturingWriterInterceptor,
+				createCompressionWriterInterceptor("gzip"));
+
+		byte[] bytes = writerInterceptorChain.write();
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorChain.getHeaders();
+
+		assertThat(headers.getFirst(CONTENT_ENCODING), is("gzip"));
+		assertThat(gunzip(bytes), is(_ENTITY));
+		assertThat(capturingWriterInterceptor.getBytes(), is(_ENTITY));
+	}
+
+	@Test
+	public void testInterceptorsWithLowerPriorityValueSeeCompressedBytes()
+		throws Exception {
+
+		HeaderDecoratorCapturingWriterInterceptor
+			headerDecoratorCapturingWriterInterceptor =
+				new HeaderDecoratorCapturingWriterInterceptor();
+
+		WriterInterceptorChain writerInterceptorChain =
+			new WriterInterceptorChain(
+				_ENTITY, APPLICATION_JSON_TYPE,
+				createCompressionWriterInterceptor("gzip"),
+				headerDecoratorCapturingWriterInterceptor);
+
+		byte[] bytes = writerInterceptorChain.write();
+
+		assertThat(
+			headerDecoratorCapturingWriterInterceptor.getBytes(), is(bytes));
+		assertThat(gunzip(bytes), is(_ENTITY));
+	}
+
+	public static class CapturingWriterInterceptor
+		implements WriterInterceptor {
+
+		@Override
+		public void aroundWriteTo(
+				WriterInterceptorContext writerInterceptorContext)
+			throws IOException {
+
+			OutputStream outputStream =
+				writerInterceptorContext.getOutputStream();
+
+			_capturingOutputStream = new CapturingOutputStream(
+				outputStream, Integer.MAX_VALUE);
+
+			writerInterceptorContext.setOutputStream(_capturingOutputStream);
+
+			writerInterceptorContext.proceed();
+		}
+
+		public byte[] getBytes() {
+			return _capturingOutputStream.getBytesOptional(
+			).orElse(
+				null
+			);
+		}
+
+		private CapturingOutputStream _capturingOutputStream;
+
+	}
+
+	@Priority(Priorities.HEADER_DECORATOR)
+	public static class HeaderDecoratorCapturingWriterInterceptor
+		extends CapturingWriterInterceptor {
+	}
+
+	private static byte[] _createEntity() {
+		StringBuilder sb = new StringBuilder();
+
+		while (sb.length() < 4096) {
+			sb.append("{\"@type\": \"Person\"}");
+		}
+
+		String entity = sb.toString();
+
+		return entity.getBytes(UTF_8);
+	}
+
+	private static final byte[] _ENTITY = _createEntity();
+
+}
\ No newline at end of file
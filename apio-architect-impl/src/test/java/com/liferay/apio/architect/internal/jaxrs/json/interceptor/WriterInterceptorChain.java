@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.jaxrs.json.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Priority;
+
+import javax.ws.rs.Priorities;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Runs a list of writer interceptors around the writing of an entity, ordering
+ * them by their {@link Priority} as a JAX-RS runtime does. The interceptors
+ * with a lower priority value run outside the ones with a higher value.
+ *
+ * @author Alejandro Hernández
+ */
+public class WriterInterceptorChain implements WriterInterceptorContext {
+
+	public WriterInterceptorChain(
+		byte[] entity, MediaType mediaType,
+		WriterInterceptor... writerInterceptors) {
+
+		_entity = entity;
+		_mediaType = mediaType;
+
+		_writerInterceptors = new ArrayList<>(
+			Arrays.asList(writerInterceptors));
+
+		_writerInterceptors.sort(
+			Comparator.comparingInt(WriterInterceptorChain::_getPriority));
+
+		_headers.putSingle(CONTENT_TYPE, mediaType.toString());
+	}
+
+	@Override
+	public Annotation[] getAnnotations() {
+		return new Annotation[0];
+	}
+
+	@Override
+	public Object getEntity() {
+		return _entity;
+	}
+
+	@Override
+	public Type getGenericType() {
+		return byte[].class;
+	}
+
+	@Override
+	public MultivaluedMap<String, Object> getHeaders() {
+		return _headers;
+	}
+
+	@Override
+	public MediaType getMediaType() {
+		return _mediaType;
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		return _outputStream;
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		return _properties.get(name);
+	}
+
+	@Override
+	public Collection<String> getPropertyNames() {
+		return _properties.keySet();
+	}
+
+	@Override
+	public Class<?> getType() {
+		return byte[].class;
+	}
+
+	@Override
+	public void proceed() throws IOException {
+		if (_index < _writerInterceptors.size()) {
+			WriterInterceptor writerInterceptor = _writerInterceptors.get(
+				_index++);
+
+			writerInterceptor.aroundWriteTo(this);
+
+			return;
+		}
+
+		_outputStream.write(_entity);
+	}
+
+	@Override
+	public void removeProperty(String name) {
+		_properties.remove(name);
+	}
+
+	@Override
+	public void setAnnotations(Annotation[] annotations) {
+	}
+
+	@Override
+	public void setEntity(Object entity) {
+		_entity = (byte[])entity;
+	}
+
+	@Override
+	public void setGenericType(Type genericType) {
+	}
+
+	@Override
+	public void setMediaType(MediaType mediaType) {
+		_mediaType = mediaType;
+	}
+
+	@Override
+	public void setOutputStream(OutputStream outputStream) {
+		_outputStream = outputStream;
+	}
+
+	@Override
+	public void setProperty(String name, Object object) {
+		_properties.put(name, object);
+	}
+
+	@Override
+	public void setType(Class<?> type) {
+	}
+
+	/**
+	 * Writes the entity through the interceptors and returns the bytes that
+	 * reach the client.
+	 *
+	 * @return the written bytes
+	 */
+	public byte[] write() throws IOException {
+		proceed();
+
+		return _byteArrayOutputStream.toByteArray();
+	}
+
+	private static int _getPriority(WriterInterceptor writerInterceptor) {
+		Class<? extends WriterInterceptor> clazz = writerInterceptor.getClass();
+
+		Priority priority = clazz.getAnnotation(Priority.class);
+
+		if (priority == null) {
+			return Priorities.USER;
+		}
+
+		return priority.value();
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private byte[] _entity;
+	private final MultivaluedMap<String, Object> _headers =
+		new MultivaluedHashMap<>();
+	private int _index;
+	private MediaType _mediaType;
+	private OutputStream _outputStream = _byteArrayOutputStream;
+	private final Map<String, Object> _properties = new HashMap<>();
+	private final List<WriterInterceptor> _writerInterceptors;
+
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ErrorLogThrottleTest {
+
+	@Test
+	public void testErrorsWithDifferentKeysAreThrottledSeparately() {
+		ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle();
+
+		assertThat(errorLogThrottle.tryLog("first", 10, 0), is(0L));
+		assertThat(errorLogThrottle.tryLog("second", 10, 1), is(0L));
+		assertThat(errorLogThrottle.tryLog("first", 10, 2), is(-1L));
+		assertThat(errorLogThrottle.tryLog("second", 10, 3), is(-1L));
+	}
+
+	@Test
+	public void testErrorsWithinIntervalAreSuppressedAndCounted() {
+		ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle();
+
+		assertThat(errorLogThrottle.tryLog("key", 10, 100), is(0L));
+		assertThat(errorLogThrottle.tryLog("key", 10, 101), is(-1L));
+		assertThat(errorLogThrottle.tryLog("key", 10, 105), is(-1L));
+		assertThat(errorLogThrottle.tryLog("key", 10, 109), is(-1L));
+		assertThat(errorLogThrottle.tryLog("key", 10, 110), is(3L));
+		assertThat(errorLogThrottle.tryLog("key", 10, 111), is(-1L));
+	}
+
+	@Test
+	public void testZeroIntervalLogsEveryError() {
+		ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle();
+
+		assertThat(errorLogThrottle.tryLog("key", 0, 0), is(0L));
+		assertThat(errorLogThrottle.tryLog("key", 0, 0), is(0L));
+		assertThat(errorLogThrottle.tryLog("key", 0, 1), is(0L));
+	}
+
+}
\ No newline at end of file
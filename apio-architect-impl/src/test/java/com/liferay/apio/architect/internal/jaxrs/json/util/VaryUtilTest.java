@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.json.util;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class VaryUtilTest {
+
+	@Test
+	public void testAddVaryAddsMissingHeader() {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.add(VARY, ACCEPT + ", " + ACCEPT_LANGUAGE);
+
+		VaryUtil.addVary(headers, ACCEPT_ENCODING);
+
+		assertThat(
+			headers.get(VARY),
+			contains(ACCEPT + ", " + ACCEPT_LANGUAGE, ACCEPT_ENCODING));
+	}
+
+	@Test
+	public void testAddVaryIgnoresListedHeader() {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.add(VARY, ACCEPT + ", accept-encoding");
+
+		VaryUtil.addVary(headers, ACCEPT_ENCODING);
+		VaryUtil.addVary(headers, ACCEPT);
+
+		assertThat(headers.get(VARY), contains(ACCEPT + ", accept-encoding"));
+	}
+
+	@Test
+	public void testAddVaryIgnoresWildcard() {
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.add(VARY, "*");
+
+		VaryUtil.addVary(headers, ACCEPT_ENCODING);
+
+		assertThat(headers.get(VARY), contains("*"));
+	}
+
+}
\ No newline at end of file
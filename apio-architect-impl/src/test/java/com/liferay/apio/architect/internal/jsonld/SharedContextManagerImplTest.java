@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jsonld;
+
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createFirstEmbeddedModelRepresentor;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.representor.Representor;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SharedContextManagerImplTest {
+
+	@Test
+	public void testCreateSharedContextDeclaresRelationTermsAsIds()
+		throws IOException {
+
+		SharedContext sharedContext =
+			SharedContextManagerImpl.createSharedContext(
+				Collections.singletonList(createRootModelRepresentor(false)));
+
+		JsonNode jsonNode = _objectMapper.readTree(
+			sharedContext.getDocument());
+
+		JsonNode termsJsonNode = jsonNode.get("@context").get(2);
+
+		List<String> terms = new ArrayList<>();
+
+		termsJsonNode.fieldNames().forEachRemaining(terms::add);
+
+		assertThat(
+			terms,
+			containsInAnyOrder(
+				"embedded1", "embedded2", "expects", "linked1", "linked2",
+				"linked3", "relatedCollection1", "relatedCollection2",
+				"returns"));
+
+		JsonNode linkedJsonNode = termsJsonNode.get("linked3");
+
+		assertThat(linkedJsonNode.get("@type").asText(), is("@id"));
+	}
+
+	@Test
+	public void testCreateSharedContextHashDependsOnlyOnContent() {
+		List<Representor<?>> representors = Arrays.asList(
+			createRootModelRepresentor(false),
+			createFirstEmbeddedModelRepresentor());
+
+		SharedContext sharedContext1 =
+			SharedContextManagerImpl.createSharedContext(representors);
+
+		Collections.reverse(representors);
+
+		SharedContext sharedContext2 =
+			SharedContextManagerImpl.createSharedContext(representors);
+
+		assertThat(sharedContext1.getHash(), is(sharedContext2.getHash()));
+		assertThat(
+			sharedContext1.getDocument(), is(sharedContext2.getDocument()));
+
+		SharedContext sharedContext3 =
+			SharedContextManagerImpl.createSharedContext(
+				Collections.singletonList(
+					createFirstEmbeddedModelRepresentor()));
+
+		assertThat(
+			sharedContext1.getHash(), is(not(sharedContext3.getHash())));
+	}
+
+	@Test
+	public void testSharedContextIsAbsentIfNotEnabled() {
+		SharedContextManager sharedContextManager =
+			new SharedContextManagerImpl();
+
+		assertThat(
+			sharedContextManager.getSharedContextOptional(
+			).isPresent(),
+			is(false));
+	}
+
+	private static final ObjectMapper _objectMapper = new ObjectMapper();
+
+}
\ No newline at end of file
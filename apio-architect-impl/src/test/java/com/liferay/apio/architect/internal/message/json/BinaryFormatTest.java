@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+import static com.liferay.apio.architect.internal.message.json.BinaryFormat.CBOR;
+import static com.liferay.apio.architect.internal.message.json.BinaryFormat.SMILE;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.test.util.internal.writer.MockPageWriter;
+import com.liferay.apio.architect.test.util.internal.writer.MockSingleModelWriter;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+
+import org.json.JSONException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryFormatTest implements RepresentableManager {
+
+	@Override
+	public <T> Optional<Representor<T>> getRepresentorOptional(String name) {
+		Optional<Representor<?>> optional =
+			MockWriterUtil.getRepresentorOptional(name);
+
+		return optional.map(Unsafe::unsafeCast);
+	}
+
+	@Override
+	public Map<String, Representor> getRepresentors() {
+		return Collections.emptyMap();
+	}
+
+	@Test
+	public void testGetMediaTypeOptionalIgnoresNonJSONMediaTypes() {
+		assertThat(CBOR.getMediaTypeOptional("text/html"), is(emptyOptional()));
+		assertThat(
+			SMILE.getMediaTypeOptional("application/xml"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetMediaTypeOptionalMapsPlainJSONToFormatMediaType() {
+		assertThat(
+			CBOR.getMediaTypeOptional("application/json"),
+			is(optionalWithValue(is("application/cbor"))));
+		assertThat(
+			SMILE.getMediaTypeOptional("application/json"),
+			is(optionalWithValue(is("application/x-jackson-smile"))));
+	}
+
+	@Test
+	public void testGetMediaTypeOptionalReplacesJSONSuffix() {
+		assertThat(
+			CBOR.getMediaTypeOptional("application/hal+json"),
+			is(optionalWithValue(is("application/hal+cbor"))));
+		assertThat(
+			SMILE.getMediaTypeOptional("application/LD+JSON"),
+			is(optionalWithValue(is("application/ld+smile"))));
+	}
+
+	@Test
+	public void testHALPageIsWrittenEquallyInEveryFormat()
+		throws IOException, JSONException {
+
+		HALPageMessageMapper<RootModel> pageMessageMapper =
+			new RepresentableHALPageMessageMapper(this);
+
+		assertThat(
+			pageMessageMapper.getBinaryFormats(),
+			is(EnumSet.allOf(BinaryFormat.class)));
+
+		for (BinaryFormat binaryFormat : pageMessageMapper.getBinaryFormats()) {
+			_assertBinaryWrite(
+				binaryFormat,
+				MockPageWriter.writeJSONObjectBuilder(pageMessageMapper));
+		}
+	}
+
+	@Test
+	public void testHALSingleModelIsWrittenEquallyInEveryFormat()
+		throws IOException, JSONException {
+
+		HALSingleModelMessageMapper<RootModel> singleModelMessageMapper =
+			new HALSingleModelMessageMapper<>();
+
+		for (BinaryFormat binaryFormat :
+				singleModelMessageMapper.getBinaryFormats()) {
+
+			_assertBinaryWrite(
+				binaryFormat,
+				MockSingleModelWriter.writeJSONObjectBuilder(
+					singleModelMessageMapper));
+		}
+	}
+
+	@Test
+	public void testPlainJSONPageIsWrittenEquallyInEveryFormat()
+		throws IOException, JSONException {
+
+		PlainJSONPageMessageMapper<RootModel> pageMessageMapper =
+			new PlainJSONPageMessageMapper<>();
+
+		for (BinaryFormat binaryFormat : pageMessageMapper.getBinaryFormats()) {
+			_assertBinaryWrite(
+				binaryFormat,
+				MockPageWriter.writeJSONObjectBuilder(pageMessageMapper));
+		}
+	}
+
+	@Test
+	public void testPlainJSONSingleModelIsWrittenEquallyInEveryFormat()
+		throws IOException, JSONException {
+
+		PlainJSONSingleModelMessageMapper<RootModel> singleModelMessageMapper =
+			new PlainJSONSingleModelMessageMapper<>();
+
+		for (BinaryFormat binaryFormat :
+				singleModelMessageMapper.getBinaryFormats()) {
+
+			_assertBinaryWrite(
+				binaryFormat,
+				MockSingleModelWriter.writeJSONObjectBuilder(
+					singleModelMessageMapper));
+		}
+	}
+
+	private void _assertBinaryWrite(
+			BinaryFormat binaryFormat, JSONObjectBuilder jsonObjectBuilder)
+		throws IOException, JSONException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		jsonObjectBuilder.build(binaryFormat, byteArrayOutputStream);
+
+		ObjectMapper objectMapper = new ObjectMapper(
+			_getJsonFactory(binaryFormat));
+
+		JsonNode jsonNode = objectMapper.readTree(
+			byteArrayOutputStream.toByteArray());
+
+		assertEquals(jsonObjectBuilder.build(), jsonNode.toString(), true);
+	}
+
+	private JsonFactory _getJsonFactory(BinaryFormat binaryFormat) {
+		if (binaryFormat == CBOR) {
+			return new CBORFactory();
+		}
+
+		return new SmileFactory();
+	}
+
+	private static class RepresentableHALPageMessageMapper
+		extends HALPageMessageMapper<RootModel> {
+
+		private RepresentableHALPageMessageMapper(
+			RepresentableManager representableManager) {
+
+			this.representableManager = representableManager;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -16,6 +16,15 @@ package com.liferay.apio.architect.internal.message.json;
 
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Arrays;
 
 import org.json.JSONException;
@@ -27,6 +36,20 @@ import org.junit.Test;
  */
 public class JSONObjectBuilderTest {
 
+	@Test
+	public void testBuildingWithCBORWritesTheSameJsonObject()
+		throws IOException, JSONException {
+
+		_assertBinaryBuild(BinaryFormat.CBOR, new CBORFactory());
+	}
+
+	@Test
+	public void testBuildingWithSmileWritesTheSameJsonObject()
+		throws IOException, JSONException {
+
+		_assertBinaryBuild(BinaryFormat.SMILE, new SmileFactory());
+	}
+
 	@Test
 	public void testInvokingAddAllOnAnArrayValueCreatesAValidJsonArray()
 		throws JSONException {
@@ -424,6 +447,36 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	private void _assertBinaryBuild(
+			BinaryFormat binaryFormat, JsonFactory jsonFactory)
+		throws IOException, JSONException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner", "other"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addAllStrings(
+			Arrays.asList("api", "apio")
+		);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_jsonObjectBuilder.build(binaryFormat, byteArrayOutputStream);
+
+		ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+
+		JsonNode jsonNode = objectMapper.readTree(
+			byteArrayOutputStream.toByteArray());
+
+		assertEquals(_jsonObjectBuilder.build(), jsonNode.toString(), true);
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
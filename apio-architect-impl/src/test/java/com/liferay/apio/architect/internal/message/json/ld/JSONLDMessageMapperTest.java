@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.message.json.ld;
 
 import com.liferay.apio.architect.test.util.json.MessageMapperTesterBuilder;
+import com.liferay.apio.architect.test.util.model.RootModel;
 
 import java.nio.file.Paths;
 
@@ -28,12 +29,24 @@ public class JSONLDMessageMapperTest {
 
 	@Test
 	public void testJSONLDMessageMappers() {
+		JSONLDBatchResultMessageMapper<String> batchResultMessageMapper =
+			new JSONLDBatchResultMessageMapper<>();
+
+		batchResultMessageMapper.singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
+		JSONLDPageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		pageMessageMapper.singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
 		MessageMapperTesterBuilder.path(
 			Paths.get("src", "test", "resources", "ld")
 		).mediaType(
 			"application/ld+json"
 		).validateBatchResultMessageMapper(
-			new JSONLDBatchResultMessageMapper<>()
+			batchResultMessageMapper
 		).validateDocumentationMessageMapper(
 			new JSONLDDocumentationMessageMapper()
 		).validateEntryPointMessageMapper(
@@ -43,7 +56,7 @@ public class JSONLDMessageMapperTest {
 		).validateFormMessageMapper(
 			new JSONLDFormMessageMapper()
 		).validatePageMessageMapper(
-			new JSONLDPageMessageMapper<>()
+			pageMessageMapper
 		).validateSingleModelMessageMapper(
 			new JSONLDSingleModelMessageMapper<>()
 		);
@@ -15,15 +15,23 @@
 package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getOperationTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.mapStartContext;
 
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.operation.BatchCreateOperation;
+import com.liferay.apio.architect.internal.operation.BatchDeleteOperation;
+import com.liferay.apio.architect.internal.operation.BatchUpdateOperation;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.operation.RetrieveOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.test.util.internal.util.DescriptionUtil;
 
@@ -31,6 +39,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import java.util.List;
+import java.util.Locale;
+
+import org.json.JSONException;
 
 import org.junit.Test;
 
@@ -63,6 +74,25 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(operationTypes, contains("BatchCreateAction", "Operation"));
 	}
 
+	@Test
+	public void testGetOperationTypesOnBatchDeleteOperationReturnValidTypes() {
+		Operation operation = new BatchDeleteOperation("", "");
+
+		List<String> operationTypes = getOperationTypes(operation);
+
+		assertThat(operationTypes, contains("BatchDeleteAction", "Operation"));
+	}
+
+	@Test
+	public void testGetOperationTypesOnBatchUpdateOperationReturnValidTypes() {
+		Operation operation = new BatchUpdateOperation(null, "", "");
+
+		List<String> operationTypes = getOperationTypes(operation);
+
+		assertThat(
+			operationTypes, contains("BatchReplaceAction", "Operation"));
+	}
+
 	@Test
 	public void testGetOperationTypesOnCreateOperationReturnValidTypes() {
 		Operation operation = new CreateOperation(null, "", "");
@@ -90,6 +120,15 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(operationTypes, contains("Operation"));
 	}
 
+	@Test
+	public void testGetOperationTypesOnPartialUpdateReturnValidTypes() {
+		Operation operation = new PartialUpdateOperation(null, "", "");
+
+		List<String> operationTypes = getOperationTypes(operation);
+
+		assertThat(operationTypes, contains("UpdateAction", "Operation"));
+	}
+
 	@Test
 	public void testGetOperationTypesOnUpdateOperationReturnValidTypes() {
 		Operation operation = new UpdateOperation(null, "", "");
@@ -99,4 +138,50 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(operationTypes, contains("ReplaceAction", "Operation"));
 	}
 
+	@Test
+	public void testMapStartContextWithBaseURLWritesBase()
+		throws JSONException {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		mapStartContext(
+			jsonObjectBuilder, null,
+			_createRequestInfo("http://localhost/o/api/"));
+
+		String expected =
+			"{\"@context\": [{\"@base\": \"http://localhost/o/api/\"}]}";
+
+		assertEquals(expected, jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testMapStartContextWithoutBaseURLWritesNothing()
+		throws JSONException {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		mapStartContext(jsonObjectBuilder, null, _createRequestInfo(null));
+
+		assertEquals("{}", jsonObjectBuilder.build(), true);
+	}
+
+	private RequestInfo _createRequestInfo(String baseURL) {
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "http://localhost"
+			).applicationURL(
+				() -> "http://localhost/o/api"
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).baseURL(
+				baseURL
+			).build());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.core.Is.is;
+
+import java.util.SortedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void testRecordAddsLatencyToItsBucket() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		latencyHistogram.record(MILLISECONDS.toNanos(1));
+		latencyHistogram.record(MILLISECONDS.toNanos(3));
+		latencyHistogram.record(MILLISECONDS.toNanos(4));
+		latencyHistogram.record(MILLISECONDS.toNanos(60000));
+
+		SortedMap<Long, Long> buckets = latencyHistogram.getBuckets();
+
+		assertThat(buckets, hasEntry(1L, 1L));
+		assertThat(buckets, hasEntry(2L, 0L));
+		assertThat(buckets, hasEntry(5L, 2L));
+		assertThat(buckets, hasEntry(Long.MAX_VALUE, 1L));
+
+		assertThat(latencyHistogram.getCount(), is(4L));
+		assertThat(latencyHistogram.getMax(), is(MILLISECONDS.toNanos(60000)));
+		assertThat(
+			latencyHistogram.getTotal(), is(MILLISECONDS.toNanos(60008)));
+	}
+
+}
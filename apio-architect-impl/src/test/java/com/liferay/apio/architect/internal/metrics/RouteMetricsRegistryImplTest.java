@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.metrics.RouteMetrics;
+import com.liferay.apio.architect.metrics.Stage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RouteMetricsRegistryImplTest {
+
+	@Test
+	public void testGetObjectNameQuotesKeyProperties() throws Exception {
+		ObjectName objectName = RouteMetricsRegistryImpl.getObjectName(
+			"people,type=Other:*", "getCollectionPageTry");
+
+		assertThat(objectName.isPattern(), is(false));
+		assertThat(objectName.getKeyProperty("type"), is("RouteMetrics"));
+		assertThat(
+			ObjectName.unquote(objectName.getKeyProperty("resource")),
+			is("people,type=Other:*"));
+		assertThat(
+			ObjectName.unquote(objectName.getKeyProperty("operation")),
+			is("getCollectionPageTry"));
+	}
+
+	@Test
+	public void testRecordAggregatesMetricsPerRoute() {
+		RouteMetricsRegistryImpl routeMetricsRegistryImpl =
+			new RouteMetricsRegistryImpl();
+
+		Map<Stage, Long> durations = new EnumMap<>(Stage.class);
+
+		durations.put(Stage.ROUTE, 10L);
+		durations.put(Stage.RENDERING, 20L);
+
+		routeMetricsRegistryImpl.record(
+			"people", "getCollectionPageTry", durations, 100, false);
+		routeMetricsRegistryImpl.record(
+			"people", "getCollectionPageTry", durations, 50, true);
+		routeMetricsRegistryImpl.record(
+			"people", "deleteCollectionItem", durations, 0, false);
+
+		assertThat(routeMetricsRegistryImpl.getRouteMetrics(), hasSize(2));
+
+		Optional<RouteMetrics> optional =
+			routeMetricsRegistryImpl.getRouteMetricsOptional(
+				"people", "getCollectionPageTry");
+
+		assertThat(optional, is(optionalWithValue()));
+
+		RouteMetrics routeMetrics = optional.get();
+
+		assertThat(routeMetrics.getRequestCount(), is(2L));
+		assertThat(routeMetrics.getErrorCount(), is(1L));
+		assertThat(routeMetrics.getPayloadSize(), is(150L));
+		assertThat(routeMetrics.getTotalLatency(Stage.ROUTE), is(20L));
+		assertThat(routeMetrics.getTotalLatency(Stage.RENDERING), is(40L));
+		assertThat(routeMetrics.getMaxLatency(Stage.RENDERING), is(20L));
+		assertThat(routeMetrics.getTotalLatency(Stage.SERIALIZATION), is(0L));
+
+		assertThat(
+			routeMetricsRegistryImpl.getRouteMetricsOptional(
+				"people", "updateCollectionItem"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testRecordAggregatesResourcesOverTheLimit() {
+		RouteMetricsRegistryImpl routeMetricsRegistryImpl =
+			new RouteMetricsRegistryImpl();
+
+		Map<Stage, Long> durations = new EnumMap<>(Stage.class);
+
+		for (int i = 0; i < RouteMetricsRegistryImpl.MAX_ROUTES + 10; i++) {
+			routeMetricsRegistryImpl.record(
+				"resource" + i, "getCollectionPageTry", durations, 0, false);
+		}
+
+		assertThat(
+			routeMetricsRegistryImpl.getRouteMetrics(),
+			hasSize(RouteMetricsRegistryImpl.MAX_ROUTES + 1));
+
+		Optional<RouteMetrics> optional =
+			routeMetricsRegistryImpl.getRouteMetricsOptional(
+				"*", "getCollectionPageTry");
+
+		assertThat(optional, is(optionalWithValue()));
+
+		RouteMetrics routeMetrics = optional.get();
+
+		assertThat(routeMetrics.getRequestCount(), is(10L));
+	}
+
+}
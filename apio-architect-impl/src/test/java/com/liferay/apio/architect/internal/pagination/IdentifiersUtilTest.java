@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.pagination;
+
+import static com.liferay.apio.architect.internal.pagination.IdentifiersUtil.MAX_IDENTIFIERS;
+import static com.liferay.apio.architect.internal.pagination.IdentifiersUtil.getIdentifiers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class IdentifiersUtilTest {
+
+	@Test
+	public void testGetIdentifiers() {
+		assertThat(
+			getIdentifiers(" 3, 1,,2 ,1, "), contains("3", "1", "2"));
+		assertThat(getIdentifiers(" , "), is(empty()));
+	}
+
+	@Test
+	public void testGetIdentifiersAcceptsTheMaximum() {
+		String ids = _createIds(MAX_IDENTIFIERS);
+
+		assertThat(getIdentifiers(ids + ",1"), hasSize(MAX_IDENTIFIERS));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testGetIdentifiersRejectsMoreThanTheMaximum() {
+		getIdentifiers(_createIds(MAX_IDENTIFIERS + 1));
+	}
+
+	private static String _createIds(int count) {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 1; i <= count; i++) {
+			if (i > 1) {
+				sb.append(',');
+			}
+
+			sb.append(i);
+		}
+
+		return sb.toString();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.profiler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.internal.profiler.RequestProfile.Event;
+
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestProfileTest {
+
+	@After
+	public void tearDown() {
+		RequestProfile.setProfiling(false);
+	}
+
+	@Test
+	public void testDisabledRequestProfileRecordsNothing() {
+		RequestProfile requestProfile = RequestProfile.DISABLED;
+
+		long startNanos = requestProfile.start();
+
+		requestProfile.record("type", "detail", startNanos);
+
+		assertThat(startNanos, is(0L));
+		assertThat(requestProfile.isEnabled(), is(false));
+		assertThat(requestProfile.getEvents(), is(empty()));
+	}
+
+	@Test
+	public void testGetRequestProfileReturnsDisabledIfNotProfiling() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(RequestProfile.ATTRIBUTE_NAME)
+		).thenReturn(
+			new RequestProfile("GET /")
+		);
+
+		assertThat(
+			RequestProfile.getRequestProfile(httpServletRequest),
+			is(RequestProfile.DISABLED));
+
+		Mockito.verify(
+			httpServletRequest, Mockito.never()
+		).getAttribute(
+			Mockito.anyString()
+		);
+	}
+
+	@Test
+	public void testGetRequestProfileReturnsRequestAttributeIfProfiling() {
+		RequestProfile.setProfiling(true);
+
+		RequestProfile requestProfile = new RequestProfile("GET /");
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(RequestProfile.ATTRIBUTE_NAME)
+		).thenReturn(
+			requestProfile
+		);
+
+		assertThat(
+			RequestProfile.getRequestProfile(httpServletRequest),
+			is(requestProfile));
+		assertThat(
+			RequestProfile.getRequestProfile(null),
+			is(RequestProfile.DISABLED));
+	}
+
+	@Test
+	public void testRecordAddsEventsInOrder() {
+		RequestProfile requestProfile = new RequestProfile("GET /");
+
+		long startNanos = requestProfile.start();
+
+		requestProfile.record("provider", "Credentials", startNanos);
+		requestProfile.record("embedded", "first.embedded1", startNanos);
+
+		List<Event> events = requestProfile.getEvents();
+
+		assertThat(events, hasSize(2));
+
+		Event firstEvent = events.get(0);
+
+		assertThat(firstEvent.getType(), is("provider"));
+		assertThat(firstEvent.getDetail(), is("Credentials"));
+
+		Event secondEvent = events.get(1);
+
+		assertThat(secondEvent.getType(), is("embedded"));
+		assertThat(secondEvent.getDetail(), is("first.embedded1"));
+		assertThat(requestProfile.getDescription(), is("GET /"));
+	}
+
+	@Test
+	public void testToJSONWritesSingleLine() throws Exception {
+		RequestProfile requestProfile = new RequestProfile(
+			"GET /p/people?q=\"a\nb\"");
+
+		long startNanos = requestProfile.start();
+
+		requestProfile.record(
+			"route", "getCollectionPageTry -> 200", startNanos);
+		requestProfile.record("write", "application/json", startNanos);
+
+		String json = requestProfile.toJSON(1500000);
+
+		assertThat(json.contains("\n"), is(false));
+
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		JsonNode jsonNode = objectMapper.readTree(json);
+
+		assertThat(
+			jsonNode.get("request").asText(), is("GET /p/people?q=\"a\nb\""));
+		assertThat(jsonNode.get("elapsedMillis").asDouble(), is(1.5));
+
+		JsonNode eventsJsonNode = jsonNode.get("events");
+
+		assertThat(eventsJsonNode.size(), is(2));
+
+		JsonNode routeJsonNode = eventsJsonNode.get(0);
+
+		assertThat(routeJsonNode.get("type").asText(), is("route"));
+		assertThat(
+			routeJsonNode.get("detail").asText(),
+			is("getCollectionPageTry -> 200"));
+		assertThat(routeJsonNode.has("offsetMillis"), is(true));
+		assertThat(routeJsonNode.has("durationMillis"), is(true));
+
+		JsonNode writeJsonNode = eventsJsonNode.get(1);
+
+		assertThat(writeJsonNode.get("type").asText(), is("write"));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.projection;
+
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.projection.Projection;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProjectionImplTest {
+
+	@Test
+	public void testIsEmbeddedChecksEmbeddedAndFields() {
+		Projection projection = new ProjectionImpl(
+			createRootModelRepresentor(false),
+			types -> key -> !key.equals("embedded2"),
+			path -> Arrays.asList(
+				"embedded1", "embedded1.inner", "embedded2", "string1"
+			).contains(
+				path
+			));
+
+		assertThat(projection.isEmbedded("embedded1"), is(true));
+		assertThat(projection.isEmbedded("embedded1.inner"), is(true));
+		assertThat(projection.isEmbedded("embedded2"), is(false));
+		assertThat(projection.isEmbedded("linked1"), is(false));
+		assertThat(projection.isEmbedded("relatedCollection1"), is(false));
+		assertThat(projection.isEmbedded("string1"), is(false));
+	}
+
+	@Test
+	public void testIsEmbeddedWithRelatedCollection() {
+		Projection projection = new ProjectionImpl(
+			createRootModelRepresentor(false), types -> key -> true,
+			path -> path.equals("relatedCollection1"));
+
+		assertThat(projection.isEmbedded("relatedCollection1"), is(true));
+		assertThat(projection.isEmbedded("relatedCollection2"), is(false));
+	}
+
+	@Test
+	public void testIsRenderedUsesFieldsOfRepresentorTypes() {
+		Projection projection = new ProjectionImpl(
+			createRootModelRepresentor(false),
+			types -> {
+				if (types.contains("Type 1")) {
+					return key -> key.equals("string1") ||
+						key.equals("linked1");
+				}
+
+				return key -> true;
+			},
+			__ -> false);
+
+		assertThat(projection.isRendered("linked1"), is(true));
+		assertThat(projection.isRendered("string1"), is(true));
+		assertThat(projection.isRendered("number1"), is(false));
+		assertThat(projection.isRendered("string2"), is(false));
+	}
+
+	@Test
+	public void testIsRenderedWithoutFieldsIncludesEveryRepresentorField() {
+		Projection projection = new ProjectionImpl(
+			createRootModelRepresentor(false), types -> key -> true,
+			__ -> false);
+
+		for (String key : _KEYS) {
+			assertThat(key, projection.isRendered(key), is(true));
+		}
+
+		assertThat(projection.isRendered("unknown"), is(false));
+	}
+
+	private static final String[] _KEYS = {
+		"applicationRelativeURL1", "binary1", "boolean1", "booleanList1",
+		"date1", "embedded1", "link1", "linked1", "localizedString1", "nested1",
+		"nestedList", "number1", "numberList1", "relatedCollection1",
+		"relativeURL1", "string1", "stringList1"
+	};
+
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.provider;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.liferay.apio.architect.internal.cost.RequestCost;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import javax.servlet.http.HttpServletRequest;
@@ -30,6 +31,29 @@ import org.mockito.Mockito;
  */
 public class PaginationProviderTest {
 
+	@Test
+	public void testGetRequestedItemsPerPageIgnoresClampedItemsPerPage() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"1000"
+		);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(RequestCost.ATTRIBUTE_NAME)
+		).thenReturn(
+			new RequestCost(500, 0, 0)
+		);
+
+		int itemsPerPage = PaginationProvider.getRequestedItemsPerPage(
+			httpServletRequest);
+
+		assertThat(itemsPerPage, is(1000));
+	}
+
 	@Test
 	public void testPaginationProviderReturnDefaultValuesIfError() {
 		PaginationProvider paginationProvider = new PaginationProvider();
@@ -76,6 +100,31 @@ public class PaginationProviderTest {
 		assertThat(pagination.getItemsPerPage(), is(30));
 	}
 
+	@Test
+	public void testPaginationProviderReturnsClampedItemsPerPage() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"1000"
+		);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(RequestCost.ATTRIBUTE_NAME)
+		).thenReturn(
+			new RequestCost(500, 0, 0)
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination.getItemsPerPage(), is(500));
+	}
+
 	@Test
 	public void testPaginationProviderReturnsPaginationIfParams() {
 		PaginationProvider paginationProvider = new PaginationProvider();
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.representor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.representor.RenderPlan.FieldType;
+import com.liferay.apio.architect.internal.representor.RenderPlan.Step;
+import com.liferay.apio.architect.internal.representor.dummy.Dummy;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.Representor.Builder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RenderPlanTest {
+
+	@Before
+	public void setUp() {
+		Builder<Dummy, Integer> builder = new RepresentorImpl.BuilderImpl<>(
+			IntegerIdentifier.class, __ -> "", (clazz, relatedCollection) -> {
+			},
+			Collections::emptyList);
+
+		_representor = builder.types(
+			"Type"
+		).identifier(
+			dummy -> dummy.id
+		).addBinary(
+			"binary", dummy -> dummy.binaryFile1
+		).addBoolean(
+			"boolean", dummy -> dummy.boolean1
+		).addLink(
+			"link", "Link"
+		).addNumber(
+			"number", dummy -> dummy.number1
+		).addRelativeURL(
+			"relativeURL", Dummy::getRelativeURL1
+		).addString(
+			"string", Dummy::getString1
+		).addStringList(
+			"stringList", dummy -> dummy.stringList1
+		).build();
+	}
+
+	@Test
+	public void testFilterKeepsOnlyMatchingStepsInOrder() {
+		RenderPlan<Dummy> renderPlan = RenderPlan.of(_representor);
+
+		RenderPlan<Dummy> filteredRenderPlan = renderPlan.filter(
+			key -> key.startsWith("s") || key.equals("link"));
+
+		assertThat(
+			_getKeys(filteredRenderPlan),
+			contains("string", "stringList", "link"));
+	}
+
+	@Test
+	public void testFilterMatchingEveryStepReturnsTheSamePlan() {
+		RenderPlan<Dummy> renderPlan = RenderPlan.of(_representor);
+
+		assertThat(renderPlan.filter(__ -> true), is(sameInstance(renderPlan)));
+		assertThat(renderPlan.filter(__ -> false).getSteps(), is(empty()));
+	}
+
+	@Test
+	public void testPlanIsCompiledOnlyOncePerRepresentor() {
+		assertThat(
+			RenderPlan.of(_representor),
+			is(sameInstance(RenderPlan.of(_representor))));
+	}
+
+	@Test
+	public void testStepsFollowTheRenderingOrderWithTheirFieldTypes() {
+		RenderPlan<Dummy> renderPlan = RenderPlan.of(_representor);
+
+		assertThat(
+			_getKeys(renderPlan),
+			contains(
+				"boolean", "number", "relativeURL", "string", "stringList",
+				"link", "binary"));
+
+		List<Step<Dummy>> steps = renderPlan.getSteps();
+
+		Stream<Step<Dummy>> stream = steps.stream();
+
+		assertThat(
+			stream.map(
+				Step::getFieldType
+			).collect(
+				Collectors.toList()
+			),
+			contains(
+				FieldType.BOOLEAN, FieldType.NUMBER, FieldType.RELATIVE_URL,
+				FieldType.STRING, FieldType.STRING_LIST, FieldType.LINK,
+				FieldType.BINARY));
+	}
+
+	private List<String> _getKeys(RenderPlan<Dummy> renderPlan) {
+		List<Step<Dummy>> steps = renderPlan.getSteps();
+
+		Stream<Step<Dummy>> stream = steps.stream();
+
+		return stream.map(
+			Step::getKey
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private Representor<Dummy> _representor;
+
+	private interface IntegerIdentifier extends Identifier<Integer> {
+	}
+
+}
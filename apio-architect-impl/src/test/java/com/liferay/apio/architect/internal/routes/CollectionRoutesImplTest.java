@@ -16,12 +16,17 @@ package com.liferay.apio.architect.internal.routes;
 
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.HAS_ADDING_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.HAS_REMOVE_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.HAS_UPDATE_PERMISSION_FUNCTION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.IDENTIFIER_FUNCTION;
+import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.IDENTIFIER_TO_PATH_FUNCTION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.PAGINATION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.keyValueFrom;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
@@ -41,6 +46,8 @@ import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.internal.operation.BatchCreateOperation;
+import com.liferay.apio.architect.internal.operation.BatchDeleteOperation;
+import com.liferay.apio.architect.internal.operation.BatchUpdateOperation;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.routes.CollectionRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.operation.Operation;
@@ -49,6 +56,7 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.CollectionRoutes.Builder;
+import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.Arrays;
@@ -66,6 +74,124 @@ import org.junit.Test;
  */
 public class CollectionRoutesImplTest {
 
+	@Test
+	public void testBatchItemOperationsAreAddedIfItemRoutesSupportThem() {
+		ItemRoutes.Builder<String, Long> itemRoutesBuilder =
+			new ItemRoutesImpl.BuilderImpl<>(
+				"name", REQUEST_PROVIDE_FUNCTION,
+				__ -> {
+				},
+				__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> null);
+
+		ItemRoutes<String, Long> itemRoutes = itemRoutesBuilder.addRemover(
+			__ -> {
+			},
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			(aLong, map) -> "Apio", HAS_UPDATE_PERMISSION_FUNCTION,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_FUNCTION, __ -> null, itemRoutes);
+
+		CollectionRoutes<String, Long> collectionRoutes = builder.addCreator(
+			this::_testAndReturnNoParameterCreatorRoute,
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).build();
+
+		Optional<GetPageFunction<String>> optional =
+			collectionRoutes.getGetPageFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("GetPageFunction not present");
+		}
+
+		GetPageFunction<String> getPageFunction = optional.get();
+
+		Page<String> page = getPageFunction.andThen(
+			Try::getUnchecked
+		).apply(
+			null
+		);
+
+		List<Operation> operations = page.getOperations();
+
+		assertThat(operations, hasSize(4));
+
+		Operation batchDeleteOperation = operations.get(2);
+
+		assertThat(
+			batchDeleteOperation, is(instanceOf(BatchDeleteOperation.class)));
+		assertThat(batchDeleteOperation.getFormOptional(), is(emptyOptional()));
+		assertThat(batchDeleteOperation.getHttpMethod(), is(DELETE));
+		assertThat(batchDeleteOperation.getName(), is("name/batch-delete"));
+
+		Operation batchUpdateOperation = operations.get(3);
+
+		assertThat(
+			batchUpdateOperation, is(instanceOf(BatchUpdateOperation.class)));
+		assertThat(
+			batchUpdateOperation.getFormOptional(), is(optionalWithValue()));
+		assertThat(batchUpdateOperation.getHttpMethod(), is(PUT));
+		assertThat(batchUpdateOperation.getName(), is("name/batch-update"));
+	}
+
+	@Test
+	public void testBatchItemOperationsDoNotNeedAddingPermission() {
+		ItemRoutes.Builder<String, Long> itemRoutesBuilder =
+			new ItemRoutesImpl.BuilderImpl<>(
+				"name", REQUEST_PROVIDE_FUNCTION,
+				__ -> {
+				},
+				__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> null);
+
+		ItemRoutes<String, Long> itemRoutes = itemRoutesBuilder.addRemover(
+			__ -> {
+			},
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).build();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_FUNCTION, __ -> null, itemRoutes);
+
+		CollectionRoutes<String, Long> collectionRoutes = builder.addCreator(
+			this::_testAndReturnNoParameterCreatorRoute, __ -> false,
+			FORM_BUILDER_FUNCTION
+		).addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).build();
+
+		Optional<GetPageFunction<String>> optional =
+			collectionRoutes.getGetPageFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("GetPageFunction not present");
+		}
+
+		GetPageFunction<String> getPageFunction = optional.get();
+
+		Page<String> page = getPageFunction.andThen(
+			Try::getUnchecked
+		).apply(
+			null
+		);
+
+		List<Operation> operations = page.getOperations();
+
+		assertThat(operations, hasSize(1));
+		assertThat(
+			operations.get(0), is(instanceOf(BatchDeleteOperation.class)));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new BuilderImpl<>(
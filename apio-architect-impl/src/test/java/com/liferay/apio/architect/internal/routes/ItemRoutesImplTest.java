@@ -21,6 +21,7 @@ import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.IDENTIFI
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
 import static com.liferay.apio.architect.internal.routes.RoutesTestUtil.keyValueFrom;
 import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
+import static com.liferay.apio.architect.operation.HTTPMethod.PATCH;
 import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
@@ -28,27 +29,45 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.BatchRemoveItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.alias.routes.permission.BulkPermissionFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.cache.CachePolicy;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.cache.ModelCache;
+import com.liferay.apio.architect.internal.operation.PartialUpdateOperation;
 import com.liferay.apio.architect.internal.routes.ItemRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ForbiddenException;
+import javax.ws.rs.NotFoundException;
 
 import org.junit.Test;
 
@@ -57,6 +76,324 @@ import org.junit.Test;
  */
 public class ItemRoutesImplTest {
 
+	@Test
+	public void testBatchFunctionsAreDerivedFromRemoverAndUpdater()
+		throws Exception {
+
+		List<Object> invalidatedIdentifiers = new ArrayList<>();
+
+		ModelCache modelCache = new ModelCache() {
+
+			@Override
+			public <T> T get(List<Object> key, Callable<T> loader)
+				throws Exception {
+
+				return loader.call();
+			}
+
+			@Override
+			public void invalidate(Object identifier) {
+				invalidatedIdentifiers.add(identifier);
+			}
+
+		};
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			path -> Long.valueOf(path.getId()), IDENTIFIER_TO_PATH_FUNCTION,
+			__ -> Optional.empty(), modelCache);
+
+		List<Long> removedIdentifiers = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			identifier -> {
+				if (identifier == 2L) {
+					throw new NotFoundException();
+				}
+
+				removedIdentifiers.add(identifier);
+			},
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			(identifier, body) -> {
+				if (identifier == 1L) {
+					throw new NotFoundException();
+				}
+
+				return "Updated";
+			},
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Body body = Body.create(
+			Arrays.asList(_createBody("1"), _createBody("2")));
+
+		BatchResult<Long> removeBatchResult = _removeBatch(itemRoutes, body);
+
+		assertThat(removeBatchResult.resourceName, is("name"));
+		assertThat(removeBatchResult.getIdentifiers(), contains(1L, 2L));
+
+		Map<Long, Exception> removeFailures = removeBatchResult.getFailures();
+
+		assertThat(removeFailures.keySet(), contains(2L));
+		assertThat(
+			removeFailures.get(2L), is(instanceOf(NotFoundException.class)));
+
+		assertThat(removedIdentifiers, contains(1L));
+
+		BatchResult<Long> updateBatchResult = _updateBatch(itemRoutes, body);
+
+		assertThat(updateBatchResult.getIdentifiers(), contains(1L, 2L));
+
+		Map<Long, Exception> updateFailures = updateBatchResult.getFailures();
+
+		assertThat(updateFailures.keySet(), contains(1L));
+
+		assertThat(invalidatedIdentifiers, contains(1L, 2L));
+	}
+
+	@Test
+	public void testBatchRemoverAndUpdaterReceiveEveryItemAtOnce()
+		throws Exception {
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			path -> Long.valueOf(path.getId()), IDENTIFIER_TO_PATH_FUNCTION,
+			__ -> Optional.empty());
+
+		List<List<Long>> removedIdentifiers = new ArrayList<>();
+		List<Map<Long, Map<String, Object>>> updatedModels = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			identifiers -> {
+				removedIdentifiers.add(identifiers);
+
+				return Collections.singletonMap(2L, new NotFoundException());
+			},
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			models -> {
+				updatedModels.add(models);
+
+				throw new IllegalStateException();
+			},
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Body body = Body.create(
+			Arrays.asList(_createBody("1"), _createBody("2")));
+
+		BatchResult<Long> removeBatchResult = _removeBatch(itemRoutes, body);
+
+		assertThat(removedIdentifiers, contains(Arrays.asList(1L, 2L)));
+		assertThat(removeBatchResult.getIdentifiers(), contains(1L, 2L));
+
+		Map<Long, Exception> removeFailures = removeBatchResult.getFailures();
+
+		assertThat(removeFailures.keySet(), contains(2L));
+
+		BatchResult<Long> updateBatchResult = _updateBatch(itemRoutes, body);
+
+		assertThat(updatedModels, hasSize(1));
+
+		Map<Long, Map<String, Object>> models = updatedModels.get(0);
+
+		assertThat(models.keySet(), contains(1L, 2L));
+		assertThat(models.get(1L).get("key"), is("1"));
+
+		Map<Long, Exception> updateFailures = updateBatchResult.getFailures();
+
+		assertThat(updateFailures.keySet(), hasSize(2));
+		assertThat(
+			updateFailures.get(1L),
+			is(instanceOf(IllegalStateException.class)));
+	}
+
+	@Test
+	public void testBatchRemoverAndUpdaterSkipForbiddenItems()
+		throws Exception {
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			path -> Long.valueOf(path.getId()), IDENTIFIER_TO_PATH_FUNCTION,
+			__ -> Optional.empty());
+
+		List<List<Long>> removedIdentifiers = new ArrayList<>();
+		List<Map<Long, Map<String, Object>>> updatedModels = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			identifiers -> {
+				removedIdentifiers.add(identifiers);
+
+				return Collections.emptyMap();
+			},
+			(credentials, identifier) -> identifier != 2L
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			models -> {
+				updatedModels.add(models);
+
+				return Collections.emptyMap();
+			},
+			(credentials, identifier) -> identifier != 1L,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		Body body = Body.create(
+			Arrays.asList(_createBody("1"), _createBody("2")));
+
+		BatchResult<Long> removeBatchResult = _removeBatch(itemRoutes, body);
+
+		assertThat(removedIdentifiers, contains(Collections.singletonList(1L)));
+
+		Map<Long, Exception> removeFailures = removeBatchResult.getFailures();
+
+		assertThat(removeFailures.keySet(), contains(2L));
+		assertThat(
+			removeFailures.get(2L), is(instanceOf(ForbiddenException.class)));
+
+		BatchResult<Long> updateBatchResult = _updateBatch(itemRoutes, body);
+
+		assertThat(updatedModels, hasSize(1));
+		assertThat(updatedModels.get(0).keySet(), contains(2L));
+
+		Map<Long, Exception> updateFailures = updateBatchResult.getFailures();
+
+		assertThat(updateFailures.keySet(), contains(1L));
+		assertThat(
+			updateFailures.get(1L), is(instanceOf(ForbiddenException.class)));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBatchRemoverFailsIfAnItemHasNoIdentifier() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			path -> Long.valueOf(path.getId()), IDENTIFIER_TO_PATH_FUNCTION,
+			__ -> Optional.empty());
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).build();
+
+		Body body = Body.create(
+			Collections.singletonList(__ -> Optional.empty()));
+
+		_removeBatch(itemRoutes, body);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBatchRemoverFailsIfAnItemIsRepeated() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			path -> Long.valueOf(path.getId()), IDENTIFIER_TO_PATH_FUNCTION,
+			__ -> Optional.empty());
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).build();
+
+		Body body = Body.create(
+			Arrays.asList(
+				_createBody("1"), _createBody("2"), _createBody("1")));
+
+		_removeBatch(itemRoutes, body);
+	}
+
+	@Test
+	public void testBulkPermissionFunctionReplacesItemPermissionFunctions() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> Optional.empty());
+
+		List<Collection<Long>> calls = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBulkPermissionFunction(
+			(credentials, identifiers) -> {
+				calls.add(identifiers);
+
+				return Collections.singletonMap(
+					42L, Collections.singleton(BulkPermissionFunction.UPDATE));
+			}
+		).addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<GetItemFunction<String, Long>> optional =
+			itemRoutes.getItemFunctionOptional();
+
+		GetItemFunction<String, Long> getItemFunction = optional.get();
+
+		SingleModel<String> singleModel = getItemFunction.apply(
+			null
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			42L
+		);
+
+		List<Operation> operations = singleModel.getOperations();
+
+		assertThat(operations, hasSize(1));
+
+		Operation operation = operations.get(0);
+
+		assertThat(operation.getHttpMethod(), is(PUT));
+		assertThat(operation.getName(), is("name/update"));
+
+		assertThat(calls, hasSize(1));
+		assertThat(calls.get(0), contains(42L));
+	}
+
+	@Test
+	public void testCachePolicyIsAddedToRoutes() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> Optional.empty());
+
+		ItemRoutes<String, Long> emptyItemRoutes = builder.build();
+
+		assertThat(
+			emptyItemRoutes.getCachePolicyOptional(), is(emptyOptional()));
+
+		CachePolicy<String> cachePolicy = new CachePolicy.Builder<String>(
+		).maxAge(
+			60
+		).build();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addCachePolicy(
+			cachePolicy
+		).build();
+
+		assertThat(
+			itemRoutes.getCachePolicyOptional(),
+			is(optionalWithValue(is(cachePolicy))));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new BuilderImpl<>(
@@ -81,6 +418,16 @@ public class ItemRoutesImplTest {
 			itemRoutes.getUpdateItemFunctionOptional();
 
 		assertThat(updateItemFunctionOptional, is(emptyOptional()));
+
+		assertThat(
+			itemRoutes.getBatchRemoveItemFunctionOptional(),
+			is(emptyOptional()));
+		assertThat(
+			itemRoutes.getBatchUpdateItemFunctionOptional(),
+			is(emptyOptional()));
+		assertThat(
+			itemRoutes.getPartialUpdateItemFunctionOptional(),
+			is(emptyOptional()));
 	}
 
 	@Test
@@ -145,6 +492,100 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	@Test
+	public void testFourParameterPartialUpdaterCreatesValidRoute() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> Optional.empty());
+
+		ItemRoutes<String, Long> itemRoutes = builder.addUpdater(
+			this::_testAndReturnFourParameterUpdaterRoute,
+			this::_testAndReturnFourParameterUpdaterRoute, String.class,
+			Long.class, Boolean.class, Integer.class,
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<UpdateItemFunction<String, Long>> optional =
+			itemRoutes.getPartialUpdateItemFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("PartialUpdateItemFunction not present");
+		}
+
+		UpdateItemFunction<String, Long> partialUpdateItemFunction =
+			optional.get();
+
+		SingleModel<String> singleModel = partialUpdateItemFunction.apply(
+			null
+		).apply(
+			42L
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			_body
+		);
+
+		assertThat(singleModel.getModel(), is("Updated"));
+	}
+
+	@Test
+	public void testModelCacheWrapsGetterAndIsInvalidatedOnWrites()
+		throws Exception {
+
+		List<List<Object>> keys = new ArrayList<>();
+		List<Object> invalidatedIdentifiers = new ArrayList<>();
+
+		ModelCache modelCache = new ModelCache() {
+
+			@Override
+			public <T> T get(List<Object> key, Callable<T> loader)
+				throws Exception {
+
+				keys.add(key);
+
+				return loader.call();
+			}
+
+			@Override
+			public void invalidate(Object identifier) {
+				invalidatedIdentifiers.add(identifier);
+			}
+
+		};
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> Optional.empty(),
+			modelCache);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+			this::_testAndReturnOneParameterGetterRoute, String.class
+		).addRemover(
+			this::_testOneParameterRemoverRoute, String.class,
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnOneParameterUpdaterRoute, String.class,
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		_testItemRoutesGetter(itemRoutes);
+
+		assertThat(keys, contains(Arrays.asList(42L, "Apio")));
+		assertThat(invalidatedIdentifiers, is(empty()));
+
+		_testItemRoutesUpdater(itemRoutes);
+
+		assertThat(invalidatedIdentifiers, contains(42L));
+
+		_testItemRoutesDeleter(itemRoutes);
+
+		assertThat(invalidatedIdentifiers, contains(42L, 42L));
+	}
+
 	@Test
 	public void testOneParameterBuilderMethodsCreatesValidRoutes()
 		throws Exception {
@@ -170,6 +611,76 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	@Test
+	public void testPartialUpdaterOnlyReceivesPresentFields() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, __ -> Optional.empty());
+
+		List<Map<String, Object>> partialUpdates = new ArrayList<>();
+
+		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			(identifier, map) -> {
+				partialUpdates.add(map);
+
+				return "Apio";
+			},
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<UpdateItemFunction<String, Long>> optional =
+			itemRoutes.getPartialUpdateItemFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("PartialUpdateItemFunction not present");
+		}
+
+		UpdateItemFunction<String, Long> partialUpdateItemFunction =
+			optional.get();
+
+		SingleModel<String> singleModel = partialUpdateItemFunction.apply(
+			null
+		).apply(
+			42L
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			__ -> Optional.empty()
+		);
+
+		assertThat(singleModel.getModel(), is("Apio"));
+
+		partialUpdateItemFunction.apply(
+			null
+		).apply(
+			42L
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			_body
+		);
+
+		assertThat(partialUpdates, hasSize(2));
+		assertThat(partialUpdates.get(0).size(), is(0));
+		assertThat(partialUpdates.get(1).get("key"), is("Apio"));
+
+		List<Operation> operations = singleModel.getOperations();
+
+		assertThat(operations, hasSize(2));
+
+		Operation operation = operations.get(1);
+
+		assertThat(operation, is(instanceOf(PartialUpdateOperation.class)));
+		assertThat(operation.getFormOptional(), is(optionalWithValue()));
+		assertThat(operation.getHttpMethod(), is(PATCH));
+		assertThat(operation.getName(), is("name/partial-update"));
+	}
+
 	@Test
 	public void testThreeParameterBuilderMethodsCreatesValidRoutes()
 		throws Exception {
@@ -223,6 +734,31 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	private Body _createBody(String id) {
+		return key -> Optional.of(id);
+	}
+
+	private BatchResult<Long> _removeBatch(
+		ItemRoutes<String, Long> itemRoutes, Body body) {
+
+		Optional<BatchRemoveItemFunction<Long>> optional =
+			itemRoutes.getBatchRemoveItemFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("BatchRemoveItemFunction not present");
+		}
+
+		BatchRemoveItemFunction<Long> batchRemoveItemFunction = optional.get();
+
+		return batchRemoveItemFunction.apply(
+			null
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			body
+		);
+	}
+
 	private String _testAndReturnFourParameterGetterRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -456,6 +992,27 @@ public class ItemRoutesImplTest {
 		_testOneParameterRemoverRoute(identifier, string);
 	}
 
+	private BatchResult<Long> _updateBatch(
+		ItemRoutes<String, Long> itemRoutes, Body body) {
+
+		Optional<BatchUpdateItemFunction<Long>> optional =
+			itemRoutes.getBatchUpdateItemFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("BatchUpdateItemFunction not present");
+		}
+
+		BatchUpdateItemFunction<Long> batchUpdateItemFunction = optional.get();
+
+		return batchUpdateItemFunction.apply(
+			null
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			body
+		);
+	}
+
 	private final Body _body = __ -> Optional.of("Apio");
 
 }
\ No newline at end of file
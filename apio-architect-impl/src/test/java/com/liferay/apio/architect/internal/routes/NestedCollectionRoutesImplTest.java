@@ -36,6 +36,7 @@ import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedBatchGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.batch.BatchResult;
@@ -56,6 +57,7 @@ import com.liferay.apio.architect.uri.Path;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -69,6 +71,54 @@ import org.junit.Test;
  */
 public class NestedCollectionRoutesImplTest {
 
+	@Test
+	public void testBatchGetterCreatesValidRoutes() {
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, IDENTIFIER_FUNCTION);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			builder.addBatchGetter(
+				(pagination, identifiers) -> {
+					assertThat(pagination, is(PAGINATION));
+
+					Map<Long, PageItems<String>> pageItemsMap = new HashMap<>();
+
+					for (Long identifier : identifiers) {
+						pageItemsMap.put(
+							identifier,
+							new PageItems<>(
+								Collections.singletonList("Apio" + identifier),
+								1));
+					}
+
+					return pageItemsMap;
+				}
+			).build();
+
+		Optional<NestedBatchGetPageFunction<String, Long>> optional =
+			nestedCollectionRoutes.getNestedBatchGetPageFunctionOptional();
+
+		NestedBatchGetPageFunction<String, Long> nestedBatchGetPageFunction =
+			optional.get();
+
+		Map<Long, PageItems<String>> pageItemsMap =
+			nestedBatchGetPageFunction.apply(
+				null
+			).apply(
+				Arrays.asList(1L, 2L)
+			).getUnchecked();
+
+		assertThat(pageItemsMap.size(), is(2));
+
+		PageItems<String> pageItems = pageItemsMap.get(2L);
+
+		assertThat(pageItems.getItems(), contains("Apio2"));
+		assertThat(pageItems.getTotalCount(), is(1));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long, Long> builder = new BuilderImpl<>(
@@ -89,6 +139,11 @@ public class NestedCollectionRoutesImplTest {
 			nestedCollectionRoutes.getNestedGetPageFunctionOptional();
 
 		assertThat(optional2, is(emptyOptional()));
+
+		Optional<NestedBatchGetPageFunction<String, Long>> optional3 =
+			nestedCollectionRoutes.getNestedBatchGetPageFunctionOptional();
+
+		assertThat(optional3, is(emptyOptional()));
 	}
 
 	@Test
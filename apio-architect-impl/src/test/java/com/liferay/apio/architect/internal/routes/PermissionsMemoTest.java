@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.routes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PermissionsMemoTest {
+
+	@Before
+	public void setUp() {
+		_calls = new ArrayList<>();
+		_permissionsMemo = new PermissionsMemo();
+	}
+
+	@Test
+	public void testGetPermissionsEvaluatesEveryIdentifierOnlyOnce() {
+		Function<Long, Set<String>> function = identifier -> {
+			_calls.add(Collections.singletonList(identifier));
+
+			return Collections.singleton("update");
+		};
+
+		_permissionsMemo.getPermissions("name", 1L, function);
+		_permissionsMemo.getPermissions("name", 1L, function);
+		_permissionsMemo.getPermissions("name", 2L, function);
+
+		Set<String> permissions = _permissionsMemo.getPermissions(
+			"name", 1L, function);
+
+		assertThat(permissions, contains("update"));
+		assertThat(_calls, hasSize(2));
+	}
+
+	@Test
+	public void testGetPermissionsInBulkEvaluatesPendingIdentifiers() {
+		_permissionsMemo.addPending("IdentifierClass", 2L);
+		_permissionsMemo.addPending("IdentifierClass", 3L);
+		_permissionsMemo.addPending("OtherIdentifierClass", 4L);
+
+		Set<String> permissions = _permissionsMemo.getPermissions(
+			"name", 1L, "IdentifierClass"::equals, this::_bulkFunction);
+
+		assertThat(permissions, contains("remove"));
+
+		Set<String> pendingPermissions = _permissionsMemo.getPermissions(
+			"name", 3L, "IdentifierClass"::equals, this::_bulkFunction);
+
+		assertThat(pendingPermissions, contains("remove"));
+
+		assertThat(_calls, hasSize(1));
+		assertThat(_calls.get(0), contains(1L, 2L, 3L));
+	}
+
+	@Test
+	public void testGetPermissionsInBulkSkipsEvaluatedIdentifiers() {
+		_permissionsMemo.getPermissions(
+			"name", 1L, "IdentifierClass"::equals, this::_bulkFunction);
+
+		_permissionsMemo.addPending("IdentifierClass", 1L);
+		_permissionsMemo.addPending("IdentifierClass", 2L);
+
+		_permissionsMemo.getPermissions(
+			"name", 2L, "IdentifierClass"::equals, this::_bulkFunction);
+
+		assertThat(_calls, hasSize(2));
+		assertThat(_calls.get(1), contains(2L));
+	}
+
+	@Test
+	public void testMissingBulkPermissionsAreEmpty() {
+		Set<String> permissions = _permissionsMemo.getPermissions(
+			"name", 1L, __ -> false,
+			identifiers -> Collections.<Long, Set<String>>emptyMap());
+
+		assertThat(permissions, is(empty()));
+	}
+
+	private Map<Long, Set<String>> _bulkFunction(Collection<Long> identifiers) {
+		_calls.add(new ArrayList<>(identifiers));
+
+		return identifiers.stream(
+		).collect(
+			Collectors.toMap(
+				Function.identity(),
+				__ -> Collections.singleton("remove"))
+		);
+	}
+
+	private List<List<Long>> _calls;
+	private PermissionsMemo _permissionsMemo;
+
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.url;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionItemsURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedCollectionURL;
@@ -47,6 +48,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -97,6 +99,23 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/b/name/id/binary"));
 	}
 
+	@Test
+	public void testCreateCollectionItemsURL() {
+		String url = createCollectionItemsURL(
+			_applicationURL, "resource", Arrays.asList("1", "2", "3"));
+
+		assertThat(url, is("www.liferay.com/p/resource?ids=1,2,3"));
+	}
+
+	@Test
+	public void testCreateCollectionItemsURLEncodesIdentifiers() {
+		String url = createCollectionItemsURL(
+			_applicationURL, "resource", Arrays.asList("a b", "c&d=e", "ü"));
+
+		assertThat(
+			url, is("www.liferay.com/p/resource?ids=a+b,c%26d%3De,%C3%BC"));
+	}
+
 	@Test
 	public void testCreateCollectionPageURL() {
 		Pagination pagination = Mockito.mock(Pagination.class);
@@ -123,6 +142,34 @@ public class URLCreatorTest {
 		assertThat(firstPageURL, is("www.liferay.com?page=1&per_page=30"));
 	}
 
+	@Test
+	public void testCreateCollectionPageURLKeepsQueryAndFragment() {
+		Pagination pagination = Mockito.mock(Pagination.class);
+
+		Mockito.when(
+			pagination.getItemsPerPage()
+		).thenReturn(
+			10
+		);
+
+		Mockito.when(
+			pagination.getPageNumber()
+		).thenReturn(
+			2
+		);
+
+		PageItems<String> pageItems = new PageItems<>(emptyList(), 30);
+
+		Page page = new PageImpl<>("", pageItems, pagination, null);
+
+		String pageURL = createCollectionPageURL(
+			"www.liferay.com/p/name?fields=a#top", page, PageType.CURRENT);
+
+		assertThat(
+			pageURL,
+			is("www.liferay.com/p/name?fields=a&page=2&per_page=10#top"));
+	}
+
 	@Test
 	public void testCreateCollectionURL() {
 		String url = createCollectionURL(_applicationURL, "resource");
@@ -159,6 +206,13 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/p/name/id"));
 	}
 
+	@Test
+	public void testCreateSingleURLWithEmptyApplicationURLIsRelative() {
+		String url = createSingleURL(() -> "", _path);
+
+		assertThat(url, is("p/name/id"));
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void testDeleteOperationWithoutURIReturnsOptionalEmpty() {
 		DeleteOperation deleteOperation = new DeleteOperation("");
@@ -173,6 +227,15 @@ public class URLCreatorTest {
 		_validateOperationURL(deleteOperation, "www.liferay.com/p/name");
 	}
 
+	@Test
+	public void testExtractsPathFromBinaryURL() {
+		Path path = getPath("www.liferay.com/b/name/id/binary");
+
+		assertThat(path, is(notNullValue()));
+		assertThat(path.getName(), is("name"));
+		assertThat(path.getId(), is("id"));
+	}
+
 	@Test
 	public void testExtractsPathFromSingleURL() {
 		Path path = getPath("www.liferay.com/p/name/id");
@@ -182,6 +245,23 @@ public class URLCreatorTest {
 		assertThat(path.getId(), is("id"));
 	}
 
+	@Test
+	public void testExtractsPathWithoutIdFromCollectionURL() {
+		Path path = getPath("www.liferay.com/p/name/");
+
+		assertThat(path, is(notNullValue()));
+		assertThat(path.getName(), is("name"));
+		assertThat(path.getId(), is(nullValue()));
+	}
+
+	@Test
+	public void testGetPathReturnsNullWithoutOrWithSeveralSegments() {
+		assertThat(getPath("www.liferay.com/name/id"), is(nullValue()));
+		assertThat(getPath("www.liferay.com/p/"), is(nullValue()));
+		assertThat(
+			getPath("www.liferay.com/p/name/id/p/other"), is(nullValue()));
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void testNotSpecificOperationReturnsOptionalEmpty() {
 		Operation operation = new Operation() {
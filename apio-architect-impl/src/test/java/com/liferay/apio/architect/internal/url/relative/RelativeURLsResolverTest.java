@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.apio.architect.internal.url.relative;
+
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RelativeURLsResolverTest {
+
+	@Test
+	public void testAcceptHeaderDecidesIfThereIsNoPreferPreference() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"return=minimal", "application/hal+json;urls=relative");
+
+		List<String> headerNames = new ArrayList<>();
+
+		boolean relativeURLs = _createRelativeURLsResolver(
+			true, false
+		).isRelativeURLs(
+			httpServletRequest, headerNames::add
+		);
+
+		assertThat(relativeURLs, is(true));
+		assertThat(headerNames, is(singletonList("Accept")));
+	}
+
+	@Test
+	public void testConfigurationDecidesIfTheRequestHasNoPreference() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"return=minimal", "application/hal+json");
+
+		List<String> headerNames = new ArrayList<>();
+
+		boolean relativeURLs = _createRelativeURLsResolver(
+			true, true
+		).isRelativeURLs(
+			httpServletRequest, headerNames::add
+		);
+
+		assertThat(relativeURLs, is(true));
+		assertThat(headerNames.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testPreferHeaderDecidesBeforeAcceptHeader() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"urls=absolute", "application/hal+json;urls=relative");
+
+		List<String> headerNames = new ArrayList<>();
+
+		boolean relativeURLs = _createRelativeURLsResolver(
+			true, true
+		).isRelativeURLs(
+			httpServletRequest, headerNames::add
+		);
+
+		assertThat(relativeURLs, is(false));
+		assertThat(headerNames, is(singletonList("Prefer")));
+	}
+
+	@Test
+	public void testRequestPreferenceIsIgnoredIfNotAllowed() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"urls=relative", "application/hal+json;urls=relative");
+
+		List<String> headerNames = new ArrayList<>();
+
+		boolean relativeURLs = _createRelativeURLsResolver(
+			false, false
+		).isRelativeURLs(
+			httpServletRequest, headerNames::add
+		);
+
+		assertThat(relativeURLs, is(false));
+		assertThat(headerNames.isEmpty(), is(true));
+	}
+
+	private HttpServletRequest _createHttpServletRequest(
+		String prefer, String accept) {
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getHeaders("Prefer")
+		).thenReturn(
+			enumeration(singletonList(prefer))
+		);
+
+		Mockito.when(
+			httpServletRequest.getHeader("Accept")
+		).thenReturn(
+			accept
+		);
+
+		return httpServletRequest;
+	}
+
+	private RelativeURLsResolver _createRelativeURLsResolver(
+		boolean allowRequestPreference, boolean enabled) {
+
+		RelativeURLsResolver relativeURLsResolver = new RelativeURLsResolver();
+
+		relativeURLsResolver.activate(
+			new RelativeURLsConfiguration() {
+
+				@Override
+				public boolean allowRequestPreference() {
+					return allowRequestPreference;
+				}
+
+				@Override
+				public Class<? extends Annotation> annotationType() {
+					return RelativeURLsConfiguration.class;
+				}
+
+				@Override
+				public boolean enabled() {
+					return enabled;
+				}
+
+			});
+
+		return relativeURLsResolver;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url.relative;
+
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getAcceptPreferenceOptional;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getBaseURL;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.getPreferPreferenceOptional;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.toBaseRelative;
+import static com.liferay.apio.architect.internal.url.relative.RelativeURLs.toRootRelative;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.ServerURL;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RelativeURLsTest {
+
+	@Test
+	public void testGetAcceptPreferenceOptional() {
+		assertThat(getAcceptPreferenceOptional(null), is(emptyOptional()));
+		assertThat(
+			getAcceptPreferenceOptional("application/hal+json"),
+			is(emptyOptional()));
+		assertThat(
+			getAcceptPreferenceOptional(
+				"application/hal+json;q=0.9;urls=relative"),
+			is(optionalWithValue(is(true))));
+		assertThat(
+			getAcceptPreferenceOptional(
+				"text/html, application/ld+json; urls=\"absolute\""),
+			is(optionalWithValue(is(false))));
+		assertThat(
+			getAcceptPreferenceOptional("application/json;urls=other"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetBaseURL() {
+		assertThat(
+			getBaseURL(() -> "http://localhost/o/api"),
+			is("http://localhost/o/api/"));
+		assertThat(
+			getBaseURL(() -> "http://localhost/o/api/"),
+			is("http://localhost/o/api/"));
+	}
+
+	@Test
+	public void testGetPreferPreferenceOptional() {
+		assertThat(getPreferPreferenceOptional(null), is(emptyOptional()));
+		assertThat(
+			getPreferPreferenceOptional("return=minimal"), is(emptyOptional()));
+		assertThat(
+			getPreferPreferenceOptional("return=minimal, urls=relative"),
+			is(optionalWithValue(is(true))));
+		assertThat(
+			getPreferPreferenceOptional("URLS = absolute; strict"),
+			is(optionalWithValue(is(false))));
+		assertThat(
+			getPreferPreferenceOptional("respond-async; urls=relative"),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testToBaseRelative() {
+		ApplicationURL applicationURL = toBaseRelative();
+
+		assertThat(applicationURL.get(), is(""));
+	}
+
+	@Test
+	public void testToRootRelative() {
+		ApplicationURL applicationURL = toRootRelative(
+			(ApplicationURL)() -> "http://localhost:8080/o/api");
+
+		assertThat(applicationURL.get(), is("/o/api"));
+
+		ApplicationURL rootApplicationURL = toRootRelative(
+			(ApplicationURL)() -> "http://localhost");
+
+		assertThat(rootApplicationURL.get(), is("/"));
+
+		ServerURL serverURL = toRootRelative(
+			(ServerURL)() -> "https://localhost/");
+
+		assertThat(serverURL.get(), is("/"));
+	}
+
+}
\ No newline at end of file
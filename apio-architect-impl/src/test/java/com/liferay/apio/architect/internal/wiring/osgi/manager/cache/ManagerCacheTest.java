@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.clear();
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testClearNotifiesListeners() {
+		AtomicInteger clears = new AtomicInteger();
+
+		ManagerCacheListener managerCacheListener = new ManagerCacheListener() {
+
+			@Override
+			public void onCleared() {
+				clears.incrementAndGet();
+			}
+
+		};
+
+		INSTANCE.addListener(managerCacheListener);
+
+		long generation = INSTANCE.getGeneration();
+
+		INSTANCE.clear();
+
+		INSTANCE.removeListener(managerCacheListener);
+
+		INSTANCE.clear();
+
+		assertThat(clears.get(), is(1));
+		assertThat(INSTANCE.getGeneration(), is(generation + 2));
+	}
+
+	@Test
+	public void testComputationOverlappingClearIsDiscarded() {
+		AtomicInteger computations = new AtomicInteger();
+
+		Runnable runnable = () -> INSTANCE.getNameOptional(
+			"class",
+			() -> {
+				computations.incrementAndGet();
+
+				INSTANCE.putName("class", "name");
+
+				INSTANCE.clear();
+			});
+
+		runnable.run();
+
+		assertThat(INSTANCE.getNamesOptional(), is(emptyOptional()));
+
+		runnable.run();
+
+		assertThat(computations.get(), is(2));
+	}
+
+	@Test
+	public void testFailedComputationIsNotPublished() {
+		try {
+			INSTANCE.getNameOptional(
+				"class",
+				() -> {
+					INSTANCE.putName("class", "name");
+
+					throw new IllegalStateException();
+				});
+		}
+		catch (IllegalStateException ise) {
+		}
+
+		assertThat(INSTANCE.getNamesOptional(), is(emptyOptional()));
+	}
+
+	@Test
+	public void testOtherThreadsOnlySeePublishedValues() {
+		Optional<Map<String, String>> optional = INSTANCE.getNamesOptional();
+
+		assertThat(optional, is(emptyOptional()));
+
+		Optional<String> nameOptional = INSTANCE.getNameOptional(
+			"class",
+			() -> {
+				INSTANCE.putName("class", "name");
+
+				CompletableFuture<Optional<Map<String, String>>>
+					completableFuture = CompletableFuture.supplyAsync(
+						INSTANCE::getNamesOptional);
+
+				assertThat(completableFuture.join(), is(emptyOptional()));
+				assertThat(INSTANCE.getNamesOptional().isPresent(), is(true));
+			});
+
+		assertThat(nameOptional, is(optionalWithValue(is("name"))));
+
+		CompletableFuture<Optional<String>> completableFuture =
+			CompletableFuture.supplyAsync(
+				() -> INSTANCE.getNameOptional(
+					"class",
+					() -> {
+						throw new AssertionError();
+					}));
+
+		assertThat(completableFuture.join(), is(optionalWithValue(is("name"))));
+	}
+
+	@Test
+	public void testReentrantCallsDoNotComputeAgain() {
+		AtomicInteger computations = new AtomicInteger();
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"class",
+			() -> {
+				computations.incrementAndGet();
+
+				INSTANCE.putName("class", "name");
+
+				Optional<String> nameOptional = INSTANCE.getNameOptional(
+					"class", computations::incrementAndGet);
+
+				assertThat(nameOptional, is(optionalWithValue(is("name"))));
+			});
+
+		assertThat(optional, is(optionalWithValue(is("name"))));
+		assertThat(computations.get(), is(1));
+	}
+
+	@Test
+	public void testRepresentablesCanBeComputedWhileComputingRootResources() {
+		List<String> rootResourceNames = INSTANCE.getRootResourceNames(
+			() -> {
+				INSTANCE.putRootResourceName("root");
+
+				INSTANCE.getRepresentorMap(() -> INSTANCE.putName("a", "b"));
+			});
+
+		assertThat(rootResourceNames, contains("root"));
+		assertThat(INSTANCE.getNamesOptional(), is(not(emptyOptional())));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRootResourcesCannotBeComputedInsideRepresentables() {
+		INSTANCE.getRepresentorMap(
+			() -> INSTANCE.getRootResourceNames(
+				() -> INSTANCE.putRootResourceName("root")));
+	}
+
+}
\ No newline at end of file
@@ -23,6 +23,7 @@ import static java.util.Arrays.asList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
@@ -31,6 +32,9 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 import com.liferay.apio.architect.internal.alias.PathFunction;
+import com.liferay.apio.architect.internal.embedded.EmbeddedModelsResolver;
+import com.liferay.apio.architect.internal.embedded.EmbeddingDeadline;
+import com.liferay.apio.architect.internal.embedded.ModelIdentityMap;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.related.RelatedModelImpl;
 import com.liferay.apio.architect.internal.request.RequestInfo;
@@ -51,6 +55,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -97,6 +102,24 @@ public class FieldsWriterTest {
 			Locale::getDefault
 		);
 
+		Mockito.when(
+			_requestInfo.getEmbeddedModelsResolver()
+		).thenReturn(
+			EmbeddedModelsResolver.sequential()
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbeddingDeadline()
+		).thenReturn(
+			EmbeddingDeadline.unlimited()
+		);
+
+		Mockito.when(
+			_requestInfo.getModelIdentityMap()
+		).thenReturn(
+			new ModelIdentityMap()
+		);
+
 		_fieldsWriter = new FieldsWriter<>(
 			new SingleModelImpl<>(
 				() -> "first", "root", Collections.emptyList()),
@@ -319,6 +342,213 @@ public class FieldsWriterTest {
 			contains(aFunctionalListThat(contains("first", "embedded2"))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteEmbeddedRelatedModelsKeepsDeclarationOrder() {
+		List<String> embeddedRelatedModelURLs = new ArrayList<>();
+		List<String> linkedRelatedModelURLs = new ArrayList<>();
+		List<Integer> resolvedBatchSizes = new ArrayList<>();
+		List<SingleModel> singleModels = new ArrayList<>();
+
+		PathFunction pathFunction = Mockito.mock(PathFunction.class);
+
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			embeddedPath -> embeddedPath.startsWith("first.embedded")
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbeddedModelsResolver()
+		).thenReturn(
+			suppliers -> {
+				resolvedBatchSizes.add(suppliers.size());
+
+				List<Optional<SingleModel<?>>> list = new ArrayList<>(
+					Collections.nCopies(suppliers.size(), null));
+
+				for (int i = suppliers.size() - 1; i >= 0; i--) {
+					Supplier<Optional<SingleModel<?>>> supplier = suppliers.get(
+						i);
+
+					list.set(i, supplier.get());
+				}
+
+				return list;
+			}
+		);
+
+		Mockito.when(
+			pathFunction.apply(Mockito.any(), Mockito.any())
+		).thenReturn(
+			Optional.of(new Path("name1", "id1")),
+			Optional.of(new Path("name2", "id2")),
+			Optional.of(new Path("name3", "id3")),
+			Optional.of(new Path("name4", "id4"))
+		);
+
+		_fieldsWriter.writeRelatedModels(
+			pathFunction,
+			(singleModel, embeddedPathElements) -> singleModels.add(
+				singleModel),
+			(url, embeddedPathElements) -> linkedRelatedModelURLs.add(url),
+			(url, embeddedPathElements) -> embeddedRelatedModelURLs.add(url));
+
+		assertThat(resolvedBatchSizes, contains(2));
+
+		assertThat(singleModels, hasSize(equalTo(2)));
+
+		SingleModel<FirstEmbeddedModel> firstSingleModel = singleModels.get(0);
+
+		FirstEmbeddedModel firstEmbeddedModel = firstSingleModel.getModel();
+
+		assertThat(firstEmbeddedModel.getId(), is("first"));
+
+		SingleModel<FirstEmbeddedModel> secondSingleModel = singleModels.get(
+			1);
+
+		FirstEmbeddedModel secondEmbeddedModel = secondSingleModel.getModel();
+
+		assertThat(secondEmbeddedModel.getId(), is("second"));
+
+		assertThat(
+			embeddedRelatedModelURLs,
+			contains(
+				"www.liferay.com/o/p/name1/id1",
+				"www.liferay.com/o/p/name2/id2"));
+		assertThat(
+			linkedRelatedModelURLs,
+			contains(
+				"www.liferay.com/o/p/name3/id3",
+				"www.liferay.com/o/p/name4/id4"));
+	}
+
+	@Test
+	public void testWriteEmbeddedRelatedModelsWithExpiredDeadline() {
+		List<String> embeddedRelatedModelURLs = new ArrayList<>();
+		List<String> linkedRelatedModelURLs = new ArrayList<>();
+		List<SingleModel> singleModels = new ArrayList<>();
+
+		PathFunction pathFunction = Mockito.mock(PathFunction.class);
+
+		EmbeddingDeadline embeddingDeadline = Mockito.mock(
+			EmbeddingDeadline.class);
+
+		Mockito.when(
+			embeddingDeadline.isExpired()
+		).thenReturn(
+			true
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbeddingDeadline()
+		).thenReturn(
+			embeddingDeadline
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			embeddedPath -> embeddedPath.startsWith("first.embedded")
+		);
+
+		Mockito.when(
+			pathFunction.apply(Mockito.any(), Mockito.any())
+		).thenReturn(
+			Optional.of(new Path("name1", "id1")),
+			Optional.of(new Path("name2", "id2")),
+			Optional.of(new Path("name3", "id3")),
+			Optional.of(new Path("name4", "id4"))
+		);
+
+		_fieldsWriter.writeRelatedModels(
+			pathFunction,
+			(singleModel, embeddedPathElements) -> singleModels.add(
+				singleModel),
+			(url, embeddedPathElements) -> linkedRelatedModelURLs.add(url),
+			(url, embeddedPathElements) -> embeddedRelatedModelURLs.add(url));
+
+		assertThat(singleModels, is(empty()));
+		assertThat(embeddedRelatedModelURLs, is(empty()));
+		assertThat(
+			linkedRelatedModelURLs,
+			contains(
+				"www.liferay.com/o/p/name1/id1",
+				"www.liferay.com/o/p/name2/id2",
+				"www.liferay.com/o/p/name3/id3",
+				"www.liferay.com/o/p/name4/id4"));
+
+		Mockito.verify(
+			embeddingDeadline, Mockito.atLeastOnce()
+		).markPartial();
+	}
+
+	@Test
+	public void testWriteEmbeddedRelatedModelsWithMissingModel() {
+		List<String> embeddedRelatedModelURLs = new ArrayList<>();
+		List<String> linkedRelatedModelURLs = new ArrayList<>();
+		List<SingleModel> singleModels = new ArrayList<>();
+
+		PathFunction pathFunction = Mockito.mock(PathFunction.class);
+
+		EmbeddingDeadline embeddingDeadline = Mockito.mock(
+			EmbeddingDeadline.class);
+
+		Mockito.when(
+			embeddingDeadline.isExpired()
+		).thenReturn(
+			false, true
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbeddingDeadline()
+		).thenReturn(
+			embeddingDeadline
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			"first.embedded1"::equals
+		);
+
+		Mockito.when(
+			pathFunction.apply(Mockito.any(), Mockito.any())
+		).thenReturn(
+			Optional.of(new Path("name1", "id1")),
+			Optional.of(new Path("name2", "id2")),
+			Optional.of(new Path("name3", "id3")),
+			Optional.of(new Path("name4", "id4"))
+		);
+
+		FieldsWriter<RootModel> fieldsWriter = new FieldsWriter<>(
+			new SingleModelImpl<>(
+				() -> "first", "root", Collections.emptyList()),
+			_requestInfo, createRootModelRepresentor(true),
+			new Path("name", "id"), new FunctionalList<>(null, "first"),
+			(identifier, identifierClass) -> Optional.empty(), null);
+
+		fieldsWriter.writeRelatedModels(
+			pathFunction,
+			(singleModel, embeddedPathElements) -> singleModels.add(
+				singleModel),
+			(url, embeddedPathElements) -> linkedRelatedModelURLs.add(url),
+			(url, embeddedPathElements) -> embeddedRelatedModelURLs.add(url));
+
+		assertThat(singleModels, is(empty()));
+		assertThat(embeddedRelatedModelURLs, is(empty()));
+		assertThat(
+			linkedRelatedModelURLs,
+			contains(
+				"www.liferay.com/o/p/name2/id2",
+				"www.liferay.com/o/p/name3/id3",
+				"www.liferay.com/o/p/name4/id4"));
+
+		Mockito.verify(
+			embeddingDeadline, Mockito.never()
+		).markPartial();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testWriteEmbeddedRelatedModelsWithFieldsFilter() {
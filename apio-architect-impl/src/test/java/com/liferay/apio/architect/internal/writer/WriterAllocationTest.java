@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.test.util.allocation.AllocationBudgetTesterBuilder;
+import com.liferay.apio.architect.test.util.allocation.AllocationBudgetTesterBuilder.StageStep;
+import com.liferay.apio.architect.test.util.internal.writer.MockPageWriter;
+import com.liferay.apio.architect.test.util.internal.writer.MockSingleModelWriter;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * Locks in the bytes allocated when writing single models (with their
+ * hierarchy of embedded models) and pages with every message mapper.
+ *
+ * <p>
+ * Budgets are relative to a baseline that parses and serializes the same
+ * document with Jackson, so they don't depend on the JVM running the test. A
+ * budget is a multiple of the baseline, not of the stage's own allocations:
+ * writing a HAL single model, including building the mock fixtures, allocates
+ * about 11 times as many bytes as the baseline. Each stage's ratio is set
+ * about 25% over the measured one, which covers the differences between JVM
+ * object layouts. If a change makes a stage go over its budget, the failure
+ * message contains the allocations of every stage.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class WriterAllocationTest implements RepresentableManager {
+
+	@Override
+	public <T> Optional<Representor<T>> getRepresentorOptional(String name) {
+		Optional<Representor<?>> optional =
+			MockWriterUtil.getRepresentorOptional(name);
+
+		return optional.map(Unsafe::unsafeCast);
+	}
+
+	@Override
+	public Map<String, Representor> getRepresentors() {
+		return Collections.emptyMap();
+	}
+
+	@Test
+	public void testWritersAllocateLessThanTheirBudgets() {
+		StageStep stageStep = AllocationBudgetTesterBuilder.iterations(50);
+
+		_addStages(
+			stageStep, "HAL", new HALSingleModelMessageMapper<>(),
+			_HAL_SINGLE_MODEL_BUDGET_RATIO,
+			new RepresentableHALPageMessageMapper(this),
+			_HAL_PAGE_BUDGET_RATIO);
+		_addStages(
+			stageStep, "JSON-LD", new JSONLDSingleModelMessageMapper<>(),
+			_JSON_LD_SINGLE_MODEL_BUDGET_RATIO,
+			new SingleModelJSONLDPageMessageMapper(),
+			_JSON_LD_PAGE_BUDGET_RATIO);
+		_addStages(
+			stageStep, "Plain JSON", new PlainJSONSingleModelMessageMapper<>(),
+			_PLAIN_JSON_SINGLE_MODEL_BUDGET_RATIO,
+			new PlainJSONPageMessageMapper<>(),
+			_PLAIN_JSON_PAGE_BUDGET_RATIO);
+
+		stageStep.validate();
+	}
+
+	private void _addStages(
+		StageStep stageStep, String name,
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper,
+		double singleModelBudgetRatio,
+		PageMessageMapper<RootModel> pageMessageMapper,
+		double pageBudgetRatio) {
+
+		String singleModelJSON = MockSingleModelWriter.write(
+			singleModelMessageMapper);
+		String pageJSON = MockPageWriter.write(pageMessageMapper);
+
+		stageStep.relativeStage(
+			name + " single model", singleModelBudgetRatio,
+			() -> _copy(singleModelJSON),
+			() -> MockSingleModelWriter.write(singleModelMessageMapper)
+		).relativeStage(
+			name + " page", pageBudgetRatio, () -> _copy(pageJSON),
+			() -> MockPageWriter.write(pageMessageMapper)
+		);
+	}
+
+	private String _copy(String json) {
+		try {
+			return _objectMapper.writeValueAsString(
+				_objectMapper.readTree(json));
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private static final double _HAL_PAGE_BUDGET_RATIO = 15;
+
+	private static final double _HAL_SINGLE_MODEL_BUDGET_RATIO = 14;
+
+	private static final double _JSON_LD_PAGE_BUDGET_RATIO = 11;
+
+	private static final double _JSON_LD_SINGLE_MODEL_BUDGET_RATIO = 10.5;
+
+	private static final double _PLAIN_JSON_PAGE_BUDGET_RATIO = 18;
+
+	private static final double _PLAIN_JSON_SINGLE_MODEL_BUDGET_RATIO = 17.5;
+
+	private final ObjectMapper _objectMapper = new ObjectMapper();
+
+	private static class RepresentableHALPageMessageMapper
+		extends HALPageMessageMapper<RootModel> {
+
+		private RepresentableHALPageMessageMapper(
+			RepresentableManager representableManager) {
+
+			this.representableManager = representableManager;
+		}
+
+	}
+
+	private static class SingleModelJSONLDPageMessageMapper
+		extends JSONLDPageMessageMapper<RootModel> {
+
+		private SingleModelJSONLDPageMessageMapper() {
+			singleModelMessageMapper = new JSONLDSingleModelMessageMapper<>();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -52,7 +52,7 @@ public class CORSFilter implements ContainerResponseFilter {
 			"origin, content-type, accept, authorization");
 		headers.add(
 			"Access-Control-Allow-Methods",
-			"GET, POST, PUT, DELETE, OPTIONS, HEAD");
+			"GET, POST, PUT, PATCH, DELETE, OPTIONS, HEAD");
 	}
 
 }
\ No newline at end of file
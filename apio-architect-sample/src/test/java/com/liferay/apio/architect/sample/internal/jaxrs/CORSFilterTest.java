@@ -55,7 +55,7 @@ public class CORSFilterTest {
 			is("origin, content-type, accept, authorization"));
 		assertThat(
 			headers.getFirst("Access-Control-Allow-Methods"),
-			is("GET, POST, PUT, DELETE, OPTIONS, HEAD"));
+			is("GET, POST, PUT, PATCH, DELETE, OPTIONS, HEAD"));
 	}
 
 }
\ No newline at end of file
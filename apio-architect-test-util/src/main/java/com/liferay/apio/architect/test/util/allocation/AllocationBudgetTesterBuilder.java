@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the bytes allocated by different stages of code (for example,
+ * writing a single model or a page with a message mapper) and validates them
+ * against declared budgets.
+ *
+ * <p>
+ * Each stage is run a number of times to warm it up, and then measured over the
+ * same number of iterations. The reported allocation is the average number of
+ * bytes allocated by the current thread per iteration. Allocations can only be
+ * measured on JVMs supporting {@code
+ * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; on other
+ * JVMs, the report is marked as unsupported and budgets aren't validated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class AllocationBudgetTesterBuilder {
+
+	/**
+	 * Sets the number of iterations used to warm up and measure each stage.
+	 *
+	 * @param  iterations the number of iterations
+	 * @return the builder's next step
+	 */
+	public static StageStep iterations(int iterations) {
+		return new StageStep(Math.max(1, iterations));
+	}
+
+	/**
+	 * Returns the average number of bytes allocated by the current thread per
+	 * execution of the runnable, after warming it up with the same number of
+	 * iterations. Returns {@code -1} if the JVM can't measure allocations.
+	 *
+	 * @param  runnable the code to measure
+	 * @param  iterations the number of iterations
+	 * @return the average number of bytes allocated per execution, or {@code
+	 *         -1} if allocations can't be measured
+	 */
+	public static long measureAllocatedBytes(
+		Runnable runnable, int iterations) {
+
+		if (!isSupported()) {
+			return -1;
+		}
+
+		for (int i = 0; i < iterations; i++) {
+			runnable.run();
+		}
+
+		long baseline = _getAllocatedBytes(() -> {
+		}, iterations);
+
+		long allocatedBytes = _getAllocatedBytes(runnable, iterations);
+
+		return Math.max(0, (allocatedBytes - baseline) / iterations);
+	}
+
+	/**
+	 * Returns {@code true} if the JVM can measure the bytes allocated by a
+	 * thread, and that measurement is enabled. This method doesn't change the
+	 * JVM's configuration, so allocations aren't measured if the measurement
+	 * has been disabled.
+	 *
+	 * @return {@code true} if allocations can be measured; {@code false}
+	 *         otherwise
+	 */
+	public static boolean isSupported() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		try {
+			if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+				return false;
+			}
+		}
+		catch (NoClassDefFoundError ncdfe) {
+			return false;
+		}
+
+		com.sun.management.ThreadMXBean sunThreadMXBean =
+			(com.sun.management.ThreadMXBean)threadMXBean;
+
+		if (sunThreadMXBean.isThreadAllocatedMemorySupported() &&
+			sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public static class StageStep {
+
+		/**
+		 * Adds a stage to measure, whose budget is relative to the bytes
+		 * allocated by a baseline. Since both are measured in the same JVM,
+		 * the budget doesn't depend on the JVM's allocation details.
+		 *
+		 * @param  name the stage's name, used in the report
+		 * @param  budgetRatio the maximum number of bytes the stage may
+		 *         allocate per execution, as a multiple of the bytes allocated
+		 *         by the baseline
+		 * @param  baselineRunnable the baseline's code
+		 * @param  runnable the stage's code
+		 * @return the builder's next step
+		 */
+		public StageStep relativeStage(
+			String name, double budgetRatio, Runnable baselineRunnable,
+			Runnable runnable) {
+
+			_stages.add(
+				new Stage(name, 0, budgetRatio, baselineRunnable, runnable));
+
+			return this;
+		}
+
+		/**
+		 * Adds a stage to measure.
+		 *
+		 * @param  name the stage's name, used in the report
+		 * @param  budget the maximum number of bytes the stage may allocate
+		 *         per execution
+		 * @param  runnable the stage's code
+		 * @return the builder's next step
+		 */
+		public StageStep stage(String name, long budget, Runnable runnable) {
+			_stages.add(new Stage(name, budget, 0, null, runnable));
+
+			return this;
+		}
+
+		/**
+		 * Measures every stage and validates that none of them allocates more
+		 * bytes than its budget. If any stage exceeds its budget, this method
+		 * throws an {@code AssertionError} containing the whole report.
+		 *
+		 * @return the allocation report
+		 */
+		public AllocationReport validate() {
+			AllocationReport allocationReport = new AllocationReport(
+				isSupported());
+
+			for (Stage stage : _stages) {
+				long allocatedBytes = measureAllocatedBytes(
+					stage._runnable, _iterations);
+
+				allocationReport.add(
+					stage._name, stage._getBudget(_iterations), allocatedBytes);
+			}
+
+			if (allocationReport.isOverBudget()) {
+				throw new AssertionError(
+					"Allocation budget exceeded\n" + allocationReport);
+			}
+
+			return allocationReport;
+		}
+
+		private StageStep(int iterations) {
+			_iterations = iterations;
+		}
+
+		private final int _iterations;
+		private final List<Stage> _stages = new ArrayList<>();
+
+	}
+
+	private static long _getAllocatedBytes(Runnable runnable, int iterations) {
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)
+				ManagementFactory.getThreadMXBean();
+
+		Thread thread = Thread.currentThread();
+
+		long start = threadMXBean.getThreadAllocatedBytes(thread.getId());
+
+		for (int i = 0; i < iterations; i++) {
+			runnable.run();
+		}
+
+		return threadMXBean.getThreadAllocatedBytes(thread.getId()) - start;
+	}
+
+	private AllocationBudgetTesterBuilder() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static class Stage {
+
+		private Stage(
+			String name, long budget, double budgetRatio,
+			Runnable baselineRunnable, Runnable runnable) {
+
+			_name = name;
+			_budget = budget;
+			_budgetRatio = budgetRatio;
+			_baselineRunnable = baselineRunnable;
+			_runnable = runnable;
+		}
+
+		private long _getBudget(int iterations) {
+			if (_baselineRunnable == null) {
+				return _budget;
+			}
+
+			long baselineBytes = measureAllocatedBytes(
+				_baselineRunnable, iterations);
+
+			return (long)Math.ceil(baselineBytes * _budgetRatio);
+		}
+
+		private final Runnable _baselineRunnable;
+		private final long _budget;
+		private final double _budgetRatio;
+		private final String _name;
+		private final Runnable _runnable;
+
+	}
+
+}
\ No newline at end of file
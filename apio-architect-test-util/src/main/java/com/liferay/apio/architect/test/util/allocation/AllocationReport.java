@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.allocation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contains the bytes allocated per execution by each stage measured with
+ * {@link AllocationBudgetTesterBuilder}, and their budgets.
+ *
+ * @author Alejandro Hernández
+ */
+public class AllocationReport {
+
+	/**
+	 * Returns the bytes allocated per execution by the stage, if it has been
+	 * measured; {@code -1} otherwise.
+	 *
+	 * @param  name the stage's name
+	 * @return the bytes allocated per execution by the stage, if measured;
+	 *         {@code -1} otherwise
+	 */
+	public long getAllocatedBytes(String name) {
+		return _stageAllocations.stream(
+		).filter(
+			stageAllocation -> name.equals(stageAllocation.getName())
+		).findFirst(
+		).map(
+			StageAllocation::getAllocatedBytes
+		).orElse(
+			-1L
+		);
+	}
+
+	/**
+	 * Returns the allocations of each stage, in the order they were measured.
+	 *
+	 * @return the allocations of each stage
+	 */
+	public List<StageAllocation> getStageAllocations() {
+		return Collections.unmodifiableList(_stageAllocations);
+	}
+
+	/**
+	 * Returns {@code true} if any stage allocated more bytes than its budget.
+	 *
+	 * @return {@code true} if any stage is over budget; {@code false} otherwise
+	 */
+	public boolean isOverBudget() {
+		return _stageAllocations.stream(
+		).anyMatch(
+			StageAllocation::isOverBudget
+		);
+	}
+
+	/**
+	 * Returns {@code true} if the JVM could measure the allocations.
+	 *
+	 * @return {@code true} if the allocations were measured; {@code false}
+	 *         otherwise
+	 */
+	public boolean isSupported() {
+		return _supported;
+	}
+
+	@Override
+	public String toString() {
+		if (!_supported) {
+			return "Allocations can't be measured in this JVM";
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		for (StageAllocation stageAllocation : _stageAllocations) {
+			sb.append(stageAllocation.getName());
+			sb.append(": ");
+			sb.append(stageAllocation.getAllocatedBytes());
+			sb.append(" bytes (budget ");
+			sb.append(stageAllocation.getBudget());
+			sb.append(" bytes)");
+
+			if (stageAllocation.isOverBudget()) {
+				sb.append(" OVER BUDGET");
+			}
+
+			sb.append("\n");
+		}
+
+		return sb.toString();
+	}
+
+	protected AllocationReport(boolean supported) {
+		_supported = supported;
+	}
+
+	protected void add(String name, long budget, long allocatedBytes) {
+		_stageAllocations.add(
+			new StageAllocation(name, budget, allocatedBytes));
+	}
+
+	private final List<StageAllocation> _stageAllocations = new ArrayList<>();
+	private final boolean _supported;
+
+	/**
+	 * The bytes allocated per execution by a stage, and its budget.
+	 */
+	public static class StageAllocation {
+
+		public long getAllocatedBytes() {
+			return _allocatedBytes;
+		}
+
+		public long getBudget() {
+			return _budget;
+		}
+
+		public String getName() {
+			return _name;
+		}
+
+		/**
+		 * Returns {@code true} if the stage allocated more bytes than its
+		 * budget. Stages that couldn't be measured are never over budget.
+		 *
+		 * @return {@code true} if the stage is over budget; {@code false}
+		 *         otherwise
+		 */
+		public boolean isOverBudget() {
+			if (_allocatedBytes < 0) {
+				return false;
+			}
+
+			return _allocatedBytes > _budget;
+		}
+
+		private StageAllocation(String name, long budget, long allocatedBytes) {
+			_name = name;
+			_budget = budget;
+			_allocatedBytes = allocatedBytes;
+		}
+
+		private final long _allocatedBytes;
+		private final long _budget;
+		private final String _name;
+
+	}
+
+}
\ No newline at end of file
@@ -64,6 +64,8 @@ public class MockBatchResultWriter {
 			batchResult
 		).batchResultMessageMapper(
 			batchResultMessageMapper
+		).exceptionMapperFunction(
+			__ -> Optional.empty()
 		).pathFunction(
 			MockWriterUtil::identifierToPath
 		).representorFunction(
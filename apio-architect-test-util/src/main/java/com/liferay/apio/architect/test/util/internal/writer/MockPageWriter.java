@@ -17,6 +17,7 @@ package com.liferay.apio.architect.test.util.internal.writer;
 import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
 import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequestInfo;
 
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.operation.CreateOperation;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
@@ -56,6 +57,24 @@ public class MockPageWriter {
 	 * @return the string containing the JSON object
 	 */
 	public static String write(PageMessageMapper<RootModel> pageMessageMapper) {
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder(
+			pageMessageMapper);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields to a {@link JSONObjectBuilder}, without
+	 * serializing it.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @return the JSON object builder containing the JSON object
+	 */
+	public static JSONObjectBuilder writeJSONObjectBuilder(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
 		Collection<RootModel> items = Arrays.asList(
 			() -> "1", () -> "2", () -> "3");
 
@@ -88,7 +107,7 @@ public class MockPageWriter {
 				MockWriterUtil::getSingleModel
 			).build());
 
-		return pageWriter.write();
+		return pageWriter.writeJSONObjectBuilder();
 	}
 
 	private MockPageWriter() {
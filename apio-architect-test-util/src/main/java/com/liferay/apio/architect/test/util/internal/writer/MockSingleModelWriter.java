@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequ
 
 import static java.util.Arrays.asList;
 
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.operation.DeleteOperation;
 import com.liferay.apio.architect.internal.operation.UpdateOperation;
@@ -52,6 +53,23 @@ public class MockSingleModelWriter {
 	public static String write(
 		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
 
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObjectBuilder(
+			singleModelMessageMapper);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes a {@link RootModel} with the hierarchy of embedded models and
+	 * multiple fields to a {@link JSONObjectBuilder}, without serializing it.
+	 *
+	 * @param  singleModelMessageMapper the {@code SingleModelMessageMapper} to
+	 *         use for writing the JSON object
+	 * @return the JSON object builder containing the JSON object
+	 */
+	public static JSONObjectBuilder writeJSONObjectBuilder(
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
+
 		DeleteOperation deleteOperation = new DeleteOperation("resource");
 		UpdateOperation updateOperation = new UpdateOperation(
 			createForm("u", "r"), "resource");
@@ -77,7 +95,8 @@ public class MockSingleModelWriter {
 					MockWriterUtil::getSingleModel
 				).build());
 
-		Optional<String> optional = singleModelWriter.write();
+		Optional<JSONObjectBuilder> optional =
+			singleModelWriter.writeJSONObjectBuilder();
 
 		return optional.orElseThrow(
 			() -> new AssertionError("Unable to write"));
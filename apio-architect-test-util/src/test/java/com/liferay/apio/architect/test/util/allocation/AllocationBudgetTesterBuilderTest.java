@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.allocation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class AllocationBudgetTesterBuilderTest {
+
+	@Before
+	public void setUp() {
+		Assume.assumeTrue(AllocationBudgetTesterBuilder.isSupported());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testConstructorThrowsException() throws Throwable {
+		Constructor<?> constructor =
+			AllocationBudgetTesterBuilder.class.getDeclaredConstructors()[0];
+
+		constructor.setAccessible(true);
+
+		try {
+			constructor.newInstance();
+		}
+		catch (InvocationTargetException ite) {
+			throw ite.getTargetException();
+		}
+	}
+
+	@Test
+	public void testMeasureAllocatedBytesMeasuresAllocations() {
+		long allocatedBytes =
+			AllocationBudgetTesterBuilder.measureAllocatedBytes(
+				() -> _blackHole = new long[1024], 10);
+
+		assertThat(allocatedBytes, is(greaterThan(8 * 1024L)));
+	}
+
+	@Test
+	public void testRelativeStageBudgetDependsOnTheBaseline() {
+		try {
+			AllocationBudgetTesterBuilder.iterations(
+				10
+			).relativeStage(
+				"cheap", 2, () -> _blackHole = new long[1024],
+				() -> _blackHole = new long[1024]
+			).relativeStage(
+				"expensive", 2, () -> _blackHole = new long[16],
+				() -> _blackHole = new long[1024]
+			).validate();
+		}
+		catch (AssertionError ae) {
+			String message = ae.getMessage();
+
+			String[] lines = message.split("\n");
+
+			assertThat(lines[1], startsWith("cheap"));
+			assertThat(lines[1], not(containsString("OVER BUDGET")));
+			assertThat(lines[2], startsWith("expensive"));
+			assertThat(lines[2], containsString("OVER BUDGET"));
+
+			return;
+		}
+
+		throw new AssertionError("Allocation budget was not validated");
+	}
+
+	@Test
+	public void testStageOverBudgetThrowsAssertionErrorWithReport() {
+		try {
+			AllocationBudgetTesterBuilder.iterations(
+				10
+			).stage(
+				"cheap", 1024 * 1024, () -> _blackHole = new long[1]
+			).stage(
+				"expensive", 1024, () -> _blackHole = new long[1024]
+			).validate();
+		}
+		catch (AssertionError ae) {
+			String message = ae.getMessage();
+
+			assertThat(message, containsString("expensive"));
+			assertThat(message, containsString("OVER BUDGET"));
+
+			return;
+		}
+
+		throw new AssertionError("Allocation budget was not validated");
+	}
+
+	@Test
+	public void testStagesWithinBudgetAreReported() {
+		AllocationReport allocationReport =
+			AllocationBudgetTesterBuilder.iterations(
+				10
+			).stage(
+				"first", 1024 * 1024, () -> _blackHole = new long[16]
+			).stage(
+				"second", 1024 * 1024, () -> _blackHole = new long[32]
+			).validate();
+
+		assertThat(allocationReport.isOverBudget(), is(false));
+		assertThat(allocationReport.isSupported(), is(true));
+
+		List<AllocationReport.StageAllocation> stageAllocations =
+			allocationReport.getStageAllocations();
+
+		assertThat(stageAllocations.size(), is(2));
+		assertThat(
+			allocationReport.getAllocatedBytes("second"),
+			is(greaterThan(allocationReport.getAllocatedBytes("first"))));
+		assertThat(allocationReport.getAllocatedBytes("third"), is(-1L));
+	}
+
+	private static Object _blackHole;
+
+}
\ No newline at end of file